@@ -0,0 +1,210 @@
+package com.game.contraband.infrastructure.actor.client;
+
+import com.game.contraband.domain.monitor.ChatBlacklistRepository;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ChatCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.InboundCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.OutboundCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.PresenceCommand;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.SendWebSocketPing;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.LocalDirectoryCommand;
+import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.Props;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 세션 수를 늘려 가며 하위 액터 네 개를 띄우던 트리 구조와 한 액터로 합친 구조의 세션당 힙과 전체 세션 핑 처리량을 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ClientSessionRuntimeBenchmark {
+
+    @Param({"10000", "50000", "100000"})
+    public int sessionCount;
+
+    @Param({"FLAT", "TREE"})
+    public String runtime;
+
+    private ActorSystem<Void> system;
+    private List<ActorRef<ClientSessionCommand>> sessions;
+    private volatile CountDownLatch delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        system = ActorSystem.create(
+                Behaviors.empty(),
+                "client-session-runtime-benchmark",
+                ConfigFactory.parseString("pekko.loglevel = WARNING").withFallback(ConfigFactory.load())
+        );
+
+        ActorRef<LocalDirectoryCommand> directory = system.systemActorOf(Behaviors.ignore(), "directory", Props.empty());
+        ChatBlacklistRepository blacklist = new NoopChatBlacklistRepository();
+        long heapBefore = usedHeap();
+
+        sessions = new ArrayList<>(sessionCount);
+        for (long playerId = 1L; playerId <= sessionCount; playerId++) {
+            ClientWebSocketMessageSender sender = new CountingSender();
+
+            sessions.add(system.systemActorOf(behaviorOf(playerId, sender, directory, blacklist), "session-" + playerId, Props.empty()));
+        }
+        // 모든 세션이 하위 핸들러까지 기동을 마친 뒤에 힙을 잰다
+        pingAll();
+
+        long heapAfter = usedHeap();
+
+        System.out.printf(
+                "%n[%s] sessions=%d heapBytesPerSession=%d%n",
+                runtime,
+                sessionCount,
+                (heapAfter - heapBefore) / sessionCount
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    public void pingAllSessions() throws InterruptedException {
+        pingAll();
+    }
+
+    private void pingAll() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(sessionCount);
+
+        delivered = latch;
+        for (ActorRef<ClientSessionCommand> session : sessions) {
+            session.tell(new SendWebSocketPing());
+        }
+        if (!latch.await(60L, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("세션 핑이 제한 시간 안에 모두 처리되지 않았습니다.");
+        }
+    }
+
+    private Behavior<ClientSessionCommand> behaviorOf(
+            long playerId,
+            ClientWebSocketMessageSender sender,
+            ActorRef<LocalDirectoryCommand> directory,
+            ChatBlacklistRepository blacklist
+    ) {
+        if ("TREE".equals(runtime)) {
+            return LegacyTreeSession.create(playerId, sender, directory, blacklist);
+        }
+        return ClientSessionActor.create(playerId, sender, directory, blacklist, Duration.ofMinutes(5L), ignored -> { });
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200L);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private class CountingSender extends ClientWebSocketMessageSender {
+
+        @Override
+        public void sendWebSocketPing() {
+            delivered.countDown();
+        }
+    }
+
+    // 이전 구조를 그대로 재현한 기준선: 세션 액터가 역할별 하위 액터 네 개를 띄우고 메시지를 전달만 한다
+    private static class LegacyTreeSession {
+
+        static Behavior<ClientSessionCommand> create(
+                long playerId,
+                ClientWebSocketMessageSender sender,
+                ActorRef<LocalDirectoryCommand> directory,
+                ChatBlacklistRepository blacklist
+        ) {
+            return Behaviors.setup(
+                    context -> {
+                        ActorRef<OutboundCommand> outbound = context.spawn(
+                                new SessionOutboundHandler(playerId, sender, context.getSelf()).createReceive(),
+                                "outbound"
+                        );
+                        ActorRef<InboundCommand> inbound = context.spawn(
+                                new SessionInboundHandler(context.getSelf()).createReceive(),
+                                "inbound"
+                        );
+                        ActorRef<PresenceCommand> presence = context.spawn(
+                                Behaviors.setup(
+                                        child -> new SessionPresenceHandler(playerId, context.getSelf(), directory).createReceive()
+                                ),
+                                "presence"
+                        );
+                        ActorRef<ChatCommand> chat = context.spawn(
+                                Behaviors.setup(
+                                        child -> new SessionChatHandler(playerId, sender, blacklist, child::watch).createReceive()
+                                ),
+                                "chat"
+                        );
+
+                        return Behaviors.receive(ClientSessionCommand.class)
+                                        .onMessage(OutboundCommand.class, command -> forward(outbound, command))
+                                        .onMessage(InboundCommand.class, command -> forward(inbound, command))
+                                        .onMessage(PresenceCommand.class, command -> forward(presence, command))
+                                        .onMessage(ChatCommand.class, command -> forward(chat, command))
+                                        .build();
+                    }
+            );
+        }
+
+        private static <T> Behavior<ClientSessionCommand> forward(ActorRef<T> child, T command) {
+            child.tell(command);
+            return Behaviors.same();
+        }
+    }
+
+    private static class NoopChatBlacklistRepository implements ChatBlacklistRepository {
+
+        @Override
+        public void block(Long playerId) {
+        }
+
+        @Override
+        public void unblock(Long playerId) {
+        }
+
+        @Override
+        public boolean isBlocked(Long playerId) {
+            return false;
+        }
+
+        @Override
+        public Runnable registerListener(LongConsumer listener) {
+            return () -> { };
+        }
+
+        @Override
+        public Set<Long> findAll() {
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.game.contraband.infrastructure.actor.client.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 세션 수만큼 항목을 채운 뒤, 박싱된 Long 키를 쓰는 ConcurrentHashMap과 원시 long 키 레지스트리의 항목당 힙과 조회 처리량을 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PlayerSessionRegistryBenchmark {
+
+    // 플레이어 ID가 Long 캐시 범위를 벗어나도록 큰 값에서 시작한다
+    private static final long FIRST_PLAYER_ID = 1_000_000_000L;
+
+    @Param({"100000"})
+    public int sessionCount;
+
+    @Param({"BOXED", "PRIMITIVE"})
+    public String registry;
+
+    private Map<Long, Object> boxed;
+    private PlayerSessionRegistry<Object> primitive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        Object entry = new Object();
+        long heapBefore = usedHeap();
+
+        if ("BOXED".equals(registry)) {
+            boxed = new ConcurrentHashMap<>();
+            for (long playerId = FIRST_PLAYER_ID; playerId < FIRST_PLAYER_ID + sessionCount; playerId++) {
+                boxed.put(playerId, entry);
+            }
+        } else {
+            primitive = new PlayerSessionRegistry<>("benchmark", new SimpleMeterRegistry());
+            for (long playerId = FIRST_PLAYER_ID; playerId < FIRST_PLAYER_ID + sessionCount; playerId++) {
+                primitive.computeIfAbsent(playerId, ignored -> entry);
+            }
+        }
+
+        long heapAfter = usedHeap();
+
+        System.out.printf(
+                "%n[%s] sessions=%d heapBytesPerEntry=%d%n",
+                registry,
+                sessionCount,
+                (heapAfter - heapBefore) / sessionCount
+        );
+    }
+
+    @Benchmark
+    public Object lookup() {
+        long playerId = FIRST_PLAYER_ID + ThreadLocalRandom.current().nextInt(sessionCount);
+
+        if (boxed != null) {
+            return boxed.get(playerId);
+        }
+        return primitive.get(playerId);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200L);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
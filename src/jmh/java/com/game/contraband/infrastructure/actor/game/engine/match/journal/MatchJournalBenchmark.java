@@ -0,0 +1,159 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+import com.game.contraband.domain.game.engine.match.ContrabandGame;
+import com.game.contraband.domain.game.player.PlayerProfile;
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.domain.game.player.TeamRoster;
+import com.game.contraband.domain.game.vo.Money;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.MatchJournalCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.QueryMatchHistory;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.RecordMatchEvent;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.round.RoundGameContext;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Props;
+import org.apache.pekko.actor.typed.javadsl.AskPattern;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.persistence.jdbc.testkit.javadsl.SchemaUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchJournalBenchmark {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(5L);
+
+    @Param({"INMEM", "H2"})
+    public String backend;
+
+    private ActorSystem<MatchJournalCommand> system;
+    private ActorRef<MatchJournalCommand> journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        system = ActorSystem.create(Behaviors.empty(), "match-journal-benchmark", backendConfig());
+        if ("H2".equals(backend)) {
+            SchemaUtils.createIfNotExists(system)
+                       .toCompletableFuture()
+                       .get(ASK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        journal = system.systemActorOf(ContrabandGameJournalActor.create(1L), "journal", Props.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    public ContrabandGame inMemoryRound() {
+        ContrabandGame game = createGame();
+
+        playRound(new RoundGameContext(game));
+        return game;
+    }
+
+    // 같은 방에서 새 게임을 시작하고 한 라운드를 끝낸 뒤, 저널에 모두 반영될 때까지 기다린다
+    @Benchmark
+    public MatchHistory journaledRound() {
+        ContrabandGame game = createGame();
+        MatchEventRecorder recorder = event -> journal.tell(new RecordMatchEvent(event));
+
+        recorder.record(MatchCreated.from(game));
+        playRound(new RoundGameContext(game, recorder));
+        return AskPattern.<MatchJournalCommand, MatchHistory>ask(
+                                 journal,
+                                 QueryMatchHistory::new,
+                                 ASK_TIMEOUT,
+                                 system.scheduler()
+                         )
+                         .toCompletableFuture()
+                         .join();
+    }
+
+    private void playRound(RoundGameContext context) {
+        context.transfer(1L, 2L, Money.from(500));
+        context.startNewRound(1L, 3L);
+        context.decideSmuggleAmount(700);
+        context.decideInspection(500);
+        context.finishCurrentRound();
+    }
+
+    private ContrabandGame createGame() {
+        TeamRoster smugglerRoster = TeamRoster.create(
+                "밀수꾼 팀",
+                TeamRole.SMUGGLER,
+                List.of(
+                        PlayerProfile.create(1L, "밀수꾼1", TeamRole.SMUGGLER),
+                        PlayerProfile.create(2L, "밀수꾼2", TeamRole.SMUGGLER)
+                )
+        );
+        TeamRoster inspectorRoster = TeamRoster.create(
+                "검사관 팀",
+                TeamRole.INSPECTOR,
+                List.of(PlayerProfile.create(3L, "검사관", TeamRole.INSPECTOR))
+        );
+
+        return ContrabandGame.notStarted(smugglerRoster, inspectorRoster, 3);
+    }
+
+    private Config backendConfig() throws Exception {
+        String snapshotDirectory = Files.createTempDirectory("match-journal-snapshots").toString();
+        Config common = ConfigFactory.parseString(
+                """
+                pekko.loglevel = WARNING
+                pekko.actor.serialization-bindings {
+                  "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                }
+                """
+        );
+
+        if ("H2".equals(backend)) {
+            return ConfigFactory.parseString(
+                    """
+                    pekko.persistence.journal.plugin = "jdbc-journal"
+                    pekko.persistence.snapshot-store.plugin = "jdbc-snapshot-store"
+                    jdbc-journal.slick = ${slick}
+                    jdbc-snapshot-store.slick = ${slick}
+                    slick {
+                      profile = "slick.jdbc.H2Profile$"
+                      db {
+                        url = "jdbc:h2:mem:match-journal;DB_CLOSE_DELAY=-1"
+                        user = "sa"
+                        password = ""
+                        driver = "org.h2.Driver"
+                        numThreads = 4
+                        maxConnections = 4
+                        minConnections = 1
+                      }
+                    }
+                    """
+            ).withFallback(common).withFallback(ConfigFactory.load()).resolve();
+        }
+
+        return ConfigFactory.parseString(
+                """
+                pekko.persistence.journal.plugin = "pekko.persistence.journal.inmem"
+                pekko.persistence.snapshot-store.plugin = "pekko.persistence.snapshot-store.local"
+                pekko.persistence.snapshot-store.local.dir = "%s"
+                """.formatted(snapshotDirectory)
+        ).withFallback(common).withFallback(ConfigFactory.load());
+    }
+}
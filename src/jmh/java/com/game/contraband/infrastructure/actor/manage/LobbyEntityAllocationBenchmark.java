@@ -0,0 +1,117 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.global.actor.GuardianActor.GetGameRoomsCoordinator;
+import com.game.contraband.global.actor.GuardianActor.GuardianCommand;
+import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.AllocateEntity;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntitySlotLease;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.LeaseEntitySlots;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.javadsl.AskPattern;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.pattern.StatusReply;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+// 샤딩된 매니저에 CreateLobby를 보내기 전까지, 로비 생성 한 건이 엔티티를 정하는 데 드는 비용을 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LobbyEntityAllocationBenchmark {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(3L);
+
+    private ActorSystem<GuardianCommand> system;
+    private EntitySlotAllocator allocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create(
+                Behaviors.setup(context -> {
+                    ActorRef<GameRoomCoordinatorCommand> coordinator = context.spawn(
+                            GameRoomCoordinatorEntity.create(
+                                    new EntityAllocationPolicy(Integer.MAX_VALUE, Integer.MAX_VALUE),
+                                    (GameLifecycleEventPublisher) event -> { }
+                            ),
+                            "game-rooms-coordinator"
+                    );
+
+                    return Behaviors.receive(GuardianCommand.class)
+                                    .onMessage(
+                                            GetGameRoomsCoordinator.class,
+                                            command -> {
+                                                command.replyTo().tell(coordinator);
+                                                return Behaviors.same();
+                                            }
+                                    )
+                                    .build();
+                }),
+                "lobby-allocation-benchmark",
+                ConfigFactory.parseString("pekko.loglevel = WARNING").withFallback(ConfigFactory.load())
+        );
+        allocator = new EntitySlotAllocator(
+                8,
+                slots -> AskPattern.ask(
+                        system,
+                        GetGameRoomsCoordinator::new,
+                        ASK_TIMEOUT,
+                        system.scheduler()
+                ).thenCompose(
+                        coordinator -> AskPattern.askWithStatus(
+                                coordinator,
+                                (ActorRef<StatusReply<EntitySlotLease>> replyTo) -> new LeaseEntitySlots(slots, replyTo),
+                                ASK_TIMEOUT,
+                                system.scheduler()
+                        )
+                ),
+                System::nanoTime
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    public String coordinatorAsk() {
+        return AskPattern.<GuardianCommand, ActorRef<GameRoomCoordinatorCommand>>ask(
+                                 system,
+                                 GetGameRoomsCoordinator::new,
+                                 ASK_TIMEOUT,
+                                 system.scheduler()
+                         )
+                         .thenCompose(
+                                 coordinator -> AskPattern.askWithStatus(
+                                         coordinator,
+                                         AllocateEntity::new,
+                                         ASK_TIMEOUT,
+                                         system.scheduler()
+                                 )
+                         )
+                         .toCompletableFuture()
+                         .join()
+                         .entityId();
+    }
+
+    @Benchmark
+    public String leasedSlots() {
+        return allocator.allocate()
+                        .toCompletableFuture()
+                        .join();
+    }
+}
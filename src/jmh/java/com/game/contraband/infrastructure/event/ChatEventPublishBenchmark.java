@@ -0,0 +1,140 @@
+package com.game.contraband.infrastructure.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatMessageEvent;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatRoundInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 메시지 한 건마다 고정 비용이 드는 프로세스 내 브로커를 두고, 묶음 크기에 따라 채팅 이벤트 처리량과 브로커 메시지 수가 어떻게 바뀌는지 본다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class ChatEventPublishBenchmark {
+
+    private static final int EVENTS_PER_OPERATION = 10_000;
+
+    // 브로커 왕복과 프레임 처리에 드는 메시지당 비용을 흉내 낸다
+    private static final long BROKER_TOKENS_PER_MESSAGE = 2_000L;
+
+    @Param({"1", "16", "64"})
+    public int batchSize;
+
+    private StandInBroker broker;
+    private AsyncChatMessageEventPublisher publisher;
+    private Counter published;
+    private Counter failed;
+    private ChatMessageEvent event;
+    private long operations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        broker = new StandInBroker();
+        publisher = new AsyncChatMessageEventPublisher(
+                broker,
+                new ChatEventPublishSettings(
+                        16_384,
+                        batchSize,
+                        8,
+                        Duration.ofMillis(1L),
+                        Duration.ofSeconds(5L),
+                        64,
+                        3
+                ),
+                meterRegistry
+        );
+        published = meterRegistry.counter("chat.event.published");
+        failed = meterRegistry.counter("chat.event.failed");
+        event = new ChatMessageEvent(
+                "entity",
+                1L,
+                ChatEventType.LOBBY_CHAT,
+                ChatRoundInfo.lobby(),
+                new ChatMessage(1L, 1L, 1L, "player", "안녕하세요, 한 판 더 하실 분?", LocalDateTime.now())
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+        broker.close();
+        System.out.printf(
+                "%n[batch=%d] brokerMessagesPerOperation=%d%n",
+                batchSize,
+                broker.messages.get() / Math.max(1L, operations)
+        );
+    }
+
+    @Benchmark
+    public void publishChatEvents() {
+        double target = published.count() + failed.count() + EVENTS_PER_OPERATION;
+
+        for (int i = 0; i < EVENTS_PER_OPERATION; i++) {
+            publisher.publish(event);
+        }
+        while (published.count() + failed.count() < target) {
+            LockSupport.parkNanos(50_000L);
+        }
+        operations++;
+    }
+
+    // 묶음을 실제로 직렬화해 메시지 한 건을 만들고, 메시지당 비용을 치른 뒤 별도 스레드에서 확인을 돌려준다
+    private static class StandInBroker implements ChatMessageEventBroker {
+
+        private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        private final ExecutorService confirmer = Executors.newSingleThreadExecutor();
+        private final AtomicLong messages = new AtomicLong();
+
+        @Override
+        public CompletionStage<Void> publish(List<ChatMessageEvent> events) {
+            byte[] body;
+
+            try {
+                body = objectMapper.writeValueAsBytes(events);
+            } catch (JsonProcessingException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            messages.incrementAndGet();
+            return CompletableFuture.runAsync(
+                    () -> {
+                        Blackhole.consumeCPU(BROKER_TOKENS_PER_MESSAGE);
+                        Blackhole.consumeCPU(body.length);
+                    },
+                    confirmer
+            );
+        }
+
+        void close() {
+            confirmer.shutdownNow();
+        }
+    }
+}
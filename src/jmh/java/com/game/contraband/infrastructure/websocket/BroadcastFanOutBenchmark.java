@@ -0,0 +1,99 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.JoinedLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.StartNewRoundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastFanOutBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int recipients;
+
+    @Param({"LOBBY", "ROUND"})
+    public String broadcast;
+
+    private ObjectMapper objectMapper;
+    private WebSocketOutboundFrameEncoder frameEncoder;
+    private List<LobbyParticipant> participants;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        frameEncoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        participants = new ArrayList<>();
+
+        for (long playerId = 1; playerId <= recipients; playerId++) {
+            TeamRole teamRole = playerId % 2 == 0 ? TeamRole.INSPECTOR : TeamRole.SMUGGLER;
+
+            participants.add(new LobbyParticipant(playerId, "player-" + playerId, teamRole, playerId % 3 == 0));
+        }
+    }
+
+    @Benchmark
+    public void serializePerRecipient(Blackhole blackhole) throws JsonProcessingException {
+        int broadcastId = sequence++;
+
+        for (int i = 0; i < recipients; i++) {
+            String json = objectMapper.writeValueAsString(recipientMessage(broadcastId));
+
+            blackhole.consume(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void serializeOncePerNode(Blackhole blackhole) throws JsonProcessingException {
+        PreEncodedOutboundMessage frame = new PreEncodedOutboundMessage(recipientMessage(sequence++));
+
+        for (int i = 0; i < recipients; i++) {
+            blackhole.consume(frameEncoder.encode(frame));
+        }
+    }
+
+    // 수신자마다 페이로드 레코드를 새로 만들던 상황과 브로드캐스트하는 쪽이 한 번만 만드는 상황에 같은 메시지를 쓴다
+    private WebSocketOutboundMessage recipientMessage(int broadcastId) {
+        if ("LOBBY".equals(broadcast)) {
+            return new WebSocketOutboundMessage(
+                    WebSocketOutboundMessageType.JOINED_LOBBY,
+                    new JoinedLobbyPayload(
+                            (long) broadcastId,
+                            1L,
+                            recipients,
+                            recipients,
+                            "밀수꾼 모집",
+                            List.copyOf(participants)
+                    )
+            );
+        }
+
+        long now = 1_700_000_000_000L + broadcastId;
+
+        return new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.START_NEW_ROUND,
+                new StartNewRoundPayload(broadcastId % 10 + 1, 1L, 2L, now, 30_000L, now, now + 30_000L)
+        );
+    }
+}
@@ -0,0 +1,222 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.FetchRoomDirectoryPage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideInspection;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecidePass;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestTransferMoney;
+import com.game.contraband.infrastructure.websocket.WebSocketInboundDispatcher.InboundFrameContext;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundMessageType;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InboundDispatchBenchmark {
+
+    @Param({"PING", "WS_PONG", "SEND_CHAT", "SEND_ROUND_CHAT", "DECIDE_SMUGGLE_AMOUNT", "TRANSFER_MONEY"})
+    public String frameType;
+
+    private String frame;
+    private WebSocketInboundDispatcher dispatcher;
+    private LegacyTreeDispatcher legacyDispatcher;
+    private InboundFrameContext context;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        frame = sampleFrame(frameType);
+        dispatcher = new WebSocketInboundDispatcher(objectMapper);
+        legacyDispatcher = new LegacyTreeDispatcher(objectMapper);
+        context = new InboundFrameContext(42L, blackhole::consume, blackhole::consume, () -> blackhole.consume(42L));
+    }
+
+    @Benchmark
+    public boolean singleParseDispatch() {
+        return dispatcher.dispatch(frame, context);
+    }
+
+    @Benchmark
+    public boolean legacyTreeDispatch() {
+        return legacyDispatcher.dispatch(
+                frame,
+                context.playerId(),
+                context.sessionCommandSink(),
+                context.outboundSink(),
+                context.sessionPongSink()
+        );
+    }
+
+    private static String sampleFrame(String type) {
+        return switch (type) {
+            case "PING" -> "{\"type\":\"PING\"}";
+            case "WS_PONG" -> "{\"type\":\"WS_PONG\"}";
+            case "SEND_CHAT" -> "{\"type\":\"SEND_CHAT\",\"playerName\":\"밀수왕\",\"message\":\"다들 준비 눌러 주세요\"}";
+            case "SEND_ROUND_CHAT" -> "{\"type\":\"SEND_ROUND_CHAT\",\"playerName\":\"검사관\",\"message\":\"이번엔 검문한다\",\"currentRound\":3}";
+            case "DECIDE_SMUGGLE_AMOUNT" -> "{\"type\":\"DECIDE_SMUGGLE_AMOUNT\",\"amount\":700}";
+            case "TRANSFER_MONEY" -> "{\"type\":\"TRANSFER_MONEY\",\"targetPlayerId\":1839202049392,\"amount\":400}";
+            default -> throw new IllegalArgumentException("알 수 없는 프레임 타입입니다: " + type);
+        };
+    }
+
+    // 디스패처 도입 이전 GameWebSocketHandler의 readTree 반복 처리 순서를 그대로 옮긴 비교 기준
+    static class LegacyTreeDispatcher {
+
+        private final ObjectMapper objectMapper;
+
+        LegacyTreeDispatcher(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        boolean dispatch(
+                String payload,
+                Long playerId,
+                Consumer<ClientSessionCommand> session,
+                Consumer<WebSocketOutboundMessage> outbound,
+                Runnable pong
+        ) {
+            return handleClientHealthPong(payload, pong)
+                    || handlePingMessage(payload, outbound)
+                    || handleTypeOnly(payload, WebSocketInboundMessageType.DELETE_LOBBY)
+                    || handleLobbyInteractions(payload, playerId, session)
+                    || handleGameInteractions(payload, playerId, session);
+        }
+
+        private boolean handleClientHealthPong(String payload, Runnable pong) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+
+                if (WebSocketInboundMessageType.SESSION_HEALTH_PONG.isSameType(node.path("type").asText())) {
+                    pong.run();
+                    return true;
+                }
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+
+        private boolean handlePingMessage(String payload, Consumer<WebSocketOutboundMessage> outbound) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+
+                if (WebSocketInboundMessageType.HEARTBEAT_PING.isSameType(node.path("type").asText())) {
+                    outbound.accept(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.HEARTBEAT_PONG));
+                    return true;
+                }
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+
+        private boolean handleTypeOnly(String payload, WebSocketInboundMessageType type) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+
+                return type.isSameType(node.path("type").asText());
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+
+        private boolean handleLobbyInteractions(String payload, Long playerId, Consumer<ClientSessionCommand> session) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+                String type = node.path("type").asText();
+
+                if (WebSocketInboundMessageType.QUERY_ROOM_DIRECTORY.isSameType(type)) {
+                    session.accept(new FetchRoomDirectoryPage(node.path("page").asInt(0), node.path("size").asInt(20), null));
+                    return true;
+                }
+                for (WebSocketInboundMessageType candidate : new WebSocketInboundMessageType[]{
+                        WebSocketInboundMessageType.TOGGLE_READY,
+                        WebSocketInboundMessageType.TOGGLE_TEAM,
+                        WebSocketInboundMessageType.CHANGE_MAX_PLAYER_COUNT,
+                        WebSocketInboundMessageType.START_GAME,
+                        WebSocketInboundMessageType.LEAVE_LOBBY,
+                        WebSocketInboundMessageType.KICK_PLAYER
+                }) {
+                    if (candidate.isSameType(type)) {
+                        return true;
+                    }
+                }
+                if (WebSocketInboundMessageType.SEND_CHAT.isSameType(type)) {
+                    session.accept(new RequestSendChat(playerId, node.path("playerName").asText(), node.path("message").asText()));
+                    return true;
+                }
+                if (WebSocketInboundMessageType.SEND_ROUND_CHAT.isSameType(type)) {
+                    session.accept(
+                            new RequestSendRoundChat(
+                                    playerId,
+                                    node.path("playerName").asText(),
+                                    node.path("message").asText(),
+                                    node.path("currentRound").asInt()
+                            )
+                    );
+                    return true;
+                }
+                if (WebSocketInboundMessageType.SEND_TEAM_CHAT.isSameType(type)) {
+                    session.accept(new RequestSendTeamChat(playerId, node.path("playerName").asText(), node.path("message").asText()));
+                    return true;
+                }
+                if (WebSocketInboundMessageType.FIX_SMUGGLER_ID.isSameType(type)
+                        || WebSocketInboundMessageType.FIX_INSPECTOR_ID.isSameType(type)) {
+                    return true;
+                }
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+
+        private boolean handleGameInteractions(String payload, Long playerId, Consumer<ClientSessionCommand> session) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+                String type = node.path("type").asText();
+
+                if (WebSocketInboundMessageType.DECIDE_SMUGGLE_AMOUNT.isSameType(type)) {
+                    session.accept(new RequestDecideSmuggleAmount(playerId, node.path("amount").asInt()));
+                    return true;
+                }
+                if (WebSocketInboundMessageType.DECIDE_PASS.isSameType(type)) {
+                    session.accept(new RequestDecidePass(playerId));
+                    return true;
+                }
+                if (WebSocketInboundMessageType.DECIDE_INSPECTION.isSameType(type)) {
+                    session.accept(new RequestDecideInspection(playerId, node.path("amount").asInt()));
+                    return true;
+                }
+                if (WebSocketInboundMessageType.TRANSFER_MONEY.isSameType(type)) {
+                    session.accept(
+                            new RequestTransferMoney(
+                                    playerId,
+                                    node.path("targetPlayerId").asLong(),
+                                    node.path("amount").asInt()
+                            )
+                    );
+                    return true;
+                }
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.contraband.domain.game.engine.match.GameWinnerType;
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.domain.game.round.RoundOutcomeType;
+import com.game.contraband.domain.game.transfer.TransferFailureReason;
+import com.game.contraband.infrastructure.actor.directory.RoomEventType;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
+import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
+import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatKickedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatLeftPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatMessageMaskedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatMessagePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatWelcomePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.CreateLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.DecidedInspectionPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.DecidedPassPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.DecidedSmugglerAmountForSmugglerTeamPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ExceptionMessagePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.FinishedGamePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.FinishedRoundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.FixedInspectorIdPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.FixedSmugglerIdPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.InspectorApprovalStatePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.JoinedLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerJoinedLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerKickedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerLeftLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RegisteredInspectorIdPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RegisteredSmugglerIdPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryChangePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryDeltaPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryEntryPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryUpdatedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.SelectionTimerPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.SmugglerApprovalStatePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.StartGamePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.StartNewRoundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ToggledReadyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ToggledTeamPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.TransferFailedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.TransferPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.WebSocketEmptyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// WebSocketMessagePayload의 모든 페이로드를 한 번씩 JSON 텍스트와 CBOR 바이너리로 직렬화하는 비용과 크기를 비교한다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private List<WebSocketOutboundMessage> catalog;
+    private WebSocketOutboundFrameEncoder encoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        catalog = payloadCatalog();
+        // 캐시 적중을 피하려고 슬롯을 하나만 두고, 매 호출마다 새로 직렬화하게 한다
+        encoder = new WebSocketOutboundFrameEncoder(new ObjectMapper());
+        reportFrameSizes();
+    }
+
+    @Benchmark
+    public void encodeJson(Blackhole blackhole) throws JsonProcessingException {
+        for (WebSocketOutboundMessage message : catalog) {
+            blackhole.consume(encoder.encode(message));
+        }
+    }
+
+    @Benchmark
+    public void encodeCbor(Blackhole blackhole) throws JsonProcessingException {
+        for (WebSocketOutboundMessage message : catalog) {
+            blackhole.consume(encoder.encodeBinary(message));
+        }
+    }
+
+    private void reportFrameSizes() throws JsonProcessingException {
+        long jsonBytes = 0L;
+        long cborBytes = 0L;
+
+        for (WebSocketOutboundMessage message : catalog) {
+            int json = encoder.encode(message).length;
+            int cbor = encoder.encodeBinary(message).length;
+
+            jsonBytes += json;
+            cborBytes += cbor;
+            System.out.printf("%n%-45s json=%5d cbor=%5d", message.type(), json, cbor);
+        }
+        System.out.printf("%n%-45s json=%5d cbor=%5d%n", "TOTAL", jsonBytes, cborBytes);
+    }
+
+    private static List<WebSocketOutboundMessage> payloadCatalog() {
+        RoomDirectoryEntryPayload room = new RoomDirectoryEntryPayload(
+                1839202049392L, "1839202049392", "밀수꾼 모집합니다", 6, 3, "entity-17", false
+        );
+        List<WebSocketOutboundMessage> catalog = new ArrayList<>();
+
+        catalog.add(message(WebSocketOutboundMessageType.WS_HEALTH_PING, WebSocketEmptyPayload.INSTANCE));
+        catalog.add(message(WebSocketOutboundMessageType.EXCEPTION_MESSAGE, new ExceptionMessagePayload(ExceptionCode.UNKNOWN_ERROR)));
+        catalog.add(message(WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED, new RoomDirectoryUpdatedPayload(List.of(room, room, room), 42, 1024L)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA,
+                new RoomDirectoryDeltaPayload(
+                        1025L,
+                        1024L,
+                        42,
+                        List.of(new RoomDirectoryChangePayload(RoomEventType.ADDED, room.roomId(), room.roomIdString(), room))
+                )
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.CHAT_WELCOME, new ChatWelcomePayload("밀수왕")));
+        catalog.add(message(
+                WebSocketOutboundMessageType.LOBBY_CHAT_MESSAGE,
+                new ChatMessagePayload(99L, 1839202049392L, "밀수왕", "다들 준비 눌러 주세요", "2025-01-01T12:00:00")
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.CHAT_LEFT, new ChatLeftPayload("밀수왕")));
+        catalog.add(message(WebSocketOutboundMessageType.CHAT_KICKED, new ChatKickedPayload("밀수왕")));
+        catalog.add(message(WebSocketOutboundMessageType.CHAT_MESSAGE_MASKED, new ChatMessageMaskedPayload(99L, "LOBBY")));
+        catalog.add(message(WebSocketOutboundMessageType.CREATED_LOBBY, new CreateLobbyPayload(6, "밀수꾼 모집합니다", TeamRole.SMUGGLER)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.JOINED_LOBBY,
+                new JoinedLobbyPayload(
+                        1839202049392L,
+                        1839202049393L,
+                        6,
+                        2,
+                        "밀수꾼 모집합니다",
+                        List.of(
+                                new LobbyParticipant(1839202049393L, "밀수왕", TeamRole.SMUGGLER, true),
+                                new LobbyParticipant(1839202049394L, "검사관", TeamRole.INSPECTOR, false)
+                        )
+                )
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.OTHER_PLAYER_JOINED_LOBBY,
+                new OtherPlayerJoinedLobbyPayload(1839202049394L, "검사관", TeamRole.INSPECTOR, 2)
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.TOGGLED_READY, new ToggledReadyPayload(1839202049394L, true)));
+        catalog.add(message(WebSocketOutboundMessageType.TOGGLED_TEAM, new ToggledTeamPayload(1839202049394L, "검사관", TeamRole.SMUGGLER)));
+        catalog.add(message(WebSocketOutboundMessageType.OTHER_PLAYER_LEFT_LOBBY, new OtherPlayerLeftLobbyPayload(1839202049394L)));
+        catalog.add(message(WebSocketOutboundMessageType.OTHER_PLAYER_KICKED, new OtherPlayerKickedPayload(1839202049394L)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.START_GAME,
+                new StartGamePayload(
+                        1839202049393L,
+                        List.of(
+                                new GameStartPlayer(1839202049393L, "밀수왕", TeamRole.SMUGGLER, 3000),
+                                new GameStartPlayer(1839202049394L, "검사관", TeamRole.INSPECTOR, 3000)
+                        )
+                )
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.ROUND_SELECTION_TIMER,
+                new SelectionTimerPayload(2, 1735700000000L, 30000L, 1735700000100L, 1735700030000L)
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.REGISTERED_SMUGGLER_ID, new RegisteredSmugglerIdPayload(1839202049393L)));
+        catalog.add(message(WebSocketOutboundMessageType.FIXED_SMUGGLER_ID, new FixedSmugglerIdPayload(1839202049393L)));
+        catalog.add(message(WebSocketOutboundMessageType.REGISTERED_INSPECTOR_ID, new RegisteredInspectorIdPayload(1839202049394L)));
+        catalog.add(message(WebSocketOutboundMessageType.FIXED_INSPECTOR_ID, new FixedInspectorIdPayload(1839202049394L)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.SMUGGLER_APPROVAL_STATE,
+                new SmugglerApprovalStatePayload(1839202049393L, List.of(1839202049395L, 1839202049396L), false)
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.INSPECTOR_APPROVAL_STATE,
+                new InspectorApprovalStatePayload(1839202049394L, List.of(1839202049397L), true)
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.START_NEW_ROUND,
+                new StartNewRoundPayload(2, 1839202049393L, 1839202049394L, 1735700000000L, 30000L, 1735700000100L, 1735700030000L)
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.FINISHED_ROUND,
+                new FinishedRoundPayload(1839202049393L, 700, 1839202049394L, 300, RoundOutcomeType.PASS)
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.FINISHED_GAME, new FinishedGamePayload(GameWinnerType.SMUGGLER_TEAM, 9100, 6200)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.TRANSFER_FAILED,
+                new TransferFailedPayload(TransferFailureReason.INSUFFICIENT_BALANCE, "잔액이 부족합니다.")
+        ));
+        catalog.add(message(WebSocketOutboundMessageType.DECIDED_PASS, new DecidedPassPayload(1839202049394L)));
+        catalog.add(message(WebSocketOutboundMessageType.DECIDED_INSPECTION, new DecidedInspectionPayload(1839202049394L, 500)));
+        catalog.add(message(
+                WebSocketOutboundMessageType.DECIDED_SMUGGLER_AMOUNT_FOR_SMUGGLER_TEAM,
+                new DecidedSmugglerAmountForSmugglerTeamPayload(1839202049393L, 700)
+        ));
+        catalog.add(message(
+                WebSocketOutboundMessageType.TRANSFER,
+                new TransferPayload(1839202049393L, 1839202049395L, 2600, 3400, 400)
+        ));
+        return catalog;
+    }
+
+    private static WebSocketOutboundMessage message(WebSocketOutboundMessageType type, WebSocketMessagePayload payload) {
+        return new WebSocketOutboundMessage(type, payload);
+    }
+}
@@ -1,18 +1,16 @@
 package com.game.contraband.application.game;
 
 import com.game.contraband.application.game.dto.ActiveGameView;
-import com.game.contraband.global.actor.GuardianActor.GetGameRoomsCoordinator;
 import com.game.contraband.global.actor.GuardianActor.GuardianCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.QueryActiveGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
 import com.game.contraband.infrastructure.actor.client.service.ClientSessionActorManageService;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
+import com.game.contraband.infrastructure.actor.manage.EntitySlotAllocator;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.CreateLobby;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.GameManagerCommand;
-import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.AllocateEntity;
-import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -29,13 +27,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GameService {
 
-    private static final Duration DEFAULT_ASK_TIMEOUT = Duration.ofSeconds(3L);
     private static final Duration DEFAULT_RESUME_TIMEOUT = Duration.ofSeconds(3L);
 
     private final ClientSessionActorManageService clientSessionActorManageService;
     private final ClusterSharding clusterSharding;
     private final ActorSystem<GuardianCommand> actorSystem;
     private final ChatMessageEventPublisher chatMessageEventPublisher;
+    private final EntitySlotAllocator entitySlotAllocator;
 
     public CompletionStage<Void> createLobby(Long userId, String hostName, int maxPlayerCount, String lobbyName) {
         ActorRef<ClientSessionCommand> hostSession =
@@ -43,50 +41,30 @@ public class GameService {
                                                .orElseThrow(
                                                        ClientSessionNotFoundException::new
                                                );
-        CompletionStage<ActorRef<GameRoomCoordinatorCommand>> coordinator =
-                AskPattern.ask(
-                        actorSystem,
-                        GetGameRoomsCoordinator::new,
-                        DEFAULT_ASK_TIMEOUT,
-                        actorSystem.scheduler()
-                );
 
-        return coordinator.thenCompose(ref ->
-                AskPattern.ask(
-                        ref,
-                        AllocateEntity::new,
-                        DEFAULT_ASK_TIMEOUT,
-                        actorSystem.scheduler()
-                ).handle((reply, ex) -> {
-                    if (ex != null) {
-                        hostSession.tell(new HandleExceptionMessage(ExceptionCode.LOBBY_CREATE_FAILED));
-                        throw new IllegalStateException("게임 매니저 엔티티 할당 중 오류가 발생했습니다.", ex);
-                    }
+        return entitySlotAllocator.allocate().handle((entityId, ex) -> {
+            if (ex != null) {
+                hostSession.tell(new HandleExceptionMessage(ExceptionCode.LOBBY_CREATE_FAILED));
+                throw new IllegalStateException("게임 매니저 엔티티 할당 중 오류가 발생했습니다.", ex);
+            }
 
-                    if (reply.isError()) {
-                        hostSession.tell(new HandleExceptionMessage(ExceptionCode.LOBBY_CREATE_FAILED));
-                        throw new IllegalStateException("게임 매니저 엔티티 할당에 실패했습니다.", reply.getError());
-                    }
+            EntityRef<GameManagerCommand> gameManager = clusterSharding.entityRefFor(
+                    GameManagerEntity.ENTITY_TYPE_KEY,
+                    entityId
+            );
 
-                    String entityId = reply.getValue().entityId();
-                    EntityRef<GameManagerCommand> gameManager = clusterSharding.entityRefFor(
-                            GameManagerEntity.ENTITY_TYPE_KEY,
-                            entityId
-                    );
-
-                    gameManager.tell(
-                            new CreateLobby(
-                                    hostSession,
-                                    userId,
-                                    hostName,
-                                    maxPlayerCount,
-                                    lobbyName,
-                                    chatMessageEventPublisher
-                            )
-                    );
-                    return null;
-                })
-        );
+            gameManager.tell(
+                    new CreateLobby(
+                            hostSession,
+                            userId,
+                            hostName,
+                            maxPlayerCount,
+                            lobbyName,
+                            chatMessageEventPublisher
+                    )
+            );
+            return null;
+        });
     }
 
     public CompletionStage<Void> joinLobby(Long userId, String playerName, Long roomId, String entityId) {
@@ -31,6 +31,31 @@ public class Lobby {
         return lobby;
     }
 
+    // 노드 이동이나 장애로 다시 띄운 방은 이미 시작된 게임의 구성으로 로비를 채운 뒤 진행 중 상태로 되돌린다
+    public static Lobby resume(Long id, String name, Long hostId, int maxPlayerCount, ContrabandGame game) {
+        if (game == null) {
+            throw new IllegalArgumentException("이어서 진행할 게임이 필요합니다.");
+        }
+
+        LobbyMetadata metadata = LobbyMetadata.create(id, name, hostId, maxPlayerCount);
+        RosterDrafts teamDrafts = RosterDrafts.create(metadata.maxTeamSize());
+        LobbyGuards guards = LobbyGuards.create();
+        LobbyLifeCycle lifeCycle = LobbyLifeCycle.create(guards);
+
+        Lobby lobby = new Lobby(
+                metadata,
+                teamDrafts,
+                new HashMap<>(),
+                lifeCycle,
+                guards
+        );
+
+        game.smugglerPlayers().forEach(lobby::addSmuggler);
+        game.inspectorPlayers().forEach(lobby::addInspector);
+        lifeCycle.start(game);
+        return lobby;
+    }
+
     private static void validateHostProfile(PlayerProfile hostProfile) {
         if (hostProfile == null) {
             throw new IllegalArgumentException("방장은 필수입니다.");
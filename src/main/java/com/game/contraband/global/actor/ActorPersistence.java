@@ -0,0 +1,28 @@
+package com.game.contraband.global.actor;
+
+import com.typesafe.config.Config;
+import org.apache.pekko.actor.typed.ActorSystem;
+
+public final class ActorPersistence {
+
+    private static final String JOURNAL_PLUGIN_PATH = "pekko.persistence.journal.plugin";
+
+    private ActorPersistence() { }
+
+    // 저널 플러그인이 설정되지 않은 환경에서는 액터 상태를 영속화하지 않는다
+    public static boolean isEnabled(ActorSystem<?> system) {
+        return isEnabled(system.settings().config());
+    }
+
+    public static boolean isEnabled(Config config) {
+        return config.hasPath(JOURNAL_PLUGIN_PATH) && !config.getString(JOURNAL_PLUGIN_PATH).isBlank();
+    }
+
+    public static String journalPlugin(ActorSystem<?> system) {
+        return journalPlugin(system.settings().config());
+    }
+
+    public static String journalPlugin(Config config) {
+        return config.getString(JOURNAL_PLUGIN_PATH);
+    }
+}
@@ -13,6 +13,9 @@ import com.game.contraband.infrastructure.event.MonitorEventBroadcaster;
 import com.game.contraband.infrastructure.monitor.payload.MonitorActorRole;
 import com.game.contraband.infrastructure.monitor.payload.MonitorActorState;
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Consumer;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
@@ -24,20 +27,36 @@ public class GuardianActor extends AbstractBehavior<GuardianCommand>  {
 
     public static Behavior<GuardianCommand> create(
             ActorRef<RoomDirectoryCommand> roomDirectory,
+            int roomDirectoryPartitionCount,
             ActorRef<GameRoomCoordinatorCommand> gameRoomsCoordinator,
             MonitorEventBroadcaster monitorEventBroadcaster,
-            ChatBlacklistRepository chatBlacklistRepository
+            ChatBlacklistRepository chatBlacklistRepository,
+            MeterRegistry meterRegistry,
+            Duration directoryPushWindow,
+            Duration sessionIdleTimeout
     ) {
         return Behaviors.setup(
                 context -> {
                     publishCreatedActorEvent(context, monitorEventBroadcaster);
 
+                    ActorRef<LocalDirectoryCommand> roomDirectoryReplica = context.spawn(
+                            RoomDirectorySubscriberActor.create(
+                                    roomDirectory,
+                                    roomDirectoryPartitionCount,
+                                    monitorEventBroadcaster,
+                                    meterRegistry,
+                                    directoryPushWindow
+                            ),
+                            "room-directory-replica"
+                    );
+
                     return new GuardianActor(
                             context,
-                            roomDirectory,
+                            roomDirectoryReplica,
                             gameRoomsCoordinator,
                             monitorEventBroadcaster,
-                            chatBlacklistRepository
+                            chatBlacklistRepository,
+                            sessionIdleTimeout
                     );
                 }
         );
@@ -59,23 +78,26 @@ public class GuardianActor extends AbstractBehavior<GuardianCommand>  {
 
     private GuardianActor(
             ActorContext<GuardianCommand> context,
-            ActorRef<RoomDirectoryCommand> roomDirectory,
+            ActorRef<LocalDirectoryCommand> roomDirectoryReplica,
             ActorRef<GameRoomCoordinatorCommand> gameRoomsCoordinator,
             MonitorEventBroadcaster monitorEventBroadcaster,
-            ChatBlacklistRepository chatBlacklistRepository
+            ChatBlacklistRepository chatBlacklistRepository,
+            Duration sessionIdleTimeout
     ) {
         super(context);
 
-        this.roomDirectory = roomDirectory;
+        this.roomDirectoryReplica = roomDirectoryReplica;
         this.gameRoomsCoordinator = gameRoomsCoordinator;
         this.monitorEventBroadcaster = monitorEventBroadcaster;
         this.chatBlacklistRepository = chatBlacklistRepository;
+        this.sessionIdleTimeout = sessionIdleTimeout;
     }
 
-    private final ActorRef<RoomDirectoryCommand> roomDirectory;
+    private final ActorRef<LocalDirectoryCommand> roomDirectoryReplica;
     private final ActorRef<GameRoomCoordinatorCommand> gameRoomsCoordinator;
     private final MonitorEventBroadcaster monitorEventBroadcaster;
     private final ChatBlacklistRepository chatBlacklistRepository;
+    private final Duration sessionIdleTimeout;
 
     @Override
     public Receive<GuardianCommand> createReceive() {
@@ -85,15 +107,13 @@ public class GuardianActor extends AbstractBehavior<GuardianCommand>  {
     }
 
     private Behavior<GuardianCommand> onSpawnClientSession(SpawnClientSession command) {
-        ActorRef<LocalDirectoryCommand> localCache = getContext().spawn(
-                RoomDirectorySubscriberActor.create(roomDirectory, monitorEventBroadcaster),
-                "room-directory-cache-" + command.playerId()
-        );
         ActorRef<ClientSessionCommand> clientSession = getContext().spawn(
                 ClientSessionActor.create(
                         command.playerId(),
                         command.clientWebSocketMessageSender(),
-                        localCache, chatBlacklistRepository
+                        roomDirectoryReplica, chatBlacklistRepository,
+                        sessionIdleTimeout,
+                        command.stopListener()
                 ),
                 "client-session-" + System.nanoTime() + "-" + command.playerId()
         );
@@ -112,7 +132,12 @@ public class GuardianActor extends AbstractBehavior<GuardianCommand>  {
 
     public interface GuardianCommand extends CborSerializable { }
 
-    public record SpawnClientSession(Long playerId, ClientWebSocketMessageSender clientWebSocketMessageSender, ActorRef<GuardianCommand> replyTo) implements GuardianCommand { }
+    public record SpawnClientSession(
+            Long playerId,
+            ClientWebSocketMessageSender clientWebSocketMessageSender,
+            Consumer<ActorRef<ClientSessionCommand>> stopListener,
+            ActorRef<GuardianCommand> replyTo
+    ) implements GuardianCommand { }
 
     public record SpawnedClientSession(ActorRef<ClientSessionCommand> clientSession) implements GuardianCommand { }
 
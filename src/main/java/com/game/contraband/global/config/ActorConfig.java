@@ -1,17 +1,35 @@
 package com.game.contraband.global.config;
 
 import com.game.contraband.domain.monitor.ChatBlacklistRepository;
+import com.game.contraband.global.actor.ActorPersistence;
 import com.game.contraband.global.actor.GuardianActor;
+import com.game.contraband.global.actor.GuardianActor.GetGameRoomsCoordinator;
 import com.game.contraband.global.actor.GuardianActor.GuardianCommand;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistReplicaActor;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistStoreCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor;
+import com.game.contraband.infrastructure.actor.directory.ReplicatedRoomDirectoryActor;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryMode;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryRouterActor;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
+import com.game.contraband.infrastructure.actor.manage.EntityAllocationPolicy;
+import com.game.contraband.infrastructure.actor.manage.EntitySlotAllocator;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity;
+import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.HandOffGameManager;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntitySlotLease;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.LeaseEntitySlots;
 import com.game.contraband.infrastructure.event.MonitorEventBroadcaster;
+import com.game.contraband.infrastructure.monitor.ClusterChatBlacklistRepository;
+import com.game.contraband.infrastructure.websocket.SessionHeartbeatWheel;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -19,13 +37,18 @@ import org.apache.pekko.actor.Address;
 import org.apache.pekko.actor.AddressFromURIString;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.AskPattern;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.cluster.sharding.typed.ClusterShardingSettings;
 import org.apache.pekko.cluster.sharding.typed.javadsl.ClusterSharding;
 import org.apache.pekko.cluster.sharding.typed.javadsl.Entity;
 import org.apache.pekko.cluster.typed.Cluster;
 import org.apache.pekko.cluster.typed.ClusterSingleton;
 import org.apache.pekko.cluster.typed.JoinSeedNodes;
 import org.apache.pekko.cluster.typed.SingletonActor;
+import org.apache.pekko.pattern.StatusReply;
+import org.flywaydb.core.Flyway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -37,35 +60,100 @@ import org.springframework.core.env.Environment;
 public class ActorConfig {
 
     private static final int DEFAULT_MAX_ROOMS_PER_ENTITY = 30;
+    private static final int DEFAULT_MAX_PLAYERS_PER_ENTITY = 120;
+    private static final int DEFAULT_SLOT_LEASE_SIZE = 8;
+    private static final Duration SLOT_LEASE_ASK_TIMEOUT = Duration.ofSeconds(3L);
+    private static final Duration DEFAULT_DIRECTORY_PUSH_WINDOW = Duration.ofMillis(250L);
+    private static final int DEFAULT_DIRECTORY_PARTITION_COUNT = 8;
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(30L);
+    private static final int DEFAULT_HEARTBEAT_BUCKETS = 30;
+    private static final Duration DEFAULT_SESSION_IDLE_TIMEOUT = Duration.ofMinutes(5L);
+    private static final int MAX_MISSED_SESSION_PONGS = 2;
+    private static final String JDBC_JOURNAL_PLUGIN = "jdbc-journal";
+    private static final String MATCH_JOURNAL_MIGRATIONS = "classpath:db/match-journal";
+    private static final String SHARED_CLUSTER_CONFIG = "pekko-cluster";
 
     private final Environment environment;
     private final ChatBlacklistRepository chatBlacklistRepository;
     private final MonitorEventBroadcaster monitorEventBroadcaster;
     private final GameLifecycleEventPublisher gameLifecycleEventPublisher;
+    private final ChatMessageEventPublisher chatMessageEventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public ClusterSharding clusterSharding(ActorSystem<GuardianCommand> system) {
         return ClusterSharding.get(system);
     }
 
+    @Bean
+    public EntitySlotAllocator entitySlotAllocator(ActorSystem<GuardianCommand> system) {
+        return new EntitySlotAllocator(
+                environment.getProperty(
+                        "contraband.allocation.slot-lease-size",
+                        Integer.class,
+                        DEFAULT_SLOT_LEASE_SIZE
+                ),
+                slots -> AskPattern.ask(
+                        system,
+                        GetGameRoomsCoordinator::new,
+                        SLOT_LEASE_ASK_TIMEOUT,
+                        system.scheduler()
+                ).thenCompose(
+                        coordinator -> AskPattern.askWithStatus(
+                                coordinator,
+                                (ActorRef<StatusReply<EntitySlotLease>> replyTo) -> new LeaseEntitySlots(slots, replyTo),
+                                SLOT_LEASE_ASK_TIMEOUT,
+                                system.scheduler()
+                        )
+                ),
+                System::nanoTime
+        );
+    }
+
+    // 세션마다 타이머를 두는 대신 노드 하나의 스케줄러가 버킷을 차례로 돌며 핑을 보낸다
+    @Bean
+    public SessionHeartbeatWheel sessionHeartbeatWheel(ActorSystem<GuardianCommand> system) {
+        Duration interval = environment.getProperty(
+                "contraband.websocket.heartbeat-interval",
+                Duration.class,
+                DEFAULT_HEARTBEAT_INTERVAL
+        );
+        int buckets = environment.getProperty(
+                "contraband.websocket.heartbeat-buckets",
+                Integer.class,
+                DEFAULT_HEARTBEAT_BUCKETS
+        );
+        SessionHeartbeatWheel wheel = new SessionHeartbeatWheel(buckets, MAX_MISSED_SESSION_PONGS, meterRegistry);
+        Duration tick = interval.dividedBy(buckets);
+
+        system.scheduler()
+              .scheduleAtFixedRate(tick, tick, wheel::advance, system.executionContext());
+        return wheel;
+    }
+
     @Bean(destroyMethod = "terminate")
     public ActorSystem<GuardianCommand> actorSystem() {
         Config config = buildConfig();
+
+        validateChatBlacklistPersistence(config);
+        migrateMatchJournalSchema(config);
+
         ActorSystem<GuardianCommand> system = ActorSystem.create(
                 Behaviors.setup(context -> {
                     ClusterSingleton clusterSingleton = ClusterSingleton.get(context.getSystem());
                     ClusterSharding sharding = ClusterSharding.get(context.getSystem());
-
-                    ActorRef<RoomDirectoryCommand> roomDirectory = clusterSingleton.init(
-                            SingletonActor.of(
-                                    RoomDirectoryActor.create(),
-                                    "room-directory"
-                            )
-                    );
+                    RoomDirectoryMode directoryMode = getDirectoryMode();
+                    int directoryPartitionCount = directoryMode == RoomDirectoryMode.REPLICATED
+                            ? 1
+                            : getDirectoryPartitionCount();
+                    ActorRef<RoomDirectoryCommand> roomDirectory = directoryMode == RoomDirectoryMode.REPLICATED
+                            ? context.spawn(ReplicatedRoomDirectoryActor.create(), "room-directory-replicated")
+                            : initShardedRoomDirectory(context, sharding, directoryPartitionCount);
+                    initChatBlacklistReplica(context, clusterSingleton);
                     ActorRef<GameRoomCoordinatorCommand> gameRoomCoordinator = clusterSingleton.init(
                             SingletonActor.of(
                                     GameRoomCoordinatorEntity.create(
-                                            DEFAULT_MAX_ROOMS_PER_ENTITY,
+                                            getAllocationPolicy(),
                                             gameLifecycleEventPublisher
                                     ),
                                     "game-rooms-coordinator"
@@ -83,16 +171,25 @@ public class ActorConfig {
                                             gameRoomCoordinator,
                                             roomDirectory,
                                             gameLifecycleEventPublisher,
+                                            chatMessageEventPublisher,
                                             chatBlacklistRepository
                                     )
-                            )
+                            ).withStopMessage(new HandOffGameManager())
+                             .withSettings(
+                                     ClusterShardingSettings.create(context.getSystem())
+                                                            .withRememberEntities(true)
+                             )
                     );
 
                     return GuardianActor.create(
                             roomDirectory,
+                            directoryPartitionCount,
                             gameRoomCoordinator,
                             monitorEventBroadcaster,
-                            chatBlacklistRepository
+                            chatBlacklistRepository,
+                            meterRegistry,
+                            getDirectoryPushWindow(),
+                            getSessionIdleTimeout()
                     );
                 }),
                 "ChatCluster",
@@ -104,15 +201,140 @@ public class ActorConfig {
         return system;
     }
 
+    // 저널이 없으면 차단 목록이 노드 재시작과 함께 사라지므로, 클러스터 차단 목록을 쓰는 프로필은 기동을 멈춘다
+    private void validateChatBlacklistPersistence(Config config) {
+        if (chatBlacklistRepository instanceof ClusterChatBlacklistRepository && !ActorPersistence.isEnabled(config)) {
+            throw new IllegalStateException(
+                    "클러스터 차단 목록을 사용하려면 pekko.persistence.journal.plugin 설정이 필요합니다. 프로필: " + getActiveProfile()
+            );
+        }
+    }
+
+    // 차단 목록 원본은 싱글톤이 저널에 남기고, 노드마다 복제 액터가 토픽으로 받은 변경을 근접 캐시에 반영한다
+    private void initChatBlacklistReplica(ActorContext<GuardianCommand> context, ClusterSingleton clusterSingleton) {
+        if (!(chatBlacklistRepository instanceof ClusterChatBlacklistRepository nearCache)) {
+            return;
+        }
+
+        ActorRef<ChatBlacklistStoreCommand> store = clusterSingleton.init(
+                SingletonActor.of(ChatBlacklistStoreActor.create(), "chat-blacklist-store")
+        );
+
+        context.spawn(ChatBlacklistReplicaActor.create(nearCache, store), "chat-blacklist-replica");
+    }
+
+    // 저널 테이블이 없으면 복원과 기록이 모두 실패하므로, 액터 시스템을 띄우기 전에 마이그레이션을 끝내고 실패하면 기동을 멈춘다
+    private void migrateMatchJournalSchema(Config config) {
+        if (!ActorPersistence.isEnabled(config)) {
+            return;
+        }
+        if (!JDBC_JOURNAL_PLUGIN.equals(ActorPersistence.journalPlugin(config))) {
+            return;
+        }
+
+        Config db = config.getConfig(JDBC_JOURNAL_PLUGIN + ".slick.db");
+
+        Flyway.configure()
+              .dataSource(db.getString("url"), db.getString("user"), db.getString("password"))
+              .locations(MATCH_JOURNAL_MIGRATIONS)
+              .baselineOnMigrate(true)
+              .load()
+              .migrate();
+    }
+
+    private ActorRef<RoomDirectoryCommand> initShardedRoomDirectory(
+            ActorContext<GuardianCommand> context,
+            ClusterSharding sharding,
+            int partitionCount
+    ) {
+        // 게임 방 목록은 메모리에만 있으므로 파티션이 유휴 상태로 정리되지 않도록 패시베이션을 끈다
+        sharding.init(
+                Entity.of(
+                        RoomDirectoryActor.ENTITY_TYPE_KEY,
+                        entityContext -> RoomDirectoryActor.create(
+                                Integer.parseInt(entityContext.getEntityId())
+                        )
+                ).withSettings(
+                        ClusterShardingSettings.create(context.getSystem())
+                                               .withNoPassivationStrategy()
+                )
+        );
+
+        return context.spawn(
+                RoomDirectoryRouterActor.create(
+                        partitionCount,
+                        partition -> sharding.entityRefFor(
+                                RoomDirectoryActor.ENTITY_TYPE_KEY,
+                                String.valueOf(partition)
+                        )
+                ),
+                "room-directory-router"
+        );
+    }
+
+    private EntityAllocationPolicy getAllocationPolicy() {
+        return new EntityAllocationPolicy(
+                environment.getProperty(
+                        "contraband.allocation.max-rooms-per-entity",
+                        Integer.class,
+                        DEFAULT_MAX_ROOMS_PER_ENTITY
+                ),
+                environment.getProperty(
+                        "contraband.allocation.max-players-per-entity",
+                        Integer.class,
+                        DEFAULT_MAX_PLAYERS_PER_ENTITY
+                )
+        );
+    }
+
+    private RoomDirectoryMode getDirectoryMode() {
+        return environment.getProperty(
+                "contraband.room-directory.mode",
+                RoomDirectoryMode.class,
+                RoomDirectoryMode.SHARDED
+        );
+    }
+
+    private int getDirectoryPartitionCount() {
+        return environment.getProperty(
+                "contraband.room-directory.partitions",
+                Integer.class,
+                DEFAULT_DIRECTORY_PARTITION_COUNT
+        );
+    }
+
+    private Duration getDirectoryPushWindow() {
+        return environment.getProperty(
+                "contraband.room-directory.push-window",
+                Duration.class,
+                DEFAULT_DIRECTORY_PUSH_WINDOW
+        );
+    }
+
+    private Duration getSessionIdleTimeout() {
+        return environment.getProperty(
+                "contraband.websocket.session-idle-timeout",
+                Duration.class,
+                DEFAULT_SESSION_IDLE_TIMEOUT
+        );
+    }
+
     private Config buildConfig() {
         Config base = ConfigFactory.load();
         Config profileConfig = loadProfileBasedConfig();
         return profileConfig.withFallback(base);
     }
 
+    // 프로필 전용 설정이 없는 운영 프로필도 클러스터와 저널 설정은 공통 설정으로 받는다
     private Config loadProfileBasedConfig() {
+        String configName = calculateConfigName();
+
+        if (ActorConfig.class.getClassLoader().getResource(configName + ".conf") == null) {
+            configName = SHARED_CLUSTER_CONFIG;
+        }
+
         try {
-            return ConfigFactory.load(calculateConfigName());
+            return ConfigFactory.load(configName);
         } catch (Exception ignored) {
             return ConfigFactory.empty();
         }
@@ -1,7 +1,13 @@
 package com.game.contraband.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.contraband.infrastructure.event.AsyncChatMessageEventPublisher;
+import com.game.contraband.infrastructure.event.ChatEventPublishSettings;
+import com.game.contraband.infrastructure.event.RabbitMqChatMessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -29,12 +35,35 @@ public class RabbitMqConfig {
     @Value("${RABBITMQ_VHOST:/}")
     private String virtualHost;
 
+    @Value("${contraband.chat-event.queue-capacity:4096}")
+    private int chatEventQueueCapacity;
+
+    @Value("${contraband.chat-event.batch-max-events:64}")
+    private int chatEventBatchMaxEvents;
+
+    @Value("${contraband.chat-event.max-in-flight-batches:8}")
+    private int chatEventMaxInFlightBatches;
+
+    @Value("${contraband.chat-event.flush-interval:20ms}")
+    private Duration chatEventFlushInterval;
+
+    @Value("${contraband.chat-event.confirm-timeout:5s}")
+    private Duration chatEventConfirmTimeout;
+
+    @Value("${contraband.chat-event.retry-buffer-batches:64}")
+    private int chatEventRetryBufferBatches;
+
+    @Value("${contraband.chat-event.max-attempts:3}")
+    private int chatEventMaxAttempts;
+
     @Bean
     public ConnectionFactory rabbitConnectionFactory() {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory(host, port);
         connectionFactory.setUsername(username);
         connectionFactory.setPassword(password);
         connectionFactory.setVirtualHost(virtualHost);
+        // 채팅 이벤트 묶음마다 브로커의 발행 확인을 비동기로 받아, 거부된 묶음만 다시 보낸다
+        connectionFactory.setPublisherConfirmType(ConfirmType.CORRELATED);
 
         return connectionFactory;
     }
@@ -46,4 +75,25 @@ public class RabbitMqConfig {
 
         return rabbitTemplate;
     }
+
+    // 채팅 액터가 브로커 전송을 기다리지 않도록 큐에 넣기만 하고, 전송은 전용 스레드에 맡긴다
+    @Bean(destroyMethod = "close")
+    public AsyncChatMessageEventPublisher chatMessageEventPublisher(
+            RabbitMqChatMessagePublisher rabbitMqChatMessagePublisher,
+            MeterRegistry meterRegistry
+    ) {
+        return new AsyncChatMessageEventPublisher(
+                rabbitMqChatMessagePublisher,
+                new ChatEventPublishSettings(
+                        chatEventQueueCapacity,
+                        chatEventBatchMaxEvents,
+                        chatEventMaxInFlightBatches,
+                        chatEventFlushInterval,
+                        chatEventConfirmTimeout,
+                        chatEventRetryBufferBatches,
+                        chatEventMaxAttempts
+                ),
+                meterRegistry
+        );
+    }
 }
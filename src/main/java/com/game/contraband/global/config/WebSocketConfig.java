@@ -2,8 +2,10 @@ package com.game.contraband.global.config;
 
 import com.game.contraband.infrastructure.websocket.GameWebSocketHandler;
 import com.game.contraband.infrastructure.websocket.MonitorWebSocketHandler;
+import com.game.contraband.infrastructure.websocket.WebSocketCompressionInstaller;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
@@ -15,6 +17,7 @@ public class WebSocketConfig {
 
     private final GameWebSocketHandler gameWebSocketHandler;
     private final MonitorWebSocketHandler monitorWebSocketHandler;
+    private final WebSocketCompressionInstaller webSocketCompressionInstaller;
 
     @Bean
     public SimpleUrlHandlerMapping webSocketHandlerMapping() {
@@ -27,6 +30,14 @@ public class WebSocketConfig {
         return mapping;
     }
 
+    // 방 목록이나 게임 시작 정보처럼 큰 프레임만 permessage-deflate로 압축한다
+    @Bean
+    public NettyServerCustomizer webSocketCompressionCustomizer() {
+        return httpServer -> httpServer.doOnChannelInit(
+                (observer, channel, remoteAddress) -> webSocketCompressionInstaller.install(channel.pipeline())
+        );
+    }
+
     @Bean
     public WebSocketHandlerAdapter webSocketHandlerAdapter() {
         return new WebSocketHandlerAdapter();
@@ -0,0 +1,162 @@
+package com.game.contraband.infrastructure.actor.blacklist;
+
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.BlockPlayer;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklist;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistChanged;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistStoreCommand;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.QueryChatBlacklist;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.UnblockPlayer;
+import com.game.contraband.infrastructure.monitor.ClusterChatBlacklistRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.TimerScheduler;
+import org.apache.pekko.actor.typed.pubsub.Topic;
+
+// 노드마다 하나씩 떠서 차단 목록 변경을 원본 저장소로 보내고, 토픽으로 들어온 변경을 근접 캐시에 반영한다
+public class ChatBlacklistReplicaActor extends AbstractBehavior<ChatBlacklistReplicaActor.ChatBlacklistReplicaCommand> {
+
+    private static final Duration SNAPSHOT_RETRY_INTERVAL = Duration.ofSeconds(3L);
+
+    public static Behavior<ChatBlacklistReplicaCommand> create(
+            ClusterChatBlacklistRepository nearCache,
+            ActorRef<ChatBlacklistStoreCommand> store
+    ) {
+        return Behaviors.setup(
+                context -> Behaviors.withTimers(
+                        timers -> {
+                            ActorRef<ChatBlacklistChanged> changeAdapter =
+                                    context.messageAdapter(ChatBlacklistChanged.class, WrappedBlacklistChange::new);
+                            ActorRef<ChatBlacklist> snapshotAdapter =
+                                    context.messageAdapter(ChatBlacklist.class, WrappedBlacklistSnapshot::new);
+                            ActorRef<Topic.Command<ChatBlacklistChanged>> topic = context.spawn(
+                                    Topic.create(ChatBlacklistChanged.class, ChatBlacklistStoreActor.TOPIC_NAME),
+                                    ChatBlacklistStoreActor.TOPIC_NAME + "-replica"
+                            );
+                            ChatBlacklistReplicaActor actor = new ChatBlacklistReplicaActor(
+                                    context,
+                                    timers,
+                                    nearCache,
+                                    store,
+                                    snapshotAdapter
+                            );
+
+                            topic.tell(Topic.subscribe(changeAdapter));
+                            nearCache.connect(context.getSelf());
+                            actor.requestSnapshot();
+                            return actor;
+                        }
+                )
+        );
+    }
+
+    private ChatBlacklistReplicaActor(
+            ActorContext<ChatBlacklistReplicaCommand> context,
+            TimerScheduler<ChatBlacklistReplicaCommand> timers,
+            ClusterChatBlacklistRepository nearCache,
+            ActorRef<ChatBlacklistStoreCommand> store,
+            ActorRef<ChatBlacklist> snapshotAdapter
+    ) {
+        super(context);
+
+        this.timers = timers;
+        this.nearCache = nearCache;
+        this.store = store;
+        this.snapshotAdapter = snapshotAdapter;
+    }
+
+    private final TimerScheduler<ChatBlacklistReplicaCommand> timers;
+    private final ClusterChatBlacklistRepository nearCache;
+    private final ActorRef<ChatBlacklistStoreCommand> store;
+    private final ActorRef<ChatBlacklist> snapshotAdapter;
+    private final List<ChatBlacklistChanged> pendingChanges = new ArrayList<>();
+    private boolean hydrated;
+
+    @Override
+    public Receive<ChatBlacklistReplicaCommand> createReceive() {
+        return newReceiveBuilder().onMessage(ReplicateBlock.class, this::onReplicateBlock)
+                                  .onMessage(ReplicateUnblock.class, this::onReplicateUnblock)
+                                  .onMessage(WrappedBlacklistChange.class, this::onBlacklistChange)
+                                  .onMessage(WrappedBlacklistSnapshot.class, this::onBlacklistSnapshot)
+                                  .onMessage(RetryBlacklistSnapshot.class, this::onRetryBlacklistSnapshot)
+                                  .build();
+    }
+
+    private Behavior<ChatBlacklistReplicaCommand> onReplicateBlock(ReplicateBlock command) {
+        store.tell(new BlockPlayer(command.playerId()));
+        return this;
+    }
+
+    private Behavior<ChatBlacklistReplicaCommand> onReplicateUnblock(ReplicateUnblock command) {
+        store.tell(new UnblockPlayer(command.playerId()));
+        return this;
+    }
+
+    // 원본 목록을 받기 전에 도착한 변경은 모아 두었다가, 목록보다 새로운 것만 다시 적용한다
+    private Behavior<ChatBlacklistReplicaCommand> onBlacklistChange(WrappedBlacklistChange command) {
+        if (!hydrated) {
+            pendingChanges.add(command.change());
+            return this;
+        }
+
+        apply(command.change());
+        return this;
+    }
+
+    private Behavior<ChatBlacklistReplicaCommand> onBlacklistSnapshot(WrappedBlacklistSnapshot command) {
+        if (hydrated) {
+            return this;
+        }
+
+        ChatBlacklist snapshot = command.snapshot();
+
+        timers.cancel(RetryBlacklistSnapshot.class);
+        nearCache.replaceAll(snapshot.playerIds());
+        for (ChatBlacklistChanged change : pendingChanges) {
+            if (change.version() > snapshot.version()) {
+                apply(change);
+            }
+        }
+        pendingChanges.clear();
+        hydrated = true;
+        return this;
+    }
+
+    private Behavior<ChatBlacklistReplicaCommand> onRetryBlacklistSnapshot(RetryBlacklistSnapshot command) {
+        if (!hydrated) {
+            requestSnapshot();
+        }
+        return this;
+    }
+
+    private void requestSnapshot() {
+        store.tell(new QueryChatBlacklist(snapshotAdapter));
+        timers.startSingleTimer(RetryBlacklistSnapshot.class, new RetryBlacklistSnapshot(), SNAPSHOT_RETRY_INTERVAL);
+    }
+
+    private void apply(ChatBlacklistChanged change) {
+        if (change.blocked()) {
+            nearCache.applyBlocked(change.playerId());
+        } else {
+            nearCache.applyUnblocked(change.playerId());
+        }
+    }
+
+    public interface ChatBlacklistReplicaCommand { }
+
+    public record ReplicateBlock(Long playerId) implements ChatBlacklistReplicaCommand { }
+
+    public record ReplicateUnblock(Long playerId) implements ChatBlacklistReplicaCommand { }
+
+    private record WrappedBlacklistChange(ChatBlacklistChanged change) implements ChatBlacklistReplicaCommand { }
+
+    private record WrappedBlacklistSnapshot(ChatBlacklist snapshot) implements ChatBlacklistReplicaCommand { }
+
+    private record RetryBlacklistSnapshot() implements ChatBlacklistReplicaCommand { }
+}
@@ -0,0 +1,139 @@
+package com.game.contraband.infrastructure.actor.blacklist;
+
+import com.game.contraband.global.actor.CborSerializable;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.pubsub.Topic;
+import org.apache.pekko.persistence.typed.PersistenceId;
+import org.apache.pekko.persistence.typed.javadsl.CommandHandler;
+import org.apache.pekko.persistence.typed.javadsl.Effect;
+import org.apache.pekko.persistence.typed.javadsl.EventHandler;
+import org.apache.pekko.persistence.typed.javadsl.EventSourcedBehavior;
+import org.apache.pekko.persistence.typed.javadsl.RetentionCriteria;
+
+// 클러스터 싱글톤으로 떠서 차단 목록의 원본을 저널에 남기고, 바뀐 내용은 모든 노드의 복제본에 토픽으로 알린다
+public class ChatBlacklistStoreActor extends EventSourcedBehavior<
+        ChatBlacklistStoreActor.ChatBlacklistStoreCommand,
+        ChatBlacklistStoreActor.ChatBlacklistEvent,
+        ChatBlacklistStoreActor.ChatBlacklist> {
+
+    public static final String TOPIC_NAME = "chat-blacklist";
+    private static final PersistenceId PERSISTENCE_ID = PersistenceId.ofUniqueId("ChatBlacklist");
+    private static final int SNAPSHOT_EVERY_EVENTS = 100;
+    private static final int KEEP_SNAPSHOTS = 2;
+
+    public static Behavior<ChatBlacklistStoreCommand> create() {
+        return Behaviors.setup(
+                context -> new ChatBlacklistStoreActor(
+                        context.spawn(Topic.create(ChatBlacklistChanged.class, TOPIC_NAME), TOPIC_NAME)
+                )
+        );
+    }
+
+    private ChatBlacklistStoreActor(ActorRef<Topic.Command<ChatBlacklistChanged>> topic) {
+        super(PERSISTENCE_ID);
+
+        this.topic = topic;
+    }
+
+    private final ActorRef<Topic.Command<ChatBlacklistChanged>> topic;
+
+    @Override
+    public ChatBlacklist emptyState() {
+        return new ChatBlacklist(Set.of(), 0L);
+    }
+
+    @Override
+    public CommandHandler<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> commandHandler() {
+        return newCommandHandlerBuilder().forAnyState()
+                                         .onCommand(BlockPlayer.class, this::onBlockPlayer)
+                                         .onCommand(UnblockPlayer.class, this::onUnblockPlayer)
+                                         .onCommand(QueryChatBlacklist.class, this::onQueryChatBlacklist)
+                                         .build();
+    }
+
+    private Effect<ChatBlacklistEvent, ChatBlacklist> onBlockPlayer(ChatBlacklist state, BlockPlayer command) {
+        if (state.contains(command.playerId())) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new PlayerBlocked(command.playerId()))
+                       .thenRun(blacklist -> publishChange(command.playerId(), true, blacklist));
+    }
+
+    private Effect<ChatBlacklistEvent, ChatBlacklist> onUnblockPlayer(ChatBlacklist state, UnblockPlayer command) {
+        if (!state.contains(command.playerId())) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new PlayerUnblocked(command.playerId()))
+                       .thenRun(blacklist -> publishChange(command.playerId(), false, blacklist));
+    }
+
+    private Effect<ChatBlacklistEvent, ChatBlacklist> onQueryChatBlacklist(
+            ChatBlacklist state,
+            QueryChatBlacklist command
+    ) {
+        return Effect().none()
+                       .thenReply(command.replyTo(), blacklist -> blacklist);
+    }
+
+    private void publishChange(Long playerId, boolean blocked, ChatBlacklist blacklist) {
+        topic.tell(Topic.publish(new ChatBlacklistChanged(playerId, blocked, blacklist.version())));
+    }
+
+    @Override
+    public EventHandler<ChatBlacklist, ChatBlacklistEvent> eventHandler() {
+        return newEventHandlerBuilder().forAnyState()
+                                       .onEvent(PlayerBlocked.class, (state, event) -> state.block(event.playerId()))
+                                       .onEvent(PlayerUnblocked.class, (state, event) -> state.unblock(event.playerId()))
+                                       .build();
+    }
+
+    @Override
+    public RetentionCriteria retentionCriteria() {
+        return RetentionCriteria.snapshotEvery(SNAPSHOT_EVERY_EVENTS, KEEP_SNAPSHOTS);
+    }
+
+    public interface ChatBlacklistStoreCommand extends CborSerializable { }
+
+    public record BlockPlayer(Long playerId) implements ChatBlacklistStoreCommand { }
+
+    public record UnblockPlayer(Long playerId) implements ChatBlacklistStoreCommand { }
+
+    public record QueryChatBlacklist(ActorRef<ChatBlacklist> replyTo) implements ChatBlacklistStoreCommand { }
+
+    public interface ChatBlacklistEvent extends CborSerializable { }
+
+    public record PlayerBlocked(Long playerId) implements ChatBlacklistEvent { }
+
+    public record PlayerUnblocked(Long playerId) implements ChatBlacklistEvent { }
+
+    // 복제본이 목록을 받은 뒤 도착한 변경 중 이미 반영된 것을 가려낼 수 있도록 변경마다 버전을 올린다
+    public record ChatBlacklistChanged(Long playerId, boolean blocked, long version) implements CborSerializable { }
+
+    public record ChatBlacklist(Set<Long> playerIds, long version) implements CborSerializable {
+
+        public boolean contains(Long playerId) {
+            return playerIds.contains(playerId);
+        }
+
+        // 스냅샷 저장은 비동기로 직렬화되므로 상태를 변경하지 않고 새 목록을 만든다
+        ChatBlacklist block(Long playerId) {
+            Set<Long> blocked = new HashSet<>(playerIds);
+
+            blocked.add(playerId);
+            return new ChatBlacklist(Set.copyOf(blocked), version + 1L);
+        }
+
+        ChatBlacklist unblock(Long playerId) {
+            Set<Long> unblocked = new HashSet<>(playerIds);
+
+            unblocked.remove(playerId);
+            return new ChatBlacklist(Set.copyOf(unblocked), version + 1L);
+        }
+    }
+}
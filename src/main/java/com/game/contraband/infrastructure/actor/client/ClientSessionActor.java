@@ -6,13 +6,17 @@ import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.LocalDirectoryCommand;
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
+import java.time.Duration;
+import java.util.function.Consumer;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.PostStop;
+import org.apache.pekko.actor.typed.Terminated;
 import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.TimerScheduler;
 import org.apache.pekko.pattern.StatusReply;
 
 public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
@@ -21,51 +25,82 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
             Long playerId,
             ClientWebSocketMessageSender clientWebSocketMessageSender,
             ActorRef<LocalDirectoryCommand> roomDirectoryCache,
-            ChatBlacklistRepository chatBlacklistRepository
+            ChatBlacklistRepository chatBlacklistRepository,
+            Duration idleTimeout,
+            Consumer<ActorRef<ClientSessionCommand>> stopListener
     ) {
         return Behaviors.setup(
-                context -> {
-                    ActorRef<OutboundCommand> outbound = context.spawn(
-                            SessionOutboundActor.create(playerId, clientWebSocketMessageSender, context.getSelf()),
-                            "session-outbound-" + playerId
-                    );
-                    ActorRef<InboundCommand> inbound = context.spawn(
-                            SessionInboundActor.create(context.getSelf()),
-                            "session-inbound-" + playerId
-                    );
-                    ActorRef<PresenceCommand> presence = context.spawn(
-                            SessionPresenceActor.create(playerId, outbound, context.getSelf(), roomDirectoryCache),
-                            "session-presence-" + playerId
-                    );
-                    ActorRef<ChatCommand> chat = context.spawn(
-                            SessionChatActor.create(playerId, clientWebSocketMessageSender, chatBlacklistRepository),
-                            "session-chat-" + playerId
-                    );
-
-                    return new ClientSessionActor(context, outbound, inbound, presence, chat);
-                }
+                context -> Behaviors.withTimers(
+                        timers -> {
+                            SessionOutboundHandler outbound = new SessionOutboundHandler(
+                                    playerId,
+                                    clientWebSocketMessageSender,
+                                    context.getSelf()
+                            );
+                            SessionInboundHandler inbound = new SessionInboundHandler(context.getSelf());
+                            SessionPresenceHandler presence = new SessionPresenceHandler(
+                                    playerId,
+                                    context.getSelf(),
+                                    roomDirectoryCache
+                            );
+                            SessionChatHandler chat = new SessionChatHandler(
+                                    playerId,
+                                    clientWebSocketMessageSender,
+                                    chatBlacklistRepository,
+                                    context::watch
+                            );
+
+                            return new ClientSessionActor(
+                                    context,
+                                    timers,
+                                    clientWebSocketMessageSender,
+                                    idleTimeout,
+                                    stopListener,
+                                    outbound.createReceive(),
+                                    inbound,
+                                    presence.createReceive(),
+                                    chat.createReceive()
+                            );
+                        }
+                )
         );
     }
 
     private ClientSessionActor(
             ActorContext<ClientSessionCommand> context,
-            ActorRef<OutboundCommand> outbound,
-            ActorRef<InboundCommand> inbound,
-            ActorRef<PresenceCommand> presence,
-            ActorRef<ChatCommand> chat
+            TimerScheduler<ClientSessionCommand> timers,
+            ClientWebSocketMessageSender clientWebSocketMessageSender,
+            Duration idleTimeout,
+            Consumer<ActorRef<ClientSessionCommand>> stopListener,
+            Receive<OutboundCommand> outbound,
+            SessionInboundHandler inboundHandler,
+            Receive<PresenceCommand> presence,
+            Receive<ChatCommand> chat
     ) {
         super(context);
 
+        this.timers = timers;
+        this.clientWebSocketMessageSender = clientWebSocketMessageSender;
+        this.idleTimeout = idleTimeout;
+        this.stopListener = stopListener;
         this.outbound = outbound;
-        this.inbound = inbound;
+        this.inboundHandler = inboundHandler;
+        this.inbound = inboundHandler.createReceive();
         this.presence = presence;
         this.chat = chat;
     }
 
-    private final ActorRef<OutboundCommand> outbound;
-    private final ActorRef<InboundCommand> inbound;
-    private final ActorRef<PresenceCommand> presence;
-    private final ActorRef<ChatCommand> chat;
+    private final TimerScheduler<ClientSessionCommand> timers;
+    private final ClientWebSocketMessageSender clientWebSocketMessageSender;
+    private final Duration idleTimeout;
+    private final Consumer<ActorRef<ClientSessionCommand>> stopListener;
+
+    // 세션 하나가 액터 하나로 동작하도록 각 역할의 핸들러를 같은 메일박스에서 바로 호출한다
+    private final SessionInboundHandler inboundHandler;
+    private final Receive<OutboundCommand> outbound;
+    private final Receive<InboundCommand> inbound;
+    private final Receive<PresenceCommand> presence;
+    private final Receive<ChatCommand> chat;
     private ActiveGame activeGame;
 
     @Override
@@ -79,28 +114,27 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
                                   .onMessage(ReSyncClientSession.class, this::onReSyncClientSession)
                                   .onMessage(FetchRoomDirectoryPage.class, this::onFetchRoomDirectoryPage)
                                   .onMessage(QueryActiveGame.class, this::onQueryActiveGame)
+                                  .onMessage(SessionDisconnected.class, this::onSessionDisconnected)
+                                  .onMessage(ExpireIdleSession.class, this::onExpireIdleSession)
+                                  .onSignal(Terminated.class, this::onTerminated)
                                   .onSignal(PostStop.class, this::onPostStop)
                                   .build();
     }
 
-    private Behavior<ClientSessionCommand> forwardToOutbound(OutboundCommand command) {
-        outbound.tell(command);
-        return this;
+    private Behavior<ClientSessionCommand> forwardToOutbound(OutboundCommand command) throws Exception {
+        return follow(outbound.receiveMessage(command));
     }
 
-    private Behavior<ClientSessionCommand> forwardToInbound(InboundCommand command) {
-        inbound.tell(command);
-        return this;
+    private Behavior<ClientSessionCommand> forwardToInbound(InboundCommand command) throws Exception {
+        return follow(inbound.receiveMessage(command));
     }
 
-    private Behavior<ClientSessionCommand> forwardToPresence(PresenceCommand command) {
-        presence.tell(command);
-        return this;
+    private Behavior<ClientSessionCommand> forwardToPresence(PresenceCommand command) throws Exception {
+        return follow(presence.receiveMessage(command));
     }
 
-    private Behavior<ClientSessionCommand> forwardToChat(ChatCommand command) {
-        chat.tell(command);
-        return this;
+    private Behavior<ClientSessionCommand> forwardToChat(ChatCommand command) throws Exception {
+        return follow(chat.receiveMessage(command));
     }
 
     private Behavior<ClientSessionCommand> onUpdateActiveGame(UpdateActiveGame command) {
@@ -108,10 +142,17 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
         return this;
     }
 
-    private Behavior<ClientSessionCommand> onReSyncClientSession(ReSyncClientSession command) {
-        inbound.tell(new SessionInboundActor.ReSyncConnection(command.playerId()));
-        presence.tell(new SessionPresenceActor.ResubscribeRoomDirectory());
-        return this;
+    private Behavior<ClientSessionCommand> onReSyncClientSession(ReSyncClientSession command) throws Exception {
+        timers.cancel(ExpireIdleSession.class);
+
+        Behavior<ClientSessionCommand> next = follow(
+                inbound.receiveMessage(new SessionInboundHandler.ReSyncConnection(command.playerId()))
+        );
+
+        if (next != this) {
+            return next;
+        }
+        return follow(presence.receiveMessage(new SessionPresenceHandler.ResubscribeRoomDirectory()));
     }
 
     private Behavior<ClientSessionCommand> onClearActiveGame(ClearActiveGame command) {
@@ -119,9 +160,12 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
         return this;
     }
 
-    private Behavior<ClientSessionCommand> onFetchRoomDirectoryPage(FetchRoomDirectoryPage command) {
-        presence.tell(new SessionPresenceActor.RequestRoomDirectoryPageCommand(command.page(), command.size()));
-        return this;
+    private Behavior<ClientSessionCommand> onFetchRoomDirectoryPage(FetchRoomDirectoryPage command) throws Exception {
+        return follow(
+                presence.receiveMessage(
+                        new SessionPresenceHandler.RequestRoomDirectoryPageCommand(command.page(), command.size(), command.afterRoomId())
+                )
+        );
     }
 
     private Behavior<ClientSessionCommand> onQueryActiveGame(QueryActiveGame command) {
@@ -137,8 +181,42 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
         return new ActiveGameView(activeGame.roomId(), activeGame.entityId());
     }
 
-    private Behavior<ClientSessionCommand> onPostStop(PostStop signal) {
-        presence.tell(new SessionPresenceActor.UnregisterSessionCommand());
+    // 연결이 끊긴 뒤 재연결 없이 유휴 시간이 지나면 세션을 정리해, 노드의 세션 레지스트리가 끝없이 커지지 않게 한다
+    private Behavior<ClientSessionCommand> onSessionDisconnected(SessionDisconnected command) {
+        timers.startSingleTimer(ExpireIdleSession.class, new ExpireIdleSession(), idleTimeout);
+        return this;
+    }
+
+    private Behavior<ClientSessionCommand> onExpireIdleSession(ExpireIdleSession command) {
+        if (clientWebSocketMessageSender.hasSink()) {
+            return this;
+        }
+        // 로비나 게임에 남아 있는 동안에는 재연결로 복귀할 수 있어야 하므로 세션을 유지한다
+        if (activeGame != null || inboundHandler.isInRoom()) {
+            timers.startSingleTimer(ExpireIdleSession.class, new ExpireIdleSession(), idleTimeout);
+            return this;
+        }
+        return Behaviors.stopped();
+    }
+
+    private Behavior<ClientSessionCommand> onTerminated(Terminated signal) throws Exception {
+        return follow(chat.receiveSignal(signal));
+    }
+
+    private Behavior<ClientSessionCommand> onPostStop(PostStop signal) throws Exception {
+        presence.receiveSignal(signal);
+        stopListener.accept(getContext().getSelf());
+        return this;
+    }
+
+    // 핸들러가 돌려준 행동을 세션 액터의 행동으로 옮겨, 처리하지 못한 메시지나 중단 요청이 묻히지 않게 한다
+    private Behavior<ClientSessionCommand> follow(Behavior<? extends ClientSessionCommand> next) {
+        if (Behavior.isUnhandled(next)) {
+            return Behaviors.unhandled();
+        }
+        if (!Behavior.isAlive(next)) {
+            return Behaviors.stopped();
+        }
         return this;
     }
 
@@ -158,9 +236,13 @@ public class ClientSessionActor extends AbstractBehavior<ClientSessionCommand> {
 
     public record ClearActiveGame() implements ClientSessionCommand { }
 
-    public record FetchRoomDirectoryPage(int page, int size) implements ClientSessionCommand { }
+    public record FetchRoomDirectoryPage(int page, int size, Long afterRoomId) implements ClientSessionCommand { }
 
     public record QueryActiveGame(ActorRef<StatusReply<ActiveGameView>> replyTo) implements ClientSessionCommand { }
 
+    public record SessionDisconnected() implements ClientSessionCommand { }
+
+    private record ExpireIdleSession() implements ClientSessionCommand { }
+
     private record ActiveGame(Long roomId, String entityId) { }
 }
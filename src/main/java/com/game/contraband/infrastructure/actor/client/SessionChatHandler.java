@@ -14,150 +14,145 @@ import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameCh
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.Terminated;
-import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
-import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.ReceiveBuilder;
 
-public class SessionChatActor extends AbstractBehavior<ChatCommand> {
+public class SessionChatHandler {
 
-    public static Behavior<ChatCommand> create(
+    SessionChatHandler(
             Long playerId,
             ClientWebSocketMessageSender sender,
-            ChatBlacklistRepository chatBlacklistRepository
+            ChatBlacklistRepository chatBlacklistRepository,
+            Consumer<ActorRef<?>> watch
     ) {
-        return Behaviors.setup(context -> new SessionChatActor(context, playerId, sender, chatBlacklistRepository));
-    }
-
-    private SessionChatActor(
-            ActorContext<ChatCommand> context,
-            Long playerId,
-            ClientWebSocketMessageSender sender,
-            ChatBlacklistRepository chatBlacklistRepository
-    ) {
-        super(context);
-
         this.playerId = playerId;
         this.sender = sender;
         this.chatBlacklistRepository = chatBlacklistRepository;
+        this.watch = watch;
     }
 
     private final Long playerId;
     private final ClientWebSocketMessageSender sender;
     private final ChatBlacklistRepository chatBlacklistRepository;
+    // 채팅 액터 감시는 세션 액터에 맡기고, Terminated 신호는 세션 액터가 이 핸들러로 넘겨 준다
+    private final Consumer<ActorRef<?>> watch;
     private final LobbyChatHolder lobbyChatHolder = new LobbyChatHolder();
     private final ContrabandGameChatHolder contrabandGameChatHolder = new ContrabandGameChatHolder();
 
-    @Override
-    public Receive<ChatCommand> createReceive() {
-        return newReceiveBuilder().onMessage(PropagateWelcomeMessage.class, this::onPropagateWelcomeMessage)
-                                  .onMessage(PropagateNewMessage.class, this::onPropagateNewMessage)
-                                  .onMessage(PropagateLeftMessage.class, this::onPropagateLeftMessage)
-                                  .onMessage(PropagateKickedMessage.class, this::onPropagateKickedMessage)
-                                  .onMessage(PropagateMaskedChatMessage.class, this::onPropagateMaskedChatMessage)
-                                  .onMessage(PropagateMaskedChatBatch.class, this::onPropagateMaskedChatBatch)
-                                  .onMessage(PropagateSmugglerTeamChat.class, this::onPropagateSmugglerTeamChat)
-                                  .onMessage(PropagateInspectorTeamChat.class, this::onPropagateInspectorTeamChat)
-                                  .onMessage(PropagateRoundChat.class, this::onPropagateRoundChat)
-                                  .onMessage(SyncContrabandGameChat.class, this::onSyncContrabandGameChat)
-                                  .onMessage(ClearContrabandGameChat.class, this::onClearContrabandGameChat)
-                                  .onMessage(SyncLobbyChat.class, this::onSyncLobbyChat)
-                                  .onMessage(ClearLobbyChat.class, this::onClearLobbyChat)
-                                  .onMessage(RequestSendTeamChat.class, this::onRequestSendTeamChat)
-                                  .onMessage(RequestSendRoundChat.class, this::onRequestSendRoundChat)
-                                  .onMessage(RequestSendChat.class, this::onRequestSendChat)
-                                  .onSignal(Terminated.class, this::onTerminated)
-                                  .build();
+    Receive<ChatCommand> createReceive() {
+        return ReceiveBuilder.<ChatCommand>create()
+                             .onMessage(PropagateWelcomeMessage.class, this::onPropagateWelcomeMessage)
+                             .onMessage(PropagateNewMessage.class, this::onPropagateNewMessage)
+                             .onMessage(PropagateLeftMessage.class, this::onPropagateLeftMessage)
+                             .onMessage(PropagateKickedMessage.class, this::onPropagateKickedMessage)
+                             .onMessage(PropagateMaskedChatMessage.class, this::onPropagateMaskedChatMessage)
+                             .onMessage(PropagateMaskedChatBatch.class, this::onPropagateMaskedChatBatch)
+                             .onMessage(PropagateSmugglerTeamChat.class, this::onPropagateSmugglerTeamChat)
+                             .onMessage(PropagateInspectorTeamChat.class, this::onPropagateInspectorTeamChat)
+                             .onMessage(PropagateRoundChat.class, this::onPropagateRoundChat)
+                             .onMessage(SyncContrabandGameChat.class, this::onSyncContrabandGameChat)
+                             .onMessage(ClearContrabandGameChat.class, this::onClearContrabandGameChat)
+                             .onMessage(SyncLobbyChat.class, this::onSyncLobbyChat)
+                             .onMessage(ClearLobbyChat.class, this::onClearLobbyChat)
+                             .onMessage(RequestSendTeamChat.class, this::onRequestSendTeamChat)
+                             .onMessage(RequestSendRoundChat.class, this::onRequestSendRoundChat)
+                             .onMessage(RequestSendChat.class, this::onRequestSendChat)
+                             .onSignal(Terminated.class, this::onTerminated)
+                             .build();
     }
 
     private Behavior<ChatCommand> onPropagateWelcomeMessage(PropagateWelcomeMessage command) {
         sender.sendChatWelcome(command.playerName());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateNewMessage(PropagateNewMessage command) {
         sender.sendChatMessage(command.chatMessage());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateLeftMessage(PropagateLeftMessage command) {
         sender.sendChatLeft(command.playerName());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateKickedMessage(PropagateKickedMessage command) {
         sender.sendChatKicked(command.playerName());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateMaskedChatMessage(PropagateMaskedChatMessage command) {
         sender.sendMaskedChatMessage(command.messageId(), command.chatEvent().name());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateSmugglerTeamChat(PropagateSmugglerTeamChat command) {
         sender.sendSmugglerTeamChatMessage(command.chatMessage());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateInspectorTeamChat(PropagateInspectorTeamChat command) {
         sender.sendInspectorTeamChatMessage(command.chatMessage());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateRoundChat(PropagateRoundChat command) {
         sender.sendRoundChatMessage(command.chatMessage());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onSyncContrabandGameChat(SyncContrabandGameChat command) {
-        contrabandGameChatHolder.set(command.chat(), command.teamRole(), getContext());
-        return this;
+        contrabandGameChatHolder.set(command.chat(), command.teamRole());
+        watch.accept(command.chat());
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onClearContrabandGameChat(ClearContrabandGameChat command) {
         contrabandGameChatHolder.clear();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onSyncLobbyChat(SyncLobbyChat command) {
-        lobbyChatHolder.set(command.lobbyChat(), getContext());
-        return this;
+        lobbyChatHolder.set(command.lobbyChat());
+        watch.accept(command.lobbyChat());
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onClearLobbyChat(ClearLobbyChat command) {
         lobbyChatHolder.clear();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onRequestSendTeamChat(RequestSendTeamChat command) {
         if (chatBlacklistRepository.isBlocked(command.playerId())) {
             sender.sendExceptionMessage(ExceptionCode.CHAT_USER_BLOCKED);
-            return this;
+            return Behaviors.same();
         }
 
         ContrabandGameChatHolder.GameChatRef gameChatRef = contrabandGameChatHolder.get();
 
         if (gameChatRef == null) {
-            return this;
+            return Behaviors.same();
         }
         if (gameChatRef.teamRole.isSmuggler()) {
             gameChatRef.chat.tell(new ChatSmugglerTeam(command.playerId(), command.playerName(), command.message()));
-            return this;
+            return Behaviors.same();
         }
         if (gameChatRef.teamRole.isInspector()) {
             gameChatRef.chat.tell(new ChatInspectorTeam(command.playerId(), command.playerName(), command.message()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onRequestSendRoundChat(RequestSendRoundChat command) {
         if (chatBlacklistRepository.isBlocked(command.playerId())) {
             sender.sendExceptionMessage(ExceptionCode.CHAT_USER_BLOCKED);
-            return this;
+            return Behaviors.same();
         }
         ContrabandGameChatHolder.GameChatRef gameChatRef = contrabandGameChatHolder.get();
 
@@ -165,40 +160,40 @@ public class SessionChatActor extends AbstractBehavior<ChatCommand> {
             gameChatRef.chat.tell(new ChatInRound(command.playerId(), command.playerName(), command.message(), command.currentRound()));
         }
 
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onRequestSendChat(RequestSendChat command) {
         if (chatBlacklistRepository.isBlocked(command.playerId())) {
             sender.sendExceptionMessage(ExceptionCode.CHAT_USER_BLOCKED);
-            return this;
+            return Behaviors.same();
         }
 
         ActorRef<LobbyChatCommand> lobbyChat = lobbyChatHolder.get();
         if (lobbyChat != null) {
             lobbyChat.tell(new SendMessage(command.playerId(), command.playerName(), command.message()));
-            return this;
+            return Behaviors.same();
         }
 
         ContrabandGameChatHolder.GameChatRef gameChatRef = contrabandGameChatHolder.get();
         if (gameChatRef == null) {
-            return this;
+            return Behaviors.same();
         }
 
         if (gameChatRef.teamRole.isSmuggler()) {
             gameChatRef.chat.tell(new ChatSmugglerTeam(command.playerId(), command.playerName(), command.message()));
-            return this;
+            return Behaviors.same();
         }
         if (gameChatRef.teamRole.isInspector()) {
             gameChatRef.chat.tell(new ChatInspectorTeam(command.playerId(), command.playerName(), command.message()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onPropagateMaskedChatBatch(PropagateMaskedChatBatch command) {
         command.messageIds()
                .forEach(messageId -> sender.sendMaskedChatMessage(messageId, command.chatEvent().name()));
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<ChatCommand> onTerminated(Terminated signal) {
@@ -208,16 +203,15 @@ public class SessionChatActor extends AbstractBehavior<ChatCommand> {
         if (contrabandGameChatHolder.isTerminated(signal.getRef())) {
             contrabandGameChatHolder.clear();
         }
-        return this;
+        return Behaviors.same();
     }
 
     private static class LobbyChatHolder {
 
         private ActorRef<LobbyChatCommand> ref;
 
-        void set(ActorRef<LobbyChatCommand> ref, ActorContext<ChatCommand> context) {
+        void set(ActorRef<LobbyChatCommand> ref) {
             this.ref = ref;
-            context.watch(ref);
         }
 
         void clear() {
@@ -237,9 +231,8 @@ public class SessionChatActor extends AbstractBehavior<ChatCommand> {
 
         private GameChatRef ref;
 
-        void set(ActorRef<ContrabandGameChatCommand> ref, TeamRole teamRole, ActorContext<ChatCommand> context) {
+        void set(ActorRef<ContrabandGameChatCommand> ref, TeamRole teamRole) {
             this.ref = new GameChatRef(ref, teamRole);
-            context.watch(ref);
         }
 
         void clear() {
@@ -3,6 +3,8 @@ package com.game.contraband.infrastructure.actor.client;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.InboundCommand;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLobbyDeleted;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.ChangeMaxPlayerCount;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.KickPlayer;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LeaveLobby;
@@ -24,19 +26,13 @@ import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGame
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.TransferAmount;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
-import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
-import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.ReceiveBuilder;
 
-public class SessionInboundActor extends AbstractBehavior<InboundCommand> {
+public class SessionInboundHandler {
 
-    static Behavior<InboundCommand> create(ActorRef<ClientSessionCommand> gateway) {
-        return Behaviors.setup(context -> new SessionInboundActor(context, gateway));
-    }
-
-    private SessionInboundActor(ActorContext<InboundCommand> context, ActorRef<ClientSessionCommand> gateway) {
-        super(context);
+    SessionInboundHandler(ActorRef<ClientSessionCommand> gateway) {
         this.gateway = gateway;
     }
 
@@ -44,55 +40,72 @@ public class SessionInboundActor extends AbstractBehavior<InboundCommand> {
     private ActorRef<LobbyCommand> lobby;
     private ActorRef<ContrabandGameCommand> contrabandGame;
 
-    @Override
-    public Receive<InboundCommand> createReceive() {
-        return newReceiveBuilder().onMessage(ReSyncConnection.class, this::onReSyncConnection)
-                                  .onMessage(UpdateContrabandGame.class, this::onUpdateContrabandGame)
-                                  .onMessage(UpdateLobby.class, this::onUpdateLobby)
-                                  .onMessage(ClearLobby.class, this::onClearLobby)
-                                  .onMessage(RequestTransferMoney.class, this::onRequestTransferMoney)
-                                  .onMessage(RequestDecideInspection.class, this::onRequestDecideInspection)
-                                  .onMessage(RequestDecidePass.class, this::onRequestDecidePass)
-                                  .onMessage(RequestDecideSmuggleAmount.class, this::onRequestDecideSmuggleAmount)
-                                  .onMessage(RequestRegisterInspector.class, this::onRequestRegisterInspector)
-                                  .onMessage(RequestRegisterSmuggler.class, this::onRequestRegisterSmuggler)
-                                  .onMessage(RequestFixInspector.class, this::onRequestFixInspector)
-                                  .onMessage(RequestFixSmuggler.class, this::onRequestFixSmuggler)
-                                  .onMessage(RequestKickPlayer.class, this::onRequestKickPlayer)
-                                  .onMessage(RequestLeaveLobby.class, this::onRequestLeaveLobby)
-                                  .onMessage(RequestStartGame.class, this::onRequestStartGame)
-                                  .onMessage(RequestChangeMaxPlayerCount.class, this::onRequestChangeMaxPlayerCount)
-                                  .onMessage(RequestToggleTeam.class, this::onRequestToggleTeam)
-                                  .onMessage(RequestToggleReady.class, this::onRequestToggleReady)
-                                  .onMessage(RequestLobbyDeletion.class, this::onRequestLobbyDeletion)
-                                  .build();
+    boolean isInRoom() {
+        return lobby != null || contrabandGame != null;
+    }
+
+    Receive<InboundCommand> createReceive() {
+        return ReceiveBuilder.<InboundCommand>create()
+                             .onMessage(ReSyncConnection.class, this::onReSyncConnection)
+                             .onMessage(UpdateContrabandGame.class, this::onUpdateContrabandGame)
+                             .onMessage(UpdateLobby.class, this::onUpdateLobby)
+                             .onMessage(ClearLobby.class, this::onClearLobby)
+                             .onMessage(LobbyClosed.class, this::onLobbyClosed)
+                             .onMessage(RequestTransferMoney.class, this::onRequestTransferMoney)
+                             .onMessage(RequestDecideInspection.class, this::onRequestDecideInspection)
+                             .onMessage(RequestDecidePass.class, this::onRequestDecidePass)
+                             .onMessage(RequestDecideSmuggleAmount.class, this::onRequestDecideSmuggleAmount)
+                             .onMessage(RequestRegisterInspector.class, this::onRequestRegisterInspector)
+                             .onMessage(RequestRegisterSmuggler.class, this::onRequestRegisterSmuggler)
+                             .onMessage(RequestFixInspector.class, this::onRequestFixInspector)
+                             .onMessage(RequestFixSmuggler.class, this::onRequestFixSmuggler)
+                             .onMessage(RequestKickPlayer.class, this::onRequestKickPlayer)
+                             .onMessage(RequestLeaveLobby.class, this::onRequestLeaveLobby)
+                             .onMessage(RequestStartGame.class, this::onRequestStartGame)
+                             .onMessage(RequestChangeMaxPlayerCount.class, this::onRequestChangeMaxPlayerCount)
+                             .onMessage(RequestToggleTeam.class, this::onRequestToggleTeam)
+                             .onMessage(RequestToggleReady.class, this::onRequestToggleReady)
+                             .onMessage(RequestLobbyDeletion.class, this::onRequestLobbyDeletion)
+                             .build();
     }
 
     private Behavior<InboundCommand> onReSyncConnection(ReSyncConnection command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new SyncReconnectedPlayer(command.playerId()));
-            return this;
+            return Behaviors.same();
         }
         if (lobby != null) {
             lobby.tell(new ReSyncPlayer(command.playerId(), gateway));
-            return this;
+            return Behaviors.same();
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onUpdateContrabandGame(UpdateContrabandGame command) {
         this.contrabandGame = command.smugglingGame();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onUpdateLobby(UpdateLobby command) {
         this.lobby = command.lobby();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onClearLobby(ClearLobby command) {
         this.lobby = null;
-        return this;
+        return Behaviors.same();
+    }
+
+    // 핸드오프나 장애로 닫힌 로비는 아직 그 로비에 머무는 세션만 정리하고, 이미 다른 방으로 옮긴 세션은 그대로 둔다
+    private Behavior<InboundCommand> onLobbyClosed(LobbyClosed command) {
+        if (lobby == null || !lobby.equals(command.lobby())) {
+            return Behaviors.same();
+        }
+
+        this.lobby = null;
+        gateway.tell(new PropagateLobbyDeleted());
+        gateway.tell(new ClearLobbyChat());
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestTransferMoney(RequestTransferMoney command) {
@@ -101,105 +114,105 @@ public class SessionInboundActor extends AbstractBehavior<InboundCommand> {
                     new TransferAmount(command.playerId(), command.targetPlayerId(), Money.from(command.amount()))
             );
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestDecideInspection(RequestDecideInspection command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new DecideInspection(command.playerId(), command.amount()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestDecidePass(RequestDecidePass command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new DecidePass(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestDecideSmuggleAmount(RequestDecideSmuggleAmount command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new DecideSmuggleAmount(command.playerId(), command.amount()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestRegisterInspector(RequestRegisterInspector command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new RegisterInspector(command.inspectorId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestRegisterSmuggler(RequestRegisterSmuggler command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new RegisterSmuggler(command.smugglerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestFixInspector(RequestFixInspector command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new FixInspectorId(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestFixSmuggler(RequestFixSmuggler command) {
         if (contrabandGame != null) {
             contrabandGame.tell(new FixSmugglerId(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestKickPlayer(RequestKickPlayer command) {
         if (lobby != null) {
             lobby.tell(new KickPlayer(command.executorId(), command.targetPlayerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestLeaveLobby(RequestLeaveLobby command) {
         if (lobby != null) {
             lobby.tell(new LeaveLobby(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestStartGame(RequestStartGame command) {
         if (lobby != null) {
             lobby.tell(new StartGame(command.executorId(), command.totalRounds()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestChangeMaxPlayerCount(RequestChangeMaxPlayerCount command) {
         if (lobby != null) {
             lobby.tell(new ChangeMaxPlayerCount(command.maxPlayerCount(), command.executorId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestToggleTeam(RequestToggleTeam command) {
         if (lobby != null) {
             lobby.tell(new ToggleTeam(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestToggleReady(RequestToggleReady command) {
         if (lobby != null) {
             lobby.tell(new ToggleReady(command.playerId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<InboundCommand> onRequestLobbyDeletion(RequestLobbyDeletion command) {
         if (lobby != null) {
             lobby.tell(new RequestDeleteLobby(command.executorId()));
         }
-        return this;
+        return Behaviors.same();
     }
 
     public record ReSyncConnection(Long playerId) implements InboundCommand { }
@@ -210,6 +223,8 @@ public class SessionInboundActor extends AbstractBehavior<InboundCommand> {
 
     public record ClearLobby() implements InboundCommand { }
 
+    public record LobbyClosed(ActorRef<LobbyCommand> lobby) implements InboundCommand { }
+
     public record RequestTransferMoney(Long playerId, Long targetPlayerId, int amount) implements InboundCommand { }
 
     public record RequestDecideInspection(Long playerId, int amount) implements InboundCommand { }
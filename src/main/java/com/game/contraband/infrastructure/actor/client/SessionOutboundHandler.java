@@ -1,5 +1,6 @@
 package com.game.contraband.infrastructure.actor.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.game.contraband.domain.game.engine.match.GameWinnerType;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.round.RoundOutcomeType;
@@ -9,102 +10,102 @@ import com.game.contraband.infrastructure.actor.client.ClientSessionActor.Client
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.OutboundCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.UpdateActiveGame;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RoomDirectoryChange;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
 import java.util.List;
 import java.util.Set;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
-import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
-import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.ReceiveBuilder;
 
-public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
+public class SessionOutboundHandler {
 
     private final Long playerId;
     private final ClientWebSocketMessageSender sender;
     private final ActorRef<ClientSessionCommand> gateway;
     private TeamRole teamRole;
 
-    static Behavior<OutboundCommand> create(Long playerId, ClientWebSocketMessageSender sender, ActorRef<ClientSessionCommand> gateway) {
-        return Behaviors.setup(context -> new SessionOutboundActor(context, playerId, sender, gateway));
-    }
-
-    private SessionOutboundActor(
-            ActorContext<OutboundCommand> context,
+    SessionOutboundHandler(
             Long playerId,
             ClientWebSocketMessageSender sender,
             ActorRef<ClientSessionCommand> gateway
     ) {
-        super(context);
-
         this.playerId = playerId;
         this.sender = sender;
         this.gateway = gateway;
     }
 
-    @Override
-    public Receive<OutboundCommand> createReceive() {
-        return newReceiveBuilder().onMessage(HandleExceptionMessage.class, this::onHandleExceptionMessage)
-                                  .onMessage(SendWebSocketPing.class, this::onSendWebSocketPing)
-                                  .onMessage(RequestSessionReconnect.class, this::onRequestSessionReconnect)
-                                  .onMessage(RoomDirectoryUpdated.class, this::onRoomDirectoryUpdated)
-                                  .onMessage(PropagateStartGame.class, this::onPropagateStartGame)
-                                  .onMessage(PropagateSelectionTimer.class, this::onPropagateSelectionTimer)
-                                  .onMessage(PropagateRegisterSmugglerId.class, this::onPropagateRegisterSmugglerId)
-                                  .onMessage(PropagateFixedSmugglerId.class, this::onPropagateFixedSmugglerId)
-                                  .onMessage(PropagateFixedSmugglerIdForInspector.class, this::onPropagateFixedSmugglerIdForInspector)
-                                  .onMessage(PropagateRegisterInspectorId.class, this::onPropagateRegisterInspectorId)
-                                  .onMessage(PropagateFixedInspectorId.class, this::onPropagateFixedInspectorId)
-                                  .onMessage(PropagateFixedInspectorIdForSmuggler.class, this::onPropagateFixedInspectorIdForSmuggler)
-                                  .onMessage(PropagateSmugglerApprovalState.class, this::onPropagateSmugglerApprovalState)
-                                  .onMessage(PropagateInspectorApprovalState.class, this::onPropagateInspectorApprovalState)
-                                  .onMessage(PropagateStartNewRound.class, this::onPropagateStartNewRound)
-                                  .onMessage(PropagateFinishedRound.class, this::onPropagateFinishedRound)
-                                  .onMessage(PropagateFinishedGame.class, this::onPropagateFinishedGame)
-                                  .onMessage(PropagateTransferFailed.class, this::onPropagateTransferFailed)
-                                  .onMessage(PropagateDecidedPass.class, this::onPropagateDecidedPass)
-                                  .onMessage(PropagateDecidedInspection.class, this::onPropagateDecidedInspection)
-                                  .onMessage(PropagateDecidedSmuggleAmount.class, this::onPropagateDecidedSmuggleAmount)
-                                  .onMessage(PropagateTransfer.class, this::onPropagateTransfer)
-                                  .onMessage(PropagateCreateLobby.class, this::onPropagateCreateLobby)
-                                  .onMessage(PropagateCreatedLobby.class, this::onPropagateCreatedLobby)
-                                  .onMessage(PropagateOtherPlayerJoinedLobby.class, this::onPropagateOtherPlayerJoinedLobby)
-                                  .onMessage(PropagateJoinedLobby.class, this::onPropagateJoinedLobby)
-                                  .onMessage(PropagateToggleReady.class, this::onPropagateToggleReady)
-                                  .onMessage(PropagateToggleTeam.class, this::onPropagateToggleTeam)
-                                  .onMessage(PropagateLeftLobby.class, this::onPropagateLeftLobby)
-                                  .onMessage(PropagateOtherPlayerLeftLobby.class, this::onPropagateOtherPlayerLeftLobby)
-                                  .onMessage(PropagateKicked.class, this::onPropagateKicked)
-                                  .onMessage(PropagateOtherPlayerKicked.class, this::onPropagateOtherPlayerKicked)
-                                  .onMessage(PropagateHostDeletedLobby.class, this::onPropagateHostDeletedLobby)
-                                  .onMessage(PropagateLobbyDeleted.class, this::onPropagateLobbyDeleted)
-                                  .build();
+    Receive<OutboundCommand> createReceive() {
+        return ReceiveBuilder.<OutboundCommand>create()
+                             .onMessage(HandleExceptionMessage.class, this::onHandleExceptionMessage)
+                             .onMessage(SendWebSocketPing.class, this::onSendWebSocketPing)
+                             .onMessage(RequestSessionReconnect.class, this::onRequestSessionReconnect)
+                             .onMessage(RoomDirectoryUpdated.class, this::onRoomDirectoryUpdated)
+                             .onMessage(RoomDirectoryDelta.class, this::onRoomDirectoryDelta)
+                             .onMessage(PropagateStartGame.class, this::onPropagateStartGame)
+                             .onMessage(PropagateSelectionTimer.class, this::onPropagateSelectionTimer)
+                             .onMessage(PropagateRegisterSmugglerId.class, this::onPropagateRegisterSmugglerId)
+                             .onMessage(PropagateFixedSmugglerId.class, this::onPropagateFixedSmugglerId)
+                             .onMessage(PropagateFixedSmugglerIdForInspector.class, this::onPropagateFixedSmugglerIdForInspector)
+                             .onMessage(PropagateRegisterInspectorId.class, this::onPropagateRegisterInspectorId)
+                             .onMessage(PropagateFixedInspectorId.class, this::onPropagateFixedInspectorId)
+                             .onMessage(PropagateFixedInspectorIdForSmuggler.class, this::onPropagateFixedInspectorIdForSmuggler)
+                             .onMessage(PropagateSmugglerApprovalState.class, this::onPropagateSmugglerApprovalState)
+                             .onMessage(PropagateInspectorApprovalState.class, this::onPropagateInspectorApprovalState)
+                             .onMessage(PropagateStartNewRound.class, this::onPropagateStartNewRound)
+                             .onMessage(PropagateFinishedRound.class, this::onPropagateFinishedRound)
+                             .onMessage(PropagateFinishedGame.class, this::onPropagateFinishedGame)
+                             .onMessage(PropagateTransferFailed.class, this::onPropagateTransferFailed)
+                             .onMessage(PropagateDecidedPass.class, this::onPropagateDecidedPass)
+                             .onMessage(PropagateDecidedInspection.class, this::onPropagateDecidedInspection)
+                             .onMessage(PropagateDecidedSmuggleAmount.class, this::onPropagateDecidedSmuggleAmount)
+                             .onMessage(PropagateTransfer.class, this::onPropagateTransfer)
+                             .onMessage(PropagateCreateLobby.class, this::onPropagateCreateLobby)
+                             .onMessage(PropagateCreatedLobby.class, this::onPropagateCreatedLobby)
+                             .onMessage(PropagateOtherPlayerJoinedLobby.class, this::onPropagateOtherPlayerJoinedLobby)
+                             .onMessage(PropagateJoinedLobby.class, this::onPropagateJoinedLobby)
+                             .onMessage(PropagateToggleReady.class, this::onPropagateToggleReady)
+                             .onMessage(PropagateToggleTeam.class, this::onPropagateToggleTeam)
+                             .onMessage(PropagateLeftLobby.class, this::onPropagateLeftLobby)
+                             .onMessage(PropagateOtherPlayerLeftLobby.class, this::onPropagateOtherPlayerLeftLobby)
+                             .onMessage(PropagateKicked.class, this::onPropagateKicked)
+                             .onMessage(PropagateOtherPlayerKicked.class, this::onPropagateOtherPlayerKicked)
+                             .onMessage(PropagateHostDeletedLobby.class, this::onPropagateHostDeletedLobby)
+                             .onMessage(PropagateLobbyDeleted.class, this::onPropagateLobbyDeleted)
+                             .build();
     }
 
     private Behavior<OutboundCommand> onHandleExceptionMessage(HandleExceptionMessage command) {
         sender.sendExceptionMessage(command.code());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onSendWebSocketPing(SendWebSocketPing command) {
         sender.sendWebSocketPing();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onRequestSessionReconnect(RequestSessionReconnect command) {
         sender.requestSessionReconnect();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onRoomDirectoryUpdated(RoomDirectoryUpdated command) {
-        sender.sendRoomDirectoryUpdated(command.rooms(), command.totalCount());
-        return this;
+        sender.sendRoomDirectoryUpdated(command.rooms(), command.totalCount(), command.version());
+        return Behaviors.same();
+    }
+
+    private Behavior<OutboundCommand> onRoomDirectoryDelta(RoomDirectoryDelta command) {
+        sender.sendRoomDirectoryDelta(command.version(), command.previousVersion(), command.changes(), command.totalCount());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateStartGame(PropagateStartGame command) {
@@ -114,120 +115,100 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
                                                         .orElse(null);
 
         if (targetLobbyParticipant == null) {
-            return this;
+            return Behaviors.same();
         }
 
         this.teamRole = targetLobbyParticipant.teamRole();
         sender.sendStartGame(playerId, command.allPlayers());
         gateway.tell(new UpdateActiveGame(command.roomId(), command.entityId()));
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateSelectionTimer(PropagateSelectionTimer command) {
-        sender.sendSelectionTimer(
-                command.round(),
-                command.eventAtMillis(),
-                command.durationMillis(),
-                command.serverNowMillis(),
-                command.endAtMillis()
-        );
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateRegisterSmugglerId(PropagateRegisterSmugglerId command) {
         if (this.teamRole == null || this.teamRole.isInspector()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendRegisteredSmugglerId(command.smugglerId());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFixedSmugglerId(PropagateFixedSmugglerId command) {
         if (this.teamRole == null || this.teamRole.isInspector()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendFixedSmugglerId(command.smugglerId());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFixedSmugglerIdForInspector(PropagateFixedSmugglerIdForInspector command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendFixedSmugglerIdForInspector();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateRegisterInspectorId(PropagateRegisterInspectorId command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendRegisteredInspectorId(command.inspectorId());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFixedInspectorId(PropagateFixedInspectorId command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendFixedInspectorId(command.inspectorId());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFixedInspectorIdForSmuggler(PropagateFixedInspectorIdForSmuggler command) {
         if (this.teamRole != null && this.teamRole.isInspector()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendFixedInspectorIdForSmuggler();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateSmugglerApprovalState(PropagateSmugglerApprovalState command) {
         if (this.teamRole != null && this.teamRole.isInspector()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendSmugglerApprovalState(command.candidateId(), command.approverIds(), command.fixed());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateInspectorApprovalState(PropagateInspectorApprovalState command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendInspectorApprovalState(command.candidateId(), command.approverIds(), command.fixed());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateStartNewRound(PropagateStartNewRound command) {
-        sender.sendStartNewRound(
-                command.currentRound(),
-                command.smugglerId(),
-                command.inspectorId(),
-                command.eventAtMillis(),
-                command.durationMillis(),
-                command.serverNowMillis(),
-                command.endAtMillis()
-        );
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFinishedRound(PropagateFinishedRound command) {
-        sender.sendFinishedRound(
-                command.smugglerId(),
-                command.smugglerAmount(),
-                command.inspectorId(),
-                command.inspectorAmount(),
-                command.outcomeType()
-        );
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateFinishedGame(PropagateFinishedGame command) {
@@ -237,42 +218,42 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
                 command.inspectorTotalBalance()
         );
         gateway.tell(new ClearActiveGame());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateTransferFailed(PropagateTransferFailed command) {
         sender.sendTransferFailed(command.reason(), command.message());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateDecidedPass(PropagateDecidedPass command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
             sender.sendDecideInspectorBehaviorForSmugglerTeam();
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendDecidedPass(command.inspectorId());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateDecidedInspection(PropagateDecidedInspection command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
             sender.sendDecideInspectorBehaviorForSmugglerTeam();
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendDecidedInspection(command.inspectorId(), command.amount());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateDecidedSmuggleAmount(PropagateDecidedSmuggleAmount command) {
         if (this.teamRole != null && this.teamRole.isSmuggler()) {
             sender.sendDecideSmugglerAmountForSmugglerTeam(command.smugglerId(), command.amount());
-            return this;
+            return Behaviors.same();
         }
 
         sender.sendDecideSmugglerAmountForInspectorTeam();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateTransfer(PropagateTransfer command) {
@@ -283,12 +264,12 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
                 command.targetBalance(),
                 command.amount()
         );
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateCreateLobby(PropagateCreateLobby command) {
         sender.sendCreateLobby(command.maxPlayerCount(), command.lobbyName(), command.teamRole());
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateCreatedLobby(PropagateCreatedLobby command) {
@@ -300,69 +281,57 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
                 command.lobbyName(),
                 command.lobbyParticipants()
         );
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateOtherPlayerJoinedLobby(PropagateOtherPlayerJoinedLobby command) {
-        sender.sendOtherPlayerJoinedLobby(
-                command.joinerId(),
-                command.joinerName(),
-                command.teamRole(),
-                command.currentPlayerCount()
-        );
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateJoinedLobby(PropagateJoinedLobby command) {
-        sender.sendJoinedLobby(
-                command.roomId(),
-                command.hostId(),
-                command.maxPlayerCount(),
-                command.currentPlayerCount(),
-                command.lobbyName(),
-                command.lobbyParticipants()
-        );
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateToggleReady(PropagateToggleReady command) {
-        sender.sendToggledReady(command.playerId(), command.toggleReadyState());
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateToggleTeam(PropagateToggleTeam command) {
-        sender.sendToggledTeam(command.playerId(), command.playerName(), command.teamRole());
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateLeftLobby(PropagateLeftLobby command) {
         sender.sendLeftLobby();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateOtherPlayerLeftLobby(PropagateOtherPlayerLeftLobby command) {
-        sender.sendOtherPlayerLeftLobby(command.playerId());
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateKicked(PropagateKicked command) {
         sender.sendKickedLobby();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateOtherPlayerKicked(PropagateOtherPlayerKicked command) {
-        sender.sendOtherPlayerKicked(command.playerId());
-        return this;
+        sender.sendPreEncoded(command.frame());
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateHostDeletedLobby(PropagateHostDeletedLobby command) {
         sender.sendHostDeletedLobby();
-        return this;
+        return Behaviors.same();
     }
 
     private Behavior<OutboundCommand> onPropagateLobbyDeleted(PropagateLobbyDeleted command) {
         sender.sendLobbyDeleted();
-        return this;
+        return Behaviors.same();
     }
 
     public record HandleExceptionMessage(ExceptionCode code) implements OutboundCommand { }
@@ -371,11 +340,28 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
 
     public record RequestSessionReconnect() implements OutboundCommand { }
 
-    public record RoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount) implements OutboundCommand { }
+    public record RoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount, long version) implements OutboundCommand { }
+
+    public record RoomDirectoryDelta(long version, long previousVersion, List<RoomDirectoryChange> changes, int totalCount) implements OutboundCommand { }
 
     public record PropagateStartGame(ActorRef<ContrabandGameCommand> smugglingGame, Long roomId, String entityId, List<GameStartPlayer> allPlayers) implements OutboundCommand { }
 
-    public record PropagateSelectionTimer(int round, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) implements OutboundCommand { }
+    // 브로드캐스트 명령은 만들 때 프레임도 하나 만들어, 같은 명령을 받는 세션들이 인코딩 결과를 함께 쓴다
+    // 다른 노드로 건너가면 프레임은 직렬화하지 않으므로 받은 노드에서 다시 만든다
+    public record PropagateSelectionTimer(int round, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateSelectionTimer {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(
+                        ClientWebSocketMessageSender.selectionTimerMessage(round, eventAtMillis, durationMillis, serverNowMillis, endAtMillis)
+                );
+            }
+        }
+
+        public PropagateSelectionTimer(int round, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) {
+            this(round, eventAtMillis, durationMillis, serverNowMillis, endAtMillis, null);
+        }
+    }
 
     public record PropagateRegisterSmugglerId(Long smugglerId) implements OutboundCommand { }
 
@@ -393,9 +379,43 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
 
     public record PropagateInspectorApprovalState(Long candidateId, Set<Long> approverIds, boolean fixed) implements OutboundCommand { }
 
-    public record PropagateStartNewRound(int currentRound, Long smugglerId, Long inspectorId, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) implements OutboundCommand { }
+    public record PropagateStartNewRound(int currentRound, Long smugglerId, Long inspectorId, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateStartNewRound {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(
+                        ClientWebSocketMessageSender.startNewRoundMessage(
+                                currentRound,
+                                smugglerId,
+                                inspectorId,
+                                eventAtMillis,
+                                durationMillis,
+                                serverNowMillis,
+                                endAtMillis
+                        )
+                );
+            }
+        }
 
-    public record PropagateFinishedRound(Long smugglerId, int smugglerAmount, Long inspectorId, int inspectorAmount, RoundOutcomeType outcomeType) implements OutboundCommand { }
+        public PropagateStartNewRound(int currentRound, Long smugglerId, Long inspectorId, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) {
+            this(currentRound, smugglerId, inspectorId, eventAtMillis, durationMillis, serverNowMillis, endAtMillis, null);
+        }
+    }
+
+    public record PropagateFinishedRound(Long smugglerId, int smugglerAmount, Long inspectorId, int inspectorAmount, RoundOutcomeType outcomeType, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateFinishedRound {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(
+                        ClientWebSocketMessageSender.finishedRoundMessage(smugglerId, smugglerAmount, inspectorId, inspectorAmount, outcomeType)
+                );
+            }
+        }
+
+        public PropagateFinishedRound(Long smugglerId, int smugglerAmount, Long inspectorId, int inspectorAmount, RoundOutcomeType outcomeType) {
+            this(smugglerId, smugglerAmount, inspectorId, inspectorAmount, outcomeType, null);
+        }
+    }
 
     public record PropagateFinishedGame(GameWinnerType gameWinnerType, int smugglerTotalBalance, int inspectorTotalBalance) implements OutboundCommand { }
 
@@ -413,21 +433,98 @@ public class SessionOutboundActor extends AbstractBehavior<OutboundCommand> {
 
     public record PropagateCreatedLobby(ActorRef<LobbyCommand> lobby, Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants) implements OutboundCommand { }
 
-    public record PropagateOtherPlayerJoinedLobby(Long joinerId, String joinerName, TeamRole teamRole, int currentPlayerCount) implements OutboundCommand { }
+    public record PropagateOtherPlayerJoinedLobby(Long joinerId, String joinerName, TeamRole teamRole, int currentPlayerCount, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateOtherPlayerJoinedLobby {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(
+                        ClientWebSocketMessageSender.otherPlayerJoinedLobbyMessage(joinerId, joinerName, teamRole, currentPlayerCount)
+                );
+            }
+        }
+
+        public PropagateOtherPlayerJoinedLobby(Long joinerId, String joinerName, TeamRole teamRole, int currentPlayerCount) {
+            this(joinerId, joinerName, teamRole, currentPlayerCount, null);
+        }
+    }
+
+    public record PropagateJoinedLobby(ActorRef<LobbyCommand> lobby, Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateJoinedLobby {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(
+                        ClientWebSocketMessageSender.joinedLobbyMessage(
+                                roomId,
+                                hostId,
+                                maxPlayerCount,
+                                currentPlayerCount,
+                                lobbyName,
+                                lobbyParticipants
+                        )
+                );
+            }
+        }
+
+        public PropagateJoinedLobby(ActorRef<LobbyCommand> lobby, Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants) {
+            this(lobby, roomId, hostId, maxPlayerCount, currentPlayerCount, lobbyName, lobbyParticipants, null);
+        }
+    }
+
+    public record PropagateToggleReady(Long playerId, boolean toggleReadyState, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateToggleReady {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(ClientWebSocketMessageSender.toggledReadyMessage(playerId, toggleReadyState));
+            }
+        }
+
+        public PropagateToggleReady(Long playerId, boolean toggleReadyState) {
+            this(playerId, toggleReadyState, null);
+        }
+    }
 
-    public record PropagateJoinedLobby(ActorRef<LobbyCommand> lobby, Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants) implements OutboundCommand { }
+    public record PropagateToggleTeam(Long playerId, String playerName, TeamRole teamRole, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
 
-    public record PropagateToggleReady(Long playerId, boolean toggleReadyState) implements OutboundCommand { }
+        public PropagateToggleTeam {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(ClientWebSocketMessageSender.toggledTeamMessage(playerId, playerName, teamRole));
+            }
+        }
 
-    public record PropagateToggleTeam(Long playerId, String playerName, TeamRole teamRole) implements OutboundCommand { }
+        public PropagateToggleTeam(Long playerId, String playerName, TeamRole teamRole) {
+            this(playerId, playerName, teamRole, null);
+        }
+    }
 
     public record PropagateLeftLobby() implements OutboundCommand { }
 
-    public record PropagateOtherPlayerLeftLobby(Long playerId) implements OutboundCommand { }
+    public record PropagateOtherPlayerLeftLobby(Long playerId, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateOtherPlayerLeftLobby {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(ClientWebSocketMessageSender.otherPlayerLeftLobbyMessage(playerId));
+            }
+        }
+
+        public PropagateOtherPlayerLeftLobby(Long playerId) {
+            this(playerId, null);
+        }
+    }
 
     public record PropagateKicked() implements OutboundCommand { }
 
-    public record PropagateOtherPlayerKicked(Long playerId) implements OutboundCommand { }
+    public record PropagateOtherPlayerKicked(Long playerId, @JsonIgnore PreEncodedOutboundMessage frame) implements OutboundCommand {
+
+        public PropagateOtherPlayerKicked {
+            if (frame == null) {
+                frame = new PreEncodedOutboundMessage(ClientWebSocketMessageSender.otherPlayerKickedMessage(playerId));
+            }
+        }
+
+        public PropagateOtherPlayerKicked(Long playerId) {
+            this(playerId, null);
+        }
+    }
 
     public record PropagateHostDeletedLobby() implements OutboundCommand { }
 
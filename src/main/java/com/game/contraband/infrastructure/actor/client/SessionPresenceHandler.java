@@ -0,0 +1,67 @@
+package com.game.contraband.infrastructure.actor.client;
+
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.PresenceCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.LocalDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RegisterSession;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RequestRoomDirectoryPage;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.UnregisterSession;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.PostStop;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.ReceiveBuilder;
+
+public class SessionPresenceHandler {
+
+    SessionPresenceHandler(
+            Long playerId,
+            ActorRef<ClientSessionCommand> gateway,
+            ActorRef<LocalDirectoryCommand> roomDirectoryCache
+    ) {
+        this.playerId = playerId;
+        this.gateway = gateway;
+        this.roomDirectoryCache = roomDirectoryCache;
+        roomDirectoryCache.tell(new RegisterSession(playerId, gateway));
+    }
+
+    private final Long playerId;
+    private final ActorRef<ClientSessionCommand> gateway;
+    private final ActorRef<LocalDirectoryCommand> roomDirectoryCache;
+
+    Receive<PresenceCommand> createReceive() {
+        return ReceiveBuilder.<PresenceCommand>create()
+                             .onMessage(ResubscribeRoomDirectory.class, this::onResubscribeRoomDirectory)
+                             .onMessage(RequestRoomDirectoryPageCommand.class, this::onRequestRoomDirectoryPage)
+                             .onMessage(UnregisterSessionCommand.class, this::onUnregister)
+                             .onSignal(PostStop.class, this::onPostStop)
+                             .build();
+    }
+
+    private Behavior<PresenceCommand> onResubscribeRoomDirectory(ResubscribeRoomDirectory command) {
+        roomDirectoryCache.tell(new RegisterSession(playerId, gateway));
+        return Behaviors.same();
+    }
+
+    private Behavior<PresenceCommand> onRequestRoomDirectoryPage(RequestRoomDirectoryPageCommand command) {
+        roomDirectoryCache.tell(new RequestRoomDirectoryPage(playerId, command.page(), command.size(), command.afterRoomId()));
+        return Behaviors.same();
+    }
+
+    private Behavior<PresenceCommand> onUnregister(UnregisterSessionCommand command) {
+        roomDirectoryCache.tell(new UnregisterSession(playerId));
+        return Behaviors.same();
+    }
+
+    private Behavior<PresenceCommand> onPostStop(PostStop signal) {
+        roomDirectoryCache.tell(new UnregisterSession(playerId));
+        return Behaviors.same();
+    }
+
+    public record ResubscribeRoomDirectory() implements PresenceCommand { }
+
+    public record UnregisterSessionCommand() implements PresenceCommand { }
+
+    public record RequestRoomDirectoryPageCommand(int page, int size, Long afterRoomId) implements PresenceCommand { }
+}
@@ -4,24 +4,50 @@ import com.game.contraband.global.actor.GuardianActor.GuardianCommand;
 import com.game.contraband.global.actor.GuardianActor.SpawnClientSession;
 import com.game.contraband.global.actor.GuardianActor.SpawnedClientSession;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.service.PlayerSessionRegistry.EvictionReason;
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
+import com.game.contraband.infrastructure.websocket.SessionOutboundQueue;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.RequiredArgsConstructor;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.ActorSystem;
 import org.apache.pekko.actor.typed.javadsl.AskPattern;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class ClientSessionActorManageService {
 
+    public ClientSessionActorManageService(ActorSystem<GuardianCommand> actorSystem, MeterRegistry meterRegistry) {
+        this.actorSystem = actorSystem;
+        this.clientSessions = new PlayerSessionRegistry<>("client-session", meterRegistry);
+    }
+
     private final ActorSystem<GuardianCommand> actorSystem;
-    private final Map<Long, ClientSessionHolder> clientSessions = new ConcurrentHashMap<>();
+    private final PlayerSessionRegistry<ClientSessionHolder> clientSessions;
+
+    // 재연결해도 세션 액터가 들고 있는 송신기를 그대로 쓰도록, 송신기는 세션 액터가 멈출 때까지 유지한다
+    public ClientWebSocketMessageSender attachSink(Long playerId, SessionOutboundQueue sink) {
+        ClientSessionHolder clientSessionHolder = clientSessions.computeIfAbsent(playerId, ignored -> new ClientSessionHolder());
+
+        clientSessionHolder.sender.attachSink(sink);
+        return clientSessionHolder.sender;
+    }
+
+    // 세션 액터가 아직 없는 연결이 끊기면 그 자리에서 지우고, 세션 액터가 있으면 액터가 멈출 때 지운다
+    public void detachSink(Long playerId, ClientWebSocketMessageSender sender, SessionOutboundQueue sink) {
+        sender.detachSink(sink);
+
+        ClientSessionHolder clientSessionHolder = clientSessions.get(playerId);
+
+        if (clientSessionHolder == null || clientSessionHolder.sender != sender) {
+            return;
+        }
+        if (clientSessionHolder.clientSession == null && !sender.hasSink()) {
+            clientSessions.evict(playerId, clientSessionHolder, EvictionReason.CONNECTION_CLOSED);
+        }
+    }
 
     public CompletionStage<ActorRef<ClientSessionCommand>> createClientSessionActor(
             Long playerId,
@@ -32,16 +58,18 @@ public class ClientSessionActorManageService {
                 (ActorRef<GuardianCommand> replyTo) -> new SpawnClientSession(
                         playerId,
                         clientWebSocketMessageSender,
+                        clientSession -> evictStoppedSession(playerId, clientSession),
                         replyTo
                 ),
                 Duration.ofSeconds(3),
                 actorSystem.scheduler()
         ).thenApply(response -> {
             SpawnedClientSession spawned = (SpawnedClientSession) response;
-            ClientSessionHolder clientSessionHolder = new ClientSessionHolder();
+            ClientSessionHolder clientSessionHolder = clientSessions.get(playerId);
 
-            clientSessionHolder.clientSession = spawned.clientSession();
-            clientSessions.put(playerId, clientSessionHolder);
+            if (clientSessionHolder != null && clientSessionHolder.sender == clientWebSocketMessageSender) {
+                clientSessionHolder.clientSession = spawned.clientSession();
+            }
             return spawned.clientSession();
         });
     }
@@ -56,8 +84,29 @@ public class ClientSessionActorManageService {
         return Optional.ofNullable(clientSessionHolder.clientSession);
     }
 
+    public int sessionCount() {
+        return clientSessions.size();
+    }
+
+    private void evictStoppedSession(Long playerId, ActorRef<ClientSessionCommand> clientSession) {
+        ClientSessionHolder clientSessionHolder = clientSessions.get(playerId);
+
+        if (clientSessionHolder == null || !clientSession.equals(clientSessionHolder.clientSession)) {
+            return;
+        }
+        // 유휴 만료 직후 재연결이 붙었다면 그 연결은 이미 멈춘 세션 액터에 묶여 있으므로,
+        // 송신기는 남겨 두고 재연결을 요청해 다음 연결이 세션 액터를 새로 띄우게 한다
+        if (clientSessionHolder.sender.hasSink()) {
+            clientSessionHolder.clientSession = null;
+            clientSessionHolder.sender.requestSessionReconnect();
+            return;
+        }
+        clientSessions.evict(playerId, clientSessionHolder, EvictionReason.SESSION_STOPPED);
+    }
+
     private static class ClientSessionHolder {
 
-        private ActorRef<ClientSessionCommand> clientSession;
+        private final ClientWebSocketMessageSender sender = new ClientWebSocketMessageSender();
+        private volatile ActorRef<ClientSessionCommand> clientSession;
     }
 }
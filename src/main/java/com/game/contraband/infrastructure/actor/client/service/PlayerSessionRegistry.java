@@ -0,0 +1,67 @@
+package com.game.contraband.infrastructure.actor.client.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+import org.agrona.collections.Long2ObjectHashMap;
+
+// 플레이어 ID를 박싱하지 않고 오픈 어드레싱 맵에 담아, 노드에 붙은 세션 수만큼만 힙을 쓰도록 한다
+public class PlayerSessionRegistry<V> {
+
+    public PlayerSessionRegistry(String name, MeterRegistry meterRegistry) {
+        for (EvictionReason reason : EvictionReason.values()) {
+            evictionCounters.put(
+                    reason,
+                    meterRegistry.counter("session.registry.evicted", "registry", name, "reason", reason.tagValue())
+            );
+        }
+        meterRegistry.gauge("session.registry.size", Tags.of("registry", name), this, PlayerSessionRegistry::size);
+    }
+
+    private final Long2ObjectHashMap<V> entries = new Long2ObjectHashMap<>();
+    private final Map<EvictionReason, Counter> evictionCounters = new EnumMap<>(EvictionReason.class);
+
+    public synchronized V get(long playerId) {
+        return entries.get(playerId);
+    }
+
+    public synchronized V computeIfAbsent(long playerId, LongFunction<V> factory) {
+        return entries.computeIfAbsent(playerId, factory);
+    }
+
+    // 재연결로 항목이 이미 바뀌었을 수 있으므로, 지우려던 항목과 같을 때만 지운다
+    public synchronized boolean evict(long playerId, V expected, EvictionReason reason) {
+        V current = entries.get(playerId);
+
+        if (current == null || current != expected) {
+            return false;
+        }
+
+        entries.remove(playerId);
+        evictionCounters.get(reason).increment();
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public enum EvictionReason {
+
+        SESSION_STOPPED("stopped"),
+        CONNECTION_CLOSED("closed");
+
+        private final String tagValue;
+
+        EvictionReason(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.game.contraband.infrastructure.actor.directory;
+
+import com.game.contraband.global.actor.CborSerializable;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryEvent;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRemoved;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.cluster.ClusterEvent.MemberRemoved;
+import org.apache.pekko.cluster.ddata.Key;
+import org.apache.pekko.cluster.ddata.LWWMap;
+import org.apache.pekko.cluster.ddata.LWWMapKey;
+import org.apache.pekko.cluster.ddata.SelfUniqueAddress;
+import org.apache.pekko.cluster.ddata.typed.javadsl.DistributedData;
+import org.apache.pekko.cluster.ddata.typed.javadsl.Replicator;
+import org.apache.pekko.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
+import org.apache.pekko.cluster.typed.Cluster;
+import org.apache.pekko.cluster.typed.Subscribe;
+
+public class ReplicatedRoomDirectoryActor extends AbstractBehavior<RoomDirectoryCommand> {
+
+    public static final Key<LWWMap<Long, ReplicatedRoom>> ROOMS_KEY = LWWMapKey.create("room-directory-rooms");
+    private static final int PARTITION = 0;
+    private static final long VERSIONS_PER_MILLISECOND = 1_000L;
+
+    public static Behavior<RoomDirectoryCommand> create() {
+        return Behaviors.setup(
+                context -> DistributedData.<RoomDirectoryCommand, LWWMap<Long, ReplicatedRoom>>withReplicatorMessageAdapter(
+                        replicator -> {
+                            SelfUniqueAddress node = DistributedData.get(context.getSystem()).selfUniqueAddress();
+                            ActorRef<MemberRemoved> memberRemovedAdapter =
+                                    context.messageAdapter(MemberRemoved.class, WrappedMemberRemoved::new);
+
+                            replicator.subscribe(ROOMS_KEY, WrappedSubscribeResponse::new);
+                            Cluster.get(context.getSystem())
+                                   .subscriptions()
+                                   .tell(Subscribe.create(memberRemovedAdapter, MemberRemoved.class));
+                            return new ReplicatedRoomDirectoryActor(context, replicator, node);
+                        }
+                )
+        );
+    }
+
+    private ReplicatedRoomDirectoryActor(
+            ActorContext<RoomDirectoryCommand> context,
+            ReplicatorMessageAdapter<RoomDirectoryCommand, LWWMap<Long, ReplicatedRoom>> replicator,
+            SelfUniqueAddress node
+    ) {
+        super(context);
+
+        this.replicator = replicator;
+        this.node = node;
+        this.owner = node.uniqueAddress().address().toString();
+        this.version = System.currentTimeMillis() * VERSIONS_PER_MILLISECOND;
+    }
+
+    private final ReplicatorMessageAdapter<RoomDirectoryCommand, LWWMap<Long, ReplicatedRoom>> replicator;
+    private final SelfUniqueAddress node;
+    private final String owner;
+    private final Map<Long, RoomDirectorySnapshot> rooms = new HashMap<>();
+    private final Set<ActorRef<RoomDirectoryEvent>> changeSubscribers = new LinkedHashSet<>();
+    private long version;
+
+    @Override
+    public Receive<RoomDirectoryCommand> createReceive() {
+        return newReceiveBuilder().onMessage(SyncRoomRegistered.class, this::onSyncRoomRegistered)
+                                  .onMessage(SyncRoomRemoved.class, this::onSyncRoomRemoved)
+                                  .onMessage(RemoveRoom.class, this::onRemoveRoom)
+                                  .onMessage(QueryPartitionSnapshot.class, this::onQueryPartitionSnapshot)
+                                  .onMessage(QueryDirectorySnapshot.class, this::onQueryDirectorySnapshot)
+                                  .onMessage(WrappedSubscribeResponse.class, this::onSubscribeResponse)
+                                  .onMessage(WrappedUpdateResponse.class, this::onUpdateResponse)
+                                  .onMessage(WrappedMemberRemoved.class, this::onMemberRemoved)
+                                  .onMessage(ChangeSubscriberTerminated.class, this::onChangeSubscriberTerminated)
+                                  .build();
+    }
+
+    private Behavior<RoomDirectoryCommand> onSyncRoomRegistered(SyncRoomRegistered command) {
+        RoomDirectorySnapshot room = command.roomSummary();
+
+        update(map -> map.put(node, room.roomId(), new ReplicatedRoom(room, owner)));
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onSyncRoomRemoved(SyncRoomRemoved command) {
+        update(map -> map.remove(node, command.roomId()));
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onRemoveRoom(RemoveRoom command) {
+        update(map -> map.remove(node, command.roomId()));
+        return this;
+    }
+
+    // 스냅샷을 요청한 복제본에게는 이후 바뀐 방만 스냅샷 버전에 이어지는 이벤트로 보낸다
+    private Behavior<RoomDirectoryCommand> onQueryPartitionSnapshot(QueryPartitionSnapshot command) {
+        ActorRef<RoomDirectoryEvent> changesTo = command.changesTo();
+
+        if (changesTo != null && changeSubscribers.add(changesTo)) {
+            getContext().watchWith(changesTo, new ChangeSubscriberTerminated(changesTo));
+        }
+        command.replyTo().tell(snapshot());
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onQueryDirectorySnapshot(QueryDirectorySnapshot command) {
+        command.replyTo().tell(snapshot());
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onSubscribeResponse(WrappedSubscribeResponse command) {
+        if (command.response() instanceof Replicator.Changed<LWWMap<Long, ReplicatedRoom>> changed) {
+            Map<Long, ReplicatedRoom> entries = changed.get(ROOMS_KEY).getEntries();
+
+            for (RoomDirectoryEvent event : diff(entries)) {
+                changeSubscribers.forEach(subscriber -> subscriber.tell(event));
+            }
+        }
+        return this;
+    }
+
+    private List<RoomDirectoryEvent> diff(Map<Long, ReplicatedRoom> entries) {
+        List<RoomDirectoryEvent> events = new ArrayList<>();
+
+        rooms.keySet().removeIf(
+                roomId -> {
+                    if (entries.containsKey(roomId)) {
+                        return false;
+                    }
+
+                    events.add(event(RoomEventType.REMOVED, rooms.get(roomId), roomId));
+                    return true;
+                }
+        );
+        entries.forEach(
+                (roomId, entry) -> {
+                    RoomDirectorySnapshot previous = rooms.put(roomId, entry.room());
+
+                    if (previous == null) {
+                        events.add(event(RoomEventType.ADDED, entry.room(), roomId));
+                    } else if (!previous.equals(entry.room())) {
+                        events.add(event(RoomEventType.UPDATED, entry.room(), roomId));
+                    }
+                }
+        );
+        return events;
+    }
+
+    private RoomDirectoryEvent event(RoomEventType type, RoomDirectorySnapshot room, Long roomId) {
+        version++;
+        return new RoomDirectoryEvent(type, room, roomId, version, PARTITION);
+    }
+
+    private Behavior<RoomDirectoryCommand> onUpdateResponse(WrappedUpdateResponse command) {
+        return this;
+    }
+
+    // 클러스터를 떠난 노드가 등록한 방은 다시 지워 줄 주인이 없으므로, 남은 노드가 대신 목록에서 걷어 낸다
+    private Behavior<RoomDirectoryCommand> onMemberRemoved(WrappedMemberRemoved command) {
+        String removedOwner = command.event().member().address().toString();
+
+        update(map -> {
+            LWWMap<Long, ReplicatedRoom> pruned = map;
+
+            for (Map.Entry<Long, ReplicatedRoom> entry : map.getEntries().entrySet()) {
+                if (removedOwner.equals(entry.getValue().owner())) {
+                    pruned = pruned.remove(node, entry.getKey());
+                }
+            }
+            return pruned;
+        });
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onChangeSubscriberTerminated(ChangeSubscriberTerminated command) {
+        changeSubscribers.remove(command.subscriber());
+        return this;
+    }
+
+    private void update(Function<LWWMap<Long, ReplicatedRoom>, LWWMap<Long, ReplicatedRoom>> modify) {
+        replicator.askUpdate(
+                replyTo -> new Replicator.Update<>(
+                        ROOMS_KEY,
+                        LWWMap.create(),
+                        Replicator.writeLocal(),
+                        replyTo,
+                        modify::apply
+                ),
+                WrappedUpdateResponse::new
+        );
+    }
+
+    private DirectorySnapshotResult snapshot() {
+        return new DirectorySnapshotResult(List.copyOf(rooms.values()), version, PARTITION);
+    }
+
+    // 방을 등록한 노드를 함께 남겨, 노드가 클러스터를 떠나면 그 노드의 방만 골라 지울 수 있게 한다
+    public record ReplicatedRoom(RoomDirectorySnapshot room, String owner) implements CborSerializable { }
+
+    private record WrappedSubscribeResponse(
+            Replicator.SubscribeResponse<LWWMap<Long, ReplicatedRoom>> response
+    ) implements RoomDirectoryCommand { }
+
+    private record WrappedUpdateResponse(
+            Replicator.UpdateResponse<LWWMap<Long, ReplicatedRoom>> response
+    ) implements RoomDirectoryCommand { }
+
+    private record WrappedMemberRemoved(MemberRemoved event) implements RoomDirectoryCommand { }
+
+    private record ChangeSubscriberTerminated(ActorRef<RoomDirectoryEvent> subscriber) implements RoomDirectoryCommand { }
+}
@@ -3,7 +3,6 @@ package com.game.contraband.infrastructure.actor.directory;
 import static com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.*;
 
 import com.game.contraband.global.actor.CborSerializable;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,21 +13,34 @@ import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
 import org.apache.pekko.actor.typed.pubsub.Topic;
+import org.apache.pekko.cluster.sharding.typed.javadsl.EntityTypeKey;
 
 public class RoomDirectoryActor extends AbstractBehavior<RoomDirectoryCommand> {
 
+    public static final EntityTypeKey<RoomDirectoryCommand> ENTITY_TYPE_KEY =
+            EntityTypeKey.create(RoomDirectoryCommand.class, "room-directory");
     public static final String TOPIC_NAME = "room-directory-topic";
+    private static final long VERSIONS_PER_MILLISECOND = 1_000L;
 
-    public static Behavior<RoomDirectoryCommand> create() {
-        return Behaviors.setup(RoomDirectoryActor::new);
+    public static Behavior<RoomDirectoryCommand> create(int partition) {
+        return Behaviors.setup(context -> new RoomDirectoryActor(context, partition));
+    }
+
+    public static int partitionOf(Long roomId, int partitionCount) {
+        return Math.floorMod(Long.hashCode(roomId), partitionCount);
     }
 
     private final Map<Long, RoomDirectorySnapshot> rooms = new HashMap<>();
     private final ActorRef<Topic.Command<RoomDirectoryEvent>> topic;
+    private final int partition;
+    private long version;
 
-    private RoomDirectoryActor(ActorContext<RoomDirectoryCommand> context) {
+    private RoomDirectoryActor(ActorContext<RoomDirectoryCommand> context, int partition) {
         super(context);
         this.topic = context.spawn(Topic.create(RoomDirectoryEvent.class, TOPIC_NAME), TOPIC_NAME);
+        this.partition = partition;
+        // 파티션이 다른 노드에서 다시 시작되어도 이전보다 큰 버전에서 출발하도록 시작 시각을 기준으로 삼는다
+        this.version = System.currentTimeMillis() * VERSIONS_PER_MILLISECOND;
     }
 
     @Override
@@ -36,21 +48,20 @@ public class RoomDirectoryActor extends AbstractBehavior<RoomDirectoryCommand> {
         return newReceiveBuilder().onMessage(SyncRoomRegistered.class, this::onSyncRoomRegistered)
                                   .onMessage(SyncRoomRemoved.class, this::onSyncRoomRemoved)
                                   .onMessage(RemoveRoom.class, this::onRemoveRoom)
-                                  .onMessage(QueryRooms.class, this::onQueryRooms)
+                                  .onMessage(QueryDirectorySnapshot.class, this::onQueryDirectorySnapshot)
                                   .build();
     }
 
+    // 게임 관리 엔티티가 주기적으로 같은 내용을 다시 등록하므로, 바뀐 것이 없으면 이벤트를 내보내지 않는다
     private Behavior<RoomDirectoryCommand> onSyncRoomRegistered(SyncRoomRegistered command) {
-        rooms.put(command.roomSummary().roomId(), command.roomSummary());
-        topic.tell(
-                Topic.publish(
-                        new RoomDirectoryEvent(
-                                RoomEventType.ADDED,
-                                command.roomSummary(),
-                                command.roomSummary().roomId()
-                        )
-                )
-        );
+        if (command.roomSummary().equals(rooms.get(command.roomSummary().roomId()))) {
+            return this;
+        }
+
+        RoomDirectorySnapshot previous = rooms.put(command.roomSummary().roomId(), command.roomSummary());
+        RoomEventType type = previous == null ? RoomEventType.ADDED : RoomEventType.UPDATED;
+
+        publish(type, command.roomSummary(), command.roomSummary().roomId());
         return this;
     }
 
@@ -58,11 +69,7 @@ public class RoomDirectoryActor extends AbstractBehavior<RoomDirectoryCommand> {
         RoomDirectorySnapshot removed = rooms.remove(command.roomId());
 
         if (removed != null) {
-            topic.tell(
-                    Topic.publish(
-                            new RoomDirectoryEvent(RoomEventType.REMOVED, removed, command.roomId())
-                    )
-            );
+            publish(RoomEventType.REMOVED, removed, command.roomId());
         }
 
         return this;
@@ -72,51 +79,36 @@ public class RoomDirectoryActor extends AbstractBehavior<RoomDirectoryCommand> {
         RoomDirectorySnapshot removed = rooms.remove(command.roomId());
 
         if (removed != null) {
-            topic.tell(
-                    Topic.publish(
-                            new RoomDirectoryEvent(RoomEventType.REMOVED, removed, command.roomId())
-                    )
-            );
+            publish(RoomEventType.REMOVED, removed, command.roomId());
         }
 
         return this;
     }
 
-    private Behavior<RoomDirectoryCommand> onQueryRooms(QueryRooms command) {
-        List<RoomDirectorySnapshot> sorted = rooms.values()
-                                                         .stream()
-                                                         .sorted(
-                                                                 Comparator.comparing(RoomDirectorySnapshot::gameStarted)
-                                                                           .thenComparing(RoomDirectorySnapshot::roomId)
-                                                         )
-                                                         .toList();
-        int total = sorted.size();
-        int from = Math.max(command.page() * command.size(), 0);
-        if (from >= total) {
-            command.replyTo().tell(new QueryRoomsResult(List.of(), total));
-            return this;
-        }
-        int to = Math.min(from + command.size(), total);
-
-        List<RoomDirectorySnapshot> page = sorted.subList(from, to)
-                                                       .stream()
-                                                       .toList();
-
-        command.replyTo().tell(new QueryRoomsResult(page, total));
+    private Behavior<RoomDirectoryCommand> onQueryDirectorySnapshot(QueryDirectorySnapshot command) {
+        command.replyTo().tell(new DirectorySnapshotResult(List.copyOf(rooms.values()), version, partition));
         return this;
     }
 
+    private void publish(RoomEventType type, RoomDirectorySnapshot roomSummary, Long roomId) {
+        version++;
+        topic.tell(Topic.publish(new RoomDirectoryEvent(type, roomSummary, roomId, version, partition)));
+    }
+
     public interface RoomDirectoryCommand extends CborSerializable { }
 
     public record SyncRoomRegistered(RoomDirectorySnapshot roomSummary) implements RoomDirectoryCommand { }
 
     public record SyncRoomRemoved(Long roomId) implements RoomDirectoryCommand { }
 
-    public record QueryRooms(int page, int size, ActorRef<QueryRoomsResult> replyTo) implements RoomDirectoryCommand { }
+    public record QueryDirectorySnapshot(ActorRef<DirectorySnapshotResult> replyTo) implements RoomDirectoryCommand { }
+
+    // 복제 모드에서는 스냅샷 이후의 변경을 토픽 대신 changesTo로 바로 보낸다
+    public record QueryPartitionSnapshot(int partition, ActorRef<DirectorySnapshotResult> replyTo, ActorRef<RoomDirectoryEvent> changesTo) implements RoomDirectoryCommand { }
 
-    public record QueryRoomsResult(List<RoomDirectorySnapshot> rooms, int totalCount) implements RoomDirectoryCommand { }
+    public record DirectorySnapshotResult(List<RoomDirectorySnapshot> rooms, long version, int partition) implements CborSerializable { }
 
-    public record RoomDirectoryEvent(RoomEventType type, RoomDirectorySnapshot roomSummary, Long roomId) implements CborSerializable { }
+    public record RoomDirectoryEvent(RoomEventType type, RoomDirectorySnapshot roomSummary, Long roomId, long version, int partition) implements CborSerializable { }
 
     public record RoomDirectorySnapshot(Long roomId, String lobbyName, int maxPlayerCount, int currentPlayerCount, String entityId, boolean gameStarted) implements CborSerializable { }
 
@@ -0,0 +1,6 @@
+package com.game.contraband.infrastructure.actor.directory;
+
+public enum RoomDirectoryMode {
+    SHARDED,
+    REPLICATED
+}
@@ -0,0 +1,84 @@
+package com.game.contraband.infrastructure.actor.directory;
+
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRemoved;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.RecipientRef;
+import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.javadsl.Receive;
+
+public class RoomDirectoryRouterActor extends AbstractBehavior<RoomDirectoryCommand> {
+
+    public static Behavior<RoomDirectoryCommand> create(
+            int partitionCount,
+            IntFunction<RecipientRef<RoomDirectoryCommand>> partitions
+    ) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("게임 방 목록 파티션 수는 1 이상이어야 합니다.");
+        }
+
+        return Behaviors.setup(context -> new RoomDirectoryRouterActor(context, partitionCount, partitions));
+    }
+
+    private RoomDirectoryRouterActor(
+            ActorContext<RoomDirectoryCommand> context,
+            int partitionCount,
+            IntFunction<RecipientRef<RoomDirectoryCommand>> partitions
+    ) {
+        super(context);
+
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            this.partitions.add(partitions.apply(partition));
+        }
+    }
+
+    private final List<RecipientRef<RoomDirectoryCommand>> partitions;
+
+    @Override
+    public Receive<RoomDirectoryCommand> createReceive() {
+        return newReceiveBuilder().onMessage(SyncRoomRegistered.class, this::onSyncRoomRegistered)
+                                  .onMessage(SyncRoomRemoved.class, this::onSyncRoomRemoved)
+                                  .onMessage(RemoveRoom.class, this::onRemoveRoom)
+                                  .onMessage(QueryPartitionSnapshot.class, this::onQueryPartitionSnapshot)
+                                  .build();
+    }
+
+    private Behavior<RoomDirectoryCommand> onSyncRoomRegistered(SyncRoomRegistered command) {
+        partitionFor(command.roomSummary().roomId()).tell(command);
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onSyncRoomRemoved(SyncRoomRemoved command) {
+        partitionFor(command.roomId()).tell(command);
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onRemoveRoom(RemoveRoom command) {
+        partitionFor(command.roomId()).tell(command);
+        return this;
+    }
+
+    private Behavior<RoomDirectoryCommand> onQueryPartitionSnapshot(QueryPartitionSnapshot command) {
+        if (command.partition() < 0 || command.partition() >= partitions.size()) {
+            return this;
+        }
+
+        partitions.get(command.partition())
+                  .tell(new QueryDirectorySnapshot(command.replyTo()));
+        return this;
+    }
+
+    private RecipientRef<RoomDirectoryCommand> partitionFor(Long roomId) {
+        return partitions.get(RoomDirectoryActor.partitionOf(roomId, partitions.size()));
+    }
+}
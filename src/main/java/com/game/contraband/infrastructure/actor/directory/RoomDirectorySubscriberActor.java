@@ -4,19 +4,27 @@ import static com.game.contraband.infrastructure.actor.directory.RoomDirectorySu
 
 import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.RoomDirectoryUpdated;
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRooms;
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRoomsResult;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryDelta;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryUpdated;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryEvent;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
 import com.game.contraband.infrastructure.event.MonitorEventBroadcaster;
 import com.game.contraband.infrastructure.monitor.payload.MonitorActorRole;
 import com.game.contraband.infrastructure.monitor.payload.MonitorActorState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.PostStop;
@@ -24,118 +32,209 @@ import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.TimerScheduler;
 import org.apache.pekko.actor.typed.pubsub.Topic;
 
 public class RoomDirectorySubscriberActor extends AbstractBehavior<LocalDirectoryCommand> {
 
+    private static final int DEFAULT_PAGE = 0;
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final Duration SNAPSHOT_RETRY_INTERVAL = Duration.ofSeconds(3L);
+    private static final int NO_PENDING_CHANGE = Integer.MAX_VALUE;
+    private static final Comparator<RoomDirectorySnapshot> ROOM_ORDER =
+            Comparator.comparing(RoomDirectorySnapshot::gameStarted)
+                      .thenComparing(RoomDirectorySnapshot::roomId);
+
     public static Behavior<LocalDirectoryCommand> create(
             ActorRef<RoomDirectoryCommand> roomDirectory,
-            MonitorEventBroadcaster monitorEventBroadcaster
+            int partitionCount,
+            MonitorEventBroadcaster monitorEventBroadcaster,
+            MeterRegistry meterRegistry,
+            Duration pushWindow
     ) {
-        return Behaviors.setup(context -> {
-            ActorRef<RoomDirectoryEvent> roomEventAdapter =
-                    context.messageAdapter(RoomDirectoryEvent.class, WrappedRoomEvent::new);
-            ActorRef<QueryRoomsResult> roomDirectoryQueryAdapter =
-                    context.messageAdapter(QueryRoomsResult.class, WrappedRoomDirectoryQueryResult::new);
-            ActorRef<Topic.Command<RoomDirectoryEvent>> topic = context.spawn(
-                    Topic.create(RoomDirectoryEvent.class, RoomDirectoryActor.TOPIC_NAME),
-                    RoomDirectoryActor.TOPIC_NAME + "-subscriber-" + context.getSelf().path().name()
-            );
-            RoomDirectorySubscriberActor actor = new RoomDirectorySubscriberActor(
-                    context,
-                    roomDirectory,
-                    roomEventAdapter,
-                    roomDirectoryQueryAdapter,
-                    topic,
-                    monitorEventBroadcaster
-            );
+        return Behaviors.setup(
+                context -> Behaviors.withTimers(
+                        timers -> {
+                            ActorRef<RoomDirectoryEvent> roomEventAdapter =
+                                    context.messageAdapter(RoomDirectoryEvent.class, WrappedRoomEvent::new);
+                            ActorRef<DirectorySnapshotResult> snapshotAdapter =
+                                    context.messageAdapter(DirectorySnapshotResult.class, WrappedDirectorySnapshot::new);
+                            ActorRef<Topic.Command<RoomDirectoryEvent>> topic = context.spawn(
+                                    Topic.create(RoomDirectoryEvent.class, RoomDirectoryActor.TOPIC_NAME),
+                                    RoomDirectoryActor.TOPIC_NAME + "-subscriber-" + context.getSelf().path().name()
+                            );
+                            RoomDirectorySubscriberActor actor = new RoomDirectorySubscriberActor(
+                                    context,
+                                    timers,
+                                    roomDirectory,
+                                    partitionCount,
+                                    roomEventAdapter,
+                                    snapshotAdapter,
+                                    topic,
+                                    monitorEventBroadcaster,
+                                    meterRegistry,
+                                    pushWindow
+                            );
 
-            topic.tell(Topic.subscribe(roomEventAdapter));
-            actor.requestPage();
-            return actor;
-        });
+                            topic.tell(Topic.subscribe(roomEventAdapter));
+                            for (int partition = 0; partition < partitionCount; partition++) {
+                                actor.requestSnapshot(partition);
+                            }
+                            return actor;
+                        }
+                )
+        );
     }
 
-    private final ActorRef<RoomDirectoryCommand> roomDirectory;
-    private final ActorRef<RoomDirectoryEvent> roomEventAdapter;
-    private final ActorRef<QueryRoomsResult> roomDirectoryQueryAdapter;
-    private final List<RoomDirectorySnapshot> roomCache = new ArrayList<>();
-    private final Map<Long, ActorRef<ClientSessionCommand>> sessionSubscribers = new HashMap<>();
-    private final ActorRef<Topic.Command<RoomDirectoryEvent>> topic;
-    private final MonitorEventBroadcaster monitorEventBroadcaster;
-    private int currentPage = 0;
-    private int pageSize = 10;
-    private int totalCount = 0;
-
     private RoomDirectorySubscriberActor(
             ActorContext<LocalDirectoryCommand> context,
+            TimerScheduler<LocalDirectoryCommand> timers,
             ActorRef<RoomDirectoryCommand> roomDirectory,
+            int partitionCount,
             ActorRef<RoomDirectoryEvent> roomEventAdapter,
-            ActorRef<QueryRoomsResult> roomDirectoryQueryAdapter,
+            ActorRef<DirectorySnapshotResult> snapshotAdapter,
             ActorRef<Topic.Command<RoomDirectoryEvent>> topic,
-            MonitorEventBroadcaster monitorEventBroadcaster
+            MonitorEventBroadcaster monitorEventBroadcaster,
+            MeterRegistry meterRegistry,
+            Duration pushWindow
     ) {
         super(context);
 
+        this.timers = timers;
         this.roomDirectory = roomDirectory;
+        this.partitionCount = partitionCount;
         this.roomEventAdapter = roomEventAdapter;
-        this.roomDirectoryQueryAdapter = roomDirectoryQueryAdapter;
+        this.snapshotAdapter = snapshotAdapter;
         this.topic = topic;
         this.monitorEventBroadcaster = monitorEventBroadcaster;
+        this.pushWindow = pushWindow;
+        this.pushedCounter = meterRegistry.counter("room.directory.push.sent");
+        this.coalescedCounter = meterRegistry.counter("room.directory.push.coalesced");
+        this.sessionEvictedCounter = meterRegistry.counter("room.directory.sessions.evicted");
+        meterRegistry.gauge("room.directory.sessions", sessionCount);
+        this.lastFlushNanos = System.nanoTime() - pushWindow.toNanos();
     }
 
+    private final TimerScheduler<LocalDirectoryCommand> timers;
+    private final ActorRef<RoomDirectoryCommand> roomDirectory;
+    private final int partitionCount;
+    private final ActorRef<RoomDirectoryEvent> roomEventAdapter;
+    private final ActorRef<DirectorySnapshotResult> snapshotAdapter;
+    private final ActorRef<Topic.Command<RoomDirectoryEvent>> topic;
+    private final MonitorEventBroadcaster monitorEventBroadcaster;
+    private final Duration pushWindow;
+    private final Counter pushedCounter;
+    private final Counter coalescedCounter;
+    private final Counter sessionEvictedCounter;
+    private final Map<Long, RoomDirectorySnapshot> roomsById = new HashMap<>();
+    private final List<RoomDirectorySnapshot> sortedRooms = new ArrayList<>();
+    private final Long2ObjectHashMap<SessionView> sessionViews = new Long2ObjectHashMap<>();
+    // 세션 맵은 액터 안에서만 다루므로, 메트릭 스레드는 액터가 갱신하는 값만 읽는다
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final Map<Integer, Long> partitionVersions = new HashMap<>();
+    private final Map<Integer, List<RoomDirectoryEvent>> pendingEvents = new HashMap<>();
+    private long streamVersion;
+    private int pendingChangedIndex = NO_PENDING_CHANGE;
+    private long lastFlushNanos;
+
     @Override
     public Receive<LocalDirectoryCommand> createReceive() {
         return newReceiveBuilder().onMessage(RegisterSession.class, this::onRegisterSession)
                                   .onMessage(UnregisterSession.class, this::onUnregisterSession)
                                   .onMessage(WrappedRoomEvent.class, this::onRoomEvent)
-                                  .onMessage(WrappedRoomDirectoryQueryResult.class, this::onRoomDirectoryQueryResponse)
+                                  .onMessage(WrappedDirectorySnapshot.class, this::onDirectorySnapshot)
+                                  .onMessage(RetryPartitionSnapshot.class, this::onRetryPartitionSnapshot)
+                                  .onMessage(FlushDirectoryPushes.class, this::onFlushDirectoryPushes)
                                   .onMessage(RequestRoomDirectoryPage.class, this::onRequestRoomDirectoryPage)
                                   .onSignal(PostStop.class, this::onPostStop)
                                   .build();
     }
 
     private Behavior<LocalDirectoryCommand> onRoomEvent(WrappedRoomEvent command) {
-        requestPage();
+        RoomDirectoryEvent event = command.event();
+        Long version = partitionVersions.get(event.partition());
+
+        if (version == null) {
+            pendingEventsOf(event.partition()).add(event);
+            return this;
+        }
+        if (event.version() <= version) {
+            return this;
+        }
+        if (event.version() != version + 1) {
+            // 이벤트 유실이나 파티션 재시작으로 버전이 어긋나면 해당 파티션만 스냅샷으로 다시 맞춘다
+            pendingEventsOf(event.partition()).add(event);
+            resync(event.partition());
+            return this;
+        }
+
+        int changedIndex = apply(event);
+
+        partitionVersions.put(event.partition(), event.version());
+        if (changedIndex >= 0) {
+            schedulePush(changedIndex);
+        }
         return this;
     }
 
-    private Behavior<LocalDirectoryCommand> onRequestRoomDirectoryPage(RequestRoomDirectoryPage command) {
-        currentPage = Math.max(0, command.page());
-        pageSize = Math.max(1, command.size());
-        requestPage();
+    private Behavior<LocalDirectoryCommand> onDirectorySnapshot(WrappedDirectorySnapshot command) {
+        DirectorySnapshotResult result = command.result();
+
+        replacePartition(result.partition(), result.rooms());
+        partitionVersions.put(result.partition(), result.version());
+        timers.cancel(new RetryPartitionSnapshot(result.partition()));
+
+        if (!drainPendingEvents(result.partition())) {
+            resync(result.partition());
+        }
+        schedulePush(0);
         return this;
     }
 
-    private Behavior<LocalDirectoryCommand> onRoomDirectoryQueryResponse(WrappedRoomDirectoryQueryResult command) {
-        roomCache.clear();
-        roomCache.addAll(command.response().rooms());
-        totalCount = command.response().totalCount();
-        broadcastSnapshot();
+    private Behavior<LocalDirectoryCommand> onRetryPartitionSnapshot(RetryPartitionSnapshot command) {
+        if (!partitionVersions.containsKey(command.partition())) {
+            requestSnapshot(command.partition());
+        }
+        return this;
+    }
+
+    private Behavior<LocalDirectoryCommand> onFlushDirectoryPushes(FlushDirectoryPushes command) {
+        flushPendingPushes();
         return this;
     }
 
     private Behavior<LocalDirectoryCommand> onRegisterSession(RegisterSession command) {
-        sessionSubscribers.put(command.userId(), command.session());
-        command.session()
-               .tell(new RoomDirectoryUpdated(roomCache, totalCount));
+        SessionView view = sessionViews.computeIfAbsent(
+                command.userId().longValue(),
+                ignored -> new SessionView(DEFAULT_PAGE, DEFAULT_PAGE_SIZE)
+        );
+
+        sessionCount.set(sessionViews.size());
+        view.session = command.session();
+        sendFullPage(view, pageOf(startOf(view), view.size));
         return this;
     }
 
     private Behavior<LocalDirectoryCommand> onUnregisterSession(UnregisterSession command) {
-        sessionSubscribers.remove(command.userId());
+        if (sessionViews.remove(command.userId().longValue()) != null) {
+            sessionCount.set(sessionViews.size());
+            sessionEvictedCounter.increment();
+        }
         return this;
     }
 
-    private void broadcastSnapshot() {
-        List<RoomDirectorySnapshot> snapshot = List.copyOf(roomCache);
-
-        sessionSubscribers.values()
-                          .forEach(sub -> sub.tell(new RoomDirectoryUpdated(snapshot, totalCount)));
+    private Behavior<LocalDirectoryCommand> onRequestRoomDirectoryPage(RequestRoomDirectoryPage command) {
+        SessionView view = sessionViews.get(command.userId().longValue());
 
-        if (monitorEventBroadcaster != null) {
-            monitorEventBroadcaster.publishRoomDirectorySnapshot(snapshot);
+        if (view == null) {
+            return this;
         }
+
+        view.page = Math.max(0, command.page());
+        view.size = Math.max(1, command.size());
+        view.cursor = command.afterRoomId() == null ? null : cursorOf(view, command.afterRoomId());
+        sendFullPage(view, pageOf(startOf(view), view.size));
+        return this;
     }
 
     private Behavior<LocalDirectoryCommand> onPostStop(PostStop signal) {
@@ -147,6 +246,267 @@ public class RoomDirectorySubscriberActor extends AbstractBehavior<LocalDirector
         return this;
     }
 
+    private boolean drainPendingEvents(int partition) {
+        List<RoomDirectoryEvent> events = pendingEvents.remove(partition);
+
+        if (events == null) {
+            return true;
+        }
+
+        events.sort(Comparator.comparingLong(RoomDirectoryEvent::version));
+        for (RoomDirectoryEvent event : events) {
+            long version = partitionVersions.get(partition);
+
+            if (event.version() <= version) {
+                continue;
+            }
+            if (event.version() != version + 1) {
+                return false;
+            }
+
+            apply(event);
+            partitionVersions.put(partition, event.version());
+        }
+        return true;
+    }
+
+    private List<RoomDirectoryEvent> pendingEventsOf(int partition) {
+        return pendingEvents.computeIfAbsent(partition, ignored -> new ArrayList<>());
+    }
+
+    private int partitionOf(RoomDirectorySnapshot room) {
+        return RoomDirectoryActor.partitionOf(room.roomId(), partitionCount);
+    }
+
+    // 다른 파티션의 방은 그대로 두고, 스냅샷을 받은 파티션의 방만 정렬해 기존 정렬 목록과 병합한다
+    private void replacePartition(int partition, List<RoomDirectorySnapshot> rooms) {
+        List<RoomDirectorySnapshot> incoming = new ArrayList<>(rooms);
+        List<RoomDirectorySnapshot> merged = new ArrayList<>(sortedRooms.size() + incoming.size());
+        int incomingIndex = 0;
+
+        incoming.sort(ROOM_ORDER);
+        roomsById.values().removeIf(room -> partitionOf(room) == partition);
+        incoming.forEach(room -> roomsById.put(room.roomId(), room));
+        for (RoomDirectorySnapshot room : sortedRooms) {
+            if (partitionOf(room) == partition) {
+                continue;
+            }
+            while (incomingIndex < incoming.size() && ROOM_ORDER.compare(incoming.get(incomingIndex), room) < 0) {
+                merged.add(incoming.get(incomingIndex++));
+            }
+            merged.add(room);
+        }
+        merged.addAll(incoming.subList(incomingIndex, incoming.size()));
+        sortedRooms.clear();
+        sortedRooms.addAll(merged);
+    }
+
+    private int apply(RoomDirectoryEvent event) {
+        if (event.type() == RoomEventType.REMOVED) {
+            RoomDirectorySnapshot removed = roomsById.remove(event.roomId());
+
+            return removed == null ? -1 : removeSorted(removed);
+        }
+
+        RoomDirectorySnapshot added = event.roomSummary();
+        RoomDirectorySnapshot previous = roomsById.put(added.roomId(), added);
+
+        if (previous == null) {
+            return insertSorted(added);
+        }
+        if (previous.equals(added)) {
+            return -1;
+        }
+
+        int removedIndex = removeSorted(previous);
+        int insertedIndex = insertSorted(added);
+
+        return removedIndex < 0 ? insertedIndex : Math.min(removedIndex, insertedIndex);
+    }
+
+    private int insertSorted(RoomDirectorySnapshot room) {
+        int index = Collections.binarySearch(sortedRooms, room, ROOM_ORDER);
+        int insertionIndex = index < 0 ? -index - 1 : index;
+
+        sortedRooms.add(insertionIndex, room);
+        return insertionIndex;
+    }
+
+    private int removeSorted(RoomDirectorySnapshot room) {
+        int index = Collections.binarySearch(sortedRooms, room, ROOM_ORDER);
+
+        if (index >= 0) {
+            sortedRooms.remove(index);
+        }
+        return index;
+    }
+
+    // 창 안에 들어온 변경은 가장 앞선 변경 위치만 남기고 합쳐서, 세션마다 창당 최대 한 번만 내보낸다
+    private void schedulePush(int changedIndex) {
+        if (pendingChangedIndex != NO_PENDING_CHANGE) {
+            coalescedCounter.increment();
+        }
+        pendingChangedIndex = Math.min(pendingChangedIndex, changedIndex);
+        if (timers.isTimerActive(FlushDirectoryPushes.class)) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - lastFlushNanos;
+        long remainingNanos = pushWindow.toNanos() - elapsedNanos;
+
+        if (remainingNanos <= 0L) {
+            flushPendingPushes();
+            return;
+        }
+        timers.startSingleTimer(FlushDirectoryPushes.class, new FlushDirectoryPushes(), Duration.ofNanos(remainingNanos));
+    }
+
+    private void flushPendingPushes() {
+        if (pendingChangedIndex == NO_PENDING_CHANGE) {
+            return;
+        }
+
+        int changedIndex = pendingChangedIndex;
+
+        pendingChangedIndex = NO_PENDING_CHANGE;
+        lastFlushNanos = System.nanoTime();
+        streamVersion++;
+        pushChangedPages(changedIndex);
+    }
+
+    // changedIndex 이전 구간만 보는 세션은 전체 방 개수가 그대로라면 화면이 바뀌지 않으므로 건너뛴다
+    private void pushChangedPages(int changedIndex) {
+        Map<PageKey, List<RoomDirectorySnapshot>> pages = new HashMap<>();
+        Map<PageKey, PageDelta> deltas = new HashMap<>();
+        int totalCount = sortedRooms.size();
+
+        for (SessionView view : sessionViews.values()) {
+            int start = startOf(view);
+            long pageEnd = (long) start + view.size;
+            boolean roomsMayChange = pageEnd > changedIndex;
+
+            if (!roomsMayChange && view.lastTotalCount == totalCount) {
+                continue;
+            }
+
+            List<RoomDirectorySnapshot> rooms = roomsMayChange
+                    ? pages.computeIfAbsent(new PageKey(start, view.size), key -> pageOf(key.start(), key.size()))
+                    : view.lastRooms;
+
+            if (rooms.equals(view.lastRooms) && view.lastTotalCount == totalCount) {
+                continue;
+            }
+
+            PageKey pageKey = new PageKey(start, view.size);
+            PageDelta delta = deltas.get(pageKey);
+
+            if (delta == null || delta.before() != view.lastRooms) {
+                delta = new PageDelta(view.lastRooms, diff(view.lastRooms, rooms));
+                deltas.put(pageKey, delta);
+            }
+
+            sendDelta(view, rooms, delta.changes());
+            pushedCounter.increment();
+        }
+
+        publishRoomDirectorySnapshot();
+    }
+
+    private List<RoomDirectoryChange> diff(List<RoomDirectorySnapshot> before, List<RoomDirectorySnapshot> after) {
+        Map<Long, RoomDirectorySnapshot> previousRooms = new HashMap<>();
+        List<RoomDirectoryChange> changes = new ArrayList<>();
+
+        before.forEach(room -> previousRooms.put(room.roomId(), room));
+        for (RoomDirectorySnapshot room : after) {
+            RoomDirectorySnapshot previous = previousRooms.remove(room.roomId());
+
+            if (previous == null) {
+                changes.add(new RoomDirectoryChange(RoomEventType.ADDED, room.roomId(), room));
+            } else if (!previous.equals(room)) {
+                changes.add(new RoomDirectoryChange(RoomEventType.UPDATED, room.roomId(), room));
+            }
+        }
+        previousRooms.keySet()
+                     .forEach(roomId -> changes.add(new RoomDirectoryChange(RoomEventType.REMOVED, roomId, null)));
+        return List.copyOf(changes);
+    }
+
+    private void sendFullPage(SessionView view, List<RoomDirectorySnapshot> rooms) {
+        int totalCount = sortedRooms.size();
+
+        view.lastRooms = rooms;
+        view.lastTotalCount = totalCount;
+        view.lastVersion = streamVersion;
+        view.session.tell(new RoomDirectoryUpdated(rooms, totalCount, streamVersion));
+    }
+
+    private void sendDelta(SessionView view, List<RoomDirectorySnapshot> rooms, List<RoomDirectoryChange> changes) {
+        int totalCount = sortedRooms.size();
+        long previousVersion = view.lastVersion;
+
+        view.lastRooms = rooms;
+        view.lastTotalCount = totalCount;
+        view.lastVersion = streamVersion;
+        view.session.tell(new RoomDirectoryDelta(streamVersion, previousVersion, changes, totalCount));
+    }
+
+    private List<RoomDirectorySnapshot> pageOf(int start, int size) {
+        if (start >= sortedRooms.size()) {
+            return List.of();
+        }
+
+        int to = (int) Math.min((long) start + size, sortedRooms.size());
+
+        return List.copyOf(sortedRooms.subList(start, to));
+    }
+
+    // 커서가 있으면 커서 방 바로 다음 위치를 이진 탐색으로 찾고, 없으면 페이지 번호로 시작 위치를 정한다
+    // 커서 방이 나중에 사라져도 자리를 찾을 수 있도록 마지막으로 본 커서 방 정보를 남겨 둔다
+    private int startOf(SessionView view) {
+        if (view.cursor == null) {
+            return (int) Math.min((long) view.page * view.size, sortedRooms.size());
+        }
+
+        RoomDirectorySnapshot current = roomsById.get(view.cursor.roomId());
+        RoomDirectorySnapshot cursor = current == null ? view.cursor : current;
+
+        view.cursor = cursor;
+        int index = Collections.binarySearch(sortedRooms, cursor, ROOM_ORDER);
+
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // 커서 방이 이미 사라졌다면 세션이 마지막으로 본 정보로 그 방이 있던 자리를 찾는다
+    private RoomDirectorySnapshot cursorOf(SessionView view, Long afterRoomId) {
+        RoomDirectorySnapshot current = roomsById.get(afterRoomId);
+
+        if (current != null) {
+            return current;
+        }
+        return view.lastRooms.stream()
+                             .filter(room -> room.roomId().equals(afterRoomId))
+                             .findFirst()
+                             .orElseGet(() -> new RoomDirectorySnapshot(afterRoomId, null, 0, 0, null, false));
+    }
+
+    private void resync(int partition) {
+        partitionVersions.remove(partition);
+        requestSnapshot(partition);
+    }
+
+    private void requestSnapshot(int partition) {
+        RetryPartitionSnapshot retry = new RetryPartitionSnapshot(partition);
+
+        roomDirectory.tell(new QueryPartitionSnapshot(partition, snapshotAdapter, roomEventAdapter));
+        timers.startSingleTimer(retry, retry, SNAPSHOT_RETRY_INTERVAL);
+    }
+
+    private void publishRoomDirectorySnapshot() {
+        if (monitorEventBroadcaster != null) {
+            monitorEventBroadcaster.publishRoomDirectorySnapshot(List.copyOf(sortedRooms));
+        }
+    }
+
     private void publishStoppedActorEvent() {
         if (monitorEventBroadcaster != null) {
             monitorEventBroadcaster.publishActorEvent(
@@ -158,19 +518,41 @@ public class RoomDirectorySubscriberActor extends AbstractBehavior<LocalDirector
         }
     }
 
-    private void requestPage() {
-        roomDirectory.tell(new QueryRooms(currentPage, pageSize, roomDirectoryQueryAdapter));
+    private static class SessionView {
+
+        private ActorRef<ClientSessionCommand> session;
+        private int page;
+        private int size;
+        private RoomDirectorySnapshot cursor;
+        private List<RoomDirectorySnapshot> lastRooms = List.of();
+        private int lastTotalCount;
+        private long lastVersion;
+
+        SessionView(int page, int size) {
+            this.page = page;
+            this.size = size;
+        }
     }
 
+    private record PageKey(int start, int size) { }
+
+    private record PageDelta(List<RoomDirectorySnapshot> before, List<RoomDirectoryChange> changes) { }
+
     public interface LocalDirectoryCommand extends CborSerializable { }
 
+    public record RoomDirectoryChange(RoomEventType type, Long roomId, RoomDirectorySnapshot room) implements CborSerializable { }
+
     public record RegisterSession(Long userId, ActorRef<ClientSessionCommand> session) implements LocalDirectoryCommand { }
 
     public record UnregisterSession(Long userId) implements LocalDirectoryCommand { }
 
     private record WrappedRoomEvent(RoomDirectoryEvent event) implements LocalDirectoryCommand { }
 
-    private record WrappedRoomDirectoryQueryResult(QueryRoomsResult response) implements LocalDirectoryCommand { }
+    private record WrappedDirectorySnapshot(DirectorySnapshotResult result) implements LocalDirectoryCommand { }
+
+    private record RetryPartitionSnapshot(int partition) implements LocalDirectoryCommand { }
+
+    private record FlushDirectoryPushes() implements LocalDirectoryCommand { }
 
-    public record RequestRoomDirectoryPage(int page, int size) implements LocalDirectoryCommand { }
+    public record RequestRoomDirectoryPage(Long userId, int page, int size, Long afterRoomId) implements LocalDirectoryCommand { }
 }
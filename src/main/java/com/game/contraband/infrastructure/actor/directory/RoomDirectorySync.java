@@ -3,25 +3,37 @@ package com.game.contraband.infrastructure.actor.directory;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.pekko.actor.typed.ActorRef;
 
 public class RoomDirectorySync {
 
     private final ActorRef<RoomDirectoryCommand> roomDirectory;
+    private final Map<Long, RoomDirectorySnapshot> registered = new HashMap<>();
 
     public RoomDirectorySync(ActorRef<RoomDirectoryCommand> roomDirectory) {
         this.roomDirectory = roomDirectory;
     }
 
     public void register(RoomDirectorySnapshot snapshot) {
+        registered.put(snapshot.roomId(), snapshot);
         if (roomDirectory != null) {
             roomDirectory.tell(new RoomDirectoryActor.SyncRoomRegistered(snapshot));
         }
     }
 
     public void remove(long roomId) {
+        registered.remove(roomId);
         if (roomDirectory != null) {
             roomDirectory.tell(new RemoveRoom(roomId));
         }
     }
+
+    // 방 목록 파티션은 메모리에만 있어 다른 노드에서 다시 시작되면 비어 있으므로, 맡은 방을 주기적으로 다시 등록한다
+    public void resync() {
+        if (roomDirectory != null) {
+            registered.values().forEach(snapshot -> roomDirectory.tell(new RoomDirectoryActor.SyncRoomRegistered(snapshot)));
+        }
+    }
 }
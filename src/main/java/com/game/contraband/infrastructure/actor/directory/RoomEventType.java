@@ -4,5 +4,6 @@ import com.game.contraband.global.actor.CborSerializable;
 
 public enum RoomEventType implements CborSerializable {
     ADDED,
-    REMOVED
+    REMOVED,
+    UPDATED
 }
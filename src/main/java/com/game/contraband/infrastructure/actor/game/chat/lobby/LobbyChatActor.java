@@ -3,11 +3,11 @@ package com.game.contraband.infrastructure.actor.game.chat.lobby;
 import com.game.contraband.domain.monitor.ChatBlacklistRepository;
 import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateKickedMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateLeftMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateNewMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateWelcomeMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateKickedMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateLeftMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateNewMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
 import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
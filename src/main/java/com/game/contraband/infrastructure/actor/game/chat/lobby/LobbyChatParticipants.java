@@ -1,7 +1,7 @@
 package com.game.contraband.infrastructure.actor.game.chat.lobby;
 
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateMaskedChatBatch;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateMaskedChatBatch;
 import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
 import java.util.HashMap;
 import java.util.List;
@@ -6,20 +6,21 @@ import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearLobbyChat;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.ClearLobby;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateHostDeletedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateJoinedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateKicked;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateLeftLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateLobbyDeleted;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerJoinedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerKicked;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerLeftLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleReady;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleTeam;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.ClearLobby;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.LobbyClosed;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateHostDeletedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateJoinedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateKicked;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLeftLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLobbyDeleted;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerJoinedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerKicked;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerLeftLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleTeam;
 import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.JoinMessage;
 import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.KickedMessage;
 import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.LeftMessage;
@@ -27,6 +28,7 @@ import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.L
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameActor;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.SyncRoomStarted;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
 import com.game.contraband.domain.monitor.ChatBlacklistRepository;
@@ -56,42 +58,97 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
     ) {
         return Behaviors.setup(
                 context -> {
-                    ActorRef<ClientSessionCommand> hostSession = sessionRegistry.get(lobbyState.getHostId());
-                    ActorRef<LobbyChatCommand> lobbyChat = context.spawn(
-                            LobbyChatActor.create(
-                                    lobbyState.getRoomId(),
-                                    lobbyState.getEntityId(),
-                                    hostSession,
-                                    lobbyState.getHostId(),
-                                    chatMessageEventPublisher,
-                                    chatBlacklistRepository
-                            ),
-                            lobbyChatActorName
-                    );
-                    LobbyExternalGateway messageEndpoints = new LobbyExternalGateway(
-                            lobbyChat,
+                    LobbyActor lobbyActor = assemble(
+                            context,
+                            lobbyState,
+                            sessionRegistry,
                             parent,
                             chatMessageEventPublisher,
                             gameLifecycleEventPublisher,
-                            chatBlacklistRepository
+                            chatBlacklistRepository,
+                            lobbyChatActorName
                     );
-                    LobbyChatRelay chatRelay = new LobbyChatRelay(messageEndpoints);
-                    LobbyLifecycleCoordinator lifecycleCoordinator =
-                            new LobbyLifecycleCoordinator(lobbyState, sessionRegistry, messageEndpoints);
-                    lifecycleCoordinator.initializeHost(context, chatRelay);
 
-                    return new LobbyActor(
+                    lobbyActor.lifecycleCoordinator.initializeHost(context, lobbyActor.chatRelay);
+                    return lobbyActor;
+                }
+        );
+    }
+
+    // 게임 매니저가 다른 노드에서 다시 뜨면 시작된 방의 로비를 세우고, 게임 액터는 게임 기록으로 진행 중이던 게임을 이어간다
+    public static Behavior<LobbyCommand> resumeGame(
+            LobbyRuntimeState lobbyState,
+            LobbyClientSessionRegistry sessionRegistry,
+            ActorRef<GameManagerCommand> parent,
+            ChatMessageEventPublisher chatMessageEventPublisher,
+            GameLifecycleEventPublisher gameLifecycleEventPublisher,
+            ChatBlacklistRepository chatBlacklistRepository,
+            String lobbyChatActorName
+    ) {
+        return Behaviors.setup(
+                context -> {
+                    LobbyActor lobbyActor = assemble(
                             context,
                             lobbyState,
                             sessionRegistry,
-                            messageEndpoints,
-                            chatRelay,
-                            lifecycleCoordinator
+                            parent,
+                            chatMessageEventPublisher,
+                            gameLifecycleEventPublisher,
+                            chatBlacklistRepository,
+                            lobbyChatActorName
                     );
+
+                    lobbyActor.spawnGame(lobbyState.getLobby().currentGame());
+                    lobbyActor.chatRelay.stopChat();
+                    sessionRegistry.forEachSession(target -> target.tell(new UpdateLobby(context.getSelf())));
+                    return lobbyActor;
                 }
         );
     }
 
+    private static LobbyActor assemble(
+            ActorContext<LobbyCommand> context,
+            LobbyRuntimeState lobbyState,
+            LobbyClientSessionRegistry sessionRegistry,
+            ActorRef<GameManagerCommand> parent,
+            ChatMessageEventPublisher chatMessageEventPublisher,
+            GameLifecycleEventPublisher gameLifecycleEventPublisher,
+            ChatBlacklistRepository chatBlacklistRepository,
+            String lobbyChatActorName
+    ) {
+        ActorRef<ClientSessionCommand> hostSession = sessionRegistry.get(lobbyState.getHostId());
+        ActorRef<LobbyChatCommand> lobbyChat = context.spawn(
+                LobbyChatActor.create(
+                        lobbyState.getRoomId(),
+                        lobbyState.getEntityId(),
+                        hostSession,
+                        lobbyState.getHostId(),
+                        chatMessageEventPublisher,
+                        chatBlacklistRepository
+                ),
+                lobbyChatActorName
+        );
+        LobbyExternalGateway messageEndpoints = new LobbyExternalGateway(
+                lobbyChat,
+                parent,
+                chatMessageEventPublisher,
+                gameLifecycleEventPublisher,
+                chatBlacklistRepository
+        );
+        LobbyChatRelay chatRelay = new LobbyChatRelay(messageEndpoints);
+        LobbyLifecycleCoordinator lifecycleCoordinator =
+                new LobbyLifecycleCoordinator(lobbyState, sessionRegistry, messageEndpoints);
+
+        return new LobbyActor(
+                context,
+                lobbyState,
+                sessionRegistry,
+                messageEndpoints,
+                chatRelay,
+                lifecycleCoordinator
+        );
+    }
+
     private LobbyActor(
             ActorContext<LobbyCommand> context,
             LobbyRuntimeState lobbyState,
@@ -127,6 +184,7 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
                                   .onMessage(RequestDeleteLobby.class, this::onDeleteLobby)
                                   .onMessage(StartGame.class, this::onStartGame)
                                   .onMessage(EndGame.class, this::onEndGame)
+                                  .onMessage(CloseLobbyForHandOff.class, this::onCloseLobbyForHandOff)
                                   .onMessage(ReSyncPlayer.class, this::onReSyncPlayer)
                                   .build();
     }
@@ -148,14 +206,12 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
 
         int currentPlayersIncludingJoiner = sessionRegistry.size() + 1;
 
-        sessionRegistry.forEachSession(
-                targetClientSession -> targetClientSession.tell(
-                        new PropagateOtherPlayerJoinedLobby(
-                                playerProfile.getPlayerId(),
-                                playerProfile.getName(),
-                                playerProfile.getTeamRole(),
-                                currentPlayersIncludingJoiner
-                        )
+        sessionRegistry.tellAll(
+                new PropagateOtherPlayerJoinedLobby(
+                        playerProfile.getPlayerId(),
+                        playerProfile.getName(),
+                        playerProfile.getTeamRole(),
+                        currentPlayersIncludingJoiner
                 )
         );
         List<LobbyParticipant> lobbyParticipants = getLobbyParticipants();
@@ -175,6 +231,7 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
         sessionRegistry.add(command.playerId(), command.clientSession());
         chatRelay.syncLobbyChat(command.clientSession());
         chatRelay.sendToChat(new JoinMessage(command.clientSession(), command.playerId(), command.playerName()));
+        lifecycleCoordinator.notifyRoomPlayerCount(gameStarted);
         return this;
     }
 
@@ -222,17 +279,15 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
         List<LobbyParticipant> lobbyParticipants = getLobbyParticipants();
         int currentCount = sessionRegistry.size();
 
-        sessionRegistry.forEachSession(
-                target -> target.tell(
-                        new PropagateJoinedLobby(
-                                getContext().getSelf(),
-                                lobbyState.getRoomId(),
-                                lobbyState.getHostId(),
-                                lobbyState.lobbyMaxPlayerCount(),
-                                currentCount,
-                                lobbyState.lobbyName(),
-                                lobbyParticipants
-                        )
+        sessionRegistry.tellAll(
+                new PropagateJoinedLobby(
+                        getContext().getSelf(),
+                        lobbyState.getRoomId(),
+                        lobbyState.getHostId(),
+                        lobbyState.lobbyMaxPlayerCount(),
+                        currentCount,
+                        lobbyState.lobbyName(),
+                        lobbyParticipants
                 )
         );
 
@@ -254,11 +309,7 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
 
         boolean toggleReadyState = lobbyState.readyStateOf(command.playerId());
 
-        sessionRegistry.forEachSession(
-                targetClientSession -> targetClientSession.tell(
-                        new PropagateToggleReady(command.playerId(), toggleReadyState)
-                )
-        );
+        sessionRegistry.tellAll(new PropagateToggleReady(command.playerId(), toggleReadyState));
         return this;
     }
 
@@ -277,13 +328,11 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
 
         PlayerProfile playerProfile = lobbyState.findPlayerProfile(command.playerId());
 
-        sessionRegistry.forEachSession(
-                targetClientSession -> targetClientSession.tell(
-                        new PropagateToggleTeam(
-                                command.playerId(),
-                                playerProfile.getName(),
-                                playerProfile.getTeamRole()
-                        )
+        sessionRegistry.tellAll(
+                new PropagateToggleTeam(
+                        command.playerId(),
+                        playerProfile.getName(),
+                        playerProfile.getTeamRole()
                 )
         );
         return this;
@@ -310,12 +359,7 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
             clientSession.tell(new HandleExceptionMessage(resolveLobbyExceptionCode(ex)));
         }
 
-        sessionRegistry.forEachSession(
-                targetClientSession ->
-                        targetClientSession.tell(
-                                new PropagateOtherPlayerLeftLobby(command.playerId())
-                        )
-        );
+        sessionRegistry.tellAll(new PropagateOtherPlayerLeftLobby(command.playerId()));
         lifecycleCoordinator.notifyRoomPlayerCount(gameStarted);
         return this;
     }
@@ -338,12 +382,7 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
                             messageEndpoints.sendToLobbyChat(
                                     new KickedMessage(command.targetPlayerId(), kickContext.profile().getName())
                             );
-                            sessionRegistry.forEachSession(
-                                    targetClientSession ->
-                                            targetClientSession.tell(
-                                                    new PropagateOtherPlayerKicked(command.targetPlayerId())
-                                            )
-                            );
+                            sessionRegistry.tellAll(new PropagateOtherPlayerKicked(command.targetPlayerId()));
                             lifecycleCoordinator.notifyRoomPlayerCount(gameStarted);
                         }
                 );
@@ -391,25 +430,21 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
         try {
             ContrabandGame contrabandGame = lobbyState.startGame(command.totalRounds(), command.executorId());
 
-            getContext().spawn(
-                    ContrabandGameActor.create(
-                            lobbyState.getRoomId(),
-                            lobbyState.getEntityId(),
-                            contrabandGame,
-                            getContext().getSelf(),
-                            sessionRegistry.asMapView(),
-                            messageEndpoints.chatMessageEventPublisher(),
-                            messageEndpoints.gameLifecycleEventPublisher(),
-                            messageEndpoints.chatBlacklistRepository()
-                    ),
-                    "contrabandGame:" + lobbyState.getRoomId()
-            );
-
-            gameStarted = true;
+            spawnGame(contrabandGame);
 
             messageEndpoints.publishGameStarted(lobbyState.getEntityId(), lobbyState.getRoomId());
 
-            messageEndpoints.notifyParent(new SyncRoomStarted(lobbyState.getRoomId(), lobbyState.lobbyName(), lobbyState.lobbyMaxPlayerCount(), sessionRegistry.size()));
+            messageEndpoints.notifyParent(
+                    new SyncRoomStarted(
+                            lobbyState.getRoomId(),
+                            lobbyState.lobbyName(),
+                            lobbyState.lobbyMaxPlayerCount(),
+                            sessionRegistry.size(),
+                            lobbyState.getHostId(),
+                            MatchCreated.from(contrabandGame),
+                            sessionRegistry.asMapView()
+                    )
+            );
             sessionRegistry.forEachSession(target -> target.tell(new ClearLobbyChat()));
             chatRelay.stopChat();
         } catch (IllegalArgumentException | IllegalStateException ex) {
@@ -419,6 +454,23 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
         return this;
     }
 
+    private void spawnGame(ContrabandGame contrabandGame) {
+        getContext().spawn(
+                ContrabandGameActor.create(
+                        lobbyState.getRoomId(),
+                        lobbyState.getEntityId(),
+                        contrabandGame,
+                        getContext().getSelf(),
+                        sessionRegistry.asMapView(),
+                        messageEndpoints.chatMessageEventPublisher(),
+                        messageEndpoints.gameLifecycleEventPublisher(),
+                        messageEndpoints.chatBlacklistRepository()
+                ),
+                "contrabandGame:" + lobbyState.getRoomId()
+        );
+        gameStarted = true;
+    }
+
     private ExceptionCode resolveLobbyExceptionCode(Exception ex) {
         String message = ex.getMessage();
 
@@ -441,12 +493,24 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
         return Behaviors.stopped();
     }
 
+    // 샤드 핸드오프로 게임 매니저가 옮겨가면 시작하지 않은 로비는 참가자 세션에 방이 닫혔음을 알리고 정리한다
+    private Behavior<LobbyCommand> onCloseLobbyForHandOff(CloseLobbyForHandOff command) {
+        if (gameStarted) {
+            return this;
+        }
+
+        sessionRegistry.forEachSession(target -> target.tell(new LobbyClosed(getContext().getSelf())));
+        lifecycleCoordinator.notifyDeleteLobby();
+        return Behaviors.stopped();
+    }
+
     private Behavior<LobbyCommand> onReSyncPlayer(ReSyncPlayer command) {
         ActorRef<ClientSessionCommand> targetSession = sessionRegistry.get(command.playerId());
 
         if (targetSession == null && command.clientSession() != null) {
             targetSession = command.clientSession();
             sessionRegistry.add(command.playerId(), targetSession);
+            lifecycleCoordinator.notifyRoomPlayerCount(gameStarted);
         }
 
         if (targetSession == null) {
@@ -502,4 +566,6 @@ public class LobbyActor extends AbstractBehavior<LobbyCommand> {
     public record ReSyncPlayer(Long playerId, ActorRef<ClientSessionCommand> clientSession) implements LobbyCommand { }
 
     public record EndGame() implements LobbyCommand { }
+
+    public record CloseLobbyForHandOff() implements LobbyCommand { }
 }
@@ -1,29 +1,32 @@
 package com.game.contraband.infrastructure.actor.game.engine.lobby;
 
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.apache.pekko.actor.typed.ActorRef;
 
 public class LobbyClientSessionRegistry {
 
-    private final Map<Long, ActorRef<ClientSessionCommand>> sessions;
+    // 로비마다 하나씩 생기므로 플레이어 ID를 박싱하지 않는 맵으로 항목당 힙을 줄인다
+    private final Long2ObjectHashMap<ActorRef<ClientSessionCommand>> sessions = new Long2ObjectHashMap<>();
 
     public LobbyClientSessionRegistry(Map<Long, ActorRef<ClientSessionCommand>> seed) {
-        this.sessions = seed == null ? new HashMap<>() : new HashMap<>(seed);
+        if (seed != null) {
+            sessions.putAll(seed);
+        }
     }
 
     public ActorRef<ClientSessionCommand> get(Long playerId) {
-        return sessions.get(playerId);
+        return sessions.get(playerId.longValue());
     }
 
     public ActorRef<ClientSessionCommand> add(Long playerId, ActorRef<ClientSessionCommand> session) {
-        return sessions.put(playerId, session);
+        return sessions.put(playerId.longValue(), session);
     }
 
     public ActorRef<ClientSessionCommand> remove(Long playerId) {
-        return sessions.remove(playerId);
+        return sessions.remove(playerId.longValue());
     }
 
     public int size() {
@@ -39,6 +42,12 @@ public class LobbyClientSessionRegistry {
                 .forEach(action);
     }
 
+    public void tellAll(ClientSessionCommand command) {
+        for (ActorRef<ClientSessionCommand> session : sessions.values()) {
+            session.tell(command);
+        }
+    }
+
     public Map<Long, ActorRef<ClientSessionCommand>> asMapView() {
         return Map.copyOf(sessions);
     }
@@ -12,6 +12,7 @@ import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.Lob
 import com.game.contraband.infrastructure.actor.manage.CoordinatorGateway;
 import com.game.contraband.infrastructure.actor.manage.GameLifecycleNotifier;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.GameManagerCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.StartedRoom;
 import com.game.contraband.infrastructure.actor.manage.RoomRegistry;
 import com.game.contraband.infrastructure.actor.sequence.SnowflakeSequenceGenerator;
 import java.util.HashMap;
@@ -68,6 +69,33 @@ public class LobbyCreationHandler {
         );
     }
 
+    // 게임을 시작한 채 기록된 방은 같은 방 번호와 참가자 세션으로 진행 중인 로비를 다시 세운다
+    public LobbyCreationPlan prepareResume(StartedRoom room, ChatMessageEventPublisher chatMessageEventPublisher) {
+        Lobby lobby = Lobby.resume(
+                room.roomId(),
+                room.lobbyName(),
+                room.hostId(),
+                room.maxPlayerCount(),
+                room.match().toNotStartedGame()
+        );
+        LobbyClientSessionRegistry sessionRegistry = new LobbyClientSessionRegistry(room.clientSessions());
+        LobbyRuntimeState lobbyState = new LobbyRuntimeState(room.roomId(), room.hostId(), entityId, lobby);
+        HostContext hostContext = new HostContext(
+                room.hostId(),
+                sessionRegistry.get(room.hostId()),
+                chatMessageEventPublisher
+        );
+
+        return new LobbyCreationPlan(
+                room.roomId(),
+                room.lobbyName(),
+                room.maxPlayerCount(),
+                hostContext,
+                sessionRegistry,
+                lobbyState
+        );
+    }
+
     private String resolveLobbyName(String lobbyName, long roomId) {
         if (lobbyName == null || lobbyName.isBlank()) {
             return "게임방" + roomId;
@@ -93,6 +121,24 @@ public class LobbyCreationHandler {
         return new LobbyActorAssembly(behavior);
     }
 
+    public LobbyActorAssembly buildResumedLobbyActor(
+            LobbyCreationPlan plan,
+            ActorRef<GameManagerCommand> parent,
+            GameLifecycleNotifier lifecycleNotifier
+    ) {
+        Behavior<LobbyCommand> behavior = LobbyActor.resumeGame(
+                plan.lobbyState(),
+                plan.sessionRegistry(),
+                parent,
+                plan.host().chatMessageEventPublisher(),
+                lifecycleNotifier.publisher(),
+                chatBlacklistRepository,
+                plan.lobbyChatActorName()
+        );
+
+        return new LobbyActorAssembly(behavior);
+    }
+
     public void completeCreation(
             LobbyCreationPlan plan,
             ActorRef<LobbyCommand> lobbyActor,
@@ -100,6 +146,28 @@ public class LobbyCreationHandler {
             RoomDirectorySync roomDirectorySync,
             CoordinatorGateway coordinatorGateway,
             GameLifecycleNotifier lifecycleNotifier
+    ) {
+        register(plan, lobbyActor, roomRegistry, roomDirectorySync, coordinatorGateway, false);
+        lifecycleNotifier.roomCreated(plan.roomId());
+    }
+
+    public void completeResume(
+            LobbyCreationPlan plan,
+            ActorRef<LobbyCommand> lobbyActor,
+            RoomRegistry roomRegistry,
+            RoomDirectorySync roomDirectorySync,
+            CoordinatorGateway coordinatorGateway
+    ) {
+        register(plan, lobbyActor, roomRegistry, roomDirectorySync, coordinatorGateway, true);
+    }
+
+    private void register(
+            LobbyCreationPlan plan,
+            ActorRef<LobbyCommand> lobbyActor,
+            RoomRegistry roomRegistry,
+            RoomDirectorySync roomDirectorySync,
+            CoordinatorGateway coordinatorGateway,
+            boolean gameStarted
     ) {
         roomRegistry.add(plan.roomId(), lobbyActor);
         roomDirectorySync.register(
@@ -109,11 +177,10 @@ public class LobbyCreationHandler {
                         plan.maxPlayerCount(),
                         plan.sessionRegistry().size(),
                         entityId,
-                        false
+                        gameStarted
                 )
         );
         coordinatorGateway.registerRoom(plan.roomId(), entityId);
-        lifecycleNotifier.roomCreated(plan.roomId());
     }
 
     public record LobbyCreationPlan(
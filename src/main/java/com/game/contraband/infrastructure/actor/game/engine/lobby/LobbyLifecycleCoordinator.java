@@ -3,10 +3,10 @@ package com.game.contraband.infrastructure.actor.game.engine.lobby;
 import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateWelcomeMessage;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreatedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreatedLobby;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.SyncDeleteLobby;
@@ -73,7 +73,8 @@ public class LobbyLifecycleCoordinator {
                         lobbyState.lobbyName(),
                         lobbyState.lobbyMaxPlayerCount(),
                         sessionRegistry.size(),
-                        gameStarted
+                        gameStarted,
+                        sessionRegistry.asMapView()
                 )
         );
     }
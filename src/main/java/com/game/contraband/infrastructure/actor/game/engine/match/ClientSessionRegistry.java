@@ -4,9 +4,9 @@ import com.game.contraband.domain.game.engine.match.ContrabandGame;
 import com.game.contraband.domain.game.player.Player;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.SyncContrabandGameChat;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateContrabandGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.SyncContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateContrabandGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ContrabandGameChatCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
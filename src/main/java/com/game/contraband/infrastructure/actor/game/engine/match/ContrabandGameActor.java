@@ -1,7 +1,9 @@
 package com.game.contraband.infrastructure.actor.game.engine.match;
 
 import com.game.contraband.domain.game.engine.match.ContrabandGame;
+import com.game.contraband.domain.game.round.Round;
 import com.game.contraband.domain.monitor.ChatBlacklistRepository;
+import com.game.contraband.global.actor.ActorPersistence;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor;
@@ -10,6 +12,7 @@ import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPu
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.GameCleanup;
+import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ResumeRound;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.RoundCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.RoundReady;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.SelectionCommand;
@@ -17,6 +20,13 @@ import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGame
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.StartSelectedRound;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.SyncReconnectedPlayer;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.RoundReadySelection;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.MatchJournalCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.QueryMatchHistory;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.RecordMatchEvent;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchHistory;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEventRecorder;
 import com.game.contraband.infrastructure.actor.game.engine.match.round.ContrabandRoundActor;
 import com.game.contraband.infrastructure.actor.game.engine.match.round.RoundChatCoordinator;
 import com.game.contraband.infrastructure.actor.game.engine.match.round.RoundClientMessenger;
@@ -25,7 +35,9 @@ import com.game.contraband.infrastructure.actor.game.engine.match.selection.Cont
 import com.game.contraband.infrastructure.actor.game.engine.match.selection.SelectionChatCoordinator;
 import com.game.contraband.infrastructure.actor.game.engine.match.selection.SelectionClientMessenger;
 import com.game.contraband.infrastructure.actor.game.engine.match.selection.SelectionParticipants;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
@@ -35,6 +47,9 @@ import org.apache.pekko.actor.typed.javadsl.Receive;
 
 public class ContrabandGameActor extends AbstractBehavior<ContrabandGameCommand> {
 
+    private static final int RECOVERY_STASH_CAPACITY = 1_000;
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofSeconds(10L);
+
     private final ActorRef<ContrabandGameCommand> selectionActor;
     private final ActorRef<ContrabandGameCommand> roundActor;
     private RoundReadySelection pendingRound;
@@ -49,70 +64,192 @@ public class ContrabandGameActor extends AbstractBehavior<ContrabandGameCommand>
             GameLifecycleEventPublisher gameLifecycleEventPublisher,
             ChatBlacklistRepository chatBlacklistRepository
     ) {
+        GameDependencies dependencies = new GameDependencies(
+                roomId,
+                entityId,
+                parent,
+                clientSessions,
+                chatMessageEventPublisher,
+                gameLifecycleEventPublisher,
+                chatBlacklistRepository
+        );
+
         return Behaviors.setup(
                 context -> {
-                    ClientSessionRegistry clientSessionRegistry = ClientSessionRegistry.create(
-                            contrabandGame,
-                            clientSessions,
-                            context,
-                            roomId,
-                            entityId
-                    );
-                    ActorRef<ContrabandGameChatCommand> gameChat = context.spawn(
-                            ContrabandGameChatActor.create(
-                                    roomId,
-                                    entityId,
-                                    chatMessageEventPublisher,
-                                    clientSessionRegistry.getSessionsByTeam(),
-                                    chatBlacklistRepository
-                            ),
-                            "game-chat-" + roomId
-                    );
-
-                    clientSessionRegistry.syncGameChatForAll(gameChat);
-
-                    RoundGameContext roundGameContext = new RoundGameContext(contrabandGame);
-                    RoundClientMessenger roundClientMessenger = new RoundClientMessenger(
-                            clientSessionRegistry,
-                            parent,
-                            context.getSelf(),
-                            gameLifecycleEventPublisher,
-                            roomId,
-                            entityId
-                    );
-                    RoundChatCoordinator roundChatCoordinator = new RoundChatCoordinator(gameChat, clientSessionRegistry);
-                    SelectionParticipants participants = new SelectionParticipants(
-                            contrabandGame.smugglerPlayers(),
-                            contrabandGame.inspectorPlayers(),
-                            contrabandGame.smugglerTeamSize(),
-                            contrabandGame.inspectorTeamSize()
-                    );
-                    ActorRef<ContrabandGameCommand> roundActor = context.spawn(
-                            ContrabandRoundActor.create(
-                                    roomId,
-                                    entityId,
-                                    roundGameContext,
-                                    roundClientMessenger,
-                                    roundChatCoordinator
-                            ),
-                            "contraband-round-" + roomId
-                    );
-
-                    ActorRef<ContrabandGameCommand> selectionActor = context.spawn(
-                            ContrabandSelectionActor.create(
-                                    new SelectionClientMessenger(clientSessionRegistry),
-                                    new SelectionChatCoordinator(gameChat),
-                                    participants,
-                                    context.getSelf()
-                            ),
-                            "contraband-selection-" + roomId
-                    );
-
-                    return new ContrabandGameActor(context, roundActor, selectionActor);
+                    if (!ActorPersistence.isEnabled(context.getSystem())) {
+                        return assemble(context, dependencies, contrabandGame, MatchEventRecorder.NONE, false);
+                    }
+
+                    return recover(context, dependencies, contrabandGame);
                 }
         );
     }
 
+    // 같은 방의 게임 기록을 다 읽을 때까지 들어온 명령은 보관해 두었다가, 게임을 조립한 뒤 순서대로 처리한다
+    private static Behavior<ContrabandGameCommand> recover(
+            ActorContext<ContrabandGameCommand> context,
+            GameDependencies dependencies,
+            ContrabandGame contrabandGame
+    ) {
+        ActorRef<MatchJournalCommand> journal = context.spawn(
+                ContrabandGameJournalActor.create(dependencies.roomId()),
+                "contraband-game-journal-" + dependencies.roomId()
+        );
+
+        context.ask(
+                MatchHistory.class,
+                journal,
+                RECOVERY_TIMEOUT,
+                QueryMatchHistory::new,
+                RecoveredMatchHistory::new
+        );
+        return Behaviors.withStash(
+                RECOVERY_STASH_CAPACITY,
+                stash -> Behaviors.receive(ContrabandGameCommand.class)
+                                  .onMessage(
+                                          RecoveredMatchHistory.class,
+                                          recovered -> stash.unstashAll(
+                                                  resume(context, dependencies, contrabandGame, journal, recovered)
+                                          )
+                                  )
+                                  .onMessage(
+                                          ContrabandGameCommand.class,
+                                          command -> {
+                                              stash.stash(command);
+                                              return Behaviors.same();
+                                          }
+                                  )
+                                  .build()
+        );
+    }
+
+    // 끝나지 않은 같은 구성의 게임이 기록돼 있으면 스냅샷과 이후 이벤트로 복원한 게임을 이어서 진행한다
+    private static Behavior<ContrabandGameCommand> resume(
+            ActorContext<ContrabandGameCommand> context,
+            GameDependencies dependencies,
+            ContrabandGame contrabandGame,
+            ActorRef<MatchJournalCommand> journal,
+            RecoveredMatchHistory recovered
+    ) {
+        MatchEventRecorder recorder = event -> journal.tell(new RecordMatchEvent(event));
+        MatchCreated created = MatchCreated.from(contrabandGame);
+        Optional<ContrabandGame> resumedGame = Optional.ofNullable(recovered.history())
+                                                       .flatMap(history -> history.resumableGameOf(created));
+
+        if (resumedGame.isPresent()) {
+            return assemble(context, dependencies, resumedGame.get(), recorder, true);
+        }
+
+        recorder.record(created);
+        return assemble(context, dependencies, contrabandGame, recorder, false);
+    }
+
+    private static Behavior<ContrabandGameCommand> assemble(
+            ActorContext<ContrabandGameCommand> context,
+            GameDependencies dependencies,
+            ContrabandGame contrabandGame,
+            MatchEventRecorder recorder,
+            boolean resumed
+    ) {
+        Long roomId = dependencies.roomId();
+        String entityId = dependencies.entityId();
+        ClientSessionRegistry clientSessionRegistry = ClientSessionRegistry.create(
+                contrabandGame,
+                dependencies.clientSessions(),
+                context,
+                roomId,
+                entityId
+        );
+        ActorRef<ContrabandGameChatCommand> gameChat = context.spawn(
+                ContrabandGameChatActor.create(
+                        roomId,
+                        entityId,
+                        dependencies.chatMessageEventPublisher(),
+                        clientSessionRegistry.getSessionsByTeam(),
+                        dependencies.chatBlacklistRepository()
+                ),
+                "game-chat-" + roomId
+        );
+
+        clientSessionRegistry.syncGameChatForAll(gameChat);
+
+        RoundGameContext roundGameContext = new RoundGameContext(contrabandGame, recorder);
+        RoundClientMessenger roundClientMessenger = new RoundClientMessenger(
+                clientSessionRegistry,
+                dependencies.parent(),
+                context.getSelf(),
+                dependencies.gameLifecycleEventPublisher(),
+                roomId,
+                entityId
+        );
+        RoundChatCoordinator roundChatCoordinator = new RoundChatCoordinator(gameChat, clientSessionRegistry);
+        SelectionParticipants participants = new SelectionParticipants(
+                contrabandGame.smugglerPlayers(),
+                contrabandGame.inspectorPlayers(),
+                contrabandGame.smugglerTeamSize(),
+                contrabandGame.inspectorTeamSize()
+        );
+        ActorRef<ContrabandGameCommand> roundActor = context.spawn(
+                ContrabandRoundActor.create(
+                        roomId,
+                        entityId,
+                        roundGameContext,
+                        roundClientMessenger,
+                        roundChatCoordinator
+                ),
+                "contraband-round-" + roomId
+        );
+
+        ActorRef<ContrabandGameCommand> selectionActor = context.spawn(
+                createSelection(
+                        contrabandGame,
+                        resumed,
+                        new SelectionClientMessenger(clientSessionRegistry),
+                        new SelectionChatCoordinator(gameChat),
+                        participants,
+                        context.getSelf()
+                ),
+                "contraband-selection-" + roomId
+        );
+
+        if (resumed && contrabandGame.hasCurrentRound()) {
+            roundActor.tell(new ResumeRound());
+        }
+        return new ContrabandGameActor(context, roundActor, selectionActor);
+    }
+
+    private static Behavior<ContrabandGameCommand> createSelection(
+            ContrabandGame contrabandGame,
+            boolean resumed,
+            SelectionClientMessenger clientMessenger,
+            SelectionChatCoordinator chatCoordinator,
+            SelectionParticipants participants,
+            ActorRef<ContrabandGameCommand> facade
+    ) {
+        if (!resumed) {
+            return ContrabandSelectionActor.create(clientMessenger, chatCoordinator, participants, facade);
+        }
+        if (contrabandGame.hasCurrentRound()) {
+            Round round = contrabandGame.getCurrentRound();
+
+            return ContrabandSelectionActor.resumeRunningRound(
+                    clientMessenger,
+                    chatCoordinator,
+                    participants,
+                    facade,
+                    new RoundReadySelection(round.getSmugglerId(), round.getInspectorId(), round.getRoundNumber())
+            );
+        }
+
+        return ContrabandSelectionActor.resumeAt(
+                clientMessenger,
+                chatCoordinator,
+                participants,
+                facade,
+                contrabandGame.getCompletedRoundCount() + 1
+        );
+    }
+
     private ContrabandGameActor(
             ActorContext<ContrabandGameCommand> context,
             ActorRef<ContrabandGameCommand> roundActor,
@@ -171,4 +308,17 @@ public class ContrabandGameActor extends AbstractBehavior<ContrabandGameCommand>
     private Behavior<ContrabandGameCommand> onGameCleanup(GameCleanup command) {
         return Behaviors.stopped();
     }
+
+    private record GameDependencies(
+            Long roomId,
+            String entityId,
+            ActorRef<LobbyCommand> parent,
+            Map<Long, ActorRef<ClientSessionCommand>> clientSessions,
+            ChatMessageEventPublisher chatMessageEventPublisher,
+            GameLifecycleEventPublisher gameLifecycleEventPublisher,
+            ChatBlacklistRepository chatBlacklistRepository
+    ) { }
+
+    // 기록을 읽지 못했으면 history 가 비어 있고, 이때는 복원 없이 새 게임으로 시작한다
+    private record RecoveredMatchHistory(MatchHistory history, Throwable failure) implements ContrabandGameCommand { }
 }
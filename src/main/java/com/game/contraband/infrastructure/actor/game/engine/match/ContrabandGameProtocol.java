@@ -50,5 +50,8 @@ public interface ContrabandGameProtocol {
 
     record PrepareNextSelection(int nextRound) implements SelectionCommand { }
 
+    // 저널에서 복원한 게임에 진행 중인 라운드가 있을 때 라운드 액터가 그 라운드를 이어 받게 한다
+    record ResumeRound() implements RoundCommand { }
+
     record GameCleanup() implements ContrabandGameCommand { }
 }
@@ -0,0 +1,75 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+import com.game.contraband.global.actor.CborSerializable;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundFinished;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.persistence.typed.PersistenceId;
+import org.apache.pekko.persistence.typed.javadsl.CommandHandler;
+import org.apache.pekko.persistence.typed.javadsl.Effect;
+import org.apache.pekko.persistence.typed.javadsl.EventHandler;
+import org.apache.pekko.persistence.typed.javadsl.EventSourcedBehavior;
+
+public class ContrabandGameJournalActor
+        extends EventSourcedBehavior<ContrabandGameJournalActor.MatchJournalCommand, MatchEvent, MatchHistory> {
+
+    public static final String ENTITY_TYPE = "ContrabandGame";
+
+    public static Behavior<MatchJournalCommand> create(Long roomId) {
+        return new ContrabandGameJournalActor(persistenceIdOf(roomId));
+    }
+
+    public static PersistenceId persistenceIdOf(Long roomId) {
+        return PersistenceId.of(ENTITY_TYPE, String.valueOf(roomId));
+    }
+
+    private ContrabandGameJournalActor(PersistenceId persistenceId) {
+        super(persistenceId);
+    }
+
+    @Override
+    public MatchHistory emptyState() {
+        return MatchHistory.empty();
+    }
+
+    @Override
+    public CommandHandler<MatchJournalCommand, MatchEvent, MatchHistory> commandHandler() {
+        return newCommandHandlerBuilder().forAnyState()
+                                         .onCommand(RecordMatchEvent.class, this::onRecordMatchEvent)
+                                         .onCommand(QueryMatchHistory.class, this::onQueryMatchHistory)
+                                         .build();
+    }
+
+    private Effect<MatchEvent, MatchHistory> onRecordMatchEvent(
+            RecordMatchEvent command
+    ) {
+        return Effect().persist(command.event());
+    }
+
+    // 영속화 중에 들어온 조회는 보관되었다가 앞선 이벤트가 모두 반영된 뒤 응답한다
+    private Effect<MatchEvent, MatchHistory> onQueryMatchHistory(
+            MatchHistory state,
+            QueryMatchHistory command
+    ) {
+        return Effect().none()
+                       .thenReply(command.replyTo(), history -> history);
+    }
+
+    @Override
+    public EventHandler<MatchHistory, MatchEvent> eventHandler() {
+        return newEventHandlerBuilder().forAnyState()
+                                       .onAnyEvent(MatchHistory::apply);
+    }
+
+    // 라운드가 끝날 때마다 스냅샷을 남겨 복원 시 저널에서 읽을 이벤트를 한 라운드 분량으로 줄인다
+    @Override
+    public boolean shouldSnapshot(MatchHistory state, MatchEvent event, long sequenceNr) {
+        return event instanceof RoundFinished;
+    }
+
+    public interface MatchJournalCommand extends CborSerializable { }
+
+    public record RecordMatchEvent(MatchEvent event) implements MatchJournalCommand { }
+
+    public record QueryMatchHistory(ActorRef<MatchHistory> replyTo) implements MatchJournalCommand { }
+}
@@ -0,0 +1,81 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.game.contraband.domain.game.engine.match.ContrabandGame;
+import com.game.contraband.domain.game.player.PlayerProfile;
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.domain.game.player.TeamRoster;
+import com.game.contraband.global.actor.CborSerializable;
+import java.util.List;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = MatchEvent.MatchCreated.class, name = "MatchCreated"),
+        @JsonSubTypes.Type(value = MatchEvent.RoundStarted.class, name = "RoundStarted"),
+        @JsonSubTypes.Type(value = MatchEvent.AmountTransferred.class, name = "AmountTransferred"),
+        @JsonSubTypes.Type(value = MatchEvent.SmuggleAmountDecided.class, name = "SmuggleAmountDecided"),
+        @JsonSubTypes.Type(value = MatchEvent.PassDecided.class, name = "PassDecided"),
+        @JsonSubTypes.Type(value = MatchEvent.InspectionDecided.class, name = "InspectionDecided"),
+        @JsonSubTypes.Type(value = MatchEvent.RoundFinished.class, name = "RoundFinished")
+})
+public interface MatchEvent extends CborSerializable {
+
+    record MatchPlayer(Long playerId, String name, TeamRole teamRole) {
+
+        static MatchPlayer from(PlayerProfile profile) {
+            return new MatchPlayer(profile.getPlayerId(), profile.getName(), profile.getTeamRole());
+        }
+
+        PlayerProfile toProfile() {
+            return PlayerProfile.create(playerId, name, teamRole);
+        }
+    }
+
+    record MatchCreated(
+            String smugglerTeamName,
+            List<MatchPlayer> smugglers,
+            String inspectorTeamName,
+            List<MatchPlayer> inspectors,
+            int totalRounds
+    ) implements MatchEvent {
+
+        public static MatchCreated from(ContrabandGame game) {
+            return new MatchCreated(
+                    game.getTeamState().getSmugglerRoster().getName(),
+                    game.smugglerPlayers().stream().map(MatchPlayer::from).toList(),
+                    game.getTeamState().getInspectorRoster().getName(),
+                    game.inspectorPlayers().stream().map(MatchPlayer::from).toList(),
+                    game.getTotalRounds()
+            );
+        }
+
+        public ContrabandGame toNotStartedGame() {
+            return ContrabandGame.notStarted(
+                    TeamRoster.create(
+                            smugglerTeamName,
+                            TeamRole.SMUGGLER,
+                            smugglers.stream().map(MatchPlayer::toProfile).toList()
+                    ),
+                    TeamRoster.create(
+                            inspectorTeamName,
+                            TeamRole.INSPECTOR,
+                            inspectors.stream().map(MatchPlayer::toProfile).toList()
+                    ),
+                    totalRounds
+            );
+        }
+    }
+
+    record RoundStarted(Long smugglerId, Long inspectorId) implements MatchEvent { }
+
+    record AmountTransferred(Long fromPlayerId, Long toPlayerId, int amount) implements MatchEvent { }
+
+    record SmuggleAmountDecided(int amount) implements MatchEvent { }
+
+    record PassDecided() implements MatchEvent { }
+
+    record InspectionDecided(int amount) implements MatchEvent { }
+
+    record RoundFinished() implements MatchEvent { }
+}
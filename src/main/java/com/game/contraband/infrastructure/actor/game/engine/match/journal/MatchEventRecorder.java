@@ -0,0 +1,9 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+@FunctionalInterface
+public interface MatchEventRecorder {
+
+    MatchEventRecorder NONE = event -> { };
+
+    void record(MatchEvent event);
+}
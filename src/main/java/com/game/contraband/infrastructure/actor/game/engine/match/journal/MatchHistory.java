@@ -0,0 +1,95 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+import com.game.contraband.domain.game.engine.match.ContrabandGame;
+import com.game.contraband.domain.game.vo.Money;
+import com.game.contraband.global.actor.CborSerializable;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.AmountTransferred;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.InspectionDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.PassDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundFinished;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundStarted;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.SmuggleAmountDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.round.RoundGameContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public record MatchHistory(MatchCreated created, List<MatchEvent> events) implements CborSerializable {
+
+    public static MatchHistory empty() {
+        return new MatchHistory(null, List.of());
+    }
+
+    public boolean hasMatchCreated() {
+        return created != null;
+    }
+
+    // 스냅샷 저장은 비동기로 직렬화되므로 상태를 변경하지 않고 새 기록을 만든다
+    public MatchHistory apply(MatchEvent event) {
+        if (event instanceof MatchCreated matchCreated) {
+            return new MatchHistory(matchCreated, List.of());
+        }
+
+        List<MatchEvent> appended = new ArrayList<>(events.size() + 1);
+
+        appended.addAll(events);
+        appended.add(event);
+        return new MatchHistory(created, List.copyOf(appended));
+    }
+
+    // 같은 구성으로 시작한 게임이 끝나지 않은 채 기록돼 있을 때만 그 게임을 이어서 진행한다
+    public Optional<ContrabandGame> resumableGameOf(MatchCreated candidate) {
+        if (!hasMatchCreated() || !created.equals(candidate)) {
+            return Optional.empty();
+        }
+
+        ContrabandGame game = replay();
+
+        if (game.isFinished()) {
+            return Optional.empty();
+        }
+        return Optional.of(game);
+    }
+
+    public ContrabandGame replay() {
+        if (!hasMatchCreated()) {
+            throw new IllegalStateException("기록된 게임 정보가 없어 게임을 복원할 수 없습니다.");
+        }
+
+        ContrabandGame game = created.toNotStartedGame();
+        RoundGameContext context = new RoundGameContext(game);
+
+        events.forEach(event -> replay(context, event));
+        return game;
+    }
+
+    private void replay(RoundGameContext context, MatchEvent event) {
+        if (event instanceof RoundStarted started) {
+            context.startNewRound(started.smugglerId(), started.inspectorId());
+            return;
+        }
+        if (event instanceof AmountTransferred transferred) {
+            context.transfer(transferred.fromPlayerId(), transferred.toPlayerId(), Money.from(transferred.amount()));
+            return;
+        }
+        if (event instanceof SmuggleAmountDecided decided) {
+            context.decideSmuggleAmount(decided.amount());
+            return;
+        }
+        if (event instanceof PassDecided) {
+            context.decidePass();
+            return;
+        }
+        if (event instanceof InspectionDecided decided) {
+            context.decideInspection(decided.amount());
+            return;
+        }
+        if (event instanceof RoundFinished) {
+            context.finishCurrentRound();
+            return;
+        }
+
+        throw new IllegalStateException("복원할 수 없는 게임 이벤트입니다: " + event);
+    }
+}
@@ -10,15 +10,15 @@ import com.game.contraband.domain.game.transfer.TransferFailureException;
 import com.game.contraband.domain.game.transfer.TransferFailureReason;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedInspection;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedPass;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedSmuggleAmount;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartNewRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransfer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransferFailed;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedInspection;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedPass;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartNewRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransfer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransferFailed;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.DecideInspection;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.DecidePass;
@@ -27,6 +27,7 @@ import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGame
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.FinishedGame;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.GameCleanup;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.PrepareNextSelection;
+import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ResumeRound;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.RoundTimeout;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.StartSelectedRound;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.SyncReconnectedPlayer;
@@ -104,6 +105,7 @@ public class ContrabandRoundActor extends AbstractBehavior<ContrabandGameCommand
                                   .onMessage(FinishedGame.class, this::onFinishedGame)
                                   .onMessage(RoundTimeout.class, this::onRoundTimeout)
                                   .onMessage(SyncReconnectedPlayer.class, this::onSyncReconnectedPlayer)
+                                  .onMessage(ResumeRound.class, this::onResumeRound)
                                   .onSignal(PostStop.class, this::onPostStop)
                                   .build();
     }
@@ -341,6 +343,34 @@ public class ContrabandRoundActor extends AbstractBehavior<ContrabandGameCommand
         return this;
     }
 
+    // 저널에서 복원한 라운드는 이미 내린 결정을 완료로 두고, 라운드 시간은 재시작 시점부터 다시 잰다
+    private Behavior<ContrabandGameCommand> onResumeRound(ResumeRound command) {
+        gameContext.currentRound().ifPresent(round -> {
+            roundState.assignRound(round.getSmugglerId(), round.getInspectorId(), round.getRoundNumber());
+            if (round.isSmuggleAmountDeclared()) {
+                roundState.markSmugglerActionDone();
+            }
+            if (round.isInspectionDecisionProvided()) {
+                roundState.markInspectorActionDone();
+            }
+
+            Instant startedAt = Instant.now();
+            long serverNow = startedAt.toEpochMilli();
+            long endAt = startedAt.plus(ROUND_DURATION).toEpochMilli();
+            clientMessenger.broadcastStartRound(
+                    roundState,
+                    startedAt,
+                    ROUND_DURATION.toMillis(),
+                    serverNow,
+                    endAt
+            );
+            syncDecisions(round, clientMessenger::tellAll);
+            scheduleRoundTimeout(startedAt);
+            tryFinishCurrentRound();
+        });
+        return this;
+    }
+
     private Behavior<ContrabandGameCommand> onPostStop(PostStop signal) {
         roundState.cancelRoundTimeout();
         return Behaviors.same();
@@ -387,28 +417,32 @@ public class ContrabandRoundActor extends AbstractBehavior<ContrabandGameCommand
                             endAt
                     )
             );
-            if (round.isSmuggleAmountDeclared()) {
-                targetSession.tell(
-                        new PropagateDecidedSmuggleAmount(
-                                round.getSmugglerId(),
-                                round.getSmuggleAmount().getAmount()
-                        )
-                );
-            }
-            if (round.isInspectionDecisionProvided()) {
-                syncInspectionDecision(targetSession, round);
-            }
+            syncDecisions(round, targetSession::tell);
         });
     }
 
-    private void syncInspectionDecision(ActorRef<ClientSessionCommand> targetSession, Round round) {
+    private void syncDecisions(Round round, Consumer<ClientSessionCommand> send) {
+        if (round.isSmuggleAmountDeclared()) {
+            send.accept(
+                    new PropagateDecidedSmuggleAmount(
+                            round.getSmugglerId(),
+                            round.getSmuggleAmount().getAmount()
+                    )
+            );
+        }
+        if (round.isInspectionDecisionProvided()) {
+            syncInspectionDecision(send, round);
+        }
+    }
+
+    private void syncInspectionDecision(Consumer<ClientSessionCommand> send, Round round) {
         if (round.isPass()) {
-            targetSession.tell(new PropagateDecidedPass(round.getInspectorId()));
+            send.accept(new PropagateDecidedPass(round.getInspectorId()));
             return;
         }
 
         if (round.isInspection()) {
-            targetSession.tell(
+            send.accept(
                     new PropagateDecidedInspection(
                             round.getInspectorId(),
                             round.getInspectionThreshold().getAmount()
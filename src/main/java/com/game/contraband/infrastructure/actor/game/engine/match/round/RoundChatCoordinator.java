@@ -1,6 +1,6 @@
 package com.game.contraband.infrastructure.actor.game.engine.match.round;
 
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearContrabandGameChat;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ContrabandGameChatCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ClientSessionRegistry;
@@ -2,10 +2,10 @@ package com.game.contraband.infrastructure.actor.game.engine.match.round;
 
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartNewRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartNewRound;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.EndGame;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
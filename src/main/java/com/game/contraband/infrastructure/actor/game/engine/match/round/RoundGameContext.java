@@ -8,6 +8,13 @@ import com.game.contraband.domain.game.round.Round;
 import com.game.contraband.domain.game.round.dto.RoundDto;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.AmountTransferred;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.InspectionDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.PassDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundFinished;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundStarted;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.SmuggleAmountDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEventRecorder;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -15,33 +22,48 @@ import java.util.stream.Stream;
 public class RoundGameContext {
 
     private final ContrabandGame game;
+    private final MatchEventRecorder recorder;
 
     public RoundGameContext(ContrabandGame game) {
+        this(game, MatchEventRecorder.NONE);
+    }
+
+    public RoundGameContext(ContrabandGame game, MatchEventRecorder recorder) {
         this.game = game;
+        this.recorder = recorder;
     }
 
+    // 도메인 검증을 통과해 상태가 바뀐 경우에만 이벤트를 기록한다
     public void startNewRound(Long smugglerId, Long inspectorId) {
         game.startNewRound(smugglerId, inspectorId);
+        recorder.record(new RoundStarted(smugglerId, inspectorId));
     }
 
     public void transfer(Long from, Long to, Money amount) {
         game.transferWithinTeam(from, to, amount);
+        recorder.record(new AmountTransferred(from, to, amount.getAmount()));
     }
 
     public void decideSmuggleAmount(int amount) {
         game.decideSmuggleAmountForCurrentRound(Money.from(amount));
+        recorder.record(new SmuggleAmountDecided(amount));
     }
 
     public void decidePass() {
         game.decidePassForCurrentRound();
+        recorder.record(new PassDecided());
     }
 
     public void decideInspection(int amount) {
         game.decideInspectionForCurrentRound(Money.from(amount));
+        recorder.record(new InspectionDecided(amount));
     }
 
     public RoundDto finishCurrentRound() {
-        return game.finishCurrentRound();
+        RoundDto completed = game.finishCurrentRound();
+
+        recorder.record(new RoundFinished());
+        return completed;
     }
 
     public boolean canFinishCurrentRound() {
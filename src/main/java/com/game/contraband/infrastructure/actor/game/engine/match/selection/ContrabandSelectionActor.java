@@ -2,16 +2,16 @@ package com.game.contraband.infrastructure.actor.game.engine.match.selection;
 
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorIdForSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerIdForInspector;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateInspectorApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSelectionTimer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSmugglerApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorIdForSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerIdForInspector;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateInspectorApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSelectionTimer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSmugglerApprovalState;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.FixInspectorId;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.FixSmugglerId;
@@ -58,6 +58,44 @@ public class ContrabandSelectionActor extends AbstractBehavior<ContrabandGameCom
         );
     }
 
+    // 저널에서 복원한 게임이 라운드 사이에 멈췄다면, 끝난 라운드 다음부터 선택을 다시 시작한다
+    public static Behavior<ContrabandGameCommand> resumeAt(
+            SelectionClientMessenger clientMessenger,
+            SelectionChatCoordinator chatCoordinator,
+            SelectionParticipants participants,
+            ActorRef<ContrabandGameCommand> facade,
+            int nextRound
+    ) {
+        return Behaviors.setup(
+                context -> new ContrabandSelectionActor(
+                        context,
+                        clientMessenger,
+                        chatCoordinator,
+                        facade,
+                        participants
+                ).resumeAt(nextRound)
+        );
+    }
+
+    // 저널에서 복원한 게임이 라운드 도중에 멈췄다면, 그 라운드의 밀수꾼과 검사관은 이미 확정된 것으로 둔다
+    public static Behavior<ContrabandGameCommand> resumeRunningRound(
+            SelectionClientMessenger clientMessenger,
+            SelectionChatCoordinator chatCoordinator,
+            SelectionParticipants participants,
+            ActorRef<ContrabandGameCommand> facade,
+            RoundReadySelection runningRound
+    ) {
+        return Behaviors.setup(
+                context -> new ContrabandSelectionActor(
+                        context,
+                        clientMessenger,
+                        chatCoordinator,
+                        facade,
+                        participants
+                ).resumeRunningRound(runningRound)
+        );
+    }
+
     private ContrabandSelectionActor(
             ActorContext<ContrabandGameCommand> context,
             SelectionClientMessenger clientMessenger,
@@ -85,6 +123,24 @@ public class ContrabandSelectionActor extends AbstractBehavior<ContrabandGameCom
         return this;
     }
 
+    private ContrabandSelectionActor resumeAt(int nextRound) {
+        if (nextRound <= selectionState.currentRound()) {
+            return initialize();
+        }
+
+        prepareRoundIfAhead(nextRound);
+        return this;
+    }
+
+    private ContrabandSelectionActor resumeRunningRound(RoundReadySelection runningRound) {
+        while (selectionState.currentRound() < runningRound.round()) {
+            selectionState.prepareNextRound();
+        }
+        selectionState.seed(runningRound.smugglerId(), runningRound.inspectorId());
+        chatCoordinator.syncRoundChatId(runningRound.smugglerId(), runningRound.inspectorId());
+        return this;
+    }
+
     @Override
     public Receive<ContrabandGameCommand> createReceive() {
         return newReceiveBuilder().onMessage(RegisterSmugglerId.class, this::onRegisterSmugglerId)
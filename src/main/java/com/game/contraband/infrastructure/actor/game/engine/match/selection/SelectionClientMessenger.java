@@ -2,7 +2,7 @@ package com.game.contraband.infrastructure.actor.game.engine.match.selection;
 
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSelectionTimer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSelectionTimer;
 import com.game.contraband.infrastructure.actor.game.engine.match.ClientSessionRegistry;
 import org.apache.pekko.actor.typed.ActorRef;
 
@@ -1,7 +1,10 @@
 package com.game.contraband.infrastructure.actor.manage;
 
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RegisterRoom;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.ReleaseEntityLoad;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.ReportEntityLoad;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RoomRemovalNotification;
 import org.apache.pekko.actor.typed.ActorRef;
 
@@ -24,4 +27,16 @@ public class CoordinatorGateway {
             coordinator.tell(new RoomRemovalNotification(roomId));
         }
     }
+
+    public void reportLoad(String entityId, EntityLoad load) {
+        if (coordinator != null) {
+            coordinator.tell(new ReportEntityLoad(entityId, load));
+        }
+    }
+
+    public void releaseLoad(String entityId) {
+        if (coordinator != null) {
+            coordinator.tell(new ReleaseEntityLoad(entityId));
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class EntityAllocationPolicy {
+
+    private static final double ROOM_WEIGHT = 1.0d;
+    private static final double PLAYER_WEIGHT = 0.5d;
+    private static final double ACTIVE_GAME_WEIGHT = 2.0d;
+    private static final double MESSAGE_RATE_WEIGHT = 0.1d;
+
+    public EntityAllocationPolicy(int maxRoomsPerEntity, int maxPlayersPerEntity) {
+        if (maxRoomsPerEntity <= 0 || maxPlayersPerEntity <= 0) {
+            throw new IllegalArgumentException("엔티티당 최대 방 수와 최대 플레이어 수는 1 이상이어야 합니다.");
+        }
+
+        this.maxRoomsPerEntity = maxRoomsPerEntity;
+        this.maxPlayersPerEntity = maxPlayersPerEntity;
+    }
+
+    private final int maxRoomsPerEntity;
+    private final int maxPlayersPerEntity;
+
+    // 가장 한가한 노드의 엔티티를 우선하고, 같은 노드 안에서는 부하 점수가 낮은 엔티티를 고른다
+    // 부하를 아직 보고하지 않은 엔티티는 어느 노드인지 모르므로 다른 엔티티와 묶지 않고 부하 0인 단독 노드로 본다
+    public Optional<String> select(Map<String, Integer> entityRoomCounts, Map<String, EntityLoad> entityLoads) {
+        Map<String, Double> nodeScores = new HashMap<>();
+
+        entityRoomCounts.forEach(
+                (entityId, roomCount) -> {
+                    EntityLoad load = entityLoads.get(entityId);
+
+                    if (load != null) {
+                        nodeScores.merge(load.node(), score(roomCount, load), Double::sum);
+                    }
+                }
+        );
+
+        return entityRoomCounts.entrySet()
+                               .stream()
+                               .filter(entry -> hasCapacity(entry.getValue(), entityLoads.get(entry.getKey())))
+                               .min(
+                                       Comparator.<Map.Entry<String, Integer>>comparingDouble(
+                                                         entry -> nodeScore(nodeScores, entry.getValue(), entityLoads.get(entry.getKey()))
+                                                 )
+                                                 .thenComparingDouble(
+                                                         entry -> score(entry.getValue(), entityLoads.get(entry.getKey()))
+                                                 )
+                                                 .thenComparing(Map.Entry::getKey)
+                               )
+                               .map(Map.Entry::getKey);
+    }
+
+    public boolean hasCapacity(int roomCount, EntityLoad load) {
+        if (roomCount >= maxRoomsPerEntity) {
+            return false;
+        }
+        return load == null || load.playerCount() < maxPlayersPerEntity;
+    }
+
+    public int remainingRooms(int roomCount) {
+        return Math.max(0, maxRoomsPerEntity - roomCount);
+    }
+
+    public double score(int roomCount, EntityLoad load) {
+        double score = roomCount * ROOM_WEIGHT;
+
+        if (load == null) {
+            return score;
+        }
+
+        return score
+                + load.playerCount() * PLAYER_WEIGHT
+                + load.activeGames() * ACTIVE_GAME_WEIGHT
+                + load.messagesPerSecond() * MESSAGE_RATE_WEIGHT;
+    }
+
+    private double nodeScore(Map<String, Double> nodeScores, int roomCount, EntityLoad load) {
+        if (load == null) {
+            return score(roomCount, null);
+        }
+        return nodeScores.get(load.node());
+    }
+}
@@ -0,0 +1,57 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class EntityLoadTracker {
+
+    private static final double NANOS_PER_SECOND = Duration.ofSeconds(1L).toNanos();
+
+    public EntityLoadTracker(String node, long startedNanos) {
+        this.node = node;
+        this.lastReportNanos = startedNanos;
+    }
+
+    private final String node;
+    private final Map<Long, Integer> playerCounts = new HashMap<>();
+    private final Set<Long> startedRooms = new HashSet<>();
+    private long messageCount;
+    private long lastReportNanos;
+
+    public void recordMessage() {
+        messageCount++;
+    }
+
+    public void updateRoom(Long roomId, int playerCount, boolean gameStarted) {
+        playerCounts.put(roomId, playerCount);
+
+        if (gameStarted) {
+            startedRooms.add(roomId);
+        } else {
+            startedRooms.remove(roomId);
+        }
+    }
+
+    public void removeRoom(Long roomId) {
+        playerCounts.remove(roomId);
+        startedRooms.remove(roomId);
+    }
+
+    // 보고 주기 동안 받은 메시지 수로 처리율을 계산하고 다음 주기를 위해 초기화한다
+    public EntityLoad report(long nowNanos) {
+        long elapsedNanos = Math.max(1L, nowNanos - lastReportNanos);
+        double messagesPerSecond = messageCount * NANOS_PER_SECOND / elapsedNanos;
+        int playerCount = playerCounts.values()
+                                      .stream()
+                                      .mapToInt(Integer::intValue)
+                                      .sum();
+
+        messageCount = 0L;
+        lastReportNanos = nowNanos;
+        return new EntityLoad(node, playerCount, startedRooms.size(), messagesPerSecond);
+    }
+}
@@ -0,0 +1,100 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntitySlotLease;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+public class EntitySlotAllocator {
+
+    public EntitySlotAllocator(
+            int leaseSize,
+            IntFunction<CompletionStage<EntitySlotLease>> leaser,
+            LongSupplier nanoClock
+    ) {
+        if (leaseSize <= 0) {
+            throw new IllegalArgumentException("임대할 슬롯 수는 1 이상이어야 합니다.");
+        }
+
+        this.leaseSize = leaseSize;
+        this.refillThreshold = leaseSize / 4;
+        this.leaser = leaser;
+        this.nanoClock = nanoClock;
+    }
+
+    private final int leaseSize;
+    private final int refillThreshold;
+    private final IntFunction<CompletionStage<EntitySlotLease>> leaser;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<LeasedSlots> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<LeasedSlots>> refilling = new AtomicReference<>();
+
+    // 임대받은 슬롯이 남아 있으면 코디네이터에 묻지 않고 바로 엔티티를 정하고, 바닥나기 전에 미리 다음 슬롯을 받아 둔다
+    public CompletionStage<String> allocate() {
+        LeasedSlots lease = current.get();
+
+        if (lease != null) {
+            int remaining = lease.acquire(nanoClock.getAsLong());
+
+            if (remaining >= 0) {
+                if (remaining <= refillThreshold) {
+                    refill();
+                }
+                return CompletableFuture.completedFuture(lease.entityId());
+            }
+        }
+
+        return refill().thenCompose(ignored -> allocate());
+    }
+
+    private CompletableFuture<LeasedSlots> refill() {
+        CompletableFuture<LeasedSlots> pending = new CompletableFuture<>();
+        CompletableFuture<LeasedSlots> inFlight = refilling.compareAndExchange(null, pending);
+
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        leaser.apply(leaseSize)
+              .whenComplete(
+                      (lease, failure) -> {
+                          refilling.set(null);
+                          if (failure != null) {
+                              pending.completeExceptionally(failure);
+                              return;
+                          }
+
+                          LeasedSlots leased = LeasedSlots.from(lease, nanoClock.getAsLong());
+
+                          current.set(leased);
+                          pending.complete(leased);
+                      }
+              );
+        return pending;
+    }
+
+    private record LeasedSlots(String entityId, AtomicInteger remaining, long expiresAtNanos) {
+
+        static LeasedSlots from(EntitySlotLease lease, long nowNanos) {
+            return new LeasedSlots(
+                    lease.entityId(),
+                    new AtomicInteger(lease.slots()),
+                    nowNanos + Duration.ofMillis(lease.validForMillis()).toNanos()
+            );
+        }
+
+        int acquire(long nowNanos) {
+            if (nowNanos - expiresAtNanos >= 0L) {
+                return -1;
+            }
+
+            int left = remaining.decrementAndGet();
+
+            return left >= 0 ? left : -1;
+        }
+    }
+}
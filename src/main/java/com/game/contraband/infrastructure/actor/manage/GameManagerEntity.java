@@ -1,24 +1,36 @@
 package com.game.contraband.infrastructure.actor.manage;
 
 import com.game.contraband.domain.monitor.ChatBlacklistRepository;
+import com.game.contraband.global.actor.ActorPersistence;
 import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.LobbyClosed;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySync;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.CloseLobbyForHandOff;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.SyncPlayerJoined;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyCreationHandler;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyCreationHandler.LobbyActorAssembly;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.GameManagerCommand;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.QueryRoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembershipCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.StartedRoom;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.WaitingRoom;
 import com.game.contraband.infrastructure.actor.sequence.SnowflakeSequenceGenerator;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import java.time.Duration;
+import java.util.Map;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.PostStop;
 import org.apache.pekko.actor.typed.javadsl.AbstractBehavior;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
@@ -29,6 +41,8 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
 
     public static final EntityTypeKey<GameManagerCommand> ENTITY_TYPE_KEY =
             EntityTypeKey.create(GameManagerCommand.class, "game-managers");
+    private static final Duration LOAD_REPORT_INTERVAL = Duration.ofSeconds(5L);
+    private static final Duration DIRECTORY_RESYNC_INTERVAL = Duration.ofSeconds(15L);
 
     public static Behavior<GameManagerCommand> create(
             String entityId,
@@ -36,10 +50,11 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
             ActorRef<GameRoomCoordinatorCommand> coordinator,
             ActorRef<RoomDirectoryCommand> roomDirectory,
             GameLifecycleEventPublisher gameLifecycleEventPublisher,
+            ChatMessageEventPublisher chatMessageEventPublisher,
             ChatBlacklistRepository chatBlacklistRepository
     ) {
         return Behaviors.setup(
-                context -> {
+                context -> Behaviors.withTimers(timers -> {
                     RoomRegistry roomRegistry = new RoomRegistry();
                     SnowflakeSequenceGenerator roomSequenceGenerator = new SnowflakeSequenceGenerator(numericEntityId);
                     CoordinatorGateway coordinatorGateway = new CoordinatorGateway(coordinator);
@@ -53,7 +68,16 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
                             roomSequenceGenerator,
                             chatBlacklistRepository
                     );
+                    RoomMembershipSync roomMembershipSync = new RoomMembershipSync(
+                            spawnRoomMembership(context, entityId)
+                    );
+                    EntityLoadTracker loadTracker = new EntityLoadTracker(
+                            context.getSystem().address().toString(),
+                            System.nanoTime()
+                    );
 
+                    timers.startTimerWithFixedDelay(new ReportLoad(), LOAD_REPORT_INTERVAL);
+                    timers.startTimerWithFixedDelay(new ResyncRoomDirectory(), DIRECTORY_RESYNC_INTERVAL);
                     return new GameManagerEntity(
                             context,
                             entityId,
@@ -61,10 +85,35 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
                             coordinatorGateway,
                             roomDirectorySync,
                             gameLifecycleNotifier,
-                            lobbyCreationHandler
+                            lobbyCreationHandler,
+                            roomMembershipSync,
+                            loadTracker,
+                            chatMessageEventPublisher
                     );
-                }
+                })
+        );
+    }
+
+    // 이전 실행에서 맡았던 방 목록을 복원해, 시작된 게임은 이어가고 함께 사라진 로비는 정리할 수 있도록 한다
+    private static ActorRef<RoomMembershipCommand> spawnRoomMembership(
+            ActorContext<GameManagerCommand> context,
+            String entityId
+    ) {
+        if (!ActorPersistence.isEnabled(context.getSystem())) {
+            return null;
+        }
+
+        ActorRef<RoomMembershipCommand> membership = context.spawn(
+                RoomMembershipActor.create(entityId),
+                "room-membership"
+        );
+
+        membership.tell(
+                new QueryRoomMembership(
+                        context.messageAdapter(RoomMembership.class, RecoveredRoomMembership::new)
+                )
         );
+        return membership;
     }
 
     private GameManagerEntity(
@@ -74,7 +123,10 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
             CoordinatorGateway coordinatorGateway,
             RoomDirectorySync roomDirectorySync,
             GameLifecycleNotifier gameLifecycleNotifier,
-            LobbyCreationHandler lobbyCreationHandler
+            LobbyCreationHandler lobbyCreationHandler,
+            RoomMembershipSync roomMembershipSync,
+            EntityLoadTracker loadTracker,
+            ChatMessageEventPublisher chatMessageEventPublisher
     ) {
         super(context);
 
@@ -84,6 +136,9 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
         this.roomDirectorySync = roomDirectorySync;
         this.gameLifecycleNotifier = gameLifecycleNotifier;
         this.lobbyCreationHandler = lobbyCreationHandler;
+        this.roomMembershipSync = roomMembershipSync;
+        this.loadTracker = loadTracker;
+        this.chatMessageEventPublisher = chatMessageEventPublisher;
     }
 
     private final String entityId;
@@ -92,6 +147,10 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
     private final RoomDirectorySync roomDirectorySync;
     private final GameLifecycleNotifier gameLifecycleNotifier;
     private final LobbyCreationHandler lobbyCreationHandler;
+    private final RoomMembershipSync roomMembershipSync;
+    private final EntityLoadTracker loadTracker;
+    private final ChatMessageEventPublisher chatMessageEventPublisher;
+    private boolean handingOff;
 
     @Override
     public Receive<GameManagerCommand> createReceive() {
@@ -101,10 +160,22 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
                                   .onMessage(SyncRoomStarted.class, this::onSyncRoomStarted)
                                   .onMessage(SyncDeleteLobby.class, this::onSyncDeleteLobby)
                                   .onMessage(SyncEndGame.class, this::onSyncEndGame)
+                                  .onMessage(HandOffGameManager.class, this::onHandOffGameManager)
+                                  .onMessage(HandOffCompleted.class, this::onHandOffCompleted)
+                                  .onMessage(RecoveredRoomMembership.class, this::onRecoveredRoomMembership)
+                                  .onMessage(ReportLoad.class, this::onReportLoad)
+                                  .onMessage(ResyncRoomDirectory.class, this::onResyncRoomDirectory)
+                                  .onSignal(PostStop.class, this::onPostStop)
                                   .build();
     }
 
     private Behavior<GameManagerCommand> onCreateLobby(CreateLobby command) {
+        if (handingOff) {
+            command.hostClientSession()
+                   .tell(new HandleExceptionMessage(ExceptionCode.LOBBY_CREATE_FAILED));
+            return this;
+        }
+
         LobbyCreationHandler.LobbyCreationPlan plan = lobbyCreationHandler.prepare(
                 command.hostClientSession(),
                 command.hostId(),
@@ -131,23 +202,31 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
                 coordinatorGateway,
                 gameLifecycleNotifier
         );
+        roomMembershipSync.roomAdded(plan.roomId());
+        roomMembershipSync.roomWaiting(
+                new WaitingRoom(plan.roomId(), lobbyActor, plan.sessionRegistry().asMapView())
+        );
+        loadTracker.recordMessage();
+        loadTracker.updateRoom(plan.roomId(), plan.sessionRegistry().size(), false);
         return this;
     }
 
     private Behavior<GameManagerCommand> onJoinLobby(JoinLobby command) {
         ActorRef<LobbyCommand> lobbyActor = roomRegistry.get(command.roomId());
 
-        if (lobbyActor == null) {
+        if (lobbyActor == null || handingOff) {
             command.clientSession()
                    .tell(new HandleExceptionMessage(ExceptionCode.GAME_ROOM_NOT_FOUND));
             return this;
         }
 
         lobbyActor.tell(new SyncPlayerJoined(command.clientSession(), command.playerName(), command.playerId()));
+        loadTracker.recordMessage();
         return this;
     }
 
     private Behavior<GameManagerCommand> onSyncRoomStarted(SyncRoomStarted command) {
+        roomRegistry.markStarted(command.roomId());
         roomDirectorySync.register(
                 new RoomDirectorySnapshot(
                         command.roomId(),
@@ -159,7 +238,19 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
                 )
         );
         gameLifecycleNotifier.gameStarted(command.roomId());
-        return this;
+        roomMembershipSync.roomStarted(
+                new StartedRoom(
+                        command.roomId(),
+                        command.lobbyName(),
+                        command.maxPlayerCount(),
+                        command.hostId(),
+                        command.match(),
+                        command.clientSessions()
+                )
+        );
+        loadTracker.recordMessage();
+        loadTracker.updateRoom(command.roomId(), command.currentPlayerCount(), true);
+        return stopIfHandedOff();
     }
 
     private Behavior<GameManagerCommand> onSyncEndGame(SyncEndGame command) {
@@ -169,7 +260,8 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
         roomDirectorySync.remove(command.roomId());
         gameLifecycleNotifier.gameEnded(command.roomId());
         gameLifecycleNotifier.roomRemoved(command.roomId());
-
+        roomMembershipSync.roomRemoved(command.roomId());
+        loadTracker.removeRoom(command.roomId());
         return this;
     }
 
@@ -179,13 +271,126 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
         coordinatorGateway.notifyRoomRemoved(command.roomId());
         roomDirectorySync.remove(command.roomId());
         gameLifecycleNotifier.roomRemoved(command.roomId());
+        roomMembershipSync.roomRemoved(command.roomId());
+        loadTracker.removeRoom(command.roomId());
+        return stopIfHandedOff();
+    }
+
+    // 샤드 리밸런싱으로 핸드오프가 시작되면 새 로비는 받지 않는다
+    // 시작된 게임은 새 노드에서 게임 기록으로 이어가므로 기다리지 않고, 시작하지 않은 로비만 닫은 뒤 종료한다
+    private Behavior<GameManagerCommand> onHandOffGameManager(HandOffGameManager command) {
+        handingOff = true;
+        roomRegistry.waitingLobbies()
+                    .forEach(lobby -> lobby.tell(new CloseLobbyForHandOff()));
+        return stopIfHandedOff();
+    }
 
+    private Behavior<GameManagerCommand> stopIfHandedOff() {
+        if (handingOff && !roomRegistry.hasWaitingRooms()) {
+            roomMembershipSync.whenPersisted(getContext(), new HandOffCompleted());
+        }
         return this;
     }
 
+    // 방 목록 기록이 저널에 남은 뒤에 종료해야 새 노드가 시작된 게임을 빠짐없이 이어간다
+    private Behavior<GameManagerCommand> onHandOffCompleted(HandOffCompleted command) {
+        return Behaviors.stopped();
+    }
+
+    // 샤드 리밸런싱이나 노드 장애로 엔티티가 다시 뜨면 시작된 게임은 로비를 다시 세워 게임 기록으로 이어가고,
+    // 아직 시작하지 않은 로비는 준비 상태를 남기지 않으므로 머물던 세션에 방이 닫혔음을 알리고 목록에서 정리한다
+    private Behavior<GameManagerCommand> onRecoveredRoomMembership(RecoveredRoomMembership command) {
+        RoomMembership membership = command.membership();
+
+        for (Long roomId : membership.roomIds()) {
+            if (roomRegistry.contains(roomId)) {
+                continue;
+            }
+
+            StartedRoom startedRoom = membership.startedRooms().get(roomId);
+
+            if (startedRoom != null) {
+                resumeStartedRoom(startedRoom);
+                continue;
+            }
+
+            closeRecoveredWaitingRoom(membership.waitingRooms().get(roomId));
+            coordinatorGateway.notifyRoomRemoved(roomId);
+            roomDirectorySync.remove(roomId);
+            gameLifecycleNotifier.roomRemoved(roomId);
+            roomMembershipSync.roomRemoved(roomId);
+        }
+        return this;
+    }
+
+    private void closeRecoveredWaitingRoom(WaitingRoom room) {
+        if (room == null) {
+            return;
+        }
+
+        room.clientSessions()
+            .values()
+            .forEach(clientSession -> clientSession.tell(new LobbyClosed(room.lobby())));
+    }
+
+    private void resumeStartedRoom(StartedRoom room) {
+        LobbyCreationHandler.LobbyCreationPlan plan = lobbyCreationHandler.prepareResume(
+                room,
+                chatMessageEventPublisher
+        );
+        LobbyActorAssembly lobbyActorAssembly = lobbyCreationHandler.buildResumedLobbyActor(
+                plan,
+                getContext().getSelf(),
+                gameLifecycleNotifier
+        );
+        ActorRef<LobbyCommand> lobbyActor = getContext().spawn(
+                lobbyActorAssembly.behavior(),
+                plan.lobbyActorName()
+        );
+
+        lobbyCreationHandler.completeResume(
+                plan,
+                lobbyActor,
+                roomRegistry,
+                roomDirectorySync,
+                coordinatorGateway
+        );
+        roomRegistry.markStarted(plan.roomId());
+        loadTracker.updateRoom(plan.roomId(), plan.sessionRegistry().size(), true);
+    }
+
     private Behavior<GameManagerCommand> onSyncRoomPlayerCount(SyncRoomPlayerCount command) {
         RoomDirectorySnapshot summary = new RoomDirectorySnapshot(command.roomId(), command.lobbyName(), command.maxPlayerCount(), command.currentPlayerCount(), entityId, command.gameStarted());
         roomDirectorySync.register(summary);
+        recordWaitingRoom(command);
+        loadTracker.recordMessage();
+        loadTracker.updateRoom(command.roomId(), command.currentPlayerCount(), command.gameStarted());
+        return this;
+    }
+
+    private void recordWaitingRoom(SyncRoomPlayerCount command) {
+        ActorRef<LobbyCommand> lobbyActor = roomRegistry.get(command.roomId());
+
+        if (command.gameStarted() || lobbyActor == null) {
+            return;
+        }
+
+        roomMembershipSync.roomWaiting(new WaitingRoom(command.roomId(), lobbyActor, command.clientSessions()));
+    }
+
+    private Behavior<GameManagerCommand> onReportLoad(ReportLoad command) {
+        coordinatorGateway.reportLoad(entityId, loadTracker.report(System.nanoTime()));
+        return this;
+    }
+
+    // 장애 조치로 방 목록 파티션이 빈 채로 다시 시작되어도 다음 주기에 이 엔티티의 방이 다시 채워진다
+    private Behavior<GameManagerCommand> onResyncRoomDirectory(ResyncRoomDirectory command) {
+        roomDirectorySync.resync();
+        return this;
+    }
+
+    private Behavior<GameManagerCommand> onPostStop(PostStop signal) {
+        coordinatorGateway.releaseLoad(entityId);
         return this;
     }
 
@@ -199,7 +404,17 @@ public class GameManagerEntity extends AbstractBehavior<GameManagerCommand> {
 
     public record SyncEndGame(Long roomId) implements GameManagerCommand { }
 
-    public record SyncRoomPlayerCount(Long roomId, String lobbyName, int maxPlayerCount, int currentPlayerCount, boolean gameStarted) implements GameManagerCommand { }
+    public record SyncRoomPlayerCount(Long roomId, String lobbyName, int maxPlayerCount, int currentPlayerCount, boolean gameStarted, Map<Long, ActorRef<ClientSessionCommand>> clientSessions) implements GameManagerCommand { }
+
+    public record SyncRoomStarted(Long roomId, String lobbyName, int maxPlayerCount, int currentPlayerCount, Long hostId, MatchCreated match, Map<Long, ActorRef<ClientSessionCommand>> clientSessions) implements GameManagerCommand { }
+
+    public record HandOffGameManager() implements GameManagerCommand { }
+
+    private record HandOffCompleted() implements GameManagerCommand { }
+
+    private record RecoveredRoomMembership(RoomMembership membership) implements GameManagerCommand { }
+
+    private record ReportLoad() implements GameManagerCommand { }
 
-    public record SyncRoomStarted(Long roomId, String lobbyName, int maxPlayerCount, int currentPlayerCount) implements GameManagerCommand { }
+    private record ResyncRoomDirectory() implements GameManagerCommand { }
 }
@@ -4,6 +4,7 @@ import static com.game.contraband.infrastructure.actor.manage.GameRoomCoordinato
 
 import com.game.contraband.global.actor.CborSerializable;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.pekko.actor.typed.ActorRef;
@@ -17,29 +18,33 @@ import org.apache.pekko.pattern.StatusReply;
 public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordinatorCommand> {
 
     private static final String ENTITY_ID_PREFIX = "game-rooms-";
+    public static final Duration SLOT_LEASE_VALIDITY = Duration.ofSeconds(10L);
+    private static final Duration SLOT_RESERVATION_TTL = SLOT_LEASE_VALIDITY.multipliedBy(2L);
 
     public static Behavior<GameRoomCoordinatorCommand> create(
-            int maxRoomsPerEntity,
+            EntityAllocationPolicy allocationPolicy,
             GameLifecycleEventPublisher gameLifecycleEventPublisher
     ) {
         return Behaviors.setup(
-                context -> new GameRoomCoordinatorEntity(context, maxRoomsPerEntity, gameLifecycleEventPublisher)
+                context -> new GameRoomCoordinatorEntity(context, allocationPolicy, gameLifecycleEventPublisher)
         );
     }
 
     private GameRoomCoordinatorEntity(
             ActorContext<GameRoomCoordinatorCommand> context,
-            int maxRoomsPerEntity,
+            EntityAllocationPolicy allocationPolicy,
             GameLifecycleEventPublisher gameLifecycleEventPublisher
     ) {
         super(context);
 
-        this.maxRoomsPerEntity = maxRoomsPerEntity;
+        this.allocationPolicy = allocationPolicy;
         this.gameLifecycleEventPublisher = gameLifecycleEventPublisher;
     }
 
-    private final int maxRoomsPerEntity;
+    private final EntityAllocationPolicy allocationPolicy;
     private final Map<String, Integer> entityRoomCounts = new HashMap<>();
+    private final Map<String, EntityLoad> entityLoads = new HashMap<>();
+    private final Map<String, SlotReservation> slotReservations = new HashMap<>();
     private final Map<Long, String> roomToEntity = new HashMap<>();
     private final GameLifecycleEventPublisher gameLifecycleEventPublisher;
     private Long entityIdSequence = 1L;
@@ -51,6 +56,9 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
                                   .onMessage(SyncRoomRemoved.class, this::onSyncRoomRemoved)
                                   .onMessage(ResolveEntityId.class, this::onResolveEntityId)
                                   .onMessage(RoomRemovalNotification.class, this::onRoomRemovalNotification)
+                                  .onMessage(ReportEntityLoad.class, this::onReportEntityLoad)
+                                  .onMessage(ReleaseEntityLoad.class, this::onReleaseEntityLoad)
+                                  .onMessage(LeaseEntitySlots.class, this::onLeaseEntitySlots)
                                   .build();
     }
 
@@ -64,6 +72,29 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
         return this;
     }
 
+    // 노드가 미리 받아 간 슬롯은 방이 실제로 등록되거나 예약이 만료될 때까지 엔티티의 방 수에 더해 계산한다
+    private Behavior<GameRoomCoordinatorCommand> onLeaseEntitySlots(LeaseEntitySlots command) {
+        try {
+            if (command.slots() <= 0) {
+                throw new IllegalArgumentException("임대할 슬롯 수는 1 이상이어야 합니다.");
+            }
+
+            String entityId = selectEntityId();
+            int slots = Math.min(command.slots(), allocationPolicy.remainingRooms(allocatedRoomCount(entityId)));
+
+            slotReservations.put(
+                    entityId,
+                    slotReservations.getOrDefault(entityId, SlotReservation.EMPTY)
+                                    .reserve(slots, System.nanoTime() + SLOT_RESERVATION_TTL.toNanos())
+            );
+            command.replyTo()
+                   .tell(StatusReply.success(new EntitySlotLease(entityId, slots, SLOT_LEASE_VALIDITY.toMillis())));
+        } catch (Exception e) {
+            command.replyTo().tell(StatusReply.error(e));
+        }
+        return this;
+    }
+
     private Behavior<GameRoomCoordinatorCommand> onSyncRoomRemoved(SyncRoomRemoved command) {
         String entityId = roomToEntity.remove(command.roomId());
 
@@ -77,6 +108,7 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
 
     private void publishRoomRemovedEvent(SyncRoomRemoved command, String entityId) {
         if (entityRoomCounts.get(entityId) == 0) {
+            entityLoads.remove(entityId);
             gameLifecycleEventPublisher.publishEntityRemoved(entityId);
         }
 
@@ -106,22 +138,33 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
     }
 
     private String selectEntityId() {
-        String target = null;
-        int minCount = Integer.MAX_VALUE;
+        expireSlotReservations(System.nanoTime());
+        return allocationPolicy.select(allocatedRoomCounts(), entityLoads)
+                               .orElseGet(this::createEntityId);
+    }
 
-        for (Map.Entry<String, Integer> entry : entityRoomCounts.entrySet()) {
-            int count = entry.getValue();
+    private void expireSlotReservations(long nowNanos) {
+        slotReservations.values().removeIf(reservation -> reservation.isExpired(nowNanos));
+    }
 
-            if (count < minCount && count < maxRoomsPerEntity) {
-                minCount = count;
-                target = entry.getKey();
-            }
+    private Map<String, Integer> allocatedRoomCounts() {
+        if (slotReservations.isEmpty()) {
+            return entityRoomCounts;
         }
 
-        if (target != null) {
-            return target;
-        }
+        Map<String, Integer> allocated = new HashMap<>(entityRoomCounts);
+
+        slotReservations.forEach((entityId, reservation) -> allocated.merge(entityId, reservation.slots(), Integer::sum));
+        return allocated;
+    }
+
+    private int allocatedRoomCount(String entityId) {
+        SlotReservation reservation = slotReservations.getOrDefault(entityId, SlotReservation.EMPTY);
 
+        return entityRoomCounts.getOrDefault(entityId, 0) + reservation.slots();
+    }
+
+    private String createEntityId() {
         String newId = entityIdForSequence(entityIdSequence++);
 
         entityRoomCounts.put(newId, 0);
@@ -140,6 +183,18 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
 
         roomToEntity.put(command.roomId(), command.entityId());
         entityRoomCounts.compute(command.entityId(), (k, v) -> v == null ? 1 : v + 1);
+        slotReservations.computeIfPresent(command.entityId(), (k, reservation) -> reservation.consume());
+        return this;
+    }
+
+    private Behavior<GameRoomCoordinatorCommand> onReportEntityLoad(ReportEntityLoad command) {
+        entityLoads.put(command.entityId(), command.load());
+        return this;
+    }
+
+    // 멈춘 엔티티의 마지막 보고가 남아 있으면 이미 떠난 노드의 부하가 계속 선택에 반영되므로 지운다
+    private Behavior<GameRoomCoordinatorCommand> onReleaseEntityLoad(ReleaseEntityLoad command) {
+        entityLoads.remove(command.entityId());
         return this;
     }
 
@@ -149,6 +204,7 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
         if (entityId != null && entityRoomCounts.containsKey(entityId)) {
             entityRoomCounts.compute(entityId, (k, v) -> v == null || v <= 1 ? 0 : v - 1);
             if (entityRoomCounts.get(entityId) == 0) {
+                entityLoads.remove(entityId);
                 gameLifecycleEventPublisher.publishEntityRemoved(entityId);
             }
             gameLifecycleEventPublisher.publishRoomRemoved(entityId, command.roomId());
@@ -170,4 +226,31 @@ public class GameRoomCoordinatorEntity extends AbstractBehavior<GameRoomCoordina
     public record ResolveEntityId(long roomId, ActorRef<StatusReply<String>> replyTo) implements GameRoomCoordinatorCommand { }
 
     public record RoomRemovalNotification(long roomId) implements GameRoomCoordinatorCommand { }
+
+    public record ReportEntityLoad(String entityId, EntityLoad load) implements GameRoomCoordinatorCommand { }
+
+    public record ReleaseEntityLoad(String entityId) implements GameRoomCoordinatorCommand { }
+
+    public record LeaseEntitySlots(int slots, ActorRef<StatusReply<EntitySlotLease>> replyTo) implements GameRoomCoordinatorCommand { }
+
+    public record EntitySlotLease(String entityId, int slots, long validForMillis) implements CborSerializable { }
+
+    private record SlotReservation(int slots, long expiresAtNanos) {
+
+        private static final SlotReservation EMPTY = new SlotReservation(0, Long.MIN_VALUE);
+
+        SlotReservation reserve(int reservedSlots, long newExpiresAtNanos) {
+            return new SlotReservation(slots + reservedSlots, newExpiresAtNanos);
+        }
+
+        SlotReservation consume() {
+            return slots <= 1 ? null : new SlotReservation(slots - 1, expiresAtNanos);
+        }
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos > 0L;
+        }
+    }
+
+    public record EntityLoad(String node, int playerCount, int activeGames, double messagesPerSecond) implements CborSerializable { }
 }
@@ -0,0 +1,220 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.global.actor.CborSerializable;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.persistence.typed.PersistenceId;
+import org.apache.pekko.persistence.typed.javadsl.CommandHandler;
+import org.apache.pekko.persistence.typed.javadsl.Effect;
+import org.apache.pekko.persistence.typed.javadsl.EventHandler;
+import org.apache.pekko.persistence.typed.javadsl.EventSourcedBehavior;
+import org.apache.pekko.persistence.typed.javadsl.RetentionCriteria;
+
+public class RoomMembershipActor extends EventSourcedBehavior<
+        RoomMembershipActor.RoomMembershipCommand,
+        RoomMembershipActor.RoomMembershipEvent,
+        RoomMembershipActor.RoomMembership> {
+
+    public static final String ENTITY_TYPE = "GameManagerMembership";
+    private static final int SNAPSHOT_EVERY_EVENTS = 100;
+    private static final int KEEP_SNAPSHOTS = 2;
+
+    public static Behavior<RoomMembershipCommand> create(String entityId) {
+        return new RoomMembershipActor(persistenceIdOf(entityId));
+    }
+
+    public static PersistenceId persistenceIdOf(String entityId) {
+        return PersistenceId.of(ENTITY_TYPE, entityId);
+    }
+
+    private RoomMembershipActor(PersistenceId persistenceId) {
+        super(persistenceId);
+    }
+
+    @Override
+    public RoomMembership emptyState() {
+        return new RoomMembership(Set.of(), Map.of(), Map.of());
+    }
+
+    @Override
+    public CommandHandler<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> commandHandler() {
+        return newCommandHandlerBuilder().forAnyState()
+                                         .onCommand(RecordRoomAdded.class, this::onRecordRoomAdded)
+                                         .onCommand(RecordRoomWaiting.class, this::onRecordRoomWaiting)
+                                         .onCommand(RecordRoomStarted.class, this::onRecordRoomStarted)
+                                         .onCommand(RecordRoomRemoved.class, this::onRecordRoomRemoved)
+                                         .onCommand(QueryRoomMembership.class, this::onQueryRoomMembership)
+                                         .build();
+    }
+
+    private Effect<RoomMembershipEvent, RoomMembership> onRecordRoomAdded(
+            RoomMembership state,
+            RecordRoomAdded command
+    ) {
+        if (state.contains(command.roomId())) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new RoomAdded(command.roomId()));
+    }
+
+    private Effect<RoomMembershipEvent, RoomMembership> onRecordRoomWaiting(
+            RoomMembership state,
+            RecordRoomWaiting command
+    ) {
+        Long roomId = command.room().roomId();
+
+        if (!state.contains(roomId) || state.startedRooms().containsKey(roomId)) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new RoomWaiting(command.room()));
+    }
+
+    private Effect<RoomMembershipEvent, RoomMembership> onRecordRoomStarted(
+            RoomMembership state,
+            RecordRoomStarted command
+    ) {
+        if (!state.contains(command.room().roomId())) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new RoomStarted(command.room()));
+    }
+
+    private Effect<RoomMembershipEvent, RoomMembership> onRecordRoomRemoved(
+            RoomMembership state,
+            RecordRoomRemoved command
+    ) {
+        if (!state.contains(command.roomId())) {
+            return Effect().none();
+        }
+
+        return Effect().persist(new RoomRemoved(command.roomId()));
+    }
+
+    private Effect<RoomMembershipEvent, RoomMembership> onQueryRoomMembership(
+            RoomMembership state,
+            QueryRoomMembership command
+    ) {
+        return Effect().none()
+                       .thenReply(command.replyTo(), membership -> membership);
+    }
+
+    @Override
+    public EventHandler<RoomMembership, RoomMembershipEvent> eventHandler() {
+        return newEventHandlerBuilder().forAnyState()
+                                       .onEvent(RoomAdded.class, (state, event) -> state.add(event.roomId()))
+                                       .onEvent(RoomWaiting.class, (state, event) -> state.waiting(event.room()))
+                                       .onEvent(RoomStarted.class, (state, event) -> state.start(event.room()))
+                                       .onEvent(RoomRemoved.class, (state, event) -> state.remove(event.roomId()))
+                                       .build();
+    }
+
+    @Override
+    public RetentionCriteria retentionCriteria() {
+        return RetentionCriteria.snapshotEvery(SNAPSHOT_EVERY_EVENTS, KEEP_SNAPSHOTS);
+    }
+
+    public interface RoomMembershipCommand extends CborSerializable { }
+
+    public record RecordRoomAdded(Long roomId) implements RoomMembershipCommand { }
+
+    public record RecordRoomWaiting(WaitingRoom room) implements RoomMembershipCommand { }
+
+    public record RecordRoomStarted(StartedRoom room) implements RoomMembershipCommand { }
+
+    public record RecordRoomRemoved(Long roomId) implements RoomMembershipCommand { }
+
+    public record QueryRoomMembership(ActorRef<RoomMembership> replyTo) implements RoomMembershipCommand { }
+
+    public interface RoomMembershipEvent extends CborSerializable { }
+
+    public record RoomAdded(Long roomId) implements RoomMembershipEvent { }
+
+    public record RoomWaiting(WaitingRoom room) implements RoomMembershipEvent { }
+
+    public record RoomStarted(StartedRoom room) implements RoomMembershipEvent { }
+
+    public record RoomRemoved(Long roomId) implements RoomMembershipEvent { }
+
+    // 게임을 시작한 방은 다른 노드에서 로비를 다시 세우고 게임 기록으로 이어갈 수 있도록 방 정보와 참가자 세션을 함께 남긴다
+    public record StartedRoom(
+            Long roomId,
+            String lobbyName,
+            int maxPlayerCount,
+            Long hostId,
+            MatchCreated match,
+            Map<Long, ActorRef<ClientSessionCommand>> clientSessions
+    ) implements CborSerializable { }
+
+    // 아직 시작하지 않은 방은 로비 상태를 되살리지 않지만, 장애 뒤에 머물던 세션에 방이 닫혔음을 알릴 수 있도록 로비와 세션을 남긴다
+    public record WaitingRoom(
+            Long roomId,
+            ActorRef<LobbyCommand> lobby,
+            Map<Long, ActorRef<ClientSessionCommand>> clientSessions
+    ) implements CborSerializable { }
+
+    public record RoomMembership(
+            Set<Long> roomIds,
+            Map<Long, StartedRoom> startedRooms,
+            Map<Long, WaitingRoom> waitingRooms
+    ) implements CborSerializable {
+
+        // 시작한 방이나 대기 중인 방을 남기기 전에 저장된 스냅샷에는 해당 목록이 없으므로 빈 목록으로 읽는다
+        public RoomMembership {
+            if (startedRooms == null) {
+                startedRooms = Map.of();
+            }
+            if (waitingRooms == null) {
+                waitingRooms = Map.of();
+            }
+        }
+
+        public boolean contains(Long roomId) {
+            return roomIds.contains(roomId);
+        }
+
+        // 스냅샷 저장은 비동기로 직렬화되므로 상태를 변경하지 않고 새 목록을 만든다
+        RoomMembership add(Long roomId) {
+            Set<Long> added = new HashSet<>(roomIds);
+
+            added.add(roomId);
+            return new RoomMembership(Set.copyOf(added), startedRooms, waitingRooms);
+        }
+
+        RoomMembership waiting(WaitingRoom room) {
+            Map<Long, WaitingRoom> waiting = new HashMap<>(waitingRooms);
+
+            waiting.put(room.roomId(), room);
+            return new RoomMembership(roomIds, startedRooms, Map.copyOf(waiting));
+        }
+
+        RoomMembership start(StartedRoom room) {
+            Map<Long, StartedRoom> started = new HashMap<>(startedRooms);
+            Map<Long, WaitingRoom> waiting = new HashMap<>(waitingRooms);
+
+            started.put(room.roomId(), room);
+            waiting.remove(room.roomId());
+            return new RoomMembership(roomIds, Map.copyOf(started), Map.copyOf(waiting));
+        }
+
+        RoomMembership remove(Long roomId) {
+            Set<Long> removed = new HashSet<>(roomIds);
+            Map<Long, StartedRoom> started = new HashMap<>(startedRooms);
+            Map<Long, WaitingRoom> waiting = new HashMap<>(waitingRooms);
+
+            removed.remove(roomId);
+            started.remove(roomId);
+            waiting.remove(roomId);
+            return new RoomMembership(Set.copyOf(removed), Map.copyOf(started), Map.copyOf(waiting));
+        }
+    }
+}
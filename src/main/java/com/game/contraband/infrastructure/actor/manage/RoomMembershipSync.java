@@ -0,0 +1,66 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.GameManagerCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.QueryRoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomAdded;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomRemoved;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomStarted;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomWaiting;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembershipCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.StartedRoom;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.WaitingRoom;
+import java.time.Duration;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+
+public class RoomMembershipSync {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5L);
+
+    private final ActorRef<RoomMembershipCommand> membership;
+
+    public RoomMembershipSync(ActorRef<RoomMembershipCommand> membership) {
+        this.membership = membership;
+    }
+
+    public void roomAdded(Long roomId) {
+        if (membership != null) {
+            membership.tell(new RecordRoomAdded(roomId));
+        }
+    }
+
+    public void roomWaiting(WaitingRoom room) {
+        if (membership != null) {
+            membership.tell(new RecordRoomWaiting(room));
+        }
+    }
+
+    public void roomStarted(StartedRoom room) {
+        if (membership != null) {
+            membership.tell(new RecordRoomStarted(room));
+        }
+    }
+
+    public void roomRemoved(Long roomId) {
+        if (membership != null) {
+            membership.tell(new RecordRoomRemoved(roomId));
+        }
+    }
+
+    // 저장 중인 기록이 끝나야 조회에 응답하므로, 응답을 받으면 앞서 보낸 기록이 모두 저널에 남은 것이다
+    public void whenPersisted(ActorContext<GameManagerCommand> context, GameManagerCommand done) {
+        if (membership == null) {
+            context.getSelf().tell(done);
+            return;
+        }
+
+        context.ask(
+                RoomMembership.class,
+                membership,
+                FLUSH_TIMEOUT,
+                QueryRoomMembership::new,
+                (reply, failure) -> done
+        );
+    }
+}
@@ -2,12 +2,16 @@ package com.game.contraband.infrastructure.actor.manage;
 
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.pekko.actor.typed.ActorRef;
 
 public class RoomRegistry {
 
     private final Map<Long, ActorRef<LobbyCommand>> rooms = new HashMap<>();
+    private final Set<Long> startedRoomIds = new HashSet<>();
 
     public ActorRef<LobbyCommand> get(Long roomId) {
         return rooms.get(roomId);
@@ -18,6 +22,29 @@ public class RoomRegistry {
     }
 
     public ActorRef<LobbyCommand> remove(Long roomId) {
+        startedRoomIds.remove(roomId);
         return rooms.remove(roomId);
     }
+
+    public void markStarted(Long roomId) {
+        if (rooms.containsKey(roomId)) {
+            startedRoomIds.add(roomId);
+        }
+    }
+
+    public List<ActorRef<LobbyCommand>> waitingLobbies() {
+        return rooms.entrySet()
+                    .stream()
+                    .filter(entry -> !startedRoomIds.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+    }
+
+    public boolean hasWaitingRooms() {
+        return rooms.size() > startedRoomIds.size();
+    }
+
+    public boolean contains(Long roomId) {
+        return rooms.containsKey(roomId);
+    }
 }
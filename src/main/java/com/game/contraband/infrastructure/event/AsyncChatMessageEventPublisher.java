@@ -0,0 +1,152 @@
+package com.game.contraband.infrastructure.event;
+
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+// 채팅 액터는 이벤트를 잠금 없는 큐에 넣기만 하고, 브로커 전송과 확인 대기는 전용 스레드가 묶음 단위로 처리한다
+public class AsyncChatMessageEventPublisher implements ChatMessageEventPublisher, AutoCloseable {
+
+    public AsyncChatMessageEventPublisher(
+            ChatMessageEventBroker broker,
+            ChatEventPublishSettings settings,
+            MeterRegistry meterRegistry
+    ) {
+        this.broker = broker;
+        this.queue = new ManyToOneConcurrentArrayQueue<>(settings.queueCapacity());
+        this.retryQueue = new ManyToOneConcurrentArrayQueue<>(settings.retryBufferCapacity());
+        this.maxBatchSize = settings.maxBatchSize();
+        this.maxInFlightBatches = settings.maxInFlightBatches();
+        this.maxAttempts = settings.maxAttempts();
+        this.confirmTimeout = settings.confirmTimeout();
+        this.publishedCounter = meterRegistry.counter("chat.event.published");
+        this.droppedCounter = meterRegistry.counter("chat.event.dropped");
+        this.retriedCounter = meterRegistry.counter("chat.event.retried");
+        this.failedCounter = meterRegistry.counter("chat.event.failed");
+        this.batchCounter = meterRegistry.counter("chat.event.batches");
+        meterRegistry.gauge("chat.event.queue.depth", queue, ManyToOneConcurrentArrayQueue::size);
+        meterRegistry.gauge("chat.event.retry.depth", retryQueue, ManyToOneConcurrentArrayQueue::size);
+        meterRegistry.gauge("chat.event.in-flight", inFlightBatches);
+
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-event-publisher");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long flushIntervalNanos = settings.flushInterval().toNanos();
+
+        drainer.scheduleWithFixedDelay(this::drain, flushIntervalNanos, flushIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final ChatMessageEventBroker broker;
+    private final ManyToOneConcurrentArrayQueue<ChatMessageEvent> queue;
+    private final ManyToOneConcurrentArrayQueue<PendingBatch> retryQueue;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final int maxAttempts;
+    private final Duration confirmTimeout;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter batchCounter;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final ScheduledExecutorService drainer;
+
+    // 액터 스레드에서 호출되므로 브로커가 느려도 기다리지 않는다. 큐가 가득 차면 채팅 전달을 막지 않도록 이벤트를 버린다
+    @Override
+    public void publish(ChatMessageEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Override
+    public void close() {
+        drainer.shutdown();
+        try {
+            drainer.awaitTermination(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 확인 대기 한도와 상관없이 남은 이벤트를 마지막으로 한 번 내보낸다
+        PendingBatch retry;
+
+        while ((retry = retryQueue.poll()) != null) {
+            send(retry);
+        }
+        while (!queue.isEmpty()) {
+            send(new PendingBatch(nextBatch(), 1));
+        }
+    }
+
+    // 확인을 기다리는 묶음이 한도에 이르면 더 꺼내지 않고 큐에 남겨, 밀린 만큼은 큐 용량으로만 버틴다
+    void drain() {
+        while (inFlightBatches.get() < maxInFlightBatches) {
+            PendingBatch batch = retryQueue.poll();
+
+            if (batch == null) {
+                if (queue.isEmpty()) {
+                    return;
+                }
+                batch = new PendingBatch(nextBatch(), 1);
+            }
+            send(batch);
+        }
+    }
+
+    private List<ChatMessageEvent> nextBatch() {
+        List<ChatMessageEvent> events = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
+
+        queue.drain(events::add, maxBatchSize);
+        return events;
+    }
+
+    private void send(PendingBatch batch) {
+        CompletableFuture<Void> confirmed;
+
+        inFlightBatches.incrementAndGet();
+        batchCounter.increment();
+        try {
+            confirmed = broker.publish(batch.events())
+                              .toCompletableFuture()
+                              .orTimeout(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException ex) {
+            onConfirmed(batch, ex);
+            return;
+        }
+        confirmed.whenComplete((ignored, ex) -> onConfirmed(batch, ex));
+    }
+
+    // 거부되거나 확인이 오지 않은 묶음은 재전송 버퍼에 되돌리고, 버퍼가 차거나 시도 횟수를 넘기면 버린다
+    private void onConfirmed(PendingBatch batch, Throwable ex) {
+        inFlightBatches.decrementAndGet();
+        if (ex == null) {
+            publishedCounter.increment(batch.events().size());
+            return;
+        }
+        if (batch.attempts() < maxAttempts && retryQueue.offer(batch.nextAttempt())) {
+            retriedCounter.increment(batch.events().size());
+            return;
+        }
+        failedCounter.increment(batch.events().size());
+    }
+
+    private record PendingBatch(List<ChatMessageEvent> events, int attempts) {
+
+        PendingBatch nextAttempt() {
+            return new PendingBatch(events, attempts + 1);
+        }
+    }
+}
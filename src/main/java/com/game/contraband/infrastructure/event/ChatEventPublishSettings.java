@@ -0,0 +1,25 @@
+package com.game.contraband.infrastructure.event;
+
+import java.time.Duration;
+
+public record ChatEventPublishSettings(
+        int queueCapacity,
+        int maxBatchSize,
+        int maxInFlightBatches,
+        Duration flushInterval,
+        Duration confirmTimeout,
+        int retryBufferCapacity,
+        int maxAttempts
+) {
+    public ChatEventPublishSettings {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("채팅 이벤트 묶음 크기는 1 이상이어야 합니다.");
+        }
+        if (maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("확인을 기다릴 수 있는 묶음 수는 1 이상이어야 합니다.");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("채팅 이벤트 묶음 전송 시도 횟수는 1 이상이어야 합니다.");
+        }
+    }
+}
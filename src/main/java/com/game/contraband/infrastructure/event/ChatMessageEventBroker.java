@@ -0,0 +1,11 @@
+package com.game.contraband.infrastructure.event;
+
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatMessageEvent;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+// 채팅 이벤트 묶음을 외부 브로커로 보내고, 브로커가 받았다고 확인하면 완료되는 단계를 돌려준다
+public interface ChatMessageEventBroker {
+
+    CompletionStage<Void> publish(List<ChatMessageEvent> events);
+}
@@ -2,8 +2,16 @@ package com.game.contraband.infrastructure.event;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatMessageEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -11,19 +19,43 @@ import org.springframework.stereotype.Component;
 @Profile("rabbit-mq")
 @Component
 @RequiredArgsConstructor
-public class RabbitMqChatMessagePublisher implements ChatMessageEventPublisher {
+public class RabbitMqChatMessagePublisher implements ChatMessageEventBroker {
 
     private static final String ROUTING_KEY = "monitor.chat";
+    private static final String BATCH_SIZE_HEADER = "x-chat-event-count";
 
     private final RabbitTemplate rabbitTemplate;
     private final ObjectMapper objectMapper;
 
+    // 묶음 전체를 JSON 배열 하나로 만들어 AMQP 메시지 한 건으로 보내고, 브로커의 발행 확인(confirm)을 기다리지 않고 돌려준다
     @Override
-    public void publish(ChatMessageEvent event) {
+    public CompletionStage<Void> publish(List<ChatMessageEvent> events) {
+        CorrelationData correlationData = new CorrelationData();
+
         try {
-            rabbitTemplate.convertAndSend("", ROUTING_KEY, objectMapper.writeValueAsString(event));
+            rabbitTemplate.send("", ROUTING_KEY, toMessage(events), correlationData);
         } catch (JsonProcessingException e) {
-            throw new IllegalStateException("채팅 이벤트 직렬화에 실패했습니다.", e);
+            return CompletableFuture.failedFuture(new IllegalStateException("채팅 이벤트 직렬화에 실패했습니다.", e));
+        } catch (AmqpException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return correlationData.getFuture()
+                              .thenCompose(this::toResult);
+    }
+
+    private Message toMessage(List<ChatMessageEvent> events) throws JsonProcessingException {
+        return MessageBuilder.withBody(objectMapper.writeValueAsBytes(events))
+                             .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                             .setHeader(BATCH_SIZE_HEADER, events.size())
+                             .build();
+    }
+
+    private CompletionStage<Void> toResult(CorrelationData.Confirm confirm) {
+        if (confirm.isAck()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return CompletableFuture.failedFuture(
+                new IllegalStateException("브로커가 채팅 이벤트 묶음을 거부했습니다: " + confirm.getReason())
+        );
     }
 }
@@ -0,0 +1,137 @@
+package com.game.contraband.infrastructure.monitor;
+
+import com.game.contraband.domain.monitor.ChatBlacklistRepository;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistReplicaActor.ChatBlacklistReplicaCommand;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistReplicaActor.ReplicateBlock;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistReplicaActor.ReplicateUnblock;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import org.agrona.collections.LongHashSet;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 노드마다 차단 목록의 근접 캐시를 두고, 원본 저장과 노드 간 전파는 복제 액터에 맡긴다
+// 개발 환경에서는 dev,cluster-blacklist 프로필을 함께 켜면 이 저장소로 뜬다
+@Profile("!dev | cluster-blacklist")
+@Component
+public class ClusterChatBlacklistRepository implements ChatBlacklistRepository {
+
+    // 채팅을 보낼 때마다 액터 스레드에서 조회하므로, 읽기는 잠금 없이 불변 스냅샷만 보도록 변경 시 통째로 바꿔 끼운다
+    private volatile LongHashSet blocked = new LongHashSet();
+    private volatile ActorRef<ChatBlacklistReplicaCommand> replica;
+    private final Set<LongConsumer> listeners = ConcurrentHashMap.newKeySet();
+
+    public void connect(ActorRef<ChatBlacklistReplicaCommand> replica) {
+        this.replica = replica;
+    }
+
+    @Override
+    public void block(Long playerId) {
+        if (playerId == null) {
+            return;
+        }
+        applyBlocked(playerId);
+        replicate(new ReplicateBlock(playerId));
+    }
+
+    @Override
+    public void unblock(Long playerId) {
+        if (playerId == null) {
+            return;
+        }
+        applyUnblocked(playerId);
+        replicate(new ReplicateUnblock(playerId));
+    }
+
+    @Override
+    public boolean isBlocked(Long playerId) {
+        return playerId != null && blocked.contains(playerId.longValue());
+    }
+
+    @Override
+    public Runnable registerListener(LongConsumer listener) {
+        if (listener == null) {
+            return () -> { };
+        }
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    @Override
+    public Set<Long> findAll() {
+        return Set.copyOf(blocked);
+    }
+
+    public void applyBlocked(long playerId) {
+        synchronized (this) {
+            if (blocked.contains(playerId)) {
+                return;
+            }
+
+            LongHashSet next = copyOfBlocked();
+
+            next.add(playerId);
+            blocked = next;
+        }
+        notifyListeners(playerId);
+    }
+
+    public synchronized void applyUnblocked(long playerId) {
+        if (!blocked.contains(playerId)) {
+            return;
+        }
+
+        LongHashSet next = copyOfBlocked();
+
+        next.remove(playerId);
+        blocked = next;
+    }
+
+    // 원본 목록으로 캐시를 맞추고, 새로 차단된 플레이어만 리스너에 알린다
+    public void replaceAll(Set<Long> playerIds) {
+        Set<Long> newlyBlocked = new HashSet<>();
+
+        synchronized (this) {
+            LongHashSet next = new LongHashSet(Math.max(8, playerIds.size() * 2));
+
+            for (Long playerId : playerIds) {
+                next.add(playerId.longValue());
+                if (!blocked.contains(playerId.longValue())) {
+                    newlyBlocked.add(playerId);
+                }
+            }
+            blocked = next;
+        }
+        newlyBlocked.forEach(this::notifyListeners);
+    }
+
+    private LongHashSet copyOfBlocked() {
+        LongHashSet copy = new LongHashSet(Math.max(8, blocked.size() * 2));
+
+        copy.addAll(blocked);
+        return copy;
+    }
+
+    private void replicate(ChatBlacklistReplicaCommand command) {
+        ActorRef<ChatBlacklistReplicaCommand> current = replica;
+
+        if (current != null) {
+            current.tell(command);
+        }
+    }
+
+    private void notifyListeners(long playerId) {
+        listeners.forEach(
+                listener -> {
+                    try {
+                        listener.accept(playerId);
+                    } catch (Exception ignored) {
+                        // 개별 리스너 예외 무시
+                    }
+                }
+        );
+    }
+}
@@ -8,7 +8,7 @@ import java.util.function.LongConsumer;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-@Profile("dev")
+@Profile("dev & !cluster-blacklist")
 @Component
 public class InMemoryChatBlacklistRepository implements ChatBlacklistRepository {
 
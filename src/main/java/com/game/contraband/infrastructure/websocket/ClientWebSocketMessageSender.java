@@ -5,10 +5,12 @@ import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.round.RoundOutcomeType;
 import com.game.contraband.domain.game.transfer.TransferFailureReason;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RoomDirectoryChange;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatKickedPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatLeftPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ChatMessageMaskedPayload;
@@ -30,6 +32,8 @@ import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayl
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerLeftLobbyPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RegisteredInspectorIdPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RegisteredSmugglerIdPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryChangePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryDeltaPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryEntryPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.RoomDirectoryUpdatedPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.SelectionTimerPayload;
@@ -41,58 +45,51 @@ import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayl
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.TransferFailedPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.TransferPayload;
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.WebSocketEmptyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
 import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
 import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
-import reactor.core.publisher.Sinks.Many;
 
 public class ClientWebSocketMessageSender {
 
-    private final AtomicReference<Many<WebSocketOutboundMessage>> sinkHolder;
+    private final AtomicReference<SessionOutboundQueue> sinkHolder;
 
     public ClientWebSocketMessageSender() {
         this(null);
     }
 
-    public ClientWebSocketMessageSender(Many<WebSocketOutboundMessage> sink) {
+    public ClientWebSocketMessageSender(SessionOutboundQueue sink) {
         this.sinkHolder = new AtomicReference<>(sink);
     }
 
-    public void attachSink(Many<WebSocketOutboundMessage> sink) {
+    public void attachSink(SessionOutboundQueue sink) {
         sinkHolder.set(sink);
     }
 
-    public void detachSink(Many<WebSocketOutboundMessage> sink) {
+    public void detachSink(SessionOutboundQueue sink) {
         sinkHolder.compareAndSet(sink, null);
     }
 
+    public boolean hasSink() {
+        return sinkHolder.get() != null;
+    }
+
     public void sendExceptionMessage(ExceptionCode code) {
-        ExceptionCode resolvedCode = code == null ? ExceptionCode.UNKNOWN_ERROR : code;
-        ExceptionMessagePayload payload = new ExceptionMessagePayload(resolvedCode);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.EXCEPTION_MESSAGE,
-                payload
-        );
+        emit(exceptionMessage(code));
+    }
 
-        emit(webSocketOutboundMessage);
+    public void sendPreEncoded(PreEncodedOutboundMessage message) {
+        emit(message);
     }
 
-    public void sendRoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount) {
+    public void sendRoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount, long version) {
         List<RoomDirectoryEntryPayload> entries = rooms.stream()
-                                                       .map(room -> new RoomDirectoryEntryPayload(
-                                                               room.roomId(),
-                                                               String.valueOf(room.roomId()),
-                                                               room.lobbyName(),
-                                                               room.maxPlayerCount(),
-                                                               room.currentPlayerCount(),
-                                                               room.entityId(),
-                                                               room.gameStarted()
-                                                       ))
+                                                       .map(this::toRoomDirectoryEntry)
                                                        .toList();
-        RoomDirectoryUpdatedPayload payload = new RoomDirectoryUpdatedPayload(entries, totalCount);
+        RoomDirectoryUpdatedPayload payload = new RoomDirectoryUpdatedPayload(entries, totalCount, version);
         WebSocketOutboundMessage message = new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED,
                 payload
@@ -101,6 +98,24 @@ public class ClientWebSocketMessageSender {
         emit(message);
     }
 
+    public void sendRoomDirectoryDelta(long version, long previousVersion, List<RoomDirectoryChange> changes, int totalCount) {
+        List<RoomDirectoryChangePayload> changePayloads = changes.stream()
+                                                                 .map(change -> new RoomDirectoryChangePayload(
+                                                                         change.type(),
+                                                                         change.roomId(),
+                                                                         String.valueOf(change.roomId()),
+                                                                         change.room() == null ? null : toRoomDirectoryEntry(change.room())
+                                                                 ))
+                                                                 .toList();
+        RoomDirectoryDeltaPayload payload = new RoomDirectoryDeltaPayload(version, previousVersion, totalCount, changePayloads);
+        WebSocketOutboundMessage message = new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA,
+                payload
+        );
+
+        emit(message);
+    }
+
     public void sendChatWelcome(String playerName) {
         WebSocketOutboundMessage payload = new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.CHAT_WELCOME,
@@ -193,16 +208,6 @@ public class ClientWebSocketMessageSender {
         emit(webSocketOutboundMessage);
     }
 
-    public void sendSelectionTimer(int round, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) {
-        SelectionTimerPayload payload = new SelectionTimerPayload(round, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.ROUND_SELECTION_TIMER,
-                payload
-        );
-
-        emit(webSocketOutboundMessage);
-    }
-
     public void sendRegisteredSmugglerId(Long playerId) {
         RegisteredSmugglerIdPayload payload = new RegisteredSmugglerIdPayload(playerId);
         WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
@@ -290,46 +295,6 @@ public class ClientWebSocketMessageSender {
         emit(webSocketOutboundMessage);
     }
 
-    public void sendStartNewRound(
-            int currentRound,
-            Long smugglerId,
-            Long inspectorId,
-            long eventAtMillis,
-            long durationMillis,
-            long serverNowMillis,
-            long endAtMillis
-    ) {
-        StartNewRoundPayload payload = new StartNewRoundPayload(currentRound, smugglerId, inspectorId, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.START_NEW_ROUND,
-                payload
-        );
-
-        emit(webSocketOutboundMessage);
-    }
-
-    public void sendFinishedRound(
-            Long smugglerId,
-            int smugglerAmount,
-            Long inspectorId,
-            int inspectorAmount,
-            RoundOutcomeType outcomeType
-    ) {
-        FinishedRoundPayload payload = new FinishedRoundPayload(
-                smugglerId,
-                smugglerAmount,
-                inspectorId,
-                inspectorAmount,
-                outcomeType
-        );
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.FINISHED_ROUND,
-                payload
-        );
-
-        emit(webSocketOutboundMessage);
-    }
-
     public void sendFinishedGame(GameWinnerType gameWinnerType, int smugglerTotalBalance, int inspectorTotalBalance) {
         FinishedGamePayload payload = new FinishedGamePayload(
                 gameWinnerType,
@@ -345,13 +310,7 @@ public class ClientWebSocketMessageSender {
     }
 
     public void sendTransferFailed(TransferFailureReason reason, String message) {
-        TransferFailedPayload payload = new TransferFailedPayload(reason, message);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.TRANSFER_FAILED,
-                payload
-        );
-
-        emit(webSocketOutboundMessage);
+        emit(transferFailedMessage(reason, message));
     }
 
     public void sendDecideInspectorBehaviorForSmugglerTeam() {
@@ -396,13 +355,7 @@ public class ClientWebSocketMessageSender {
     }
 
     public void sendTransfer(Long senderId, Long targetId, int senderBalance, int targetBalance, int amount) {
-        TransferPayload payload = new TransferPayload(senderId, targetId, senderBalance, targetBalance, amount);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.TRANSFER,
-                payload
-        );
-
-        emit(webSocketOutboundMessage);
+        emit(transferMessage(senderId, targetId, senderBalance, targetBalance, amount));
     }
 
     public void sendCreateLobby(int maxPlayerCount, String lobbyName, TeamRole teamRole) {
@@ -439,22 +392,126 @@ public class ClientWebSocketMessageSender {
         emit(webSocketOutboundMessage);
     }
 
-    public void sendOtherPlayerJoinedLobby(Long joinerId, String joinerName, TeamRole teamRole, int currentPlayerCount) {
+    public void sendLeftLobby() {
+        emit(WebSocketOutboundMessage.LEFT_LOBBY_MESSAGE);
+    }
+
+    public void sendKickedLobby() {
+        emit(WebSocketOutboundMessage.KICKED_LOBBY_MESSAGE);
+    }
+
+    public void sendHostDeletedLobby() {
+        emit(WebSocketOutboundMessage.HOST_DELETED_LOBBY);
+    }
+
+    public void sendLobbyDeleted() {
+        emit(WebSocketOutboundMessage.DELETED_LOBBY);
+    }
+
+    public void sendWebSocketPing() {
+        emit(WebSocketOutboundMessage.PING_MESSAGE);
+    }
+
+    public void requestSessionReconnect() {
+        emit(WebSocketOutboundMessage.RECONNECT_MESSAGE);
+    }
+
+    public static WebSocketOutboundMessage exceptionMessage(ExceptionCode code) {
+        ExceptionCode resolvedCode = code == null ? ExceptionCode.UNKNOWN_ERROR : code;
+
+        return new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.EXCEPTION_MESSAGE,
+                new ExceptionMessagePayload(resolvedCode)
+        );
+    }
+
+    public static WebSocketOutboundMessage selectionTimerMessage(
+            int round,
+            long eventAtMillis,
+            long durationMillis,
+            long serverNowMillis,
+            long endAtMillis
+    ) {
+        SelectionTimerPayload payload = new SelectionTimerPayload(round, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
+
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.ROUND_SELECTION_TIMER, payload);
+    }
+
+    public static WebSocketOutboundMessage startNewRoundMessage(
+            int currentRound,
+            Long smugglerId,
+            Long inspectorId,
+            long eventAtMillis,
+            long durationMillis,
+            long serverNowMillis,
+            long endAtMillis
+    ) {
+        StartNewRoundPayload payload = new StartNewRoundPayload(currentRound, smugglerId, inspectorId, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
+
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.START_NEW_ROUND, payload);
+    }
+
+    public static WebSocketOutboundMessage finishedRoundMessage(
+            Long smugglerId,
+            int smugglerAmount,
+            Long inspectorId,
+            int inspectorAmount,
+            RoundOutcomeType outcomeType
+    ) {
+        FinishedRoundPayload payload = new FinishedRoundPayload(
+                smugglerId,
+                smugglerAmount,
+                inspectorId,
+                inspectorAmount,
+                outcomeType
+        );
+
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.FINISHED_ROUND, payload);
+    }
+
+    public static WebSocketOutboundMessage transferFailedMessage(TransferFailureReason reason, String message) {
+        return new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.TRANSFER_FAILED,
+                new TransferFailedPayload(reason, message)
+        );
+    }
+
+    public static WebSocketOutboundMessage transferMessage(
+            Long senderId,
+            Long targetId,
+            int senderBalance,
+            int targetBalance,
+            int amount
+    ) {
+        TransferPayload payload = new TransferPayload(senderId, targetId, senderBalance, targetBalance, amount);
+
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.TRANSFER, payload);
+    }
+
+    public static WebSocketOutboundMessage otherPlayerJoinedLobbyMessage(
+            Long joinerId,
+            String joinerName,
+            TeamRole teamRole,
+            int currentPlayerCount
+    ) {
         OtherPlayerJoinedLobbyPayload payload = new OtherPlayerJoinedLobbyPayload(
                 joinerId,
                 joinerName,
                 teamRole,
                 currentPlayerCount
         );
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.OTHER_PLAYER_JOINED_LOBBY,
-                payload
-        );
 
-        emit(webSocketOutboundMessage);
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.OTHER_PLAYER_JOINED_LOBBY, payload);
     }
 
-    public void sendJoinedLobby(Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants) {
+    public static WebSocketOutboundMessage joinedLobbyMessage(
+            Long roomId,
+            Long hostId,
+            int maxPlayerCount,
+            int currentPlayerCount,
+            String lobbyName,
+            List<LobbyParticipant> lobbyParticipants
+    ) {
         JoinedLobbyPayload payload = new JoinedLobbyPayload(
                 roomId,
                 hostId,
@@ -463,83 +520,55 @@ public class ClientWebSocketMessageSender {
                 lobbyName,
                 lobbyParticipants
         );
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
-                WebSocketOutboundMessageType.JOINED_LOBBY,
-                payload
-        );
 
-        emit(webSocketOutboundMessage);
+        return new WebSocketOutboundMessage(WebSocketOutboundMessageType.JOINED_LOBBY, payload);
     }
 
-    public void sendToggledReady(Long playerId, boolean toggleReadyState) {
-        ToggledReadyPayload payload = new ToggledReadyPayload(playerId, toggleReadyState);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
+    public static WebSocketOutboundMessage toggledReadyMessage(Long playerId, boolean toggleReadyState) {
+        return new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.TOGGLED_READY,
-                payload
+                new ToggledReadyPayload(playerId, toggleReadyState)
         );
-
-        emit(webSocketOutboundMessage);
     }
 
-    public void sendToggledTeam(Long playerId, String playerName, TeamRole teamRole) {
-        ToggledTeamPayload payload = new ToggledTeamPayload(playerId, playerName, teamRole);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
+    public static WebSocketOutboundMessage toggledTeamMessage(Long playerId, String playerName, TeamRole teamRole) {
+        return new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.TOGGLED_TEAM,
-                payload
+                new ToggledTeamPayload(playerId, playerName, teamRole)
         );
-
-        emit(webSocketOutboundMessage);
     }
 
-    public void sendLeftLobby() {
-        emit(WebSocketOutboundMessage.LEFT_LOBBY_MESSAGE);
-    }
-
-    public void sendOtherPlayerLeftLobby(Long playerId) {
-        OtherPlayerLeftLobbyPayload payload = new OtherPlayerLeftLobbyPayload(playerId);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
+    public static WebSocketOutboundMessage otherPlayerLeftLobbyMessage(Long playerId) {
+        return new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.OTHER_PLAYER_LEFT_LOBBY,
-                payload
+                new OtherPlayerLeftLobbyPayload(playerId)
         );
-
-        emit(webSocketOutboundMessage);
     }
 
-    public void sendKickedLobby() {
-        emit(WebSocketOutboundMessage.KICKED_LOBBY_MESSAGE);
-    }
-
-    public void sendOtherPlayerKicked(Long playerId) {
-        OtherPlayerKickedPayload payload = new OtherPlayerKickedPayload(playerId);
-        WebSocketOutboundMessage webSocketOutboundMessage = new WebSocketOutboundMessage(
+    public static WebSocketOutboundMessage otherPlayerKickedMessage(Long playerId) {
+        return new WebSocketOutboundMessage(
                 WebSocketOutboundMessageType.OTHER_PLAYER_KICKED,
-                payload
+                new OtherPlayerKickedPayload(playerId)
         );
-
-        emit(webSocketOutboundMessage);
     }
 
-    public void sendHostDeletedLobby() {
-        emit(WebSocketOutboundMessage.HOST_DELETED_LOBBY);
-    }
-
-    public void sendLobbyDeleted() {
-        emit(WebSocketOutboundMessage.DELETED_LOBBY);
-    }
-
-    public void sendWebSocketPing() {
-        emit(WebSocketOutboundMessage.PING_MESSAGE);
-    }
-
-    public void requestSessionReconnect() {
-        emit(WebSocketOutboundMessage.RECONNECT_MESSAGE);
+    private RoomDirectoryEntryPayload toRoomDirectoryEntry(RoomDirectorySnapshot room) {
+        return new RoomDirectoryEntryPayload(
+                room.roomId(),
+                String.valueOf(room.roomId()),
+                room.lobbyName(),
+                room.maxPlayerCount(),
+                room.currentPlayerCount(),
+                room.entityId(),
+                room.gameStarted()
+        );
     }
 
-    private void emit(WebSocketOutboundMessage payload) {
-        Many<WebSocketOutboundMessage> sink = sinkHolder.get();
+    private void emit(WebSocketOutboundFrame payload) {
+        SessionOutboundQueue sink = sinkHolder.get();
 
         if (sink != null) {
-            sink.tryEmitNext(payload);
+            sink.offer(payload);
         }
     }
 }
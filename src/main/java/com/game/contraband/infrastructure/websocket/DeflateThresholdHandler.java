@@ -0,0 +1,79 @@
+package com.game.contraband.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider;
+import java.util.concurrent.TimeUnit;
+
+// 연결마다 하나씩 만들어 압축 인코더 앞뒤에서 압축 여부를 정하고 결과를 잰다
+public class DeflateThresholdHandler extends ChannelOutboundHandlerAdapter implements WebSocketExtensionFilterProvider {
+
+    public DeflateThresholdHandler(
+            int thresholdBytes,
+            Counter skippedCounter,
+            DistributionSummary ratioSummary,
+            Timer compressionTimer
+    ) {
+        this.thresholdBytes = thresholdBytes;
+        this.skippedCounter = skippedCounter;
+        this.ratioSummary = ratioSummary;
+        this.compressionTimer = compressionTimer;
+    }
+
+    private final int thresholdBytes;
+    private final Counter skippedCounter;
+    private final DistributionSummary ratioSummary;
+    private final Timer compressionTimer;
+    // 인코더는 채널 이벤트 루프에서 필터 확인 직후 같은 호출 안에서 압축 프레임을 내려보내므로 잠금 없이 이어 붙인다
+    private int pendingOriginalBytes = -1;
+    private long pendingStartNanos;
+
+    @Override
+    public WebSocketExtensionFilter encoderFilter() {
+        return this::skipCompression;
+    }
+
+    @Override
+    public WebSocketExtensionFilter decoderFilter() {
+        return WebSocketExtensionFilter.NEVER_SKIP;
+    }
+
+    // 하트비트나 PONG처럼 작은 프레임은 압축해도 줄어드는 양보다 CPU 비용이 커서 그대로 보낸다
+    private boolean skipCompression(WebSocketFrame frame) {
+        // 제어 프레임과 이어지는 조각 프레임은 인코더가 직접 판단하게 둔다
+        if (!(frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame)) {
+            return false;
+        }
+
+        int originalBytes = frame.content().readableBytes();
+
+        if (originalBytes < thresholdBytes) {
+            skippedCounter.increment();
+            return true;
+        }
+
+        pendingOriginalBytes = originalBytes;
+        pendingStartNanos = System.nanoTime();
+        return false;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (pendingOriginalBytes > 0 && msg instanceof WebSocketFrame frame
+                && (frame.rsv() & WebSocketExtension.RSV1) != 0) {
+            compressionTimer.record(System.nanoTime() - pendingStartNanos, TimeUnit.NANOSECONDS);
+            ratioSummary.record((double) frame.content().readableBytes() / pendingOriginalBytes);
+            pendingOriginalBytes = -1;
+        }
+        super.write(ctx, msg, promise);
+    }
+}
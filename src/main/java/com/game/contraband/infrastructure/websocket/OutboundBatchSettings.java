@@ -0,0 +1,36 @@
+package com.game.contraband.infrastructure.websocket;
+
+import java.time.Duration;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboundBatchSettings {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(5L);
+    private static final int DEFAULT_MAX_MESSAGES = 16;
+
+    public OutboundBatchSettings(Environment environment) {
+        this.window = environment.getProperty(
+                "contraband.websocket.batch-window",
+                Duration.class,
+                DEFAULT_WINDOW
+        );
+        this.maxMessages = environment.getProperty(
+                "contraband.websocket.batch-max-messages",
+                Integer.class,
+                DEFAULT_MAX_MESSAGES
+        );
+    }
+
+    private final Duration window;
+    private final int maxMessages;
+
+    public Duration window() {
+        return window;
+    }
+
+    public int maxMessages() {
+        return maxMessages;
+    }
+}
@@ -0,0 +1,34 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.util.EnumSet;
+import java.util.Set;
+
+// 게임 상태 레인은 들어온 순서를 지키는 장벽이고, 버려도 되는 채팅과 방 목록 사이에서만 선언 순서가 우선순위가 된다
+public enum OutboundLane {
+
+    GAME_STATE,
+    CHAT,
+    DIRECTORY;
+
+    private static final Set<WebSocketOutboundMessageType> DIRECTORY_TYPES = EnumSet.of(
+            WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED,
+            WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA
+    );
+
+    public static OutboundLane of(WebSocketOutboundMessageType type) {
+        if (DIRECTORY_TYPES.contains(type)) {
+            return DIRECTORY;
+        }
+        // 가리기 요청은 가릴 채팅보다 먼저 도착하지 않도록 채팅과 같은 레인에 둔다
+        if (OutboundOverflowPolicy.of(type) == OutboundOverflowPolicy.DROP_OLDEST_CHAT
+                || type == WebSocketOutboundMessageType.CHAT_MESSAGE_MASKED) {
+            return CHAT;
+        }
+        return GAME_STATE;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
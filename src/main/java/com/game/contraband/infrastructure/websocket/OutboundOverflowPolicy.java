@@ -0,0 +1,54 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum OutboundOverflowPolicy {
+
+    // 더 새로운 같은 종류의 메시지가 오면 이전 것은 의미가 없어지므로 먼저 버린다
+    DROP_STALE,
+    // 큐가 가득 차면 오래된 채팅부터 밀어내고 최근 대화만 남긴다
+    DROP_OLDEST_CHAT,
+    // 유실되면 클라이언트 상태가 어긋나므로 넘치면 연결을 끊는다
+    CRITICAL;
+
+    private static final Set<WebSocketOutboundMessageType> STALE_TYPES = EnumSet.of(
+            WebSocketOutboundMessageType.WS_HEALTH_PING,
+            WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED,
+            WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA,
+            WebSocketOutboundMessageType.ROUND_SELECTION_TIMER
+    );
+    private static final Set<WebSocketOutboundMessageType> CHAT_TYPES = EnumSet.of(
+            WebSocketOutboundMessageType.CHAT_WELCOME,
+            WebSocketOutboundMessageType.LOBBY_CHAT_MESSAGE,
+            WebSocketOutboundMessageType.CHAT_LEFT,
+            WebSocketOutboundMessageType.CHAT_KICKED,
+            WebSocketOutboundMessageType.SMUGGLER_TEAM_CHAT_MESSAGE,
+            WebSocketOutboundMessageType.INSPECTOR_TEAM_CHAT_MESSAGE,
+            WebSocketOutboundMessageType.ROUND_CHAT_MESSAGE
+    );
+
+    public static OutboundOverflowPolicy of(WebSocketOutboundMessageType type) {
+        if (STALE_TYPES.contains(type)) {
+            return DROP_STALE;
+        }
+        if (CHAT_TYPES.contains(type)) {
+            return DROP_OLDEST_CHAT;
+        }
+        return CRITICAL;
+    }
+
+    // 전체 방 목록은 이전 목록과 변경분을 모두 대신하고, 타이머와 핑은 가장 최근 것만 의미가 있다
+    public static boolean supersedes(WebSocketOutboundMessageType newer, WebSocketOutboundMessageType queued) {
+        if (newer == WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED) {
+            return queued == WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED
+                    || queued == WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA;
+        }
+        if (newer == WebSocketOutboundMessageType.ROUND_SELECTION_TIMER
+                || newer == WebSocketOutboundMessageType.WS_HEALTH_PING) {
+            return queued == newer;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,118 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.collections.Long2ObjectHashMap;
+
+// 노드의 모든 세션 하트비트를 버킷으로 나눠 두고, 한 틱에 버킷 하나씩만 훑어 핑이 한꺼번에 몰리지 않게 한다
+public class SessionHeartbeatWheel {
+
+    public SessionHeartbeatWheel(int bucketCount, int maxMissedPongs, MeterRegistry meterRegistry) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("하트비트 버킷 수는 1 이상이어야 합니다.");
+        }
+        if (maxMissedPongs <= 0) {
+            throw new IllegalArgumentException("허용하는 PONG 누락 횟수는 1 이상이어야 합니다.");
+        }
+
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.maxMissedPongs = maxMissedPongs;
+        this.reconnectCounter = meterRegistry.counter("websocket.heartbeat.reconnect.requested");
+        meterRegistry.gauge("websocket.heartbeat.sessions", this, SessionHeartbeatWheel::sessionCount);
+    }
+
+    private final Bucket[] buckets;
+    private final int maxMissedPongs;
+    private final Counter reconnectCounter;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public void register(long playerId, SessionOutboundQueue sink) {
+        Bucket bucket = bucketOf(playerId);
+
+        synchronized (bucket) {
+            bucket.sessions.put(playerId, new HeartbeatEntry(sink));
+        }
+    }
+
+    // 재연결한 세션이 먼저 등록된 뒤 이전 연결이 정리될 수 있으므로, 등록된 송신 큐가 같을 때만 지운다
+    public void unregister(long playerId, SessionOutboundQueue sink) {
+        Bucket bucket = bucketOf(playerId);
+
+        synchronized (bucket) {
+            HeartbeatEntry entry = bucket.sessions.get(playerId);
+
+            if (entry != null && entry.sink == sink) {
+                bucket.sessions.remove(playerId);
+            }
+        }
+    }
+
+    public void pongReceived(long playerId) {
+        Bucket bucket = bucketOf(playerId);
+
+        synchronized (bucket) {
+            HeartbeatEntry entry = bucket.sessions.get(playerId);
+
+            if (entry != null) {
+                entry.missedPongs = 0;
+            }
+        }
+    }
+
+    // 스케줄러가 하트비트 주기 / 버킷 수 간격으로 호출하므로, 각 세션은 한 바퀴에 한 번씩 핑을 받는다
+    public void advance() {
+        Bucket bucket = buckets[Math.floorMod(cursor.getAndIncrement(), buckets.length)];
+
+        synchronized (bucket) {
+            bucket.sessions.forEachLong((playerId, entry) -> sweep(entry));
+        }
+    }
+
+    public int sessionCount() {
+        int count = 0;
+
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                count += bucket.sessions.size();
+            }
+        }
+        return count;
+    }
+
+    private void sweep(HeartbeatEntry entry) {
+        entry.sink.offer(WebSocketOutboundMessage.PING_MESSAGE);
+        entry.missedPongs++;
+
+        if (entry.missedPongs >= maxMissedPongs) {
+            entry.sink.offer(WebSocketOutboundMessage.RECONNECT_MESSAGE);
+            entry.missedPongs = 0;
+            reconnectCounter.increment();
+        }
+    }
+
+    private Bucket bucketOf(long playerId) {
+        long mixed = playerId * 0x9E3779B97F4A7C15L;
+
+        return buckets[Math.floorMod((int) (mixed ^ (mixed >>> 32)), buckets.length)];
+    }
+
+    private static class Bucket {
+
+        private final Long2ObjectHashMap<HeartbeatEntry> sessions = new Long2ObjectHashMap<>();
+    }
+
+    private static class HeartbeatEntry {
+
+        private final SessionOutboundQueue sink;
+        private int missedPongs;
+
+        private HeartbeatEntry(SessionOutboundQueue sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+public class SessionOutboundQueue {
+
+    public SessionOutboundQueue(int capacity, MeterRegistry meterRegistry) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("세션 송신 큐의 크기는 1 이상이어야 합니다.");
+        }
+
+        this.capacity = capacity;
+        this.staleDropCounter = meterRegistry.counter("websocket.outbound.dropped", "reason", "stale");
+        this.chatDropCounter = meterRegistry.counter("websocket.outbound.dropped", "reason", "chat");
+        this.overflowCounter = meterRegistry.counter("websocket.outbound.overflow.disconnected");
+        this.depthSummary = meterRegistry.summary("websocket.outbound.queue.depth");
+        for (OutboundLane lane : OutboundLane.values()) {
+            lanes.put(lane, new ArrayDeque<>());
+            laneLatencyTimers.put(
+                    lane,
+                    meterRegistry.timer("websocket.outbound.lane.latency", "lane", lane.tagValue())
+            );
+        }
+    }
+
+    private final int capacity;
+    private final Counter staleDropCounter;
+    private final Counter chatDropCounter;
+    private final Counter overflowCounter;
+    private final DistributionSummary depthSummary;
+    private final Map<OutboundLane, Deque<QueuedMessage>> lanes = new EnumMap<>(OutboundLane.class);
+    private final Map<OutboundLane, Timer> laneLatencyTimers = new EnumMap<>(OutboundLane.class);
+    private final Object lock = new Object();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private volatile FluxSink<WebSocketOutboundFrame> downstream;
+    private int size;
+    private long nextSequence;
+    private boolean completed;
+    private boolean overflowed;
+    private long staleDropped;
+    private long chatDropped;
+
+    public Flux<WebSocketOutboundFrame> asFlux() {
+        return Flux.create(
+                sink -> {
+                    downstream = sink;
+                    sink.onRequest(requested -> drain());
+                    drain();
+                },
+                FluxSink.OverflowStrategy.ERROR
+        );
+    }
+
+    public void offer(WebSocketOutboundFrame message) {
+        synchronized (lock) {
+            if (completed || overflowed) {
+                return;
+            }
+
+            OutboundLane lane = OutboundLane.of(message.type());
+
+            dropSuperseded(lane, message);
+            if (size >= capacity && !makeRoomFor(message)) {
+                return;
+            }
+
+            lanes.get(lane).offer(new QueuedMessage(message, nextSequence++, System.nanoTime()));
+            size++;
+            depthSummary.record(size);
+        }
+        drain();
+    }
+
+    public void complete() {
+        synchronized (lock) {
+            completed = true;
+        }
+        drain();
+    }
+
+    public int depth() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    public int depth(OutboundLane lane) {
+        synchronized (lock) {
+            return lanes.get(lane).size();
+        }
+    }
+
+    public long staleDropped() {
+        synchronized (lock) {
+            return staleDropped;
+        }
+    }
+
+    public long chatDropped() {
+        synchronized (lock) {
+            return chatDropped;
+        }
+    }
+
+    public boolean isOverflowed() {
+        synchronized (lock) {
+            return overflowed;
+        }
+    }
+
+    // 대체되는 메시지는 항상 새 메시지와 같은 레인에 있으므로 그 레인만 살핀다
+    private void dropSuperseded(OutboundLane lane, WebSocketOutboundFrame message) {
+        Iterator<QueuedMessage> iterator = lanes.get(lane).iterator();
+
+        while (iterator.hasNext()) {
+            if (OutboundOverflowPolicy.supersedes(message.type(), iterator.next().message().type())) {
+                iterator.remove();
+                size--;
+                recordStaleDrop();
+            }
+        }
+    }
+
+    // 오래된 목록·타이머 갱신을 먼저 버리고, 그래도 모자라면 오래된 채팅을 밀어낸다. 중요한 메시지가 넘치면 연결을 끊는다
+    private boolean makeRoomFor(WebSocketOutboundFrame message) {
+        if (removeOldest(OutboundOverflowPolicy.DROP_STALE)) {
+            recordStaleDrop();
+            return true;
+        }
+
+        OutboundOverflowPolicy policy = OutboundOverflowPolicy.of(message.type());
+
+        if (policy == OutboundOverflowPolicy.DROP_STALE) {
+            recordStaleDrop();
+            return false;
+        }
+        if (removeOldest(OutboundOverflowPolicy.DROP_OLDEST_CHAT)) {
+            recordChatDrop();
+            return true;
+        }
+        if (policy == OutboundOverflowPolicy.DROP_OLDEST_CHAT) {
+            recordChatDrop();
+            return false;
+        }
+
+        overflowed = true;
+        lanes.values().forEach(Deque::clear);
+        size = 0;
+        overflowCounter.increment();
+        return false;
+    }
+
+    // 우선순위가 낮은 레인부터 살펴 덜 중요한 메시지를 먼저 버린다
+    private boolean removeOldest(OutboundOverflowPolicy policy) {
+        OutboundLane[] values = OutboundLane.values();
+
+        for (int i = values.length - 1; i >= 0; i--) {
+            Iterator<QueuedMessage> iterator = lanes.get(values[i]).iterator();
+
+            while (iterator.hasNext()) {
+                if (OutboundOverflowPolicy.of(iterator.next().message().type()) == policy) {
+                    iterator.remove();
+                    size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 게임 상태 메시지는 순서 장벽이라 먼저 쌓인 채팅·방 목록이 모두 나간 뒤에 나가고, 그 사이에서만 채팅이 방 목록을 앞지른다
+    private WebSocketOutboundFrame pollByPriority() {
+        QueuedMessage barrier = lanes.get(OutboundLane.GAME_STATE).peek();
+        long barrierSequence = barrier == null ? Long.MAX_VALUE : barrier.sequence();
+
+        for (OutboundLane lane : OutboundLane.values()) {
+            if (lane == OutboundLane.GAME_STATE) {
+                continue;
+            }
+
+            QueuedMessage head = lanes.get(lane).peek();
+
+            if (head != null && head.sequence() < barrierSequence) {
+                return poll(lane);
+            }
+        }
+        if (barrier != null) {
+            return poll(OutboundLane.GAME_STATE);
+        }
+        return null;
+    }
+
+    private WebSocketOutboundFrame poll(OutboundLane lane) {
+        QueuedMessage queued = lanes.get(lane).poll();
+
+        size--;
+        laneLatencyTimers.get(lane).record(System.nanoTime() - queued.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        return queued.message();
+    }
+
+    private void recordStaleDrop() {
+        staleDropped++;
+        staleDropCounter.increment();
+    }
+
+    private void recordChatDrop() {
+        chatDropped++;
+        chatDropCounter.increment();
+    }
+
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            FluxSink<WebSocketOutboundFrame> sink = downstream;
+
+            if (sink != null) {
+                emitRequested(sink);
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private void emitRequested(FluxSink<WebSocketOutboundFrame> sink) {
+        while (sink.requestedFromDownstream() > 0L) {
+            WebSocketOutboundFrame next;
+
+            synchronized (lock) {
+                next = pollByPriority();
+            }
+            if (next == null) {
+                break;
+            }
+            sink.next(next);
+        }
+
+        synchronized (lock) {
+            if (overflowed) {
+                sink.error(new SessionOutboundOverflowException());
+                return;
+            }
+            if (completed && size == 0) {
+                sink.complete();
+            }
+        }
+    }
+
+    private record QueuedMessage(WebSocketOutboundFrame message, long sequence, long enqueuedNanos) { }
+
+    public static class SessionOutboundOverflowException extends IllegalStateException {
+
+        public SessionOutboundOverflowException() {
+            super("세션 송신 큐가 가득 차 중요한 메시지를 전달할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.game.contraband.infrastructure.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionOutboundQueueFactory {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    public SessionOutboundQueueFactory(Environment environment, MeterRegistry meterRegistry) {
+        this.capacity = environment.getProperty(
+                "contraband.websocket.outbound-queue-capacity",
+                Integer.class,
+                DEFAULT_CAPACITY
+        );
+        this.meterRegistry = meterRegistry;
+    }
+
+    private final int capacity;
+    private final MeterRegistry meterRegistry;
+
+    public SessionOutboundQueue create() {
+        return new SessionOutboundQueue(capacity, meterRegistry);
+    }
+}
@@ -0,0 +1,77 @@
+package com.game.contraband.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.netty.NettyPipeline;
+
+@Component
+public class WebSocketCompressionInstaller {
+
+    private static final int DEFAULT_THRESHOLD_BYTES = 1024;
+    private static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    private static final int PREFERRED_CLIENT_WINDOW_SIZE = 15;
+    private static final int MAX_INFLATED_INBOUND_BYTES = 64 * 1024;
+    private static final String DEFLATE_METER_HANDLER = "contraband.wsDeflateMeter";
+    private static final String DEFLATE_EXTENSION_HANDLER = "contraband.wsDeflateExtension";
+
+    public WebSocketCompressionInstaller(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty(
+                "contraband.websocket.compression-enabled",
+                Boolean.class,
+                true
+        );
+        this.thresholdBytes = environment.getProperty(
+                "contraband.websocket.compression-threshold-bytes",
+                Integer.class,
+                DEFAULT_THRESHOLD_BYTES
+        );
+        this.compressionLevel = environment.getProperty(
+                "contraband.websocket.compression-level",
+                Integer.class,
+                DEFAULT_COMPRESSION_LEVEL
+        );
+        this.skippedCounter = meterRegistry.counter("websocket.outbound.compression.skipped");
+        this.ratioSummary = meterRegistry.summary("websocket.outbound.compression.ratio");
+        this.compressionTimer = meterRegistry.timer("websocket.outbound.compression.time");
+    }
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+    private final int compressionLevel;
+    private final Counter skippedCounter;
+    private final DistributionSummary ratioSummary;
+    private final Timer compressionTimer;
+
+    // permessage-deflate를 협상한 연결에서만 인코더가 붙고, 확장을 요청하지 않은 클라이언트는 그대로 통과한다
+    public void install(ChannelPipeline pipeline) {
+        if (!enabled || pipeline.get(NettyPipeline.HttpCodec) == null) {
+            return;
+        }
+
+        DeflateThresholdHandler meter = new DeflateThresholdHandler(
+                thresholdBytes,
+                skippedCounter,
+                ratioSummary,
+                compressionTimer
+        );
+        PerMessageDeflateServerExtensionHandshaker handshaker = new PerMessageDeflateServerExtensionHandshaker(
+                compressionLevel,
+                false,
+                PREFERRED_CLIENT_WINDOW_SIZE,
+                false,
+                false,
+                meter,
+                MAX_INFLATED_INBOUND_BYTES
+        );
+
+        pipeline.addAfter(NettyPipeline.HttpCodec, DEFLATE_METER_HANDLER, meter);
+        pipeline.addAfter(DEFLATE_METER_HANDLER, DEFLATE_EXTENSION_HANDLER, new WebSocketServerExtensionHandler(handshaker));
+    }
+}
@@ -0,0 +1,38 @@
+package com.game.contraband.infrastructure.websocket;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum WebSocketFrameFormat {
+
+    JSON("contraband.json"),
+    CBOR("contraband.cbor");
+
+    private final String subProtocol;
+
+    WebSocketFrameFormat(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    public String subProtocol() {
+        return subProtocol;
+    }
+
+    public boolean isBinary() {
+        return this == CBOR;
+    }
+
+    public static List<String> subProtocols() {
+        return Arrays.stream(values())
+                     .map(WebSocketFrameFormat::subProtocol)
+                     .toList();
+    }
+
+    // 하위 프로토콜을 협상하지 않은 클라이언트는 기존처럼 JSON 텍스트 프레임을 쓴다
+    public static WebSocketFrameFormat fromSubProtocol(String subProtocol) {
+        return Arrays.stream(values())
+                     .filter(format -> format.subProtocol.equals(subProtocol))
+                     .findFirst()
+                     .orElse(JSON);
+    }
+}
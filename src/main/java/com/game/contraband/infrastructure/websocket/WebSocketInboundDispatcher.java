@@ -0,0 +1,380 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.FetchRoomDirectoryPage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestChangeMaxPlayerCount;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideInspection;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecidePass;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestFixInspector;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestFixSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestKickPlayer;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestLeaveLobby;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestLobbyDeletion;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestRegisterInspector;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestRegisterSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestToggleTeam;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestTransferMoney;
+import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundMessageType;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.ChangeMaxPlayerCountPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.DecideAmountPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.KickPlayerPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.QueryRoomDirectoryPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.RegisterInspectorPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.RegisterSmugglerPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.SendChatPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.SendRoundChatPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.StartGameRequestPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.TransferMoneyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundPayload.WebSocketInboundEmptyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebSocketInboundDispatcher {
+
+    private static final String MESSAGE_SCHEMA_TYPE = "type";
+    private static final WebSocketOutboundMessage HEARTBEAT_PONG_MESSAGE =
+            WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.HEARTBEAT_PONG);
+    private static final WebSocketOutboundMessage INVALID_MESSAGE_FORMAT_MESSAGE =
+            ClientWebSocketMessageSender.exceptionMessage(ExceptionCode.INVALID_MESSAGE_FORMAT);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final Map<WebSocketInboundMessageType, InboundRoute<?>> routes;
+
+    public WebSocketInboundDispatcher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.routes = createRoutes();
+    }
+
+    public boolean dispatch(String payload, InboundFrameContext context) {
+        try (JsonParser parser = objectMapper.createParser(payload)) {
+            return dispatch(parser, new InboundFrame(payload, null), context);
+        } catch (IOException | RuntimeException ignored) {
+            return false;
+        }
+    }
+
+    public boolean dispatchBinary(byte[] payload, InboundFrameContext context) {
+        try (JsonParser parser = cborMapper.createParser(payload)) {
+            return dispatch(parser, new InboundFrame(null, payload), context);
+        } catch (IOException | RuntimeException ignored) {
+            return false;
+        }
+    }
+
+    private boolean dispatch(JsonParser parser, InboundFrame frame, InboundFrameContext context) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        TypeScan scan = scanType(parser);
+
+        if (scan.type() == null) {
+            return false;
+        }
+
+        return routes.get(scan.type())
+                     .dispatch(frame, parser, scan.typeFirst(), context);
+    }
+
+    // 바이너리 프레임은 타입 이름 대신 정수 코드를 보낼 수 있다
+    private TypeScan scanType(JsonParser parser) throws IOException {
+        boolean typeFirst = true;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (MESSAGE_SCHEMA_TYPE.equals(fieldName)) {
+                return new TypeScan(resolveType(parser, valueToken), typeFirst);
+            }
+
+            typeFirst = false;
+            parser.skipChildren();
+        }
+
+        return new TypeScan(null, typeFirst);
+    }
+
+    private WebSocketInboundMessageType resolveType(JsonParser parser, JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NUMBER_INT) {
+            return WebSocketInboundMessageType.lookup(parser.getIntValue());
+        }
+        if (valueToken.isScalarValue()) {
+            return WebSocketInboundMessageType.lookup(parser.getValueAsString());
+        }
+        return null;
+    }
+
+    private Map<WebSocketInboundMessageType, InboundRoute<?>> createRoutes() {
+        Map<WebSocketInboundMessageType, InboundRoute<?>> table = new EnumMap<>(WebSocketInboundMessageType.class);
+
+        table.put(
+                WebSocketInboundMessageType.HEARTBEAT_PING,
+                emptyRoute(context -> context.outboundSink().accept(HEARTBEAT_PONG_MESSAGE))
+        );
+        table.put(
+                WebSocketInboundMessageType.SESSION_HEALTH_PONG,
+                emptyRoute(context -> context.sessionPongSink().run())
+        );
+        table.put(
+                WebSocketInboundMessageType.DELETE_LOBBY,
+                emptyRoute(context -> context.tell(new RequestLobbyDeletion(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.QUERY_ROOM_DIRECTORY,
+                route(
+                        QueryRoomDirectoryPayload.class,
+                        (context, payload) -> context.tell(
+                                new FetchRoomDirectoryPage(payload.resolvedPage(), payload.resolvedSize(), payload.afterRoomId())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.TOGGLE_READY,
+                emptyRoute(context -> context.tell(new RequestToggleReady(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.TOGGLE_TEAM,
+                emptyRoute(context -> context.tell(new RequestToggleTeam(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.CHANGE_MAX_PLAYER_COUNT,
+                route(
+                        ChangeMaxPlayerCountPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestChangeMaxPlayerCount(payload.maxPlayerCount(), context.playerId())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.START_GAME,
+                route(
+                        StartGameRequestPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestStartGame(context.playerId(), payload.totalRounds())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.LEAVE_LOBBY,
+                emptyRoute(context -> context.tell(new RequestLeaveLobby(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.KICK_PLAYER,
+                route(
+                        KickPlayerPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestKickPlayer(context.playerId(), payload.targetPlayerId())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.SEND_CHAT,
+                route(
+                        SendChatPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestSendChat(
+                                        context.playerId(),
+                                        textOrEmpty(payload.playerName()),
+                                        textOrEmpty(payload.message())
+                                )
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.SEND_ROUND_CHAT,
+                route(
+                        SendRoundChatPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestSendRoundChat(
+                                        context.playerId(),
+                                        textOrEmpty(payload.playerName()),
+                                        textOrEmpty(payload.message()),
+                                        payload.currentRound()
+                                )
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.SEND_TEAM_CHAT,
+                route(
+                        SendChatPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestSendTeamChat(
+                                        context.playerId(),
+                                        textOrEmpty(payload.playerName()),
+                                        textOrEmpty(payload.message())
+                                )
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.FIX_SMUGGLER_ID,
+                emptyRoute(context -> context.tell(new RequestFixSmuggler(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.FIX_INSPECTOR_ID,
+                emptyRoute(context -> context.tell(new RequestFixInspector(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.REGISTER_SMUGGLER,
+                route(
+                        RegisterSmugglerPayload.class,
+                        (context, payload) -> context.tell(new RequestRegisterSmuggler(payload.smugglerId()))
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.REGISTER_INSPECTOR,
+                route(
+                        RegisterInspectorPayload.class,
+                        (context, payload) -> context.tell(new RequestRegisterInspector(payload.inspectorId()))
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.DECIDE_SMUGGLE_AMOUNT,
+                route(
+                        DecideAmountPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestDecideSmuggleAmount(context.playerId(), payload.amount())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.DECIDE_PASS,
+                emptyRoute(context -> context.tell(new RequestDecidePass(context.playerId())))
+        );
+        table.put(
+                WebSocketInboundMessageType.DECIDE_INSPECTION,
+                route(
+                        DecideAmountPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestDecideInspection(context.playerId(), payload.amount())
+                        )
+                )
+        );
+        table.put(
+                WebSocketInboundMessageType.TRANSFER_MONEY,
+                route(
+                        TransferMoneyPayload.class,
+                        (context, payload) -> context.tell(
+                                new RequestTransferMoney(context.playerId(), payload.targetPlayerId(), payload.amount())
+                        )
+                )
+        );
+
+        validateRoutes(table);
+        return table;
+    }
+
+    private void validateRoutes(Map<WebSocketInboundMessageType, InboundRoute<?>> table) {
+        for (WebSocketInboundMessageType type : WebSocketInboundMessageType.values()) {
+            if (!table.containsKey(type)) {
+                throw new IllegalStateException(type + "에 대한 인바운드 핸들러가 등록되지 않았습니다.");
+            }
+        }
+    }
+
+    private InboundRoute<WebSocketInboundEmptyPayload> emptyRoute(Consumer<InboundFrameContext> handler) {
+        return new InboundRoute<>(null, null, null, (context, ignored) -> handler.accept(context));
+    }
+
+    private <P extends WebSocketInboundPayload> InboundRoute<P> route(
+            Class<P> payloadType,
+            BiConsumer<InboundFrameContext, P> handler
+    ) {
+        return new InboundRoute<>(
+                payloadType,
+                objectMapper.readerFor(payloadType),
+                cborMapper.readerFor(payloadType),
+                handler
+        );
+    }
+
+    private static String textOrEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public record InboundFrameContext(
+            Long playerId,
+            Consumer<ClientSessionCommand> sessionCommandSink,
+            Consumer<WebSocketOutboundMessage> outboundSink,
+            Runnable sessionPongSink
+    ) {
+
+        void tell(ClientSessionCommand command) {
+            sessionCommandSink.accept(command);
+        }
+    }
+
+    private record TypeScan(WebSocketInboundMessageType type, boolean typeFirst) { }
+
+    private record InboundFrame(String text, byte[] binary) { }
+
+    private record InboundRoute<P extends WebSocketInboundPayload>(
+            Class<P> payloadType,
+            ObjectReader reader,
+            ObjectReader binaryReader,
+            BiConsumer<InboundFrameContext, P> handler
+    ) {
+
+        @SuppressWarnings("unchecked")
+        boolean dispatch(InboundFrame frame, JsonParser parser, boolean typeFirst, InboundFrameContext context)
+                throws IOException {
+            if (payloadType == null) {
+                handler.accept(context, (P) WebSocketInboundEmptyPayload.INSTANCE);
+                return true;
+            }
+
+            P payload;
+
+            // 타입은 알아냈지만 필드 값이 자료형과 맞지 않으면 요청을 버리지 않고 클라이언트에 알린다
+            try {
+                payload = bind(frame, parser, typeFirst);
+            } catch (MismatchedInputException ex) {
+                context.outboundSink().accept(INVALID_MESSAGE_FORMAT_MESSAGE);
+                return false;
+            }
+
+            if (payload == null) {
+                return false;
+            }
+
+            handler.accept(context, payload);
+            return true;
+        }
+
+        private P bind(InboundFrame frame, JsonParser parser, boolean typeFirst) throws IOException {
+            if (typeFirst && parser.nextToken() == JsonToken.FIELD_NAME) {
+                return reader.readValue(parser);
+            }
+            if (frame.binary() != null) {
+                return binaryReader.readValue(frame.binary());
+            }
+
+            return reader.readValue(frame.text());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.game.contraband.infrastructure.websocket;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.WebSocketEmptyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.io.ByteArrayOutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebSocketOutboundFrameEncoder {
+
+    private static final int CBOR_ARRAY = 0x80;
+    private static final int CBOR_ONE_BYTE_LENGTH = 24;
+    private static final int CBOR_TWO_BYTE_LENGTH = 25;
+    private static final int CBOR_FOUR_BYTE_LENGTH = 26;
+
+    private final ObjectWriter writer;
+    private final ObjectWriter binaryWriter;
+    private final Map<WebSocketOutboundMessageType, byte[]> emptyPayloadFrames;
+    private final Map<WebSocketOutboundMessageType, byte[]> emptyPayloadBinaryFrames;
+
+    public WebSocketOutboundFrameEncoder(ObjectMapper objectMapper) {
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+
+        this.writer = objectMapper.writerFor(WebSocketOutboundMessage.class);
+        this.binaryWriter = cborMapper.writerFor(BinaryOutboundFrame.class);
+        this.emptyPayloadFrames = preEncodeEmptyPayloads(writer, WebSocketOutboundMessage::withoutPayload);
+        this.emptyPayloadBinaryFrames = preEncodeEmptyPayloads(
+                binaryWriter,
+                type -> BinaryOutboundFrame.from(WebSocketOutboundMessage.withoutPayload(type))
+        );
+    }
+
+    // 브로드캐스트 메시지는 같은 노드의 수신자 중 처음 보내는 연결만 직렬화하고 나머지는 그 결과를 그대로 쓴다
+    public byte[] encode(WebSocketOutboundFrame frame) throws JsonProcessingException {
+        if (frame instanceof PreEncodedOutboundMessage preEncoded) {
+            return preEncoded.text(this::encode);
+        }
+        return encode((WebSocketOutboundMessage) frame);
+    }
+
+    public byte[] encode(WebSocketOutboundMessage message) throws JsonProcessingException {
+        if (message.payload() == WebSocketEmptyPayload.INSTANCE) {
+            return emptyPayloadFrames.get(message.type());
+        }
+        return writer.writeValueAsBytes(message);
+    }
+
+    public byte[] encodeBinary(WebSocketOutboundFrame frame) throws JsonProcessingException {
+        if (frame instanceof PreEncodedOutboundMessage preEncoded) {
+            return preEncoded.binary(this::encodeBinary);
+        }
+        return encodeBinary((WebSocketOutboundMessage) frame);
+    }
+
+    // 바이너리 프로토콜은 타입 이름 대신 정수 코드를 쓰는 [코드, 페이로드] 배열을 CBOR로 보낸다
+    public byte[] encodeBinary(WebSocketOutboundMessage message) throws JsonProcessingException {
+        if (message.payload() == WebSocketEmptyPayload.INSTANCE) {
+            return emptyPayloadBinaryFrames.get(message.type());
+        }
+        return binaryWriter.writeValueAsBytes(BinaryOutboundFrame.from(message));
+    }
+
+    // 각 메시지의 프레임을 그대로 이어 붙여 JSON 배열 하나로 만든다
+    public byte[] encodeBatch(List<? extends WebSocketOutboundFrame> frames) throws JsonProcessingException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+
+        batch.write('[');
+        for (int i = 0; i < frames.size(); i++) {
+            if (i > 0) {
+                batch.write(',');
+            }
+            batch.writeBytes(encode(frames.get(i)));
+        }
+        batch.write(']');
+        return batch.toByteArray();
+    }
+
+    // CBOR 배열 머리 뒤에 각 메시지의 프레임을 그대로 이어 붙이므로 미리 인코딩한 프레임도 다시 직렬화하지 않는다
+    public byte[] encodeBinaryBatch(List<? extends WebSocketOutboundFrame> frames) throws JsonProcessingException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+
+        writeCborArrayHeader(batch, frames.size());
+        for (WebSocketOutboundFrame frame : frames) {
+            batch.writeBytes(encodeBinary(frame));
+        }
+        return batch.toByteArray();
+    }
+
+    private static void writeCborArrayHeader(ByteArrayOutputStream out, int size) {
+        if (size < CBOR_ONE_BYTE_LENGTH) {
+            out.write(CBOR_ARRAY | size);
+            return;
+        }
+        if (size <= 0xFF) {
+            out.write(CBOR_ARRAY | CBOR_ONE_BYTE_LENGTH);
+            out.write(size);
+            return;
+        }
+        if (size <= 0xFFFF) {
+            out.write(CBOR_ARRAY | CBOR_TWO_BYTE_LENGTH);
+            out.write(size >>> 8);
+            out.write(size);
+            return;
+        }
+        out.write(CBOR_ARRAY | CBOR_FOUR_BYTE_LENGTH);
+        out.write(size >>> 24);
+        out.write(size >>> 16);
+        out.write(size >>> 8);
+        out.write(size);
+    }
+
+    // 페이로드가 없는 메시지는 타입마다 프레임이 하나뿐이므로 시작할 때 모두 만들어 두고 전송마다 그대로 쓴다
+    private static Map<WebSocketOutboundMessageType, byte[]> preEncodeEmptyPayloads(
+            ObjectWriter frameWriter,
+            Function<WebSocketOutboundMessageType, Object> frameFactory
+    ) {
+        Map<WebSocketOutboundMessageType, byte[]> frames = new EnumMap<>(WebSocketOutboundMessageType.class);
+
+        try {
+            for (WebSocketOutboundMessageType type : WebSocketOutboundMessageType.values()) {
+                frames.put(type, frameWriter.writeValueAsBytes(frameFactory.apply(type)));
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("페이로드가 없는 메시지 프레임을 만들 수 없습니다.", ex);
+        }
+        return frames;
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"type", "payload"})
+    private record BinaryOutboundFrame(int type, WebSocketMessagePayload payload) {
+
+        static BinaryOutboundFrame from(WebSocketOutboundMessage message) {
+            return new BinaryOutboundFrame(message.type().code(), message.payload());
+        }
+    }
+}
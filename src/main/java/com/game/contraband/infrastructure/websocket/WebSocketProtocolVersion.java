@@ -0,0 +1,50 @@
+package com.game.contraband.infrastructure.websocket;
+
+public enum WebSocketProtocolVersion {
+
+    // 메시지 하나를 프레임 하나로 보낸다
+    SINGLE_FRAME(1),
+    // 짧은 시간 동안 모인 메시지를 JSON 배열 프레임 하나로 묶어 보낸다
+    BATCHED_FRAME(2);
+
+    private final int version;
+
+    WebSocketProtocolVersion(int version) {
+        this.version = version;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public boolean isBatched() {
+        return this == BATCHED_FRAME;
+    }
+
+    // 클라이언트가 더 높은 버전을 요청하면 서버가 지원하는 가장 높은 버전으로 맞춘다
+    public static WebSocketProtocolVersion negotiate(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return SINGLE_FRAME;
+        }
+
+        int requestedVersion;
+
+        try {
+            requestedVersion = Integer.parseInt(requested.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("protocolVersion이 유효하지 않습니다.");
+        }
+        if (requestedVersion < SINGLE_FRAME.version) {
+            throw new IllegalArgumentException("protocolVersion이 유효하지 않습니다.");
+        }
+
+        WebSocketProtocolVersion negotiated = SINGLE_FRAME;
+
+        for (WebSocketProtocolVersion candidate : values()) {
+            if (candidate.version <= requestedVersion) {
+                negotiated = candidate;
+            }
+        }
+        return negotiated;
+    }
+}
@@ -2,6 +2,7 @@ package com.game.contraband.infrastructure.websocket.message;
 
 public enum ExceptionCode {
     UNKNOWN_ERROR,
+    INVALID_MESSAGE_FORMAT,
 
     CHAT_MESSAGE_EMPTY,
     CHAT_USER_BLOCKED,
@@ -0,0 +1,73 @@
+package com.game.contraband.infrastructure.websocket.message;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Objects;
+
+// 브로드캐스트하는 쪽이 한 번 만들어 모든 수신 세션에 같은 인스턴스를 보내고, 같은 노드의 세션들은 인코딩 결과를 함께 쓴다
+public final class PreEncodedOutboundMessage implements WebSocketOutboundFrame {
+
+    public PreEncodedOutboundMessage(WebSocketOutboundMessage message) {
+        this.message = message;
+    }
+
+    private final WebSocketOutboundMessage message;
+    private volatile byte[] text;
+    private volatile byte[] binary;
+
+    @Override
+    public WebSocketOutboundMessageType type() {
+        return message.type();
+    }
+
+    public WebSocketOutboundMessage message() {
+        return message;
+    }
+
+    // 수신자마다 와이어 형식이 달라 형식별로 처음 필요한 연결이 인코딩한다. 동시에 인코딩해도 같은 결과라 먼저 쓴 쪽이 남는다
+    public byte[] text(FrameEncoding encoding) throws JsonProcessingException {
+        byte[] encoded = text;
+
+        if (encoded == null) {
+            encoded = encoding.encode(message);
+            text = encoded;
+        }
+        return encoded;
+    }
+
+    public byte[] binary(FrameEncoding encoding) throws JsonProcessingException {
+        byte[] encoded = binary;
+
+        if (encoded == null) {
+            encoded = encoding.encode(message);
+            binary = encoded;
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PreEncodedOutboundMessage that)) {
+            return false;
+        }
+        return message.equals(that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message);
+    }
+
+    @Override
+    public String toString() {
+        return "PreEncodedOutboundMessage[" + message + "]";
+    }
+
+    @FunctionalInterface
+    public interface FrameEncoding {
+
+        byte[] encode(WebSocketOutboundMessage message) throws JsonProcessingException;
+    }
+}
@@ -2,38 +2,54 @@ package com.game.contraband.infrastructure.websocket.message;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 public enum WebSocketInboundMessageType {
 
-    HEARTBEAT_PING("PING"),
-    SESSION_HEALTH_PONG("WS_PONG"),
-    DELETE_LOBBY("DELETE_LOBBY"),
-
-    TOGGLE_READY("TOGGLE_READY"),
-    TOGGLE_TEAM("TOGGLE_TEAM"),
-    CHANGE_MAX_PLAYER_COUNT("CHANGE_MAX_PLAYER_COUNT"),
-    START_GAME("START_GAME"),
-    LEAVE_LOBBY("LEAVE_LOBBY"),
-    KICK_PLAYER("KICK_PLAYER"),
-    SEND_CHAT("SEND_CHAT"),
-    SEND_ROUND_CHAT("SEND_ROUND_CHAT"),
-    SEND_TEAM_CHAT("SEND_TEAM_CHAT"),
-    FIX_SMUGGLER_ID("FIX_SMUGGLER_ID"),
-    FIX_INSPECTOR_ID("FIX_INSPECTOR_ID"),
-    QUERY_ROOM_DIRECTORY("QUERY_ROOM_DIRECTORY"),
-
-    DECIDE_SMUGGLE_AMOUNT("DECIDE_SMUGGLE_AMOUNT"),
-    DECIDE_PASS("DECIDE_PASS"),
-    DECIDE_INSPECTION("DECIDE_INSPECTION"),
-    REGISTER_SMUGGLER("REGISTER_SMUGGLER"),
-    REGISTER_INSPECTOR("REGISTER_INSPECTOR"),
-    TRANSFER_MONEY("TRANSFER_MONEY");
+    HEARTBEAT_PING("PING", 1),
+    SESSION_HEALTH_PONG("WS_PONG", 2),
+    DELETE_LOBBY("DELETE_LOBBY", 3),
+
+    TOGGLE_READY("TOGGLE_READY", 4),
+    TOGGLE_TEAM("TOGGLE_TEAM", 5),
+    CHANGE_MAX_PLAYER_COUNT("CHANGE_MAX_PLAYER_COUNT", 6),
+    START_GAME("START_GAME", 7),
+    LEAVE_LOBBY("LEAVE_LOBBY", 8),
+    KICK_PLAYER("KICK_PLAYER", 9),
+    SEND_CHAT("SEND_CHAT", 10),
+    SEND_ROUND_CHAT("SEND_ROUND_CHAT", 11),
+    SEND_TEAM_CHAT("SEND_TEAM_CHAT", 12),
+    FIX_SMUGGLER_ID("FIX_SMUGGLER_ID", 13),
+    FIX_INSPECTOR_ID("FIX_INSPECTOR_ID", 14),
+    QUERY_ROOM_DIRECTORY("QUERY_ROOM_DIRECTORY", 15),
+
+    DECIDE_SMUGGLE_AMOUNT("DECIDE_SMUGGLE_AMOUNT", 16),
+    DECIDE_PASS("DECIDE_PASS", 17),
+    DECIDE_INSPECTION("DECIDE_INSPECTION", 18),
+    REGISTER_SMUGGLER("REGISTER_SMUGGLER", 19),
+    REGISTER_INSPECTOR("REGISTER_INSPECTOR", 20),
+    TRANSFER_MONEY("TRANSFER_MONEY", 21);
+
+    private static final Map<String, WebSocketInboundMessageType> TYPES_BY_NAME = new HashMap<>();
+    private static final Map<Integer, WebSocketInboundMessageType> TYPES_BY_CODE = new HashMap<>();
+
+    static {
+        Arrays.stream(values())
+              .forEach(value -> {
+                  TYPES_BY_NAME.put(value.type, value);
+                  TYPES_BY_CODE.put(value.code, value);
+              });
+    }
 
     private final String type;
+    private final int code;
 
-    WebSocketInboundMessageType(String type) {
+    WebSocketInboundMessageType(String type, int code) {
         this.type = type;
+        this.code = code;
     }
 
     @JsonValue
@@ -41,6 +57,11 @@ public enum WebSocketInboundMessageType {
         return type;
     }
 
+    // 바이너리 프로토콜에서는 이름 대신 이 코드를 주고받으므로 한 번 정한 값은 바꾸지 않는다
+    public int code() {
+        return code;
+    }
+
     public boolean isSameType(String rawType) {
         return type.equalsIgnoreCase(rawType);
     }
@@ -50,4 +71,22 @@ public enum WebSocketInboundMessageType {
                      .filter(value -> value.isSameType(rawType))
                      .findFirst();
     }
+
+    public static WebSocketInboundMessageType lookup(String rawType) {
+        if (rawType == null) {
+            return null;
+        }
+
+        WebSocketInboundMessageType exact = TYPES_BY_NAME.get(rawType);
+
+        if (exact != null) {
+            return exact;
+        }
+
+        return TYPES_BY_NAME.get(rawType.toUpperCase(Locale.ROOT));
+    }
+
+    public static WebSocketInboundMessageType lookup(int code) {
+        return TYPES_BY_CODE.get(code);
+    }
 }
@@ -0,0 +1,52 @@
+package com.game.contraband.infrastructure.websocket.message;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+public interface WebSocketInboundPayload {
+
+    enum WebSocketInboundEmptyPayload implements WebSocketInboundPayload {
+        INSTANCE
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record QueryRoomDirectoryPayload(Integer page, Integer size, Long afterRoomId) implements WebSocketInboundPayload {
+
+        private static final int DEFAULT_PAGE = 0;
+        private static final int DEFAULT_SIZE = 20;
+
+        public int resolvedPage() {
+            return page == null ? DEFAULT_PAGE : page;
+        }
+
+        public int resolvedSize() {
+            return size == null ? DEFAULT_SIZE : size;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ChangeMaxPlayerCountPayload(int maxPlayerCount) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record StartGameRequestPayload(int totalRounds) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record KickPlayerPayload(long targetPlayerId) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SendChatPayload(String playerName, String message) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SendRoundChatPayload(String playerName, String message, int currentRound) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RegisterSmugglerPayload(long smugglerId) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RegisterInspectorPayload(long inspectorId) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record DecideAmountPayload(int amount) implements WebSocketInboundPayload { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TransferMoneyPayload(long targetPlayerId, int amount) implements WebSocketInboundPayload { }
+}
@@ -5,6 +5,7 @@ import com.game.contraband.domain.game.engine.match.GameWinnerType;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.round.RoundOutcomeType;
 import com.game.contraband.domain.game.transfer.TransferFailureReason;
+import com.game.contraband.infrastructure.actor.directory.RoomEventType;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
 import java.util.List;
@@ -24,7 +25,11 @@ public interface WebSocketMessagePayload {
 
     record RoomDirectoryEntryPayload(Long roomId, String roomIdString, String lobbyName, int maxPlayerCount, int currentPlayerCount, String entityId, boolean gameStarted) implements WebSocketMessagePayload { }
 
-    record RoomDirectoryUpdatedPayload(List<RoomDirectoryEntryPayload> rooms, int totalCount) implements WebSocketMessagePayload { }
+    record RoomDirectoryUpdatedPayload(List<RoomDirectoryEntryPayload> rooms, int totalCount, long version) implements WebSocketMessagePayload { }
+
+    record RoomDirectoryChangePayload(RoomEventType type, Long roomId, String roomIdString, RoomDirectoryEntryPayload room) implements WebSocketMessagePayload { }
+
+    record RoomDirectoryDeltaPayload(long version, long previousVersion, int totalCount, List<RoomDirectoryChangePayload> changes) implements WebSocketMessagePayload { }
 
     record ChatWelcomePayload(String playerName) implements WebSocketMessagePayload { }
 
@@ -0,0 +1,7 @@
+package com.game.contraband.infrastructure.websocket.message;
+
+// 송신 큐에는 세션마다 만든 메시지와 브로드캐스트 한 번에 하나만 만든 메시지가 함께 들어간다
+public interface WebSocketOutboundFrame {
+
+    WebSocketOutboundMessageType type();
+}
@@ -2,7 +2,7 @@ package com.game.contraband.infrastructure.websocket.message;
 
 import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.WebSocketEmptyPayload;
 
-public record WebSocketOutboundMessage(WebSocketOutboundMessageType type, WebSocketMessagePayload payload) {
+public record WebSocketOutboundMessage(WebSocketOutboundMessageType type, WebSocketMessagePayload payload) implements WebSocketOutboundFrame {
 
     public static WebSocketOutboundMessage PING_MESSAGE = new WebSocketOutboundMessage(
             WebSocketOutboundMessageType.WS_HEALTH_PING,
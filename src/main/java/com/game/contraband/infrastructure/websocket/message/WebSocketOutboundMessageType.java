@@ -6,64 +6,67 @@ import java.util.Optional;
 
 public enum WebSocketOutboundMessageType {
 
-    WS_HEALTH_PING("WS_HEALTH_PING"),
-    WS_RECONNECT("WS_RECONNECT"),
-    HEARTBEAT_PING("PING"),
-    HEARTBEAT_PONG("PONG"),
-    SESSION_HEALTH_PONG("WS_PONG"),
-    EXCEPTION_MESSAGE("EXCEPTION_MESSAGE"),
+    WS_HEALTH_PING("WS_HEALTH_PING", 1),
+    WS_RECONNECT("WS_RECONNECT", 2),
+    HEARTBEAT_PING("PING", 3),
+    HEARTBEAT_PONG("PONG", 4),
+    SESSION_HEALTH_PONG("WS_PONG", 5),
+    EXCEPTION_MESSAGE("EXCEPTION_MESSAGE", 6),
 
-    ROOM_DIRECTORY_UPDATED("ROOM_DIRECTORY_UPDATED"),
+    ROOM_DIRECTORY_UPDATED("ROOM_DIRECTORY_UPDATED", 7),
+    ROOM_DIRECTORY_DELTA("ROOM_DIRECTORY_DELTA", 8),
 
-    CHAT_WELCOME("CHAT_WELCOME"),
-    LOBBY_CHAT_MESSAGE("LOBBY_CHAT_MESSAGE"),
-    CHAT_LEFT("CHAT_LEFT"),
-    CHAT_KICKED("CHAT_KICKED"),
-    CHAT_MESSAGE_MASKED("CHAT_MESSAGE_MASKED"),
+    CHAT_WELCOME("CHAT_WELCOME", 9),
+    LOBBY_CHAT_MESSAGE("LOBBY_CHAT_MESSAGE", 10),
+    CHAT_LEFT("CHAT_LEFT", 11),
+    CHAT_KICKED("CHAT_KICKED", 12),
+    CHAT_MESSAGE_MASKED("CHAT_MESSAGE_MASKED", 13),
 
-    CREATE_LOBBY("CREATE_LOBBY"),
-    CREATED_LOBBY("CREATED_LOBBY"),
-    OTHER_PLAYER_JOINED_LOBBY("OTHER_PLAYER_JOINED_LOBBY"),
-    JOINED_LOBBY("JOINED_LOBBY"),
-    TOGGLED_READY("TOGGLED_READY"),
-    TOGGLED_TEAM("TOGGLED_TEAM"),
-    LEFT_LOBBY("LEFT_LOBBY"),
-    OTHER_PLAYER_LEFT_LOBBY("OTHER_PLAYER_LEFT_LOBBY"),
-    KICKED_LOBBY("KICKED_LOBBY"),
-    OTHER_PLAYER_KICKED("OTHER_PLAYER_KICKED"),
-    HOST_DELETED_LOBBY("HOST_DELETED_LOBBY"),
-    LOBBY_DELETED("LOBBY_DELETED"),
+    CREATE_LOBBY("CREATE_LOBBY", 14),
+    CREATED_LOBBY("CREATED_LOBBY", 15),
+    OTHER_PLAYER_JOINED_LOBBY("OTHER_PLAYER_JOINED_LOBBY", 16),
+    JOINED_LOBBY("JOINED_LOBBY", 17),
+    TOGGLED_READY("TOGGLED_READY", 18),
+    TOGGLED_TEAM("TOGGLED_TEAM", 19),
+    LEFT_LOBBY("LEFT_LOBBY", 20),
+    OTHER_PLAYER_LEFT_LOBBY("OTHER_PLAYER_LEFT_LOBBY", 21),
+    KICKED_LOBBY("KICKED_LOBBY", 22),
+    OTHER_PLAYER_KICKED("OTHER_PLAYER_KICKED", 23),
+    HOST_DELETED_LOBBY("HOST_DELETED_LOBBY", 24),
+    LOBBY_DELETED("LOBBY_DELETED", 25),
 
-    SMUGGLER_TEAM_CHAT_MESSAGE("SMUGGLER_TEAM_CHAT_MESSAGE"),
-    INSPECTOR_TEAM_CHAT_MESSAGE("INSPECTOR_TEAM_CHAT_MESSAGE"),
-    ROUND_CHAT_MESSAGE("ROUND_CHAT_MESSAGE"),
+    SMUGGLER_TEAM_CHAT_MESSAGE("SMUGGLER_TEAM_CHAT_MESSAGE", 26),
+    INSPECTOR_TEAM_CHAT_MESSAGE("INSPECTOR_TEAM_CHAT_MESSAGE", 27),
+    ROUND_CHAT_MESSAGE("ROUND_CHAT_MESSAGE", 28),
 
-    START_GAME("START_GAME"),
-    ROUND_SELECTION_TIMER("ROUND_SELECTION_TIMER"),
-    REGISTERED_SMUGGLER_ID("REGISTERED_SMUGGLER_ID"),
-    FIXED_SMUGGLER_ID("FIXED_SMUGGLER_ID"),
-    REGISTERED_INSPECTOR_ID("REGISTERED_INSPECTOR_ID"),
-    FIXED_SMUGGLER_ID_FOR_INSPECTOR("FIXED_SMUGGLER_ID_FOR_INSPECTOR"),
-    FIXED_INSPECTOR_ID("FIXED_INSPECTOR_ID"),
-    FIXED_INSPECTOR_ID_FOR_SMUGGLER("FIXED_INSPECTOR_ID_FOR_SMUGGLER"),
-    SMUGGLER_APPROVAL_STATE("SMUGGLER_APPROVAL_STATE"),
-    INSPECTOR_APPROVAL_STATE("INSPECTOR_APPROVAL_STATE"),
+    START_GAME("START_GAME", 29),
+    ROUND_SELECTION_TIMER("ROUND_SELECTION_TIMER", 30),
+    REGISTERED_SMUGGLER_ID("REGISTERED_SMUGGLER_ID", 31),
+    FIXED_SMUGGLER_ID("FIXED_SMUGGLER_ID", 32),
+    REGISTERED_INSPECTOR_ID("REGISTERED_INSPECTOR_ID", 33),
+    FIXED_SMUGGLER_ID_FOR_INSPECTOR("FIXED_SMUGGLER_ID_FOR_INSPECTOR", 34),
+    FIXED_INSPECTOR_ID("FIXED_INSPECTOR_ID", 35),
+    FIXED_INSPECTOR_ID_FOR_SMUGGLER("FIXED_INSPECTOR_ID_FOR_SMUGGLER", 36),
+    SMUGGLER_APPROVAL_STATE("SMUGGLER_APPROVAL_STATE", 37),
+    INSPECTOR_APPROVAL_STATE("INSPECTOR_APPROVAL_STATE", 38),
 
-    START_NEW_ROUND("START_NEW_ROUND"),
-    FINISHED_ROUND("FINISHED_ROUND"),
-    FINISHED_GAME("FINISHED_GAME"),
-    TRANSFER_FAILED("TRANSFER_FAILED"),
-    DECIDED_INSPECTOR_BEHAVIOR_FOR_SMUGGLER_TEAM("DECIDED_INSPECTOR_BEHAVIOR_FOR_SMUGGLER_TEAM"),
-    DECIDED_PASS("DECIDED_PASS"),
-    DECIDED_INSPECTION("DECIDED_INSPECTION"),
-    DECIDED_SMUGGLER_AMOUNT_FOR_SMUGGLER_TEAM("DECIDED_SMUGGLER_AMOUNT_FOR_SMUGGLER_TEAM"),
-    DECIDED_SMUGGLER_AMOUNT_FOR_INSPECTOR_TEAM("DECIDED_SMUGGLER_AMOUNT_FOR_INSPECTOR_TEAM"),
-    TRANSFER("TRANSFER");
+    START_NEW_ROUND("START_NEW_ROUND", 39),
+    FINISHED_ROUND("FINISHED_ROUND", 40),
+    FINISHED_GAME("FINISHED_GAME", 41),
+    TRANSFER_FAILED("TRANSFER_FAILED", 42),
+    DECIDED_INSPECTOR_BEHAVIOR_FOR_SMUGGLER_TEAM("DECIDED_INSPECTOR_BEHAVIOR_FOR_SMUGGLER_TEAM", 43),
+    DECIDED_PASS("DECIDED_PASS", 44),
+    DECIDED_INSPECTION("DECIDED_INSPECTION", 45),
+    DECIDED_SMUGGLER_AMOUNT_FOR_SMUGGLER_TEAM("DECIDED_SMUGGLER_AMOUNT_FOR_SMUGGLER_TEAM", 46),
+    DECIDED_SMUGGLER_AMOUNT_FOR_INSPECTOR_TEAM("DECIDED_SMUGGLER_AMOUNT_FOR_INSPECTOR_TEAM", 47),
+    TRANSFER("TRANSFER", 48);
 
     private final String type;
+    private final int code;
 
-    WebSocketOutboundMessageType(String type) {
+    WebSocketOutboundMessageType(String type, int code) {
         this.type = type;
+        this.code = code;
     }
 
     @JsonValue
@@ -71,6 +74,11 @@ public enum WebSocketOutboundMessageType {
         return type;
     }
 
+    // 바이너리 프로토콜에서는 이름 대신 이 코드를 주고받으므로 한 번 정한 값은 바꾸지 않는다
+    public int code() {
+        return code;
+    }
+
     public boolean isSameType(String rawType) {
         return type.equalsIgnoreCase(rawType);
     }
@@ -8,6 +8,8 @@
         entityId: 'cb_entity_id'
     };
 
+    const PROTOCOL_VERSION = 2;
+
     const EXCEPTION_MESSAGES = {
         LOBBY_CREATE_FAILED: '로비 생성에 실패했습니다. 잠시 후 다시 시도해주세요.',
         LOBBY_FULL: '정원이 모두 찼습니다.',
@@ -21,6 +23,7 @@
         NOT_CURRENT_ROUND_SMUGGLER: '현재 라운드를 진행하는 밀수꾼이 아닙니다.',
         NOT_CURRENT_ROUND_INSPECTOR: '현재 라운드를 진행하는 검사관이 아닙니다.',
         GAME_INVALID_STATE: '진행할 수 없는 게임 상태입니다. 새로고침 후 다시 시도해 주세요.',
+        INVALID_MESSAGE_FORMAT: '요청 형식이 올바르지 않습니다. 새로고침 후 다시 시도해 주세요.',
         UNKNOWN_ERROR: '알 수 없는 오류가 발생했습니다.'
     };
 
@@ -78,7 +81,7 @@
     function buildWsUrl(userId) {
         const numericId = Number(userId);
         const proto = location.protocol === 'https:' ? 'wss' : 'ws';
-        return `${proto}://${location.host}/ws?playerId=${numericId}`;
+        return `${proto}://${location.host}/ws?playerId=${numericId}&protocolVersion=${PROTOCOL_VERSION}`;
     }
 
     async function login(userId, options = {}) {
@@ -135,7 +138,9 @@
                 }
                 return;
             }
-            handlers.onMessage && handlers.onMessage(parsed, evt);
+            // protocolVersion 2부터는 같은 시점에 보낸 메시지들이 배열 하나로 묶여 온다
+            const messages = Array.isArray(parsed) ? parsed : [parsed];
+            messages.forEach((message) => handlers.onMessage && handlers.onMessage(message, evt));
         };
         return ws;
     }
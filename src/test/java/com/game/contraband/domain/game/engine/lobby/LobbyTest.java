@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.game.contraband.domain.game.engine.match.ContrabandGame;
 import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.domain.game.vo.Money;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -364,6 +365,29 @@ class LobbyTest {
         );
     }
 
+    @Test
+    void 시작된_게임으로_로비를_다시_세우면_진행_중_상태로_복원한다() {
+        // given
+        PlayerProfile smuggler = PlayerProfile.create(1L, "방장", TeamRole.SMUGGLER);
+        PlayerProfile inspector = PlayerProfile.create(2L, "검사관1", TeamRole.INSPECTOR);
+        ContrabandGame game = ContrabandGame.notStarted(
+                TeamRoster.create("밀수꾼 팀", TeamRole.SMUGGLER, List.of(smuggler)),
+                TeamRoster.create("검사관 팀", TeamRole.INSPECTOR, List.of(inspector)),
+                3
+        );
+
+        // when
+        Lobby actual = Lobby.resume(1L, "게임방", 1L, 4, game);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getPhase()).isEqualTo(LobbyPhase.IN_PROGRESS),
+                () -> assertThat(actual.currentGame()).isSameAs(game),
+                () -> assertThat(actual.findPlayerProfile(2L)).isEqualTo(inspector),
+                () -> assertThat(actual.canAddToLobby()).isFalse()
+        );
+    }
+
     @Test
     void 팀_인원수가_다르면_게임을_시작할_수_없다() {
         // given
@@ -0,0 +1,123 @@
+package com.game.contraband.infrastructure.actor.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.BlockPlayer;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklist;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistChanged;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistStoreCommand;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.QueryChatBlacklist;
+import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
+import com.game.contraband.infrastructure.monitor.ClusterChatBlacklistRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.pubsub.Topic;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ChatBlacklistReplicaActorTest {
+
+    private ActorTestKit actorTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 다른_노드에서_전파된_차단을_근접_캐시에_반영하고_리스너에_알린다() {
+        // given
+        ClusterChatBlacklistRepository nearCache = new ClusterChatBlacklistRepository();
+        TestProbe<ChatBlacklistStoreCommand> store = actorTestKit.createTestProbe(ChatBlacklistStoreCommand.class);
+        List<Long> notified = new CopyOnWriteArrayList<>();
+
+        nearCache.registerListener(notified::add);
+        actorTestKit.spawn(ChatBlacklistReplicaActor.create(nearCache, store.getRef()));
+        store.expectMessageClass(QueryChatBlacklist.class)
+             .replyTo()
+             .tell(new ChatBlacklist(Set.of(), 0L));
+
+        // when
+        publish(new ChatBlacklistChanged(7L, true, 1L));
+
+        // then
+        ActorTestUtils.waitUntilCondition(() -> nearCache.isBlocked(7L));
+
+        assertThat(notified).containsExactly(7L);
+    }
+
+    @Test
+    void 원본_목록을_받으면_근접_캐시를_채운다() {
+        // given
+        ClusterChatBlacklistRepository nearCache = new ClusterChatBlacklistRepository();
+        TestProbe<ChatBlacklistStoreCommand> store = actorTestKit.createTestProbe(ChatBlacklistStoreCommand.class);
+
+        actorTestKit.spawn(ChatBlacklistReplicaActor.create(nearCache, store.getRef()));
+
+        // when
+        QueryChatBlacklist query = store.expectMessageClass(QueryChatBlacklist.class);
+        query.replyTo().tell(new ChatBlacklist(Set.of(3L, 4L), 2L));
+
+        // then
+        ActorTestUtils.waitUntilCondition(() -> nearCache.findAll().size() == 2);
+
+        assertAll(
+                () -> assertThat(nearCache.isBlocked(3L)).isTrue(),
+                () -> assertThat(nearCache.isBlocked(4L)).isTrue(),
+                () -> assertThat(nearCache.isBlocked(5L)).isFalse()
+        );
+    }
+
+    @Test
+    void 차단하면_근접_캐시에_바로_반영하고_원본_저장소로_보낸다() {
+        // given
+        ClusterChatBlacklistRepository nearCache = new ClusterChatBlacklistRepository();
+        TestProbe<ChatBlacklistStoreCommand> store = actorTestKit.createTestProbe(ChatBlacklistStoreCommand.class);
+
+        actorTestKit.spawn(ChatBlacklistReplicaActor.create(nearCache, store.getRef()));
+        store.expectMessageClass(QueryChatBlacklist.class);
+
+        // when
+        nearCache.block(5L);
+
+        // then
+        BlockPlayer actual = store.expectMessageClass(BlockPlayer.class);
+
+        assertAll(
+                () -> assertThat(actual.playerId()).isEqualTo(5L),
+                () -> assertThat(nearCache.isBlocked(5L)).isTrue()
+        );
+    }
+
+    private void publish(ChatBlacklistChanged change) {
+        ActorRef<Topic.Command<ChatBlacklistChanged>> topic = actorTestKit.spawn(
+                Topic.create(ChatBlacklistChanged.class, ChatBlacklistStoreActor.TOPIC_NAME)
+        );
+        TestProbe<Topic.TopicStats> stats = actorTestKit.createTestProbe(Topic.TopicStats.class);
+
+        Awaitility.await()
+                  .atMost(Duration.ofSeconds(3L))
+                  .until(() -> {
+                      topic.tell(Topic.getTopicStats(stats.getRef()));
+                      return stats.receiveMessage().topicInstanceCount() >= 1;
+                  });
+        topic.tell(Topic.publish(change));
+    }
+}
@@ -0,0 +1,108 @@
+package com.game.contraband.infrastructure.actor.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.BlockPlayer;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklist;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistEvent;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.ChatBlacklistStoreCommand;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.PlayerBlocked;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.PlayerUnblocked;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.QueryChatBlacklist;
+import com.game.contraband.infrastructure.actor.blacklist.ChatBlacklistStoreActor.UnblockPlayer;
+import com.typesafe.config.ConfigFactory;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ChatBlacklistStoreActorTest {
+
+    private ActorTestKit actorTestKit;
+    private EventSourcedBehaviorTestKit<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> storeTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(EventSourcedBehaviorTestKit.config())
+                 .withFallback(PersistenceTestKitSnapshotPlugin.config())
+        );
+        storeTestKit = EventSourcedBehaviorTestKit.create(actorTestKit.system(), ChatBlacklistStoreActor.create());
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 플레이어를_차단하면_차단_이벤트를_남기고_버전을_올린다() {
+        // when
+        CommandResult<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> actual = storeTestKit.runCommand(
+                new BlockPlayer(3L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual.event()).isEqualTo(new PlayerBlocked(3L)),
+                () -> assertThat(actual.state().playerIds()).containsExactly(3L),
+                () -> assertThat(actual.state().version()).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 이미_차단된_플레이어의_차단이나_차단되지_않은_플레이어의_해제는_기록하지_않는다() {
+        // given
+        storeTestKit.runCommand(new BlockPlayer(3L));
+
+        // when
+        CommandResult<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> duplicated = storeTestKit.runCommand(
+                new BlockPlayer(3L)
+        );
+        CommandResult<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> unknown = storeTestKit.runCommand(
+                new UnblockPlayer(9L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(duplicated.hasNoEvents()).isTrue(),
+                () -> assertThat(unknown.hasNoEvents()).isTrue()
+        );
+    }
+
+    @Test
+    void 재시작하면_해제되지_않은_차단_목록을_복원한다() {
+        // given
+        storeTestKit.runCommand(new BlockPlayer(3L));
+        storeTestKit.runCommand(new BlockPlayer(4L));
+        CommandResult<ChatBlacklistStoreCommand, ChatBlacklistEvent, ChatBlacklist> unblocked = storeTestKit.runCommand(
+                new UnblockPlayer(3L)
+        );
+
+        // when
+        storeTestKit.restart();
+
+        // then
+        ChatBlacklist actual = storeTestKit.<ChatBlacklist>runCommand(QueryChatBlacklist::new)
+                                           .reply();
+        assertAll(
+                () -> assertThat(unblocked.event()).isEqualTo(new PlayerUnblocked(3L)),
+                () -> assertThat(actual.playerIds()).containsExactly(4L),
+                () -> assertThat(actual.version()).isEqualTo(3L)
+        );
+    }
+}
@@ -4,23 +4,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.application.game.dto.ActiveGameView;
-import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ChatCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClearActiveGame;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.FetchRoomDirectoryPage;
-import com.game.contraband.infrastructure.actor.client.ClientSessionActor.InboundCommand;
-import com.game.contraband.infrastructure.actor.client.ClientSessionActor.OutboundCommand;
-import com.game.contraband.infrastructure.actor.client.ClientSessionActor.PresenceCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.QueryActiveGame;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ReSyncClientSession;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.SessionDisconnected;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.UpdateActiveGame;
-import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.ContrabandGameCommand;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.SendWebSocketPing;
+import com.game.contraband.infrastructure.actor.client.SessionPresenceHandler.UnregisterSessionCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.LocalDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RegisterSession;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RequestRoomDirectoryPage;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.UnregisterSession;
+import com.game.contraband.infrastructure.actor.dummy.DummyChatBlacklistRepository;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.ToggleReady;
+import com.game.contraband.infrastructure.actor.spy.SpyClientWebSocketMessageSender;
 import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
-import java.lang.reflect.Constructor;
+import com.game.contraband.infrastructure.websocket.SessionOutboundQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
 import org.apache.pekko.actor.typed.ActorRef;
-import org.apache.pekko.actor.typed.Behavior;
-import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.pattern.StatusReply;
 import org.junit.jupiter.api.AfterEach;
@@ -34,6 +46,7 @@ import org.junit.jupiter.api.Test;
 class ClientSessionActorTest {
 
     private static final Long PLAYER_ID = 1L;
+    private static final Duration IDLE_TIMEOUT = Duration.ofMillis(100L);
 
     private ActorTestKit actorTestKit;
 
@@ -48,63 +61,74 @@ class ClientSessionActorTest {
     }
 
     @Test
-    void Outbound_메시지를_위임한다() {
+    void 세션이_시작되면_방_목록_구독을_등록한다() {
         // given
         TestContext context = createContext();
-        DummyOutbound outboundMessage = new DummyOutbound();
 
         // when
-        context.actor().tell(outboundMessage);
+        RegisterSession actual = context.directory().expectMessageClass(RegisterSession.class);
 
         // then
-        DummyOutbound actual = (DummyOutbound) context.outbound().monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(actual.userId()).isEqualTo(PLAYER_ID),
+                () -> assertThat(actual.session()).isEqualTo(context.actor())
+        );
+    }
+
+    @Test
+    void Outbound_메시지를_같은_액터에서_처리한다() {
+        // given
+        TestContext context = createContext();
+
+        // when
+        context.actor().tell(new SendWebSocketPing());
 
-        assertThat(actual).isEqualTo(outboundMessage);
+        // then
+        ActorTestUtils.waitUntilCondition(() -> context.sender().pingSent);
     }
 
     @Test
-    void Inbound_메시지를_위임한다() {
+    void Inbound_메시지를_같은_액터에서_처리한다() {
         // given
         TestContext context = createContext();
-        DummyInbound inboundMessage = new DummyInbound();
+        TestProbe<LobbyCommand> lobby = actorTestKit.createTestProbe(LobbyCommand.class);
+
+        context.actor().tell(new UpdateLobby(lobby.getRef()));
 
         // when
-        context.actor().tell(inboundMessage);
+        context.actor().tell(new RequestToggleReady(PLAYER_ID));
 
         // then
-        DummyInbound actual = (DummyInbound) context.inbound().monitor().receiveMessage();
+        ToggleReady actual = lobby.expectMessageClass(ToggleReady.class);
 
-        assertThat(actual).isEqualTo(inboundMessage);
+        assertThat(actual.playerId()).isEqualTo(PLAYER_ID);
     }
 
     @Test
-    void Presence_메시지를_위임한다() {
+    void Presence_메시지를_같은_액터에서_처리한다() {
         // given
         TestContext context = createContext();
-        DummyPresence presenceMessage = new DummyPresence();
+        context.directory().expectMessageClass(RegisterSession.class);
 
         // when
-        context.actor().tell(presenceMessage);
+        context.actor().tell(new UnregisterSessionCommand());
 
         // then
-        DummyPresence actual = (DummyPresence) context.presence().monitor().receiveMessage();
+        UnregisterSession actual = context.directory().expectMessageClass(UnregisterSession.class);
 
-        assertThat(actual).isEqualTo(presenceMessage);
+        assertThat(actual.userId()).isEqualTo(PLAYER_ID);
     }
 
     @Test
-    void 채팅_메시지를_위임한다() {
+    void 채팅_메시지를_같은_액터에서_처리한다() {
         // given
         TestContext context = createContext();
-        DummyChat chatMessage = new DummyChat();
 
         // when
-        context.actor().tell(chatMessage);
+        context.actor().tell(new PropagateWelcomeMessage("player"));
 
         // then
-        DummyChat actual = (DummyChat) context.chat().monitor().receiveMessage();
-
-        assertThat(actual).isEqualTo(chatMessage);
+        ActorTestUtils.waitUntilCondition(() -> "player".equals(context.sender().chatWelcomeName));
     }
 
     @Test
@@ -152,40 +176,37 @@ class ClientSessionActorTest {
     }
 
     @Test
-    void 세션을_재_동기화한다() {
+    void 세션을_재_동기화하면_방_목록_구독을_다시_등록한다() {
         // given
         TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
 
         // when
         context.actor().tell(new ReSyncClientSession(PLAYER_ID));
 
         // then
-        SessionInboundActor.ReSyncConnection reSyncConnection =
-                (SessionInboundActor.ReSyncConnection) context.inbound().monitor().receiveMessage();
-        SessionPresenceActor.ResubscribeRoomDirectory resubscribe =
-                (SessionPresenceActor.ResubscribeRoomDirectory) context.presence().monitor().receiveMessage();
+        RegisterSession actual = context.directory().expectMessageClass(RegisterSession.class);
 
-        assertAll(
-                () -> assertThat(reSyncConnection.playerId()).isEqualTo(PLAYER_ID),
-                () -> assertThat(resubscribe).isNotNull()
-        );
+        assertThat(actual.userId()).isEqualTo(PLAYER_ID);
     }
 
     @Test
     void 게임_방_목록을_요청한다() {
         // given
         TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
 
         // when
-        context.actor().tell(new FetchRoomDirectoryPage(2, 5));
+        context.actor().tell(new FetchRoomDirectoryPage(2, 5, 9L));
 
         // then
-        SessionPresenceActor.RequestRoomDirectoryPageCommand actual =
-                (SessionPresenceActor.RequestRoomDirectoryPageCommand) context.presence().monitor().receiveMessage();
+        RequestRoomDirectoryPage actual = context.directory().expectMessageClass(RequestRoomDirectoryPage.class);
 
         assertAll(
+                () -> assertThat(actual.userId()).isEqualTo(PLAYER_ID),
                 () -> assertThat(actual.page()).isEqualTo(2),
-                () -> assertThat(actual.size()).isEqualTo(5)
+                () -> assertThat(actual.size()).isEqualTo(5),
+                () -> assertThat(actual.afterRoomId()).isEqualTo(9L)
         );
     }
 
@@ -193,106 +214,90 @@ class ClientSessionActorTest {
     void 자기_자신_종료_시_세션을_해제한다() {
         // given
         TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
 
         // when
         actorTestKit.stop(context.actor());
 
         // then
-        SessionPresenceActor.UnregisterSessionCommand actual =
-                (SessionPresenceActor.UnregisterSessionCommand) context.presence().monitor().receiveMessage();
+        UnregisterSession actual = context.directory().expectMessageClass(UnregisterSession.class);
 
-        assertThat(actual).isNotNull();
+        assertThat(actual.userId()).isEqualTo(PLAYER_ID);
     }
 
-    private TestContext createContext() {
-        ActorTestUtils.MonitoredActor<OutboundCommand> outbound = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                OutboundCommand.class,
-                Behaviors.ignore()
-        );
-        ActorTestUtils.MonitoredActor<InboundCommand> inbound = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                InboundCommand.class,
-                Behaviors.ignore()
-        );
-        ActorTestUtils.MonitoredActor<PresenceCommand> presence = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                PresenceCommand.class,
-                Behaviors.ignore()
-        );
-        ActorTestUtils.MonitoredActor<ChatCommand> chat = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                ChatCommand.class,
-                Behaviors.ignore()
-        );
-        Behavior<ClientSessionCommand> behavior = createClientSessionBehavior(
-                outbound.ref(),
-                inbound.ref(),
-                presence.ref(),
-                chat.ref()
-        );
-        ActorRef<ClientSessionCommand> actor = actorTestKit.spawn(behavior);
-        return new TestContext(actor, outbound, inbound, presence, chat);
-    }
+    @Test
+    void 연결이_끊긴_뒤_유휴_시간이_지나면_세션을_종료하고_종료를_알린다() {
+        // given
+        TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
+
+        // when
+        context.actor().tell(new SessionDisconnected());
+
+        // then
+        TestProbe<Object> probe = actorTestKit.createTestProbe();
+        probe.expectTerminated(context.actor());
 
-    private Behavior<ClientSessionCommand> createClientSessionBehavior(
-            ActorRef<OutboundCommand> outbound,
-            ActorRef<InboundCommand> inbound,
-            ActorRef<PresenceCommand> presence,
-            ActorRef<ChatCommand> chat
-    ) {
-        return Behaviors.setup(
-                context -> {
-                    try {
-                        Constructor<ClientSessionActor> constructor = ClientSessionActor.class.getDeclaredConstructor(
-                                ActorContext.class,
-                                ActorRef.class,
-                                ActorRef.class,
-                                ActorRef.class,
-                                ActorRef.class
-                        );
-                        constructor.setAccessible(true);
-                        return constructor.newInstance(context, outbound, inbound, presence, chat);
-                    } catch (Exception ex) {
-                        throw new IllegalStateException(ex);
-                    }
-                }
+        assertAll(
+                () -> assertThat(context.directory().expectMessageClass(UnregisterSession.class).userId()).isEqualTo(PLAYER_ID),
+                () -> assertThat(context.stopped()).containsExactly(context.actor())
         );
     }
 
-    private record TestContext(
-            ActorRef<ClientSessionCommand> actor,
-            ActorTestUtils.MonitoredActor<OutboundCommand> outbound,
-            ActorTestUtils.MonitoredActor<InboundCommand> inbound,
-            ActorTestUtils.MonitoredActor<PresenceCommand> presence,
-            ActorTestUtils.MonitoredActor<ChatCommand> chat
-    ) {
-        public ActorRef<ClientSessionCommand> actor() {
-            return actor;
-        }
-
-        public ActorTestUtils.MonitoredActor<OutboundCommand> outbound() {
-            return outbound;
-        }
-
-        public ActorTestUtils.MonitoredActor<InboundCommand> inbound() {
-            return inbound;
-        }
-
-        public ActorTestUtils.MonitoredActor<PresenceCommand> presence() {
-            return presence;
-        }
-
-        public ActorTestUtils.MonitoredActor<ChatCommand> chat() {
-            return chat;
-        }
+    @Test
+    void 진행_중인_게임이_있으면_유휴_시간이_지나도_세션을_유지한다() {
+        // given
+        TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
+        context.actor().tell(new UpdateActiveGame(10L, "entity"));
+
+        // when
+        context.actor().tell(new SessionDisconnected());
+
+        // then
+        context.directory().expectNoMessage(IDLE_TIMEOUT.multipliedBy(3L));
+
+        assertThat(context.stopped()).isEmpty();
     }
 
-    private static class DummyOutbound implements OutboundCommand { }
+    @Test
+    void 유휴_시간_안에_다시_연결되면_세션을_유지한다() {
+        // given
+        TestContext context = createContext();
+        context.directory().expectMessageClass(RegisterSession.class);
+        context.actor().tell(new SessionDisconnected());
+
+        // when
+        context.sender().attachSink(new SessionOutboundQueue(8, new SimpleMeterRegistry()));
 
-    private static class DummyInbound implements InboundCommand { }
+        // then
+        context.directory().expectNoMessage(IDLE_TIMEOUT.multipliedBy(3L));
 
-    private static class DummyPresence implements PresenceCommand { }
+        assertThat(context.stopped()).isEmpty();
+    }
 
-    private static class DummyChat implements ChatCommand, ContrabandGameCommand { }
+    private TestContext createContext() {
+        SpyClientWebSocketMessageSender sender = new SpyClientWebSocketMessageSender();
+        TestProbe<LocalDirectoryCommand> directory = actorTestKit.createTestProbe(LocalDirectoryCommand.class);
+        List<ActorRef<ClientSessionCommand>> stopped = new CopyOnWriteArrayList<>();
+        ActorRef<ClientSessionCommand> actor = actorTestKit.spawn(
+                ClientSessionActor.create(
+                        PLAYER_ID,
+                        sender,
+                        directory.getRef(),
+                        new DummyChatBlacklistRepository(),
+                        IDLE_TIMEOUT,
+                        stopped::add
+                )
+        );
+
+        return new TestContext(actor, sender, directory, stopped);
+    }
+
+    private record TestContext(
+            ActorRef<ClientSessionCommand> actor,
+            SpyClientWebSocketMessageSender sender,
+            TestProbe<LocalDirectoryCommand> directory,
+            List<ActorRef<ClientSessionCommand>> stopped
+    ) { }
 }
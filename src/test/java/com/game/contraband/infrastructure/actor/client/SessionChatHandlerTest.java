@@ -5,21 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ChatCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearContrabandGameChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearLobbyChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateInspectorTeamChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateKickedMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateLeftMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateMaskedChatMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateNewMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateRoundChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateSmugglerTeamChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateWelcomeMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.RequestSendChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.RequestSendRoundChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.RequestSendTeamChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.SyncContrabandGameChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.SyncLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateInspectorTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateKickedMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateLeftMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateMaskedChatMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateNewMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateSmugglerTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.SyncContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.SyncLobbyChat;
 import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
 import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.LobbyChatCommand;
@@ -46,7 +46,7 @@ import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-class SessionChatActorTest {
+class SessionChatHandlerTest {
 
     private static final Long PLAYER_ID = 1L;
 
@@ -464,7 +464,9 @@ class SessionChatActorTest {
     private TestContext createContext() {
         SpyClientWebSocketMessageSender sender = new SpyClientWebSocketMessageSender();
         SpyChatBlacklistRepository chatBlacklistRepository = new SpyChatBlacklistRepository();
-        Behavior<ChatCommand> behavior = SessionChatActor.create(PLAYER_ID, sender, chatBlacklistRepository);
+        Behavior<ChatCommand> behavior = Behaviors.setup(
+                context -> new SessionChatHandler(PLAYER_ID, sender, chatBlacklistRepository, context::watch).createReceive()
+        );
         ActorRef<ChatCommand> actor = actorTestKit.spawn(behavior);
         return new TestContext(actor, sender, chatBlacklistRepository);
     }
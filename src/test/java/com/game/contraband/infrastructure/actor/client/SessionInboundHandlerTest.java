@@ -6,25 +6,28 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.InboundCommand;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.ClearLobby;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.ReSyncConnection;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestChangeMaxPlayerCount;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestDecideInspection;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestDecidePass;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestDecideSmuggleAmount;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestFixInspector;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestFixSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestKickPlayer;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestLeaveLobby;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestLobbyDeletion;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestRegisterInspector;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestRegisterSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestToggleReady;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestToggleTeam;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.RequestTransferMoney;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateContrabandGame;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.ClearLobby;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.LobbyClosed;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.ReSyncConnection;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestChangeMaxPlayerCount;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideInspection;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecidePass;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecideSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestFixInspector;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestFixSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestKickPlayer;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestLeaveLobby;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestLobbyDeletion;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestRegisterInspector;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestRegisterSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestToggleTeam;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestTransferMoney;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateContrabandGame;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLobbyDeleted;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.ChangeMaxPlayerCount;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.KickPlayer;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LeaveLobby;
@@ -52,7 +55,7 @@ import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-class SessionInboundActorTest {
+class SessionInboundHandlerTest {
 
     private static final Long PLAYER_ID = 1L;
 
@@ -139,6 +142,46 @@ class SessionInboundActorTest {
         assertThat(lobby.getAllReceived()).isEmpty();
     }
 
+    @Test
+    void 머물던_로비가_닫히면_로비_정보를_비우고_로비_삭제를_알린다() {
+        // given
+        TestContext context = createContext();
+        TestInbox<LobbyCommand> lobby = TestInbox.create();
+        send(context, new UpdateLobby(lobby.getRef()));
+
+        // when
+        send(context, new LobbyClosed(lobby.getRef()));
+        send(context, new RequestLeaveLobby(PLAYER_ID));
+
+        // then
+        assertAll(
+                () -> assertThat(lobby.getAllReceived()).isEmpty(),
+                () -> assertThat(context.gateway().getAllReceived()).containsExactly(
+                        new PropagateLobbyDeleted(),
+                        new ClearLobbyChat()
+                )
+        );
+    }
+
+    @Test
+    void 다른_로비가_닫힌_알림은_무시한다() {
+        // given
+        TestContext context = createContext();
+        TestInbox<LobbyCommand> lobby = TestInbox.create();
+        TestInbox<LobbyCommand> closedLobby = TestInbox.create();
+        send(context, new UpdateLobby(lobby.getRef()));
+
+        // when
+        send(context, new LobbyClosed(closedLobby.getRef()));
+        send(context, new RequestLeaveLobby(PLAYER_ID));
+
+        // then
+        assertAll(
+                () -> assertThat(lobby.getAllReceived()).hasSize(1),
+                () -> assertThat(context.gateway().getAllReceived()).isEmpty()
+        );
+    }
+
     @Test
     void 송금_요청을_전파한다() {
         // given
@@ -390,7 +433,7 @@ class SessionInboundActorTest {
     private TestContext createContext() {
         TestInbox<ClientSessionCommand> gateway = TestInbox.create();
         BehaviorTestUtils.BehaviorTestHarness<InboundCommand> harness = BehaviorTestUtils.createHarness(
-                SessionInboundActor.create(gateway.getRef())
+                new SessionInboundHandler(gateway.getRef()).createReceive()
         );
         return new TestContext(gateway, harness);
     }
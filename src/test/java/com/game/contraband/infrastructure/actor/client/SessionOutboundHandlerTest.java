@@ -11,41 +11,44 @@ import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClearA
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.OutboundCommand;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.UpdateActiveGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreatedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedInspection;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedPass;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedSmuggleAmount;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorIdForSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerIdForInspector;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateHostDeletedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateInspectorApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateJoinedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateKicked;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateLeftLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateLobbyDeleted;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerJoinedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerKicked;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateOtherPlayerLeftLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSelectionTimer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSmugglerApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartNewRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleReady;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleTeam;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransfer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransferFailed;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.RequestSessionReconnect;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.RoomDirectoryUpdated;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.SendWebSocketPing;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreatedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedInspection;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedPass;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorIdForSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerIdForInspector;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateHostDeletedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateInspectorApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateJoinedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateKicked;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLeftLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateLobbyDeleted;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerJoinedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerKicked;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateOtherPlayerLeftLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSelectionTimer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSmugglerApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartNewRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleTeam;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransfer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransferFailed;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RequestSessionReconnect;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryDelta;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryUpdated;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.SendWebSocketPing;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RoomDirectoryChange;
+import com.game.contraband.infrastructure.actor.directory.RoomEventType;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
 import com.game.contraband.infrastructure.actor.spy.SpyClientWebSocketMessageSender;
@@ -60,7 +63,7 @@ import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-class SessionOutboundActorTest {
+class SessionOutboundHandlerTest {
 
     private static final Long PLAYER_ID = 1L;
 
@@ -107,11 +110,31 @@ class SessionOutboundActorTest {
         List<RoomDirectorySnapshot> rooms = List.of(new RoomDirectorySnapshot(10L, "방", 4, 2, "entity", false));
 
         // when
-        send(context, new RoomDirectoryUpdated(rooms, 5));
+        send(context, new RoomDirectoryUpdated(rooms, 5, 3L));
 
         // then
         assertAll(
                 () -> assertThat(context.sender().roomSnapshots).isEqualTo(rooms),
+                () -> assertThat(context.sender().roomTotalCount).isEqualTo(5),
+                () -> assertThat(context.sender().roomDirectoryVersion).isEqualTo(3L)
+        );
+    }
+
+    @Test
+    void 게임_방_목록_변경분을_전송한다() {
+        // given
+        TestContext context = createContext();
+        RoomDirectorySnapshot room = new RoomDirectorySnapshot(10L, "방", 4, 3, "entity", false);
+        List<RoomDirectoryChange> changes = List.of(new RoomDirectoryChange(RoomEventType.UPDATED, 10L, room));
+
+        // when
+        send(context, new RoomDirectoryDelta(4L, 3L, changes, 5));
+
+        // then
+        assertAll(
+                () -> assertThat(context.sender().roomDirectoryChanges).isEqualTo(changes),
+                () -> assertThat(context.sender().roomDirectoryVersion).isEqualTo(4L),
+                () -> assertThat(context.sender().roomDirectoryPreviousVersion).isEqualTo(3L),
                 () -> assertThat(context.sender().roomTotalCount).isEqualTo(5)
         );
     }
@@ -607,7 +630,7 @@ class SessionOutboundActorTest {
         SpyClientWebSocketMessageSender sender = new SpyClientWebSocketMessageSender();
         TestInbox<ClientSessionCommand> gateway = TestInbox.create();
         BehaviorTestUtils.BehaviorTestHarness<OutboundCommand> harness = BehaviorTestUtils.createHarness(
-                SessionOutboundActor.create(PLAYER_ID, sender, gateway.getRef())
+                new SessionOutboundHandler(PLAYER_ID, sender, gateway.getRef()).createReceive()
         );
         return new TestContext(sender, gateway, harness);
     }
@@ -0,0 +1,118 @@
+package com.game.contraband.infrastructure.actor.client.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.global.actor.GuardianActor.GuardianCommand;
+import com.game.contraband.global.actor.GuardianActor.SpawnClientSession;
+import com.game.contraband.global.actor.GuardianActor.SpawnedClientSession;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
+import com.game.contraband.infrastructure.websocket.SessionOutboundQueue;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ClientSessionActorManageServiceTest {
+
+    private static final Long PLAYER_ID = 1L;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<SpawnClientSession> spawnRequests = new CopyOnWriteArrayList<>();
+    private ActorSystem<GuardianCommand> system;
+    private ActorTestKit actorTestKit;
+    private TestProbe<ClientSessionCommand> clientSession;
+    private ClientSessionActorManageService manageService;
+
+    @BeforeEach
+    void setUp() {
+        system = ActorSystem.create(
+                Behaviors.receive(GuardianCommand.class)
+                         .onMessage(
+                                 SpawnClientSession.class,
+                                 command -> {
+                                     spawnRequests.add(command);
+                                     command.replyTo().tell(new SpawnedClientSession(clientSession.getRef()));
+                                     return Behaviors.same();
+                                 }
+                         )
+                         .build(),
+                "client-session-manage-service-test"
+        );
+        actorTestKit = ActorTestKit.create(system);
+        clientSession = actorTestKit.createTestProbe(ClientSessionCommand.class);
+        manageService = new ClientSessionActorManageService(system, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 연결이_붙어_있는_채로_세션_액터가_멈추면_재연결을_요청하고_송신기는_유지한다() {
+        // given
+        SessionOutboundQueue sink = new SessionOutboundQueue(8, meterRegistry);
+        List<WebSocketOutboundMessageType> received = collect(sink);
+        ClientWebSocketMessageSender sender = manageService.attachSink(PLAYER_ID, sink);
+        ActorRef<ClientSessionCommand> spawned = manageService.createClientSessionActor(PLAYER_ID, sender)
+                                                              .toCompletableFuture()
+                                                              .join();
+
+        // when
+        spawnRequests.get(0).stopListener().accept(spawned);
+
+        // then
+        assertAll(
+                () -> assertThat(received).containsExactly(WebSocketOutboundMessageType.WS_RECONNECT),
+                () -> assertThat(manageService.findClientSession(PLAYER_ID)).isEmpty(),
+                () -> assertThat(manageService.attachSink(PLAYER_ID, sink)).isSameAs(sender),
+                () -> assertThat(manageService.sessionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 연결이_없는_세션_액터가_멈추면_레지스트리에서_지운다() {
+        // given
+        SessionOutboundQueue sink = new SessionOutboundQueue(8, meterRegistry);
+        ClientWebSocketMessageSender sender = manageService.attachSink(PLAYER_ID, sink);
+        ActorRef<ClientSessionCommand> spawned = manageService.createClientSessionActor(PLAYER_ID, sender)
+                                                              .toCompletableFuture()
+                                                              .join();
+
+        manageService.detachSink(PLAYER_ID, sender, sink);
+
+        // when
+        spawnRequests.get(0).stopListener().accept(spawned);
+
+        // then
+        assertAll(
+                () -> assertThat(manageService.findClientSession(PLAYER_ID)).isEmpty(),
+                () -> assertThat(manageService.sessionCount()).isZero()
+        );
+    }
+
+    private List<WebSocketOutboundMessageType> collect(SessionOutboundQueue sink) {
+        List<WebSocketOutboundMessageType> received = new CopyOnWriteArrayList<>();
+
+        sink.asFlux()
+            .map(WebSocketOutboundFrame::type)
+            .subscribe(received::add);
+        return received;
+    }
+}
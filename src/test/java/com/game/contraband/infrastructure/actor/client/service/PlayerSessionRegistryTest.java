@@ -0,0 +1,80 @@
+package com.game.contraband.infrastructure.actor.client.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.client.service.PlayerSessionRegistry.EvictionReason;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlayerSessionRegistryTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_플레이어에_대해서는_처음_만든_항목을_돌려준다() {
+        // given
+        PlayerSessionRegistry<Object> registry = new PlayerSessionRegistry<>("test", meterRegistry);
+        Object first = registry.computeIfAbsent(1L, ignored -> new Object());
+
+        // when
+        Object actual = registry.computeIfAbsent(1L, ignored -> new Object());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isSameAs(first),
+                () -> assertThat(registry.size()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("session.registry.size").tag("registry", "test").gauge().value())
+                        .isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 항목을_지우면_사유별로_집계한다() {
+        // given
+        PlayerSessionRegistry<Object> registry = new PlayerSessionRegistry<>("test", meterRegistry);
+        Object entry = registry.computeIfAbsent(1L, ignored -> new Object());
+
+        // when
+        boolean actual = registry.evict(1L, entry, EvictionReason.SESSION_STOPPED);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> assertThat(registry.get(1L)).isNull(),
+                () -> assertThat(registry.size()).isZero(),
+                () -> assertThat(evictedCount(EvictionReason.SESSION_STOPPED)).isEqualTo(1.0d),
+                () -> assertThat(evictedCount(EvictionReason.CONNECTION_CLOSED)).isZero()
+        );
+    }
+
+    @Test
+    void 이미_바뀐_항목은_지우지_않는다() {
+        // given
+        PlayerSessionRegistry<Object> registry = new PlayerSessionRegistry<>("test", meterRegistry);
+        Object current = registry.computeIfAbsent(1L, ignored -> new Object());
+
+        // when
+        boolean actual = registry.evict(1L, new Object(), EvictionReason.CONNECTION_CLOSED);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(registry.get(1L)).isSameAs(current),
+                () -> assertThat(evictedCount(EvictionReason.CONNECTION_CLOSED)).isZero()
+        );
+    }
+
+    private double evictedCount(EvictionReason reason) {
+        return meterRegistry.get("session.registry.evicted")
+                            .tag("registry", "test")
+                            .tag("reason", reason.tagValue())
+                            .counter()
+                            .count();
+    }
+}
@@ -0,0 +1,138 @@
+package com.game.contraband.infrastructure.actor.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryEvent;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.cluster.typed.Cluster;
+import org.apache.pekko.cluster.typed.Join;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReplicatedRoomDirectoryActorTest {
+
+    private ActorTestKit actorTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.provider = cluster
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        pekko.remote.artery.canonical.hostname = "127.0.0.1"
+                        pekko.remote.artery.canonical.port = 0
+                        pekko.cluster.distributed-data.notify-subscribers-interval = 50ms
+                        """
+                )
+        );
+
+        Cluster cluster = Cluster.get(actorTestKit.system());
+
+        cluster.manager().tell(Join.create(cluster.selfMember().address()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 스냅샷을_요청한_복제본에_스냅샷_버전에_이어지는_변경_이벤트를_전달한다() {
+        // given
+        TestContext context = createContext();
+        RoomDirectorySnapshot room = new RoomDirectorySnapshot(1L, "방1", 4, 1, "entity1", false);
+
+        // when
+        context.actor().tell(new SyncRoomRegistered(room));
+
+        // then
+        RoomDirectoryEvent actual = context.changes().receiveMessage(Duration.ofSeconds(3L));
+        assertAll(
+                () -> assertThat(context.initial().rooms()).isEmpty(),
+                () -> assertThat(actual.type()).isEqualTo(RoomEventType.ADDED),
+                () -> assertThat(actual.roomSummary()).isEqualTo(room),
+                () -> assertThat(actual.version()).isEqualTo(context.initial().version() + 1L),
+                () -> assertThat(actual.partition()).isZero()
+        );
+    }
+
+    @Test
+    void 복제된_목록이_바뀌면_바뀐_방만_전달한다() {
+        // given
+        TestContext context = createContext();
+        RoomDirectorySnapshot filled = new RoomDirectorySnapshot(1L, "방1", 4, 3, "entity1", false);
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(1L, "방1", 4, 1, "entity1", false)));
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(2L, "방2", 4, 1, "entity2", false)));
+        receiveChanges(context, 2);
+
+        // when
+        context.actor().tell(new SyncRoomRegistered(filled));
+
+        // then
+        RoomDirectoryEvent actual = context.changes().receiveMessage(Duration.ofSeconds(3L));
+        assertAll(
+                () -> assertThat(actual.type()).isEqualTo(RoomEventType.UPDATED),
+                () -> assertThat(actual.roomSummary()).isEqualTo(filled),
+                () -> context.changes().expectNoMessage(Duration.ofMillis(300L))
+        );
+    }
+
+    @Test
+    void 게임방을_제거하면_제거_이벤트를_전달한다() {
+        // given
+        TestContext context = createContext();
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(1L, "방1", 4, 1, "entity1", false)));
+        RoomDirectoryEvent added = context.changes().receiveMessage(Duration.ofSeconds(3L));
+
+        // when
+        context.actor().tell(new RemoveRoom(1L));
+
+        // then
+        RoomDirectoryEvent actual = context.changes().receiveMessage(Duration.ofSeconds(3L));
+        assertAll(
+                () -> assertThat(actual.type()).isEqualTo(RoomEventType.REMOVED),
+                () -> assertThat(actual.roomId()).isEqualTo(1L),
+                () -> assertThat(actual.version()).isEqualTo(added.version() + 1L)
+        );
+    }
+
+    private void receiveChanges(TestContext context, int count) {
+        for (int i = 0; i < count; i++) {
+            context.changes().receiveMessage(Duration.ofSeconds(3L));
+        }
+    }
+
+    private TestContext createContext() {
+        ActorRef<RoomDirectoryCommand> actor = actorTestKit.spawn(ReplicatedRoomDirectoryActor.create());
+        TestProbe<DirectorySnapshotResult> snapshot = actorTestKit.createTestProbe(DirectorySnapshotResult.class);
+        TestProbe<RoomDirectoryEvent> changes = actorTestKit.createTestProbe(RoomDirectoryEvent.class);
+
+        actor.tell(new QueryPartitionSnapshot(0, snapshot.getRef(), changes.getRef()));
+        return new TestContext(actor, snapshot.receiveMessage(), changes);
+    }
+
+    private record TestContext(
+            ActorRef<RoomDirectoryCommand> actor,
+            DirectorySnapshotResult initial,
+            TestProbe<RoomDirectoryEvent> changes
+    ) { }
+}
@@ -3,19 +3,17 @@ package com.game.contraband.infrastructure.actor.directory;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRooms;
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRoomsResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryDirectorySnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRemoved;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
-import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
-import java.time.Duration;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
-import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -55,25 +53,26 @@ class RoomDirectoryActorTest {
         context.actor().tell(new SyncRoomRegistered(snapshot));
 
         // then
-        context.actor().tell(new QueryRooms(0, 10, context.query().ref()));
-        QueryRoomsResult actual = context.query().monitor().receiveMessage();
+        DirectorySnapshotResult actual = context.querySnapshot();
 
-        assertAll(
-                () -> assertThat(actual.rooms()).containsExactly(snapshot),
-                () -> assertThat(actual.totalCount()).isEqualTo(1)
-        );
+        assertThat(actual.rooms()).containsExactly(snapshot);
     }
 
     @Test
     void 게임방_삭제_요청_시_해당_게임방이_기록에_없다면_무시한다() {
         // given
         TestContext context = createContext();
+        long initialVersion = context.querySnapshot().version();
 
         // when
         context.actor().tell(new RemoveRoom(10L));
 
         // then
-        ActorTestUtils.expectNoMessages(context.query().monitor(), Duration.ofMillis(300L));
+        DirectorySnapshotResult actual = context.querySnapshot();
+        assertAll(
+                () -> assertThat(actual.rooms()).isEmpty(),
+                () -> assertThat(actual.version()).isEqualTo(initialVersion)
+        );
     }
 
     @Test
@@ -94,56 +93,83 @@ class RoomDirectoryActorTest {
         context.actor().tell(new SyncRoomRemoved(1L));
 
         // then
-        context.actor().tell(new QueryRooms(0, 10, context.query().ref()));
-        QueryRoomsResult actual = context.query().monitor().receiveMessage();
+        DirectorySnapshotResult actual = context.querySnapshot();
         assertThat(actual.rooms()).isEmpty();
     }
 
     @Test
-    void 게임방_목록을_페이지네이션_방법으로_조회한다() {
+    void 게임이_시작된_방은_스냅샷에서_시작된_상태로_갱신된다() {
         // given
         TestContext context = createContext();
-        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(3L, "3", 4, 1, "e3", false)));
-        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(2L, "2", 4, 1, "e2", true)));
         context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(1L, "1", 4, 1, "e1", false)));
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(2L, "2", 4, 1, "e2", false)));
+
+        // when
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(1L, "1", 4, 4, "e1", true)));
+
+        // then
+        DirectorySnapshotResult actual = context.querySnapshot();
+        assertThat(actual.rooms()).containsExactlyInAnyOrder(
+                new RoomDirectorySnapshot(2L, "2", 4, 1, "e2", false),
+                new RoomDirectorySnapshot(1L, "1", 4, 4, "e1", true)
+        );
+    }
+
+    @Test
+    void 같은_내용으로_다시_등록하면_변경으로_세지_않는다() {
+        // given
+        TestContext context = createContext();
+        RoomDirectorySnapshot snapshot = new RoomDirectorySnapshot(1L, "1", 4, 1, "e1", false);
+        context.actor().tell(new SyncRoomRegistered(snapshot));
+        long registeredVersion = context.querySnapshot().version();
 
         // when
-        context.actor().tell(new QueryRooms(0, 2, context.query().ref()));
+        context.actor().tell(new SyncRoomRegistered(snapshot));
 
         // then
-        QueryRoomsResult actualPage1 = context.query().monitor().receiveMessage();
-        context.actor().tell(new QueryRooms(1, 2, context.query().ref()));
-        QueryRoomsResult actualPage2 = context.query().monitor().receiveMessage();
+        DirectorySnapshotResult actual = context.querySnapshot();
+        assertAll(
+                () -> assertThat(actual.rooms()).containsExactly(snapshot),
+                () -> assertThat(actual.version()).isEqualTo(registeredVersion)
+        );
+    }
+
+    @Test
+    void 전체_스냅샷_조회_시_현재_게임방과_변경_버전을_응답한다() {
+        // given
+        TestContext context = createContext();
+        long initialVersion = context.querySnapshot().version();
+        RoomDirectorySnapshot snapshot = new RoomDirectorySnapshot(1L, "1", 4, 1, "e1", false);
+        context.actor().tell(new SyncRoomRegistered(snapshot));
+        context.actor().tell(new SyncRoomRegistered(new RoomDirectorySnapshot(2L, "2", 4, 1, "e2", false)));
+        context.actor().tell(new SyncRoomRemoved(2L));
+
+        // when
+        DirectorySnapshotResult actual = context.querySnapshot();
 
+        // then
         assertAll(
-                () -> assertThat(actualPage1.rooms().stream().map(RoomDirectorySnapshot::roomId).toList()).containsExactly(1L, 3L),
-                () -> assertThat(actualPage1.totalCount()).isEqualTo(3),
-                () -> assertThat(actualPage2.rooms().stream().map(RoomDirectorySnapshot::roomId).toList()).containsExactly(2L),
-                () -> assertThat(actualPage2.totalCount()).isEqualTo(3)
+                () -> assertThat(actual.rooms()).containsExactly(snapshot),
+                () -> assertThat(actual.version()).isEqualTo(initialVersion + 3L),
+                () -> assertThat(actual.partition()).isEqualTo(3)
         );
     }
 
     private TestContext createContext() {
-        ActorTestUtils.MonitoredActor<QueryRoomsResult> query = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                QueryRoomsResult.class,
-                Behaviors.ignore()
-        );
-        Behavior<RoomDirectoryCommand> behavior = RoomDirectoryActor.create();
+        TestProbe<DirectorySnapshotResult> snapshot = actorTestKit.createTestProbe(DirectorySnapshotResult.class);
+        Behavior<RoomDirectoryCommand> behavior = RoomDirectoryActor.create(3);
         ActorRef<RoomDirectoryCommand> actor = actorTestKit.spawn(behavior);
-        return new TestContext(actor, query);
+        return new TestContext(actor, snapshot);
     }
 
     private record TestContext(
             ActorRef<RoomDirectoryCommand> actor,
-            ActorTestUtils.MonitoredActor<QueryRoomsResult> query
+            TestProbe<DirectorySnapshotResult> snapshot
     ) {
-        public ActorRef<RoomDirectoryCommand> actor() {
-            return actor;
-        }
 
-        public ActorTestUtils.MonitoredActor<QueryRoomsResult> query() {
-            return query;
+        DirectorySnapshotResult querySnapshot() {
+            actor.tell(new QueryDirectorySnapshot(snapshot.getRef()));
+            return snapshot.receiveMessage();
         }
     }
 }
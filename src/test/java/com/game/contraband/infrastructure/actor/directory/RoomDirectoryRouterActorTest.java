@@ -0,0 +1,101 @@
+package com.game.contraband.infrastructure.actor.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
+import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoomDirectoryRouterActorTest {
+
+    private ActorTestKit actorTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 게임방_변경은_방_ID가_속한_파티션으로만_전달한다() {
+        // given
+        List<TestProbe<RoomDirectoryCommand>> partitions = createPartitions(2);
+        ActorRef<RoomDirectoryCommand> router = spawnRouter(partitions);
+        RoomDirectorySnapshot snapshot = new RoomDirectorySnapshot(3L, "방3", 4, 1, "entity3", false);
+        int expectedPartition = RoomDirectoryActor.partitionOf(3L, 2);
+
+        // when
+        router.tell(new SyncRoomRegistered(snapshot));
+        router.tell(new RemoveRoom(3L));
+
+        // then
+        TestProbe<RoomDirectoryCommand> owner = partitions.get(expectedPartition);
+        TestProbe<RoomDirectoryCommand> other = partitions.get(1 - expectedPartition);
+        assertAll(
+                () -> assertThat(owner.receiveMessage()).isEqualTo(new SyncRoomRegistered(snapshot)),
+                () -> assertThat(owner.receiveMessage()).isEqualTo(new RemoveRoom(3L)),
+                () -> ActorTestUtils.expectNoMessages(other, Duration.ofMillis(200L))
+        );
+    }
+
+    @Test
+    void 파티션_스냅샷_요청은_해당_파티션의_스냅샷_조회로_바꿔_전달한다() {
+        // given
+        List<TestProbe<RoomDirectoryCommand>> partitions = createPartitions(2);
+        ActorRef<RoomDirectoryCommand> router = spawnRouter(partitions);
+        TestProbe<DirectorySnapshotResult> replyTo = actorTestKit.createTestProbe(DirectorySnapshotResult.class);
+
+        // when
+        router.tell(new QueryPartitionSnapshot(1, replyTo.getRef(), null));
+
+        // then
+        QueryDirectorySnapshot actual = (QueryDirectorySnapshot) partitions.get(1).receiveMessage();
+        assertAll(
+                () -> assertThat(actual.replyTo()).isEqualTo(replyTo.getRef()),
+                () -> ActorTestUtils.expectNoMessages(partitions.get(0), Duration.ofMillis(200L))
+        );
+    }
+
+    @Test
+    void 파티션_수가_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> RoomDirectoryRouterActor.create(0, partition -> null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게임 방 목록 파티션 수는 1 이상이어야 합니다.");
+    }
+
+    private List<TestProbe<RoomDirectoryCommand>> createPartitions(int partitionCount) {
+        return IntStream.range(0, partitionCount)
+                        .mapToObj(ignored -> actorTestKit.createTestProbe(RoomDirectoryCommand.class))
+                        .toList();
+    }
+
+    private ActorRef<RoomDirectoryCommand> spawnRouter(List<TestProbe<RoomDirectoryCommand>> partitions) {
+        return actorTestKit.spawn(
+                RoomDirectoryRouterActor.create(partitions.size(), partition -> partitions.get(partition).getRef())
+        );
+    }
+}
@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.RoomDirectoryUpdated;
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRooms;
-import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryRoomsResult;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryDelta;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.RoomDirectoryUpdated;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.DirectorySnapshotResult;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.QueryPartitionSnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryEvent;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.LocalDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RegisterSession;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RoomDirectoryChange;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RequestRoomDirectoryPage;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.UnregisterSession;
 import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
@@ -21,13 +24,18 @@ import com.game.contraband.infrastructure.monitor.payload.MonitorActorRole;
 import com.game.contraband.infrastructure.monitor.payload.MonitorActorState;
 import com.game.contraband.infrastructure.monitor.payload.MonitorMessage;
 import com.game.contraband.infrastructure.monitor.payload.MonitorRoomDirectoryPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.actor.typed.pubsub.Topic;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -51,17 +59,11 @@ class RoomDirectorySubscriberActorTest {
     }
 
     @Test
-    void 클라이언트_세션_등록_시_게임방_목록_스냅샷을_전송한다() {
+    void 클라이언트_세션_등록_시_보고_있는_페이지를_전송한다() {
         // given
         TestContext context = createContext();
-        QueryRooms initialQuery = (QueryRooms) context.roomDirectory().monitor().receiveMessage();
-        QueryRoomsResult response = new QueryRoomsResult(List.of(), 0);
-        initialQuery.replyTo().tell(response);
-        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                ClientSessionCommand.class,
-                Behaviors.ignore()
-        );
+        context.replySnapshot(List.of(room(1L, false)), 1L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
 
         // when
         context.actor().tell(new RegisterSession(1L, session.ref()));
@@ -69,85 +71,257 @@ class RoomDirectorySubscriberActorTest {
         // then
         RoomDirectoryUpdated actual = (RoomDirectoryUpdated) session.monitor().receiveMessage();
         assertAll(
-                () -> assertThat(actual.rooms()).isEmpty(),
-                () -> assertThat(actual.totalCount()).isZero()
+                () -> assertThat(actual.rooms()).containsExactly(room(1L, false)),
+                () -> assertThat(actual.totalCount()).isEqualTo(1)
         );
     }
 
     @Test
-    void 게임방_목록_요청_시_요청한_페이지의_게임방_목록을_전파한다() {
+    void 게임방_목록_요청_시_노드_복제본에서_바로_페이지를_응답한다() {
         // given
         TestContext context = createContext();
-        context.roomDirectory().monitor().receiveMessage();
+        context.replySnapshot(List.of(room(3L, false), room(2L, true), room(1L, false)), 3L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        session.monitor().receiveMessage();
 
         // when
-        context.actor().tell(new RequestRoomDirectoryPage(2, 5));
+        context.actor().tell(new RequestRoomDirectoryPage(1L, 1, 2, null));
 
         // then
-        QueryRooms actual = (QueryRooms) context.roomDirectory().monitor().receiveMessage();
+        RoomDirectoryUpdated actual = (RoomDirectoryUpdated) session.monitor().receiveMessage();
         assertAll(
-                () -> assertThat(actual.page()).isEqualTo(2),
-                () -> assertThat(actual.size()).isEqualTo(5)
+                () -> assertThat(actual.rooms()).containsExactly(room(2L, true)),
+                () -> assertThat(actual.totalCount()).isEqualTo(3),
+                () -> ActorTestUtils.expectNoMessages(context.roomDirectory().monitor(), Duration.ofMillis(200L))
         );
     }
 
     @Test
-    void 게임방_목록_요청의_결과를_캐싱한다() {
+    void 커서로_요청하면_커서_방_바로_다음_방부터_페이지를_응답한다() {
         // given
         TestContext context = createContext();
-        QueryRooms initialQuery = (QueryRooms) context.roomDirectory().monitor().receiveMessage();
-        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                ClientSessionCommand.class,
-                Behaviors.ignore()
+        context.replySnapshot(List.of(room(3L, false), room(2L, true), room(1L, false), room(4L, false)), 4L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        session.monitor().receiveMessage();
+
+        // when
+        context.actor().tell(new RequestRoomDirectoryPage(1L, 0, 2, 3L));
+
+        // then
+        RoomDirectoryUpdated actual = (RoomDirectoryUpdated) session.monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(actual.rooms()).containsExactly(room(4L, false), room(2L, true)),
+                () -> assertThat(actual.totalCount()).isEqualTo(4)
         );
+    }
+
+    @Test
+    void 커서_방이_삭제되어도_그_방이_있던_자리_다음부터_페이지를_유지한다() {
+        // given
+        TestContext context = createContext();
+        context.replySnapshot(List.of(room(1L, false), room(2L, false), room(3L, false), room(4L, false)), 4L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
         context.actor().tell(new RegisterSession(1L, session.ref()));
+        context.actor().tell(new RequestRoomDirectoryPage(1L, 0, 2, 2L));
         session.monitor().receiveMessage();
-        RoomDirectorySnapshot snapshot = new RoomDirectorySnapshot(
-                3L,
-                "방",
-                4,
-                1,
-                "entity",
-                false
+        RoomDirectoryUpdated cursorPage = (RoomDirectoryUpdated) session.monitor().receiveMessage();
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.REMOVED, room(2L, false), 2L, 5L, 0));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) session.monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(cursorPage.rooms()).containsExactly(room(3L, false), room(4L, false)),
+                () -> assertThat(actual.changes()).isEmpty(),
+                () -> assertThat(actual.totalCount()).isEqualTo(3)
         );
-        QueryRoomsResult response = new QueryRoomsResult(List.of(snapshot), 7);
+    }
+
+    @Test
+    void 스냅샷을_받기_전에_등록한_세션은_스냅샷_반영_후_페이지를_다시_받는다() {
+        // given
+        TestContext context = createContext();
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        RoomDirectoryUpdated initial = (RoomDirectoryUpdated) session.monitor().receiveMessage();
 
         // when
-        initialQuery.replyTo().tell(response);
+        context.replySnapshot(List.of(room(3L, false)), 1L);
 
         // then
-        RoomDirectoryUpdated actual = (RoomDirectoryUpdated) session.monitor().receiveMessage();
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) session.monitor().receiveMessage();
         ActorTestUtils.waitUntilCondition(() -> !context.monitor().published().isEmpty());
         MonitorMessage monitorMessage = context.monitor().published().get(0);
         MonitorRoomDirectoryPayload payload = (MonitorRoomDirectoryPayload) monitorMessage.payload();
 
         assertAll(
-                () -> assertThat(actual.rooms()).containsExactly(snapshot),
-                () -> assertThat(actual.totalCount()).isEqualTo(7),
+                () -> assertThat(initial.rooms()).isEmpty(),
+                () -> assertThat(actual.previousVersion()).isEqualTo(initial.version()),
+                () -> assertThat(actual.changes()).containsExactly(
+                        new RoomDirectoryChange(RoomEventType.ADDED, 3L, room(3L, false))
+                ),
                 () -> assertThat(monitorMessage.type()).isEqualTo(MonitorEventType.ROOM_DIRECTORY_SNAPSHOT),
-                () -> assertThat(payload.rooms()).containsExactly(snapshot)
+                () -> assertThat(payload.rooms()).containsExactly(room(3L, false))
         );
     }
 
     @Test
-    void 클라이언트_세션을_해제하면_더_이상_게임방_목록의_변경을_전파하지_않는다() {
+    void 게임방_변경_시_보이는_페이지가_바뀐_세션에는_변경분을_전파한다() {
         // given
         TestContext context = createContext();
-        QueryRooms initialQuery = (QueryRooms) context.roomDirectory().monitor().receiveMessage();
-        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = ActorTestUtils.spawnMonitored(
-                actorTestKit,
-                ClientSessionCommand.class,
-                Behaviors.ignore()
+        context.replySnapshot(List.of(room(1L, false), room(2L, false), room(3L, false)), 3L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> firstPageSession = spawnSession();
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> secondPageSession = spawnSession();
+        context.actor().tell(new RegisterSession(1L, firstPageSession.ref()));
+        context.actor().tell(new RequestRoomDirectoryPage(1L, 0, 2, null));
+        context.actor().tell(new RegisterSession(2L, secondPageSession.ref()));
+        context.actor().tell(new RequestRoomDirectoryPage(2L, 1, 2, null));
+        firstPageSession.monitor().receiveMessage();
+        firstPageSession.monitor().receiveMessage();
+        secondPageSession.monitor().receiveMessage();
+        RoomDirectoryUpdated secondPage = (RoomDirectoryUpdated) secondPageSession.monitor().receiveMessage();
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.ADDED, room(4L, false), 4L, 4L, 0));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) secondPageSession.monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(actual.changes()).containsExactly(
+                        new RoomDirectoryChange(RoomEventType.ADDED, 4L, room(4L, false))
+                ),
+                () -> assertThat(actual.previousVersion()).isEqualTo(secondPage.version()),
+                () -> assertThat(actual.version()).isGreaterThan(secondPage.version()),
+                () -> assertThat(actual.totalCount()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void 뒤쪽_페이지에_방이_추가되면_앞쪽_페이지_세션에는_전체_방_개수만_전파한다() {
+        // given
+        TestContext context = createContext();
+        context.replySnapshot(List.of(room(1L, false), room(2L, false), room(3L, false)), 3L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> firstPageSession = spawnSession();
+        context.actor().tell(new RegisterSession(1L, firstPageSession.ref()));
+        context.actor().tell(new RequestRoomDirectoryPage(1L, 0, 2, null));
+        firstPageSession.monitor().receiveMessage();
+        RoomDirectoryUpdated firstPage = (RoomDirectoryUpdated) firstPageSession.monitor().receiveMessage();
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.ADDED, room(4L, false), 4L, 4L, 0));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) firstPageSession.monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(actual.changes()).isEmpty(),
+                () -> assertThat(actual.previousVersion()).isEqualTo(firstPage.version()),
+                () -> assertThat(actual.totalCount()).isEqualTo(4),
+                () -> ActorTestUtils.expectNoMessages(firstPageSession.monitor(), Duration.ofMillis(300L))
+        );
+    }
+
+    @Test
+    void 게임방_정보가_바뀌면_해당_방의_갱신만_전파한다() {
+        // given
+        TestContext context = createContext();
+        context.replySnapshot(List.of(room(1L, false), room(2L, false)), 2L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        session.monitor().receiveMessage();
+        RoomDirectorySnapshot filled = new RoomDirectorySnapshot(2L, "방2", 4, 3, "entity2", false);
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.UPDATED, filled, 2L, 3L, 0));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) session.monitor().receiveMessage();
+        assertThat(actual.changes()).containsExactly(new RoomDirectoryChange(RoomEventType.UPDATED, 2L, filled));
+    }
+
+    @Test
+    void 묶음_창_안에서_발생한_변경은_최신_상태로_합쳐_한_번만_전파한다() {
+        // given
+        TestContext context = createContext(Duration.ofSeconds(2L));
+        context.replySnapshot(List.of(room(1L, false), room(2L, false)), 2L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        session.monitor().receiveMessage();
+        RoomDirectorySnapshot filled = new RoomDirectorySnapshot(3L, "방3", 4, 2, "entity3", false);
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.ADDED, room(3L, false), 3L, 3L, 0));
+        context.publish(new RoomDirectoryEvent(RoomEventType.UPDATED, filled, 3L, 4L, 0));
+        context.publish(new RoomDirectoryEvent(RoomEventType.ADDED, room(4L, false), 4L, 5L, 0));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) session.monitor().receiveMessage(Duration.ofSeconds(5L));
+        assertAll(
+                () -> assertThat(actual.changes()).containsExactlyInAnyOrder(
+                        new RoomDirectoryChange(RoomEventType.ADDED, 3L, filled),
+                        new RoomDirectoryChange(RoomEventType.ADDED, 4L, room(4L, false))
+                ),
+                () -> assertThat(actual.totalCount()).isEqualTo(4),
+                () -> assertThat(context.meterRegistry().counter("room.directory.push.coalesced").count()).isEqualTo(2.0d),
+                () -> ActorTestUtils.expectNoMessages(session.monitor(), Duration.ofMillis(300L))
         );
+    }
+
+    @Test
+    void 이벤트_버전이_어긋나면_전체_스냅샷을_다시_요청한다() {
+        // given
+        TestContext context = createContext();
+        context.replySnapshot(List.of(room(1L, false)), 1L);
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.REMOVED, room(1L, false), 1L, 5L, 0));
+
+        // then
+        QueryPartitionSnapshot actual = (QueryPartitionSnapshot) context.roomDirectory().monitor().receiveMessage();
+        assertThat(actual.replyTo()).isNotNull();
+    }
+
+    @Test
+    void 한_파티션만_어긋나면_다른_파티션의_방은_유지하고_해당_파티션만_다시_맞춘다() {
+        // given
+        TestContext context = createContext(Duration.ZERO, 2);
+        context.replySnapshot(List.of(room(2L, false)), 1L);
+        context.replySnapshot(List.of(room(1L, false)), 1L);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
+        context.actor().tell(new RegisterSession(1L, session.ref()));
+        RoomDirectoryUpdated initial = (RoomDirectoryUpdated) session.monitor().receiveMessage();
+
+        // when
+        context.publish(new RoomDirectoryEvent(RoomEventType.ADDED, room(3L, false), 3L, 7L, 1));
+        QueryPartitionSnapshot resync = (QueryPartitionSnapshot) context.roomDirectory().monitor().receiveMessage();
+        resync.replyTo().tell(new DirectorySnapshotResult(List.of(room(3L, false)), 10L, resync.partition()));
+
+        // then
+        RoomDirectoryDelta actual = (RoomDirectoryDelta) session.monitor().receiveMessage();
+        assertAll(
+                () -> assertThat(initial.rooms()).containsExactly(room(1L, false), room(2L, false)),
+                () -> assertThat(resync.partition()).isEqualTo(1),
+                () -> assertThat(actual.changes()).containsExactlyInAnyOrder(
+                        new RoomDirectoryChange(RoomEventType.ADDED, 3L, room(3L, false)),
+                        new RoomDirectoryChange(RoomEventType.REMOVED, 1L, null)
+                ),
+                () -> assertThat(actual.totalCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 클라이언트_세션을_해제하면_더_이상_게임방_목록의_변경을_전파하지_않는다() {
+        // given
+        TestContext context = createContext();
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> session = spawnSession();
         context.actor().tell(new RegisterSession(1L, session.ref()));
         session.monitor().receiveMessage();
         context.actor().tell(new UnregisterSession(1L));
-        RoomDirectorySnapshot snapshot = new RoomDirectorySnapshot(3L, "방", 4, 1, "entity", false);
-        QueryRoomsResult response = new QueryRoomsResult(List.of(snapshot), 7);
 
         // when
-        initialQuery.replyTo().tell(response);
+        context.replySnapshot(List.of(room(3L, false)), 1L);
 
         // then
         ActorTestUtils.expectNoMessages(session.monitor(), Duration.ofMillis(300L));
@@ -172,42 +346,76 @@ class RoomDirectorySubscriberActorTest {
         );
     }
 
+    private RoomDirectorySnapshot room(Long roomId, boolean gameStarted) {
+        return new RoomDirectorySnapshot(roomId, "방" + roomId, 4, 1, "entity" + roomId, gameStarted);
+    }
+
+    private ActorTestUtils.MonitoredActor<ClientSessionCommand> spawnSession() {
+        return ActorTestUtils.spawnMonitored(actorTestKit, ClientSessionCommand.class, Behaviors.ignore());
+    }
+
     private TestContext createContext() {
+        return createContext(Duration.ZERO, 1);
+    }
+
+    private TestContext createContext(Duration pushWindow) {
+        return createContext(pushWindow, 1);
+    }
+
+    private TestContext createContext(Duration pushWindow, int partitionCount) {
         ActorTestUtils.MonitoredActor<RoomDirectoryCommand> roomDirectory = ActorTestUtils.spawnMonitored(
                 actorTestKit,
                 RoomDirectoryCommand.class,
                 Behaviors.ignore()
         );
         SpyMonitorEventBroadcaster monitor = new SpyMonitorEventBroadcaster();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
         Behavior<LocalDirectoryCommand> behavior = RoomDirectorySubscriberActor.create(
                 roomDirectory.ref(),
-                monitor
+                partitionCount,
+                monitor,
+                meterRegistry,
+                pushWindow
         );
         ActorRef<LocalDirectoryCommand> actor = actorTestKit.spawn(behavior, "room-directory-subscriber");
-        return new TestContext(actor, roomDirectory, monitor);
+        ActorRef<Topic.Command<RoomDirectoryEvent>> topic = actorTestKit.spawn(
+                Topic.create(RoomDirectoryEvent.class, RoomDirectoryActor.TOPIC_NAME),
+                "room-directory-test-topic"
+        );
+        return new TestContext(actorTestKit, actor, roomDirectory, topic, monitor, meterRegistry);
     }
 
     private record TestContext(
+            ActorTestKit actorTestKit,
             ActorRef<LocalDirectoryCommand> actor,
             ActorTestUtils.MonitoredActor<RoomDirectoryCommand> roomDirectory,
-            SpyMonitorEventBroadcaster monitor
+            ActorRef<Topic.Command<RoomDirectoryEvent>> topic,
+            SpyMonitorEventBroadcaster monitor,
+            MeterRegistry meterRegistry
     ) {
-        public ActorRef<LocalDirectoryCommand> actor() {
-            return actor;
-        }
 
-        public ActorTestUtils.MonitoredActor<RoomDirectoryCommand> roomDirectory() {
-            return roomDirectory;
+        void replySnapshot(List<RoomDirectorySnapshot> rooms, long version) {
+            QueryPartitionSnapshot query = (QueryPartitionSnapshot) roomDirectory.monitor().receiveMessage();
+
+            query.replyTo().tell(new DirectorySnapshotResult(rooms, version, query.partition()));
         }
 
-        public SpyMonitorEventBroadcaster monitor() {
-            return monitor;
+        void publish(RoomDirectoryEvent event) {
+            TestProbe<Topic.TopicStats> stats = actorTestKit.createTestProbe(Topic.TopicStats.class);
+
+            Awaitility.await()
+                      .atMost(Duration.ofSeconds(3L))
+                      .until(() -> {
+                          topic.tell(Topic.getTopicStats(stats.getRef()));
+                          return stats.receiveMessage().topicInstanceCount() >= 1;
+                      });
+            topic.tell(Topic.publish(event));
         }
     }
 
     private static class SpyMonitorEventBroadcaster extends MonitorEventBroadcaster {
 
-        private final List<MonitorMessage> published = new ArrayList<>();
+        private final List<MonitorMessage> published = new CopyOnWriteArrayList<>();
 
         @Override
         public void publish(MonitorMessage message) {
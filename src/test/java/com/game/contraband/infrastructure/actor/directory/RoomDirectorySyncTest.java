@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
 import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
+import java.time.Duration;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.AfterEach;
@@ -80,4 +81,34 @@ class RoomDirectorySyncTest {
 
         assertThat(actual.roomId()).isEqualTo(5L);
     }
+
+    @Test
+    void 다시_동기화하면_삭제되지_않은_방만_다시_등록한다() {
+        // given
+        ActorTestUtils.MonitoredActor<RoomDirectoryCommand> directory = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                RoomDirectoryCommand.class,
+                Behaviors.ignore()
+        );
+        RoomDirectorySync sync = new RoomDirectorySync(directory.ref());
+        RoomDirectorySnapshot remaining = new RoomDirectorySnapshot(1L, "방1", 4, 3, "entity", true);
+
+        sync.register(new RoomDirectorySnapshot(1L, "방1", 4, 2, "entity", false));
+        sync.register(new RoomDirectorySnapshot(2L, "방2", 4, 1, "entity", false));
+        sync.register(remaining);
+        sync.remove(2L);
+        directory.monitor().receiveSeveralMessages(4);
+
+        // when
+        sync.resync();
+
+        // then
+        RoomDirectoryActor.SyncRoomRegistered actual =
+                (RoomDirectoryActor.SyncRoomRegistered) directory.monitor().receiveMessage();
+
+        assertAll(
+                () -> assertThat(actual.roomSummary()).isEqualTo(remaining),
+                () -> ActorTestUtils.expectNoMessages(directory.monitor(), Duration.ofMillis(300L))
+        );
+    }
 }
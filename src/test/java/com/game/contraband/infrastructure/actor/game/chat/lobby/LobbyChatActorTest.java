@@ -4,12 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateKickedMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateLeftMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateMaskedChatBatch;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateNewMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateWelcomeMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateKickedMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateLeftMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateMaskedChatBatch;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateNewMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
 import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatMessageEvent;
 import com.game.contraband.infrastructure.actor.game.chat.lobby.LobbyChatActor.JoinMessage;
@@ -5,10 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateMaskedChatMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateRoundChat;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateSmugglerTeamChat;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateMaskedChatMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateSmugglerTeamChat;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
 import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
 import com.game.contraband.infrastructure.actor.spy.SpyChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.spy.SpyChatBlacklistRepository;
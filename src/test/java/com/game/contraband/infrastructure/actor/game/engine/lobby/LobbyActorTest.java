@@ -7,16 +7,18 @@ import com.game.contraband.domain.game.engine.lobby.Lobby;
 import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateHostDeletedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateJoinedLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateKicked;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleReady;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateToggleTeam;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.LobbyClosed;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateHostDeletedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateJoinedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateKicked;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleReady;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateToggleTeam;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatBlacklistRepository;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.dummy.DummyGameLifecycleEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.ChangeMaxPlayerCount;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.CloseLobbyForHandOff;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.EndGame;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.KickPlayer;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LeaveLobby;
@@ -355,6 +357,30 @@ class LobbyActorTest {
         watcher.monitor().expectTerminated(context.actor().ref());
     }
 
+    @Test
+    void 핸드오프로_닫히는_로비는_세션에_로비가_닫혔음을_알리고_종료한다() {
+        // given
+        PlayerProfile hostProfile = PlayerProfile.create(1L, "호스트", TeamRole.INSPECTOR);
+        Lobby lobby = Lobby.create(100L, "로비", hostProfile, 4);
+        ActorTestUtils.MonitoredActor<ClientSessionCommand> hostSession = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                ClientSessionCommand.class,
+                Behaviors.ignore()
+        );
+        TestContext context = createContext(
+                lobby,
+                Map.of(1L, hostSession.ref())
+        );
+        ActorTestUtils.drainMessages(hostSession.monitor());
+
+        // when
+        context.actor().ref().tell(new CloseLobbyForHandOff());
+
+        // then
+        ActorTestUtils.expectMessages(hostSession.monitor(), LobbyClosed.class);
+        hostSession.monitor().expectTerminated(context.actor().ref());
+    }
+
     @Test
     void 클라이언트_세션을_다시_동기화한다() {
         // given
@@ -7,11 +7,11 @@ import com.game.contraband.domain.game.engine.lobby.Lobby;
 import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.PropagateWelcomeMessage;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.SyncLobbyChat;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreateLobby;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateCreatedLobby;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.PropagateWelcomeMessage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.SyncLobbyChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreateLobby;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateCreatedLobby;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatBlacklistRepository;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatMessageEventPublisher;
@@ -1,5 +1,6 @@
 package com.game.contraband.infrastructure.actor.game.engine.match;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.domain.game.engine.match.ContrabandGame;
@@ -8,25 +9,25 @@ import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.SyncContrabandGameChat;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateContrabandGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedPass;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedSmuggleAmount;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorIdForSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerIdForInspector;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateInspectorApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSelectionTimer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSmugglerApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartNewRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransfer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransferFailed;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.SyncContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateContrabandGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedPass;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorIdForSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerIdForInspector;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateInspectorApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSelectionTimer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSmugglerApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartNewRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransfer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransferFailed;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatBlacklistRepository;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.dummy.DummyGameLifecycleEventPublisher;
@@ -44,8 +45,11 @@ import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGame
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.RoundTimeout;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.StartNewRound;
 import com.game.contraband.infrastructure.actor.game.engine.match.ContrabandGameProtocol.TransferAmount;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.SmuggleAmountDecided;
 import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
 import com.game.contraband.infrastructure.actor.utils.BehaviorTestUtils;
+import com.typesafe.config.ConfigFactory;
 import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -53,11 +57,15 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.FishingOutcomes;
 import org.apache.pekko.actor.testkit.typed.javadsl.ManualTime;
 import org.apache.pekko.actor.testkit.typed.javadsl.TestInbox;
 import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitPlugin;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import org.apache.pekko.persistence.testkit.javadsl.PersistenceTestKit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -944,6 +952,97 @@ class ContrabandGameActorTest {
         );
     }
 
+    @Test
+    void 라운드_도중에_멈춘_ContrabandGameActor를_다시_spawn하면_게임_기록으로_진행_중인_라운드를_복원한다() {
+        // given
+        ActorTestKit persistentTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(PersistenceTestKitPlugin.config())
+                 .withFallback(PersistenceTestKitSnapshotPlugin.config())
+        );
+        PersistenceTestKit journal = PersistenceTestKit.create(persistentTestKit.system());
+        Long smugglerId = 10L;
+        Long inspectorId = 20L;
+
+        try {
+            TestProbe<LobbyCommand> parent = persistentTestKit.createTestProbe();
+            TestProbe<ClientSessionCommand> smugglerSession = persistentTestKit.createTestProbe();
+            TestProbe<ClientSessionCommand> inspectorSession = persistentTestKit.createTestProbe();
+            Map<Long, ActorRef<ClientSessionCommand>> clientSessions = Map.of(
+                    smugglerId, smugglerSession.getRef(),
+                    inspectorId, inspectorSession.getRef()
+            );
+            ActorRef<ContrabandGameCommand> stopped = persistentTestKit.spawn(
+                    createOneVersusOneGame(smugglerId, inspectorId, parent, clientSessions)
+            );
+
+            ActorTestUtils.waitUntilMessages(smugglerSession, PropagateStartNewRound.class);
+            stopped.tell(new DecideSmuggleAmount(smugglerId, 1_000));
+            ActorTestUtils.waitUntilMessages(inspectorSession, PropagateDecidedSmuggleAmount.class);
+            ActorTestUtils.waitUntilCondition(
+                    () -> journal.persistedInStorage(ContrabandGameJournalActor.persistenceIdOf(1L).id())
+                                 .contains(new SmuggleAmountDecided(1_000))
+            );
+            persistentTestKit.stop(stopped);
+            ActorTestUtils.drainMessages(smugglerSession);
+            ActorTestUtils.drainMessages(inspectorSession);
+
+            // when
+            ActorRef<ContrabandGameCommand> restarted = persistentTestKit.spawn(
+                    createOneVersusOneGame(smugglerId, inspectorId, parent, clientSessions)
+            );
+
+            // then
+            List<ClientSessionCommand> resumedRound = inspectorSession.fishForMessage(
+                    Duration.ofSeconds(3L),
+                    message -> message instanceof PropagateStartNewRound
+                            ? FishingOutcomes.complete()
+                            : FishingOutcomes.continueAndIgnore()
+            );
+
+            PropagateStartNewRound actual = (PropagateStartNewRound) resumedRound.get(0);
+
+            ActorTestUtils.expectMessages(inspectorSession, PropagateDecidedSmuggleAmount.class);
+            restarted.tell(new DecidePass(inspectorId));
+
+            assertAll(
+                    () -> assertThat(actual.currentRound()).isEqualTo(1),
+                    () -> assertThat(actual.smugglerId()).isEqualTo(smugglerId),
+                    () -> ActorTestUtils.expectMessages(smugglerSession, PropagateFinishedRound.class),
+                    () -> ActorTestUtils.expectMessages(inspectorSession, PropagateFinishedRound.class)
+            );
+        } finally {
+            persistentTestKit.shutdownTestKit();
+        }
+    }
+
+    private Behavior<ContrabandGameCommand> createOneVersusOneGame(
+            Long smugglerId,
+            Long inspectorId,
+            TestProbe<LobbyCommand> parent,
+            Map<Long, ActorRef<ClientSessionCommand>> clientSessions
+    ) {
+        return ContrabandGameActor.create(
+                1L,
+                "entity-1",
+                ContrabandGame.notStarted(
+                        createRoster(List.of(smugglerId), TeamRole.SMUGGLER, "밀수꾼 팀"),
+                        createRoster(List.of(inspectorId), TeamRole.INSPECTOR, "검사관 팀"),
+                        5
+                ),
+                parent.getRef(),
+                clientSessions,
+                new DummyChatMessageEventPublisher(),
+                new DummyGameLifecycleEventPublisher(),
+                new DummyChatBlacklistRepository()
+        );
+    }
+
     private void processRoundUntilFourRound(
             ActorRef<ContrabandGameCommand> contrabandGameCommand,
             Long inspectorId1,
@@ -0,0 +1,171 @@
+package com.game.contraband.infrastructure.actor.game.engine.match.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.domain.game.engine.match.ContrabandGame;
+import com.game.contraband.domain.game.player.PlayerProfile;
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.domain.game.player.TeamRoster;
+import com.game.contraband.domain.game.round.RoundStatus;
+import com.game.contraband.domain.game.vo.Money;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.MatchJournalCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.QueryMatchHistory;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.ContrabandGameJournalActor.RecordMatchEvent;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.AmountTransferred;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.PassDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundFinished;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundStarted;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.SmuggleAmountDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.round.RoundGameContext;
+import com.typesafe.config.ConfigFactory;
+import java.util.List;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ContrabandGameJournalActorTest {
+
+    private ActorTestKit actorTestKit;
+    private EventSourcedBehaviorTestKit<MatchJournalCommand, MatchEvent, MatchHistory> journalTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(EventSourcedBehaviorTestKit.config())
+                 .withFallback(PersistenceTestKitSnapshotPlugin.config())
+        );
+        journalTestKit = EventSourcedBehaviorTestKit.create(
+                actorTestKit.system(),
+                ContrabandGameJournalActor.create(1L)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 기록_요청한_게임_이벤트를_저널에_남긴다() {
+        // given
+        MatchCreated created = MatchCreated.from(createGame(3));
+        journalTestKit.runCommand(new RecordMatchEvent(created));
+
+        // when
+        CommandResult<MatchJournalCommand, MatchEvent, MatchHistory> actual = journalTestKit.runCommand(
+                new RecordMatchEvent(new RoundStarted(1L, 3L))
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual.event()).isEqualTo(new RoundStarted(1L, 3L)),
+                () -> assertThat(actual.state().created()).isEqualTo(created),
+                () -> assertThat(actual.state().events()).containsExactly(new RoundStarted(1L, 3L))
+        );
+    }
+
+    @Test
+    void 재시작하면_저널을_재생해_진행_중인_게임을_복원한다() {
+        // given
+        ContrabandGame expected = createGame(3);
+        RoundGameContext recordingContext = new RoundGameContext(
+                expected,
+                event -> journalTestKit.runCommand(new RecordMatchEvent(event))
+        );
+
+        journalTestKit.runCommand(new RecordMatchEvent(MatchCreated.from(expected)));
+        recordingContext.transfer(1L, 2L, Money.from(500));
+        recordingContext.startNewRound(1L, 3L);
+        recordingContext.decideSmuggleAmount(700);
+        recordingContext.decidePass();
+        recordingContext.finishCurrentRound();
+        recordingContext.startNewRound(2L, 3L);
+        recordingContext.decideSmuggleAmount(300);
+
+        // when
+        ContrabandGame actual = journalTestKit.restart()
+                                              .state()
+                                              .replay();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getCompletedRoundCount()).isEqualTo(1),
+                () -> assertThat(actual.getCurrentRound().getRoundNumber()).isEqualTo(2),
+                () -> assertThat(actual.getCurrentRound().getStatus()).isEqualTo(RoundStatus.SMUGGLE_DECLARED),
+                () -> assertThat(actual.getPlayerBalance(1L)).isEqualTo(expected.getPlayerBalance(1L)),
+                () -> assertThat(actual.getPlayerBalance(2L)).isEqualTo(expected.getPlayerBalance(2L)),
+                () -> assertThat(actual.getPlayerBalance(3L)).isEqualTo(expected.getPlayerBalance(3L))
+        );
+    }
+
+    @Test
+    void 라운드가_끝나면_스냅샷을_남긴다() {
+        // given
+        List<MatchEvent> events = List.of(
+                MatchCreated.from(createGame(3)),
+                new AmountTransferred(1L, 2L, 500),
+                new RoundStarted(1L, 3L),
+                new SmuggleAmountDecided(700),
+                new PassDecided()
+        );
+
+        events.forEach(event -> journalTestKit.runCommand(new RecordMatchEvent(event)));
+
+        // when
+        journalTestKit.runCommand(new RecordMatchEvent(new RoundFinished()));
+
+        // then
+        MatchHistory snapshot = journalTestKit.snapshotTestKit()
+                                              .orElseThrow()
+                                              .expectNextPersistedClass(
+                                                      ContrabandGameJournalActor.persistenceIdOf(1L).id(),
+                                                      MatchHistory.class
+                                              );
+        assertThat(snapshot.events()).hasSize(5);
+    }
+
+    @Test
+    void 조회_요청에는_지금까지_기록된_게임_기록으로_응답한다() {
+        // given
+        MatchCreated created = MatchCreated.from(createGame(3));
+        journalTestKit.runCommand(new RecordMatchEvent(created));
+        journalTestKit.runCommand(new RecordMatchEvent(new RoundStarted(1L, 3L)));
+
+        // when
+        MatchHistory actual = journalTestKit.<MatchHistory>runCommand(QueryMatchHistory::new)
+                                            .reply();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.created()).isEqualTo(created),
+                () -> assertThat(actual.events()).containsExactly(new RoundStarted(1L, 3L))
+        );
+    }
+
+    private ContrabandGame createGame(int totalRounds) {
+        PlayerProfile smuggler1 = PlayerProfile.create(1L, "밀수꾼1", TeamRole.SMUGGLER);
+        PlayerProfile smuggler2 = PlayerProfile.create(2L, "밀수꾼2", TeamRole.SMUGGLER);
+        PlayerProfile inspector = PlayerProfile.create(3L, "검사관", TeamRole.INSPECTOR);
+
+        TeamRoster smugglerRoster = TeamRoster.create("밀수꾼 팀", TeamRole.SMUGGLER, List.of(smuggler1, smuggler2));
+        TeamRoster inspectorRoster = TeamRoster.create("검사관 팀", TeamRole.INSPECTOR, List.of(inspector));
+
+        return ContrabandGame.notStarted(smugglerRoster, inspectorRoster, totalRounds);
+    }
+}
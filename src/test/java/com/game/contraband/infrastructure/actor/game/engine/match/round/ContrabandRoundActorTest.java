@@ -8,15 +8,15 @@ import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.domain.game.vo.Money;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearContrabandGameChat;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedInspection;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedPass;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateDecidedSmuggleAmount;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFinishedRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartNewRound;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateTransfer;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedInspection;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedPass;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateDecidedSmuggleAmount;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFinishedRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartNewRound;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateTransfer;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ClearRoundChatId;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ContrabandGameChatCommand;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.EndGame;
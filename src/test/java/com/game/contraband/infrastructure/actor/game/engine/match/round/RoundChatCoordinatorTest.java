@@ -7,7 +7,7 @@ import com.game.contraband.domain.game.engine.match.ContrabandGame;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionChatActor.ClearContrabandGameChat;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.ClearContrabandGameChat;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ContrabandGameChatCommand;
 import com.game.contraband.infrastructure.actor.game.engine.match.ClientSessionRegistry;
@@ -1,6 +1,7 @@
 package com.game.contraband.infrastructure.actor.game.engine.match.round;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.game.contraband.domain.game.engine.match.ContrabandGame;
@@ -8,6 +9,12 @@ import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.domain.game.round.RoundStatus;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.PassDecided;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundFinished;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.RoundStarted;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.SmuggleAmountDecided;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -104,15 +111,40 @@ class RoundGameContextTest {
         );
     }
 
+    @Test
+    void 라운드_진행에_성공한_명령만_게임_이벤트로_기록한다() {
+        // given
+        List<MatchEvent> recorded = new ArrayList<>();
+        RoundGameContext context = new RoundGameContext(createGame(1), recorded::add);
+
+        context.startNewRound(1L, 2L);
+        context.decideSmuggleAmount(500);
+
+        // when
+        assertThatThrownBy(() -> context.decideSmuggleAmount(700)).isInstanceOf(IllegalStateException.class);
+        context.decidePass();
+        context.finishCurrentRound();
+
+        // then
+        assertThat(recorded).containsExactly(
+                new RoundStarted(1L, 2L),
+                new SmuggleAmountDecided(500),
+                new PassDecided(),
+                new RoundFinished()
+        );
+    }
+
     private RoundGameContext createContext(int totalRounds) {
+        return new RoundGameContext(createGame(totalRounds));
+    }
+
+    private ContrabandGame createGame(int totalRounds) {
         PlayerProfile smuggler = PlayerProfile.create(1L, "밀수꾼", TeamRole.SMUGGLER);
         PlayerProfile inspector = PlayerProfile.create(2L, "검사관", TeamRole.INSPECTOR);
 
         TeamRoster smugglerRoster = TeamRoster.create("밀수꾼 팀", TeamRole.SMUGGLER, List.of(smuggler));
         TeamRoster inspectorRoster = TeamRoster.create("검사관 팀", TeamRole.INSPECTOR, List.of(inspector));
 
-        ContrabandGame game = ContrabandGame.notStarted(smugglerRoster, inspectorRoster, totalRounds);
-
-        return new RoundGameContext(game);
+        return ContrabandGame.notStarted(smugglerRoster, inspectorRoster, totalRounds);
     }
 }
@@ -7,17 +7,17 @@ import com.game.contraband.domain.game.player.PlayerProfile;
 import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.player.TeamRoster;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedInspectorIdForSmuggler;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateFixedSmugglerIdForInspector;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterInspectorId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateRegisterSmugglerId;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSelectionTimer;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateSmugglerApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateInspectorApprovalState;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.PropagateStartGame;
-import com.game.contraband.infrastructure.actor.client.SessionInboundActor.UpdateContrabandGame;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedInspectorIdForSmuggler;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateFixedSmugglerIdForInspector;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterInspectorId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateRegisterSmugglerId;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSelectionTimer;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateSmugglerApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateInspectorApprovalState;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.UpdateContrabandGame;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.ContrabandGameChatCommand;
 import com.game.contraband.infrastructure.actor.game.chat.match.ContrabandGameChatActor.SyncRoundChatId;
 import com.game.contraband.infrastructure.actor.game.engine.match.ClientSessionRegistry;
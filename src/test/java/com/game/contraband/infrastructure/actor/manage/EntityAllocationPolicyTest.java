@@ -0,0 +1,87 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EntityAllocationPolicyTest {
+
+    @Test
+    void 부하_보고가_없으면_방이_가장_적은_엔티티를_고른다() {
+        // given
+        EntityAllocationPolicy policy = new EntityAllocationPolicy(30, 120);
+
+        // when
+        Optional<String> actual = policy.select(
+                Map.of("game-rooms-1", 3, "game-rooms-2", 1),
+                Map.of()
+        );
+
+        // then
+        assertThat(actual).contains("game-rooms-2");
+    }
+
+    @Test
+    void 엔티티_부하가_낮더라도_더_한가한_노드의_엔티티를_우선한다() {
+        // given
+        EntityAllocationPolicy policy = new EntityAllocationPolicy(30, 120);
+        Map<String, Integer> roomCounts = Map.of("game-rooms-1", 1, "game-rooms-2", 3, "game-rooms-3", 2);
+        Map<String, EntityLoad> loads = Map.of(
+                "game-rooms-1", new EntityLoad("node-a", 2, 0, 0.0d),
+                "game-rooms-2", new EntityLoad("node-a", 30, 3, 40.0d),
+                "game-rooms-3", new EntityLoad("node-b", 12, 1, 5.0d)
+        );
+
+        // when
+        Optional<String> actual = policy.select(roomCounts, loads);
+
+        // then
+        assertThat(actual).contains("game-rooms-3");
+    }
+
+    @Test
+    void 부하를_보고하지_않은_엔티티끼리는_같은_노드로_묶지_않는다() {
+        // given
+        EntityAllocationPolicy policy = new EntityAllocationPolicy(30, 120);
+        Map<String, Integer> roomCounts = Map.of("game-rooms-1", 3, "game-rooms-2", 3, "game-rooms-3", 4);
+        Map<String, EntityLoad> loads = Map.of("game-rooms-3", new EntityLoad("node-a", 0, 0, 0.0d));
+
+        // when
+        Optional<String> actual = policy.select(roomCounts, loads);
+
+        // then
+        assertThat(actual).contains("game-rooms-1");
+    }
+
+    @Test
+    void 방_수나_플레이어_수_상한에_도달한_엔티티는_고르지_않는다() {
+        // given
+        EntityAllocationPolicy policy = new EntityAllocationPolicy(2, 10);
+        Map<String, Integer> roomCounts = Map.of("game-rooms-1", 2, "game-rooms-2", 1, "game-rooms-3", 1);
+        Map<String, EntityLoad> loads = Map.of(
+                "game-rooms-2", new EntityLoad("node-a", 10, 1, 0.0d),
+                "game-rooms-3", new EntityLoad("node-b", 20, 1, 0.0d)
+        );
+
+        // when
+        Optional<String> actual = policy.select(roomCounts, loads);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 엔티티당_상한이_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> new EntityAllocationPolicy(0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("엔티티당 최대 방 수와 최대 플레이어 수는 1 이상이어야 합니다.");
+    }
+}
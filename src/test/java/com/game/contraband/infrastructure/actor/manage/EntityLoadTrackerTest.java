@@ -0,0 +1,56 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EntityLoadTrackerTest {
+
+    @Test
+    void 방별_플레이어_수와_진행_중인_게임_수를_합산해_보고한다() {
+        // given
+        EntityLoadTracker tracker = new EntityLoadTracker("node-a", 0L);
+
+        tracker.updateRoom(1L, 4, false);
+        tracker.updateRoom(2L, 6, true);
+        tracker.updateRoom(3L, 2, true);
+        tracker.removeRoom(3L);
+
+        // when
+        EntityLoad actual = tracker.report(Duration.ofSeconds(1L).toNanos());
+
+        // then
+        assertAll(
+                () -> assertThat(actual.node()).isEqualTo("node-a"),
+                () -> assertThat(actual.playerCount()).isEqualTo(10),
+                () -> assertThat(actual.activeGames()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 보고_주기_동안_받은_메시지로_처리율을_계산하고_초기화한다() {
+        // given
+        EntityLoadTracker tracker = new EntityLoadTracker("node-a", 0L);
+
+        for (int i = 0; i < 10; i++) {
+            tracker.recordMessage();
+        }
+
+        // when
+        EntityLoad first = tracker.report(Duration.ofSeconds(2L).toNanos());
+        EntityLoad second = tracker.report(Duration.ofSeconds(3L).toNanos());
+
+        // then
+        assertAll(
+                () -> assertThat(first.messagesPerSecond()).isEqualTo(5.0d),
+                () -> assertThat(second.messagesPerSecond()).isZero()
+        );
+    }
+}
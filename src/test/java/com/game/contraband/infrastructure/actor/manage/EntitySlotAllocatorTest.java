@@ -0,0 +1,113 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntitySlotLease;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EntitySlotAllocatorTest {
+
+    @Test
+    void 임대받은_슬롯이_남아_있으면_코디네이터에_묻지_않고_할당한다() {
+        // given
+        SpyLeaser leaser = new SpyLeaser();
+        EntitySlotAllocator allocator = new EntitySlotAllocator(8, leaser::lease, new AtomicLong()::get);
+
+        // when
+        List<String> actual = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            actual.add(allocator.allocate().toCompletableFuture().join());
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsOnly("game-rooms-1"),
+                () -> assertThat(leaser.requests()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 슬롯이_바닥나기_전에_다음_슬롯을_미리_임대한다() {
+        // given
+        SpyLeaser leaser = new SpyLeaser();
+        EntitySlotAllocator allocator = new EntitySlotAllocator(4, leaser::lease, new AtomicLong()::get);
+
+        // when
+        List<String> actual = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            actual.add(allocator.allocate().toCompletableFuture().join());
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsExactly("game-rooms-1", "game-rooms-1", "game-rooms-1", "game-rooms-2"),
+                () -> assertThat(leaser.requests()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 유효_기간이_지난_임대는_쓰지_않고_새로_임대한다() {
+        // given
+        SpyLeaser leaser = new SpyLeaser();
+        AtomicLong clock = new AtomicLong();
+        EntitySlotAllocator allocator = new EntitySlotAllocator(8, leaser::lease, clock::get);
+
+        allocator.allocate().toCompletableFuture().join();
+        clock.addAndGet(Duration.ofSeconds(11L).toNanos());
+
+        // when
+        String actual = allocator.allocate().toCompletableFuture().join();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("game-rooms-2"),
+                () -> assertThat(leaser.requests()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 슬롯_임대에_실패하면_할당도_실패한다() {
+        // given
+        EntitySlotAllocator allocator = new EntitySlotAllocator(
+                8,
+                slots -> CompletableFuture.failedFuture(new IllegalStateException("코디네이터 응답 없음")),
+                new AtomicLong()::get
+        );
+
+        // when & then
+        assertThatThrownBy(() -> allocator.allocate().toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("코디네이터 응답 없음");
+    }
+
+    private static class SpyLeaser {
+
+        private int requests;
+
+        CompletionStage<EntitySlotLease> lease(int slots) {
+            requests++;
+            return CompletableFuture.completedFuture(
+                    new EntitySlotLease("game-rooms-" + requests, slots, Duration.ofSeconds(10L).toMillis())
+            );
+        }
+
+        int requests() {
+            return requests;
+        }
+    }
+}
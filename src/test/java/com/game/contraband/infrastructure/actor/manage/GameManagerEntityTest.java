@@ -3,16 +3,23 @@ package com.game.contraband.infrastructure.actor.manage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
-import com.game.contraband.infrastructure.actor.client.SessionOutboundActor.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.LobbyClosed;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.HandleExceptionMessage;
+import com.game.contraband.infrastructure.actor.client.SessionOutboundHandler.PropagateStartGame;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RemoveRoom;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectoryCommand;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.SyncRoomRegistered;
 import com.game.contraband.infrastructure.actor.dummy.DummyChatMessageEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher.GameLifecycleEvent;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher.LifecycleType;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchPlayer;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.CreateLobby;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.GameManagerCommand;
+import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.HandOffGameManager;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.JoinLobby;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.SyncDeleteLobby;
 import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.SyncEndGame;
@@ -21,14 +28,28 @@ import com.game.contraband.infrastructure.actor.manage.GameManagerEntity.SyncRoo
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RegisterRoom;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RoomRemovalNotification;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomAdded;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomStarted;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomWaiting;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.StartedRoom;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.WaitingRoom;
 import com.game.contraband.infrastructure.actor.spy.SpyLifecyclePublisher;
 import com.game.contraband.infrastructure.actor.stub.StubChatBlacklistRepository;
 import com.game.contraband.infrastructure.actor.utils.ActorTestUtils;
+import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.FishingOutcomes;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitPlugin;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import org.apache.pekko.persistence.testkit.javadsl.PersistenceTestKit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -115,7 +136,7 @@ class GameManagerEntityTest {
         TestContext context = createContext();
 
         // when
-        context.actor().tell(new SyncRoomStarted(2L, "방", 5, 3));
+        context.actor().tell(new SyncRoomStarted(2L, "방", 5, 3, 1L, createOneVersusOneMatch(), Map.of()));
 
         // then
         RoomDirectoryCommand actualDirectory = context.roomDirectory().monitor().receiveMessage();
@@ -191,7 +212,8 @@ class GameManagerEntityTest {
                                "방",
                                6,
                                4,
-                               false
+                               false,
+                               Map.of()
                        )
                );
 
@@ -206,7 +228,173 @@ class GameManagerEntityTest {
         );
     }
 
+    @Test
+    void 핸드오프_요청을_받았을_때_맡은_방이_없으면_바로_종료한다() {
+        // given
+        TestContext context = createContext();
+        TestProbe<Void> probe = actorTestKit.createTestProbe();
+
+        // when
+        context.actor().tell(new HandOffGameManager());
+
+        // then
+        probe.expectTerminated(context.actor());
+    }
+
+    @Test
+    void 핸드오프_중에는_새_로비를_받지_않고_시작하지_않은_로비를_닫은_뒤_종료한다() {
+        // given
+        TestContext context = createContext();
+        TestProbe<Void> probe = actorTestKit.createTestProbe();
+        TestProbe<ClientSessionCommand> hostSession = actorTestKit.createTestProbe(ClientSessionCommand.class);
+        context.actor().tell(new CreateLobby(hostSession.getRef(), 1L, "host", 4, "방", new DummyChatMessageEventPublisher()));
+        RegisterRoom registered = (RegisterRoom) context.coordinator().monitor().receiveMessage();
+
+        // when
+        context.actor().tell(new HandOffGameManager());
+        context.actor().tell(new CreateLobby(hostSession.getRef(), 2L, "host2", 4, "방2", new DummyChatMessageEventPublisher()));
+
+        // then
+        List<ClientSessionCommand> closed = hostSession.fishForMessage(
+                Duration.ofSeconds(3L),
+                message -> message instanceof LobbyClosed
+                        ? FishingOutcomes.complete()
+                        : FishingOutcomes.continueAndIgnore()
+        );
+        HandleExceptionMessage rejected = (HandleExceptionMessage) hostSession.fishForMessage(
+                Duration.ofSeconds(3L),
+                message -> message instanceof HandleExceptionMessage
+                        ? FishingOutcomes.complete()
+                        : FishingOutcomes.continueAndIgnore()
+        ).get(0);
+        GameRoomCoordinatorCommand removed = context.coordinator().monitor().receiveMessage();
+
+        assertAll(
+                () -> assertThat(closed).hasSize(1),
+                () -> assertThat(rejected.code()).isEqualTo(ExceptionCode.LOBBY_CREATE_FAILED),
+                () -> assertThat(removed).isEqualTo(new RoomRemovalNotification(registered.roomId())),
+                () -> probe.expectTerminated(context.actor())
+        );
+    }
+
+    @Test
+    void 재시작_전에_맡았던_방_중_로비가_없는_방은_머물던_세션에_알리고_목록에서_정리한다() {
+        // given
+        ActorTestKit persistentTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(PersistenceTestKitPlugin.config())
+        );
+        TestProbe<LobbyCommand> lostLobby = persistentTestKit.createTestProbe(LobbyCommand.class);
+        TestProbe<ClientSessionCommand> clientSession = persistentTestKit.createTestProbe(ClientSessionCommand.class);
+        PersistenceTestKit.create(persistentTestKit.system())
+                          .persistForRecovery(
+                                  RoomMembershipActor.persistenceIdOf("game-rooms-1").id(),
+                                  List.of(
+                                          new RoomAdded(5L),
+                                          new RoomWaiting(
+                                                  new WaitingRoom(5L, lostLobby.getRef(), Map.of(1L, clientSession.getRef()))
+                                          )
+                                  )
+                          );
+
+        try {
+            // when
+            TestContext context = createContext(persistentTestKit);
+
+            // then
+            GameRoomCoordinatorCommand actualCoordinator = context.coordinator().monitor().receiveMessage();
+            RoomDirectoryCommand actualDirectory = context.roomDirectory().monitor().receiveMessage();
+            ClientSessionCommand actualSession = clientSession.receiveMessage();
+
+            assertAll(
+                    () -> assertThat(actualCoordinator).isEqualTo(new RoomRemovalNotification(5L)),
+                    () -> assertThat(actualDirectory).isEqualTo(new RemoveRoom(5L)),
+                    () -> assertThat(actualSession).isEqualTo(new LobbyClosed(lostLobby.getRef()))
+            );
+        } finally {
+            persistentTestKit.shutdownTestKit();
+        }
+    }
+
+    @Test
+    void 재시작_전에_게임을_시작했던_방은_로비를_다시_세워_게임을_이어간다() {
+        // given
+        ActorTestKit persistentTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(PersistenceTestKitPlugin.config())
+                 .withFallback(PersistenceTestKitSnapshotPlugin.config())
+        );
+        TestProbe<ClientSessionCommand> smugglerSession = persistentTestKit.createTestProbe(ClientSessionCommand.class);
+        TestProbe<ClientSessionCommand> inspectorSession = persistentTestKit.createTestProbe(ClientSessionCommand.class);
+        StartedRoom startedRoom = new StartedRoom(
+                5L,
+                "방",
+                4,
+                1L,
+                createOneVersusOneMatch(),
+                Map.of(1L, smugglerSession.getRef(), 2L, inspectorSession.getRef())
+        );
+        PersistenceTestKit.create(persistentTestKit.system())
+                          .persistForRecovery(
+                                  RoomMembershipActor.persistenceIdOf("game-rooms-1").id(),
+                                  List.of(new RoomAdded(5L), new RoomStarted(startedRoom))
+                          );
+
+        try {
+            // when
+            TestContext context = createContext(persistentTestKit);
+
+            // then
+            GameRoomCoordinatorCommand actualCoordinator = context.coordinator().monitor().receiveMessage();
+            RoomDirectoryCommand actualDirectory = context.roomDirectory().monitor().receiveMessage();
+
+            assertAll(
+                    () -> assertThat(actualCoordinator).isEqualTo(new RegisterRoom(5L, "game-rooms-1")),
+                    () -> assertThat(actualDirectory).isInstanceOf(SyncRoomRegistered.class),
+                    () -> assertThat(((SyncRoomRegistered) actualDirectory).roomSummary().roomId()).isEqualTo(5L),
+                    () -> assertThat(((SyncRoomRegistered) actualDirectory).roomSummary().gameStarted()).isTrue(),
+                    () -> fishForStartGame(smugglerSession),
+                    () -> fishForStartGame(inspectorSession)
+            );
+        } finally {
+            persistentTestKit.shutdownTestKit();
+        }
+    }
+
+    private void fishForStartGame(TestProbe<ClientSessionCommand> clientSession) {
+        clientSession.fishForMessage(
+                Duration.ofSeconds(3L),
+                message -> message instanceof PropagateStartGame
+                        ? FishingOutcomes.complete()
+                        : FishingOutcomes.continueAndIgnore()
+        );
+    }
+
+    private MatchCreated createOneVersusOneMatch() {
+        return new MatchCreated(
+                "밀수꾼 팀",
+                List.of(new MatchPlayer(1L, "밀수꾼", TeamRole.SMUGGLER)),
+                "검사관 팀",
+                List.of(new MatchPlayer(2L, "검사관", TeamRole.INSPECTOR)),
+                3
+        );
+    }
+
     private TestContext createContext() {
+        return createContext(actorTestKit);
+    }
+
+    private TestContext createContext(ActorTestKit actorTestKit) {
         SpyLifecyclePublisher lifecyclePublisher = new SpyLifecyclePublisher();
         ActorTestUtils.MonitoredActor<GameRoomCoordinatorCommand> coordinator = ActorTestUtils.spawnMonitored(
                 actorTestKit,
@@ -224,6 +412,7 @@ class GameManagerEntityTest {
                 coordinator.ref(),
                 roomDirectory.ref(),
                 lifecyclePublisher,
+                new DummyChatMessageEventPublisher(),
                 new StubChatBlacklistRepository()
         );
         ActorRef<GameManagerCommand> actor = actorTestKit.spawn(behavior);
@@ -6,8 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher;
 import com.game.contraband.infrastructure.actor.game.engine.GameLifecycleEventPublisher.LifecycleType;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.AllocateEntity;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntityLoad;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.EntitySlotLease;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.GameRoomCoordinatorCommand;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.LeaseEntitySlots;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RegisterRoom;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.ReleaseEntityLoad;
+import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.ReportEntityLoad;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.ResolveEntityId;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.RoomRemovalNotification;
 import com.game.contraband.infrastructure.actor.manage.GameRoomCoordinatorEntity.SyncRoomRemoved;
@@ -100,6 +105,129 @@ class GameRoomCoordinatorEntityTest {
         );
     }
 
+    @Test
+    void 슬롯을_임대하면_엔티티의_남은_방_수만큼만_내어준다() {
+        // given
+        TestContext context = createContext(3);
+        ActorTestUtils.MonitoredActor<StatusReply> reply = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                StatusReply.class,
+                Behaviors.ignore()
+        );
+
+        context.actor().tell(new RegisterRoom(1L, "game-rooms-1"));
+
+        // when
+        context.actor().tell(new LeaseEntitySlots(8, castLease(reply.ref())));
+
+        // then
+        StatusReply actual = reply.monitor().receiveMessage();
+        EntitySlotLease lease = (EntitySlotLease) actual.getValue();
+
+        assertAll(
+                () -> assertThat(lease.entityId()).isEqualTo("game-rooms-1"),
+                () -> assertThat(lease.slots()).isEqualTo(2),
+                () -> assertThat(lease.validForMillis()).isPositive()
+        );
+    }
+
+    @Test
+    void 임대된_슬롯은_방이_등록되기_전에도_할당_여유에서_제외한다() {
+        // given
+        TestContext context = createContext(2);
+        ActorTestUtils.MonitoredActor<StatusReply> reply = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                StatusReply.class,
+                Behaviors.ignore()
+        );
+
+        context.actor().tell(new LeaseEntitySlots(2, castLease(reply.ref())));
+        reply.monitor().receiveMessage();
+
+        // when
+        context.actor().tell(new AllocateEntity(castReply(reply.ref())));
+
+        // then
+        StatusReply actual = reply.monitor().receiveMessage();
+
+        assertThat(((TargetEntity) actual.getValue()).entityId()).isEqualTo("game-rooms-2");
+    }
+
+    @Test
+    void 임대된_슬롯에_방이_등록되면_예약이_등록된_방_수로_옮겨진다() {
+        // given
+        TestContext context = createContext(2);
+        ActorTestUtils.MonitoredActor<StatusReply> reply = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                StatusReply.class,
+                Behaviors.ignore()
+        );
+
+        context.actor().tell(new LeaseEntitySlots(2, castLease(reply.ref())));
+        reply.monitor().receiveMessage();
+        context.actor().tell(new RegisterRoom(1L, "game-rooms-1"));
+        context.actor().tell(new SyncRoomRemoved(1L));
+
+        // when
+        context.actor().tell(new AllocateEntity(castReply(reply.ref())));
+
+        // then
+        StatusReply actual = reply.monitor().receiveMessage();
+
+        assertThat(((TargetEntity) actual.getValue()).entityId()).isEqualTo("game-rooms-1");
+    }
+
+    @Test
+    void 엔티티_할당시_보고된_부하가_가장_낮은_노드의_엔티티를_고른다() {
+        // given
+        TestContext context = createContext(5);
+        ActorTestUtils.MonitoredActor<StatusReply> reply = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                StatusReply.class,
+                Behaviors.ignore()
+        );
+
+        context.actor().tell(new RegisterRoom(1L, "game-rooms-1"));
+        context.actor().tell(new RegisterRoom(2L, "game-rooms-2"));
+        context.actor().tell(new RegisterRoom(3L, "game-rooms-2"));
+        context.actor().tell(new ReportEntityLoad("game-rooms-1", new EntityLoad("node-a", 10, 1, 30.0d)));
+        context.actor().tell(new ReportEntityLoad("game-rooms-2", new EntityLoad("node-b", 3, 0, 2.0d)));
+
+        // when
+        context.actor().tell(new AllocateEntity(castReply(reply.ref())));
+
+        // then
+        StatusReply actual = reply.monitor().receiveMessage();
+
+        assertThat(((TargetEntity) actual.getValue()).entityId()).isEqualTo("game-rooms-2");
+    }
+
+    @Test
+    void 멈춘_엔티티의_부하_보고는_할당_계산에서_뺀다() {
+        // given
+        TestContext context = createContext(5);
+        ActorTestUtils.MonitoredActor<StatusReply> reply = ActorTestUtils.spawnMonitored(
+                actorTestKit,
+                StatusReply.class,
+                Behaviors.ignore()
+        );
+
+        context.actor().tell(new RegisterRoom(1L, "game-rooms-1"));
+        context.actor().tell(new RegisterRoom(2L, "game-rooms-2"));
+        context.actor().tell(new RegisterRoom(3L, "game-rooms-2"));
+        context.actor().tell(new ReportEntityLoad("game-rooms-1", new EntityLoad("node-a", 10, 1, 30.0d)));
+        context.actor().tell(new ReportEntityLoad("game-rooms-2", new EntityLoad("node-b", 3, 0, 2.0d)));
+
+        // when
+        context.actor().tell(new ReleaseEntityLoad("game-rooms-1"));
+        context.actor().tell(new AllocateEntity(castReply(reply.ref())));
+
+        // then
+        StatusReply actual = reply.monitor().receiveMessage();
+
+        assertThat(((TargetEntity) actual.getValue()).entityId()).isEqualTo("game-rooms-1");
+    }
+
     @Test
     void 게임방을_등록하면_매핑해서_저장한다() {
         // given
@@ -207,7 +335,10 @@ class GameRoomCoordinatorEntityTest {
 
     private TestContext createContext(int maxRoomsPerEntity) {
         SpyPublisher publisher = new SpyPublisher();
-        Behavior<GameRoomCoordinatorCommand> behavior = GameRoomCoordinatorEntity.create(maxRoomsPerEntity, publisher);
+        Behavior<GameRoomCoordinatorCommand> behavior = GameRoomCoordinatorEntity.create(
+                new EntityAllocationPolicy(maxRoomsPerEntity, Integer.MAX_VALUE),
+                publisher
+        );
         ActorRef<GameRoomCoordinatorCommand> actor = actorTestKit.spawn(behavior);
         return new TestContext(actor, publisher);
     }
@@ -216,6 +347,10 @@ class GameRoomCoordinatorEntityTest {
         return (ActorRef<StatusReply<TargetEntity>>) (ActorRef<?>) ref;
     }
 
+    private ActorRef<StatusReply<EntitySlotLease>> castLease(ActorRef<StatusReply> ref) {
+        return (ActorRef<StatusReply<EntitySlotLease>>) (ActorRef<?>) ref;
+    }
+
     private ActorRef<StatusReply<String>> castResolve(ActorRef<StatusReply> ref) {
         return (ActorRef<StatusReply<String>>) (ActorRef<?>) ref;
     }
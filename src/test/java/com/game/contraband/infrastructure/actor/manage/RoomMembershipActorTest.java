@@ -0,0 +1,196 @@
+package com.game.contraband.infrastructure.actor.manage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.domain.game.player.TeamRole;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.game.engine.lobby.LobbyActor.LobbyCommand;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchCreated;
+import com.game.contraband.infrastructure.actor.game.engine.match.journal.MatchEvent.MatchPlayer;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.QueryRoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomAdded;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomRemoved;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomStarted;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RecordRoomWaiting;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomAdded;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembership;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembershipCommand;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomMembershipEvent;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.RoomStarted;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.StartedRoom;
+import com.game.contraband.infrastructure.actor.manage.RoomMembershipActor.WaitingRoom;
+import com.typesafe.config.ConfigFactory;
+import java.util.List;
+import java.util.Map;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit;
+import org.apache.pekko.persistence.testkit.javadsl.EventSourcedBehaviorTestKit.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoomMembershipActorTest {
+
+    private ActorTestKit actorTestKit;
+    private EventSourcedBehaviorTestKit<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> membershipTestKit;
+
+    @BeforeEach
+    void setUp() {
+        actorTestKit = ActorTestKit.create(
+                ConfigFactory.parseString(
+                        """
+                        pekko.actor.serialization-bindings {
+                          "com.game.contraband.global.actor.CborSerializable" = jackson-cbor
+                        }
+                        """
+                ).withFallback(EventSourcedBehaviorTestKit.config())
+                 .withFallback(PersistenceTestKitSnapshotPlugin.config())
+        );
+        membershipTestKit = EventSourcedBehaviorTestKit.create(
+                actorTestKit.system(),
+                RoomMembershipActor.create("game-rooms-1")
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorTestKit.shutdownTestKit();
+    }
+
+    @Test
+    void 방이_추가되면_방_추가_이벤트를_남긴다() {
+        // when
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> actual = membershipTestKit.runCommand(
+                new RecordRoomAdded(3L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual.event()).isEqualTo(new RoomAdded(3L)),
+                () -> assertThat(actual.state().roomIds()).containsExactly(3L)
+        );
+    }
+
+    @Test
+    void 이미_추가된_방이나_맡지_않은_방의_제거는_기록하지_않는다() {
+        // given
+        membershipTestKit.runCommand(new RecordRoomAdded(3L));
+
+        // when
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> duplicated = membershipTestKit.runCommand(
+                new RecordRoomAdded(3L)
+        );
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> unknown = membershipTestKit.runCommand(
+                new RecordRoomRemoved(9L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(duplicated.hasNoEvents()).isTrue(),
+                () -> assertThat(unknown.hasNoEvents()).isTrue()
+        );
+    }
+
+    @Test
+    void 게임을_시작한_방은_방_정보와_함께_남기고_방이_제거되면_함께_지운다() {
+        // given
+        StartedRoom startedRoom = new StartedRoom(
+                3L,
+                "방",
+                4,
+                1L,
+                new MatchCreated(
+                        "밀수꾼 팀",
+                        List.of(new MatchPlayer(1L, "밀수꾼", TeamRole.SMUGGLER)),
+                        "검사관 팀",
+                        List.of(new MatchPlayer(2L, "검사관", TeamRole.INSPECTOR)),
+                        3
+                ),
+                Map.of()
+        );
+        membershipTestKit.runCommand(new RecordRoomAdded(3L));
+
+        // when
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> started = membershipTestKit.runCommand(
+                new RecordRoomStarted(startedRoom)
+        );
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> removed = membershipTestKit.runCommand(
+                new RecordRoomRemoved(3L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(started.event()).isEqualTo(new RoomStarted(startedRoom)),
+                () -> assertThat(started.state().startedRooms()).containsEntry(3L, startedRoom),
+                () -> assertThat(removed.state().roomIds()).isEmpty(),
+                () -> assertThat(removed.state().startedRooms()).isEmpty()
+        );
+    }
+
+    @Test
+    void 대기_중인_방은_로비와_세션을_남기고_게임을_시작하면_지운다() {
+        // given
+        TestProbe<LobbyCommand> lobby = actorTestKit.createTestProbe(LobbyCommand.class);
+        TestProbe<ClientSessionCommand> clientSession = actorTestKit.createTestProbe(ClientSessionCommand.class);
+        WaitingRoom waitingRoom = new WaitingRoom(3L, lobby.getRef(), Map.of(1L, clientSession.getRef()));
+        StartedRoom startedRoom = new StartedRoom(
+                3L,
+                "방",
+                4,
+                1L,
+                new MatchCreated(
+                        "밀수꾼 팀",
+                        List.of(new MatchPlayer(1L, "밀수꾼", TeamRole.SMUGGLER)),
+                        "검사관 팀",
+                        List.of(new MatchPlayer(2L, "검사관", TeamRole.INSPECTOR)),
+                        3
+                ),
+                Map.of()
+        );
+        membershipTestKit.runCommand(new RecordRoomAdded(3L));
+
+        // when
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> waiting = membershipTestKit.runCommand(
+                new RecordRoomWaiting(waitingRoom)
+        );
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> started = membershipTestKit.runCommand(
+                new RecordRoomStarted(startedRoom)
+        );
+        CommandResult<RoomMembershipCommand, RoomMembershipEvent, RoomMembership> afterStarted = membershipTestKit.runCommand(
+                new RecordRoomWaiting(waitingRoom)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(waiting.state().waitingRooms()).containsEntry(3L, waitingRoom),
+                () -> assertThat(started.state().waitingRooms()).isEmpty(),
+                () -> assertThat(afterStarted.hasNoEvents()).isTrue()
+        );
+    }
+
+    @Test
+    void 재시작하면_제거되지_않은_방_목록을_복원한다() {
+        // given
+        membershipTestKit.runCommand(new RecordRoomAdded(3L));
+        membershipTestKit.runCommand(new RecordRoomAdded(4L));
+        membershipTestKit.runCommand(new RecordRoomRemoved(3L));
+
+        // when
+        membershipTestKit.restart();
+
+        // then
+        RoomMembership actual = membershipTestKit.<RoomMembership>runCommand(QueryRoomMembership::new)
+                                                 .reply();
+        assertAll(
+                () -> assertThat(actual.roomIds()).containsExactly(4L),
+                () -> assertThat(membershipTestKit.getState()).isEqualTo(actual)
+        );
+    }
+}
@@ -5,11 +5,23 @@ import com.game.contraband.domain.game.player.TeamRole;
 import com.game.contraband.domain.game.round.RoundOutcomeType;
 import com.game.contraband.domain.game.transfer.TransferFailureReason;
 import com.game.contraband.infrastructure.actor.directory.RoomDirectoryActor.RoomDirectorySnapshot;
+import com.game.contraband.infrastructure.actor.directory.RoomDirectorySubscriberActor.RoomDirectoryChange;
 import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
 import com.game.contraband.infrastructure.actor.game.engine.lobby.dto.LobbyParticipant;
 import com.game.contraband.infrastructure.actor.game.engine.match.dto.GameStartPlayer;
 import com.game.contraband.infrastructure.websocket.ClientWebSocketMessageSender;
 import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.FinishedRoundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.JoinedLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerJoinedLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerKickedPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerLeftLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.SelectionTimerPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.StartNewRoundPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ToggledReadyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.ToggledTeamPayload;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -21,6 +33,9 @@ public class SpyClientWebSocketMessageSender extends ClientWebSocketMessageSende
     public boolean reconnectRequested;
     public List<RoomDirectorySnapshot> roomSnapshots = List.of();
     public Integer roomTotalCount;
+    public Long roomDirectoryVersion;
+    public Long roomDirectoryPreviousVersion;
+    public List<RoomDirectoryChange> roomDirectoryChanges = List.of();
     public List<GameStartPlayer> startGamePlayers = List.of();
     public boolean startGameSent;
     public SelectionTimer selectionTimer;
@@ -339,9 +354,18 @@ public class SpyClientWebSocketMessageSender extends ClientWebSocketMessageSende
     }
 
     @Override
-    public void sendRoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount) {
+    public void sendRoomDirectoryUpdated(List<RoomDirectorySnapshot> rooms, int totalCount, long version) {
         this.roomSnapshots = rooms;
         this.roomTotalCount = totalCount;
+        this.roomDirectoryVersion = version;
+    }
+
+    @Override
+    public void sendRoomDirectoryDelta(long version, long previousVersion, List<RoomDirectoryChange> changes, int totalCount) {
+        this.roomDirectoryVersion = version;
+        this.roomDirectoryPreviousVersion = previousVersion;
+        this.roomDirectoryChanges = changes;
+        this.roomTotalCount = totalCount;
     }
 
     @Override
@@ -351,8 +375,28 @@ public class SpyClientWebSocketMessageSender extends ClientWebSocketMessageSende
     }
 
     @Override
-    public void sendSelectionTimer(int round, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) {
-        this.selectionTimer = new SelectionTimer(round, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
+    public void sendPreEncoded(PreEncodedOutboundMessage message) {
+        WebSocketMessagePayload payload = message.message().payload();
+
+        if (payload instanceof SelectionTimerPayload timer) {
+            this.selectionTimer = new SelectionTimer(timer.round(), timer.eventAtMillis(), timer.durationMillis(), timer.serverNowMillis(), timer.endAtMillis());
+        } else if (payload instanceof StartNewRoundPayload round) {
+            this.startRound = new StartRound(round.currentRound(), round.smugglerId(), round.inspectorId(), round.eventAtMillis(), round.durationMillis(), round.serverNowMillis(), round.endAtMillis());
+        } else if (payload instanceof FinishedRoundPayload round) {
+            this.finishedRound = new FinishedRound(round.smugglerId(), round.smugglerAmount(), round.inspectorId(), round.inspectorAmount(), round.outcomeType());
+        } else if (payload instanceof OtherPlayerJoinedLobbyPayload joined) {
+            this.otherJoined = new OtherJoined(joined.joinerId(), joined.joinerName(), joined.teamRole(), joined.currentPlayerCount());
+        } else if (payload instanceof JoinedLobbyPayload joined) {
+            this.joinedLobby = new JoinedLobby(joined.roomId(), joined.hostId(), joined.maxPlayerCount(), joined.currentPlayerCount(), joined.lobbyName(), joined.lobbyParticipants());
+        } else if (payload instanceof ToggledReadyPayload ready) {
+            this.toggleReady = new ToggleReady(ready.playerId(), ready.toggleReadyState());
+        } else if (payload instanceof ToggledTeamPayload team) {
+            this.toggleTeam = new ToggleTeam(team.playerId(), team.playerName(), team.teamRole());
+        } else if (payload instanceof OtherPlayerLeftLobbyPayload left) {
+            this.otherLeftLobby = left.playerId();
+        } else if (payload instanceof OtherPlayerKickedPayload kicked) {
+            this.otherKicked = kicked.playerId();
+        }
     }
 
     @Override
@@ -395,16 +439,6 @@ public class SpyClientWebSocketMessageSender extends ClientWebSocketMessageSende
         this.inspectorApprovalState = new ApprovalState(candidateId, approverIds, fixed);
     }
 
-    @Override
-    public void sendStartNewRound(int currentRound, Long smugglerId, Long inspectorId, long eventAtMillis, long durationMillis, long serverNowMillis, long endAtMillis) {
-        this.startRound = new StartRound(currentRound, smugglerId, inspectorId, eventAtMillis, durationMillis, serverNowMillis, endAtMillis);
-    }
-
-    @Override
-    public void sendFinishedRound(Long smugglerId, int smugglerAmount, Long inspectorId, int inspectorAmount, RoundOutcomeType outcomeType) {
-        this.finishedRound = new FinishedRound(smugglerId, smugglerAmount, inspectorId, inspectorAmount, outcomeType);
-    }
-
     @Override
     public void sendFinishedGame(GameWinnerType gameWinnerType, int smugglerTotalBalance, int inspectorTotalBalance) {
         this.finishedGame = new FinishedGame(gameWinnerType, smugglerTotalBalance, inspectorTotalBalance);
@@ -455,46 +489,16 @@ public class SpyClientWebSocketMessageSender extends ClientWebSocketMessageSende
         this.createdLobby = new CreatedLobby(roomId, hostId, maxPlayerCount, currentPlayerCount, lobbyName, lobbyParticipants);
     }
 
-    @Override
-    public void sendOtherPlayerJoinedLobby(Long joinerId, String joinerName, TeamRole teamRole, int currentPlayerCount) {
-        this.otherJoined = new OtherJoined(joinerId, joinerName, teamRole, currentPlayerCount);
-    }
-
-    @Override
-    public void sendJoinedLobby(Long roomId, Long hostId, int maxPlayerCount, int currentPlayerCount, String lobbyName, List<LobbyParticipant> lobbyParticipants) {
-        this.joinedLobby = new JoinedLobby(roomId, hostId, maxPlayerCount, currentPlayerCount, lobbyName, lobbyParticipants);
-    }
-
-    @Override
-    public void sendToggledReady(Long playerId, boolean toggleReadyState) {
-        this.toggleReady = new ToggleReady(playerId, toggleReadyState);
-    }
-
-    @Override
-    public void sendToggledTeam(Long playerId, String playerName, TeamRole teamRole) {
-        this.toggleTeam = new ToggleTeam(playerId, playerName, teamRole);
-    }
-
     @Override
     public void sendLeftLobby() {
         this.leftLobby = true;
     }
 
-    @Override
-    public void sendOtherPlayerLeftLobby(Long playerId) {
-        this.otherLeftLobby = playerId;
-    }
-
     @Override
     public void sendKickedLobby() {
         this.kickedLobby = true;
     }
 
-    @Override
-    public void sendOtherPlayerKicked(Long playerId) {
-        this.otherKicked = playerId;
-    }
-
     @Override
     public void sendHostDeletedLobby() {
         this.hostDeletedLobby = true;
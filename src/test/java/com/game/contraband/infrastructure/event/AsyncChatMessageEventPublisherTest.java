@@ -0,0 +1,252 @@
+package com.game.contraband.infrastructure.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.actor.game.chat.ChatEventType;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessage;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatMessageEvent;
+import com.game.contraband.infrastructure.actor.game.chat.ChatMessageEventPublisher.ChatRoundInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AsyncChatMessageEventPublisherTest {
+
+    // 테스트에서는 drain을 직접 호출하므로 예약된 전송이 끼어들지 않게 간격을 길게 둔다
+    private static final Duration MANUAL_FLUSH = Duration.ofHours(1L);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StandInBroker broker = new StandInBroker();
+
+    @Test
+    void 큐에_쌓인_이벤트를_최대_묶음_크기로_나눠_보낸다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 2, 8);
+
+        for (long id = 1L; id <= 5L; id++) {
+            publisher.publish(chatEvent(id));
+        }
+
+        // when
+        publisher.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(broker.batches).extracting(List::size).containsExactly(2, 2, 1),
+                () -> assertThat(meterRegistry.counter("chat.event.batches").count()).isEqualTo(3.0d)
+        );
+    }
+
+    @Test
+    void 큐가_가득_차면_이벤트를_버리고_집계한다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(4, 8, 8);
+
+        // when
+        for (long id = 1L; id <= 5L; id++) {
+            publisher.publish(chatEvent(id));
+        }
+        publisher.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(broker.batches).extracting(List::size).containsExactly(4),
+                () -> assertThat(meterRegistry.counter("chat.event.dropped").count()).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 확인을_기다리는_묶음이_한도에_이르면_확인이_올_때까지_꺼내지_않는다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 2, 1);
+
+        for (long id = 1L; id <= 4L; id++) {
+            publisher.publish(chatEvent(id));
+        }
+        publisher.drain();
+
+        // when
+        broker.confirm(0);
+        publisher.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(broker.batches).hasSize(2),
+                () -> assertThat(meterRegistry.counter("chat.event.published").count()).isEqualTo(2.0d)
+        );
+    }
+
+    @Test
+    void 브로커가_거부한_묶음은_실패로_집계한다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 8, 8);
+
+        publisher.publish(chatEvent(1L));
+        publisher.publish(chatEvent(2L));
+        publisher.drain();
+
+        // when
+        broker.reject(0);
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.counter("chat.event.failed").count()).isEqualTo(2.0d),
+                () -> assertThat(meterRegistry.counter("chat.event.published").count()).isZero()
+        );
+    }
+
+    @Test
+    void 거부된_묶음은_다음_전송에서_새_이벤트보다_먼저_다시_보낸다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 2, 8, 4, 3);
+
+        publisher.publish(chatEvent(1L));
+        publisher.publish(chatEvent(2L));
+        publisher.drain();
+        broker.reject(0);
+        publisher.publish(chatEvent(3L));
+
+        // when
+        publisher.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(broker.batches).hasSize(3),
+                () -> assertThat(broker.batches.get(1)).isSameAs(broker.batches.get(0)),
+                () -> assertThat(broker.batches.get(2)).extracting(event -> event.chatMessage().id()).containsExactly(3L),
+                () -> assertThat(meterRegistry.counter("chat.event.retried").count()).isEqualTo(2.0d),
+                () -> assertThat(meterRegistry.counter("chat.event.failed").count()).isZero()
+        );
+    }
+
+    @Test
+    void 시도_횟수를_넘긴_묶음은_다시_보내지_않고_실패로_집계한다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 2, 8, 4, 2);
+
+        publisher.publish(chatEvent(1L));
+        publisher.drain();
+        broker.reject(0);
+        publisher.drain();
+
+        // when
+        broker.reject(1);
+        publisher.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(broker.batches).hasSize(2),
+                () -> assertThat(meterRegistry.counter("chat.event.retried").count()).isEqualTo(1.0d),
+                () -> assertThat(meterRegistry.counter("chat.event.failed").count()).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 재전송_버퍼가_가득_차면_거부된_묶음을_버린다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 1, 8, 1, 3);
+
+        publisher.publish(chatEvent(1L));
+        publisher.publish(chatEvent(2L));
+        publisher.drain();
+
+        // when
+        broker.reject(0);
+        broker.reject(1);
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.counter("chat.event.retried").count()).isEqualTo(1.0d),
+                () -> assertThat(meterRegistry.counter("chat.event.failed").count()).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 종료하면_남은_이벤트를_모두_보낸다() {
+        // given
+        AsyncChatMessageEventPublisher publisher = createPublisher(16, 2, 1);
+
+        for (long id = 1L; id <= 3L; id++) {
+            publisher.publish(chatEvent(id));
+        }
+
+        // when
+        publisher.close();
+
+        // then
+        assertThat(broker.batches).flatExtracting(batch -> batch)
+                                  .extracting(event -> event.chatMessage().id())
+                                  .containsExactly(1L, 2L, 3L);
+    }
+
+    private AsyncChatMessageEventPublisher createPublisher(int capacity, int maxBatchSize, int maxInFlightBatches) {
+        return createPublisher(capacity, maxBatchSize, maxInFlightBatches, 4, 1);
+    }
+
+    private AsyncChatMessageEventPublisher createPublisher(
+            int capacity,
+            int maxBatchSize,
+            int maxInFlightBatches,
+            int retryBufferCapacity,
+            int maxAttempts
+    ) {
+        return new AsyncChatMessageEventPublisher(
+                broker,
+                new ChatEventPublishSettings(
+                        capacity,
+                        maxBatchSize,
+                        maxInFlightBatches,
+                        MANUAL_FLUSH,
+                        MANUAL_FLUSH,
+                        retryBufferCapacity,
+                        maxAttempts
+                ),
+                meterRegistry
+        );
+    }
+
+    private ChatMessageEvent chatEvent(Long id) {
+        return new ChatMessageEvent(
+                "entity",
+                1L,
+                ChatEventType.LOBBY_CHAT,
+                ChatRoundInfo.lobby(),
+                new ChatMessage(id, 1L, 1L, "player", "message", LocalDateTime.now())
+        );
+    }
+
+    // 받은 묶음을 기록하고, 확인 응답은 테스트가 원하는 시점에 돌려주는 프로세스 내 브로커
+    private static class StandInBroker implements ChatMessageEventBroker {
+
+        private final List<List<ChatMessageEvent>> batches = new ArrayList<>();
+        private final List<CompletableFuture<Void>> confirms = new ArrayList<>();
+
+        @Override
+        public CompletionStage<Void> publish(List<ChatMessageEvent> events) {
+            CompletableFuture<Void> confirm = new CompletableFuture<>();
+
+            batches.add(events);
+            confirms.add(confirm);
+            return confirm;
+        }
+
+        void confirm(int index) {
+            confirms.get(index).complete(null);
+        }
+
+        void reject(int index) {
+            confirms.get(index).completeExceptionally(new IllegalStateException("nack"));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SessionHeartbeatWheelTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 버킷을_한_바퀴_돌면_모든_세션이_핑을_한_번씩_받는다() {
+        // given
+        SessionHeartbeatWheel wheel = new SessionHeartbeatWheel(4, 2, meterRegistry);
+        List<List<WebSocketOutboundMessageType>> received = new ArrayList<>();
+
+        for (long playerId = 1L; playerId <= 20L; playerId++) {
+            received.add(register(wheel, playerId));
+        }
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            wheel.advance();
+        }
+
+        // then
+        assertThat(received).allSatisfy(
+                types -> assertThat(types).containsExactly(WebSocketOutboundMessageType.WS_HEALTH_PING)
+        );
+    }
+
+    @Test
+    void PONG을_연속으로_놓친_세션에만_재연결을_요청한다() {
+        // given
+        SessionHeartbeatWheel wheel = new SessionHeartbeatWheel(1, 2, meterRegistry);
+        List<WebSocketOutboundMessageType> silent = register(wheel, 1L);
+        List<WebSocketOutboundMessageType> responsive = register(wheel, 2L);
+
+        // when
+        wheel.advance();
+        wheel.pongReceived(2L);
+        wheel.advance();
+
+        // then
+        assertAll(
+                () -> assertThat(silent).containsExactly(
+                        WebSocketOutboundMessageType.WS_HEALTH_PING,
+                        WebSocketOutboundMessageType.WS_HEALTH_PING,
+                        WebSocketOutboundMessageType.WS_RECONNECT
+                ),
+                () -> assertThat(responsive).containsExactly(
+                        WebSocketOutboundMessageType.WS_HEALTH_PING,
+                        WebSocketOutboundMessageType.WS_HEALTH_PING
+                ),
+                () -> assertThat(meterRegistry.counter("websocket.heartbeat.reconnect.requested").count()).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 이전_연결의_해제는_재연결한_세션의_등록을_지우지_않는다() {
+        // given
+        SessionHeartbeatWheel wheel = new SessionHeartbeatWheel(1, 2, meterRegistry);
+        SessionOutboundQueue previous = new SessionOutboundQueue(8, meterRegistry);
+
+        wheel.register(1L, previous);
+        List<WebSocketOutboundMessageType> current = register(wheel, 1L);
+
+        // when
+        wheel.unregister(1L, previous);
+        wheel.advance();
+
+        // then
+        assertAll(
+                () -> assertThat(current).containsExactly(WebSocketOutboundMessageType.WS_HEALTH_PING),
+                () -> assertThat(previous.depth()).isZero(),
+                () -> assertThat(wheel.sessionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 해제한_세션에는_핑을_보내지_않는다() {
+        // given
+        SessionHeartbeatWheel wheel = new SessionHeartbeatWheel(1, 2, meterRegistry);
+        SessionOutboundQueue sink = new SessionOutboundQueue(8, meterRegistry);
+
+        wheel.register(1L, sink);
+
+        // when
+        wheel.unregister(1L, sink);
+        wheel.advance();
+
+        // then
+        assertAll(
+                () -> assertThat(sink.depth()).isZero(),
+                () -> assertThat(wheel.sessionCount()).isZero()
+        );
+    }
+
+    @Test
+    void 버킷_수가_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> new SessionHeartbeatWheel(0, 2, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("하트비트 버킷 수는 1 이상이어야 합니다.");
+    }
+
+    private List<WebSocketOutboundMessageType> register(SessionHeartbeatWheel wheel, long playerId) {
+        SessionOutboundQueue sink = new SessionOutboundQueue(8, meterRegistry);
+        List<WebSocketOutboundMessageType> received = new ArrayList<>();
+
+        sink.asFlux()
+            .map(WebSocketOutboundFrame::type)
+            .subscribe(received::add);
+        wheel.register(playerId, sink);
+        return received;
+    }
+}
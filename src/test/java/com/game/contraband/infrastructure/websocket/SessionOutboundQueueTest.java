@@ -0,0 +1,193 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.game.contraband.infrastructure.websocket.SessionOutboundQueue.SessionOutboundOverflowException;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerLeftLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SessionOutboundQueueTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 클라이언트가_요청한_만큼만_내보내고_나머지는_큐에_남긴다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+
+        queue.offer(otherPlayerLeft(1L));
+        queue.offer(otherPlayerLeft(2L));
+        queue.offer(otherPlayerLeft(3L));
+
+        // when & then
+        StepVerifier.create(queue.asFlux(), 1L)
+                    .expectNext(otherPlayerLeft(1L))
+                    .then(() -> assertThat(queue.depth()).isEqualTo(2))
+                    .thenRequest(2L)
+                    .expectNext(otherPlayerLeft(2L), otherPlayerLeft(3L))
+                    .then(queue::complete)
+                    .verifyComplete();
+    }
+
+    @Test
+    void 새로운_방_목록이_오면_큐에_쌓인_이전_목록과_변경분을_버린다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+        WebSocketOutboundMessage latest = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED);
+
+        queue.offer(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROOM_DIRECTORY_UPDATED));
+        queue.offer(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA));
+        queue.offer(otherPlayerLeft(1L));
+
+        // when
+        queue.offer(latest);
+
+        // then
+        assertAll(
+                () -> assertThat(queue.depth()).isEqualTo(2),
+                () -> assertThat(queue.staleDropped()).isEqualTo(2L),
+                () -> assertThat(meterRegistry.counter("websocket.outbound.dropped", "reason", "stale").count()).isEqualTo(2.0d)
+        );
+        queue.complete();
+        StepVerifier.create(queue.asFlux())
+                    .expectNext(otherPlayerLeft(1L), latest)
+                    .verifyComplete();
+    }
+
+    @Test
+    void 큐가_가득_차면_오래된_타이머_갱신부터_버리고_그다음_오래된_채팅을_밀어낸다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(3, meterRegistry);
+        WebSocketOutboundMessage chat = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.LOBBY_CHAT_MESSAGE);
+
+        queue.offer(chat);
+        queue.offer(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROUND_SELECTION_TIMER));
+        queue.offer(otherPlayerLeft(1L));
+
+        // when
+        queue.offer(otherPlayerLeft(2L));
+        queue.offer(otherPlayerLeft(3L));
+
+        // then
+        assertAll(
+                () -> assertThat(queue.depth()).isEqualTo(3),
+                () -> assertThat(queue.staleDropped()).isEqualTo(1L),
+                () -> assertThat(queue.chatDropped()).isEqualTo(1L),
+                () -> assertThat(queue.isOverflowed()).isFalse()
+        );
+    }
+
+    @Test
+    void 버릴_메시지가_없는데_중요한_메시지가_넘치면_스트림을_오류로_끝낸다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(2, meterRegistry);
+
+        queue.offer(otherPlayerLeft(1L));
+        queue.offer(otherPlayerLeft(2L));
+
+        // when
+        queue.offer(otherPlayerLeft(3L));
+
+        // then
+        assertAll(
+                () -> assertThat(queue.isOverflowed()).isTrue(),
+                () -> assertThat(queue.depth()).isZero(),
+                () -> assertThat(meterRegistry.counter("websocket.outbound.overflow.disconnected").count()).isEqualTo(1.0d)
+        );
+        StepVerifier.create(queue.asFlux())
+                    .verifyError(SessionOutboundOverflowException.class);
+    }
+
+    @Test
+    void 상태_메시지는_먼저_쌓인_채팅과_방_목록을_앞지르지_않는다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+        WebSocketOutboundMessage directory = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA);
+        WebSocketOutboundMessage chatLeft = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.CHAT_LEFT);
+        WebSocketOutboundMessage leftLobby = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.LEFT_LOBBY);
+
+        queue.offer(directory);
+        queue.offer(chatLeft);
+        queue.offer(leftLobby);
+        queue.complete();
+
+        // when & then
+        StepVerifier.create(queue.asFlux())
+                    .expectNext(chatLeft, directory, leftLobby)
+                    .verifyComplete();
+    }
+
+    @Test
+    void 상태_메시지_뒤에_쌓인_채팅은_상태_메시지를_앞지르지_않는다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+        WebSocketOutboundMessage startGame = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.START_GAME);
+        WebSocketOutboundMessage chat = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROUND_CHAT_MESSAGE);
+        WebSocketOutboundMessage directory = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.ROOM_DIRECTORY_DELTA);
+
+        queue.offer(directory);
+        queue.offer(startGame);
+        queue.offer(chat);
+        queue.complete();
+
+        // when & then
+        StepVerifier.create(queue.asFlux())
+                    .expectNext(directory, startGame, chat)
+                    .verifyComplete();
+    }
+
+    @Test
+    void 채팅_가리기는_가릴_채팅보다_앞서지_않는다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+        WebSocketOutboundMessage chat = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.LOBBY_CHAT_MESSAGE);
+        WebSocketOutboundMessage masked = WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.CHAT_MESSAGE_MASKED);
+
+        queue.offer(chat);
+        queue.offer(masked);
+        queue.complete();
+
+        // when & then
+        StepVerifier.create(queue.asFlux())
+                    .expectNext(chat, masked)
+                    .verifyComplete();
+    }
+
+    @Test
+    void 레인별로_큐에_머문_시간을_기록한다() {
+        // given
+        SessionOutboundQueue queue = new SessionOutboundQueue(8, meterRegistry);
+
+        queue.offer(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.START_NEW_ROUND));
+        queue.offer(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.LOBBY_CHAT_MESSAGE));
+        queue.complete();
+
+        // when
+        StepVerifier.create(queue.asFlux())
+                    .expectNextCount(2L)
+                    .verifyComplete();
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.timer("websocket.outbound.lane.latency", "lane", "game_state").count()).isEqualTo(1L),
+                () -> assertThat(meterRegistry.timer("websocket.outbound.lane.latency", "lane", "chat").count()).isEqualTo(1L),
+                () -> assertThat(meterRegistry.timer("websocket.outbound.lane.latency", "lane", "directory").count()).isZero()
+        );
+    }
+
+    private WebSocketOutboundMessage otherPlayerLeft(Long playerId) {
+        return new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.OTHER_PLAYER_LEFT_LOBBY,
+                new OtherPlayerLeftLobbyPayload(playerId)
+        );
+    }
+}
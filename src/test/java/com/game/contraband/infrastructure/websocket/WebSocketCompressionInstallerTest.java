@@ -0,0 +1,90 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.WebsocketClientSpec;
+import reactor.netty.http.server.HttpServer;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class WebSocketCompressionInstallerTest {
+
+    private static final String SMALL_FRAME = "{\"type\":\"PONG\"}";
+    private static final String LARGE_FRAME = "{\"type\":\"ROOM_DIRECTORY_UPDATED\",\"rooms\":[" + "{\"lobbyName\":\"contraband-lobby\"},".repeat(100) + "{}]}";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer server;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketCompressionInstaller installer = new WebSocketCompressionInstaller(
+                new MockEnvironment().withProperty("contraband.websocket.compression-threshold-bytes", "256"),
+                meterRegistry
+        );
+
+        server = HttpServer.create()
+                           .port(0)
+                           .doOnChannelInit((observer, channel, remoteAddress) -> installer.install(channel.pipeline()))
+                           .route(routes -> routes.ws(
+                                   "/ws",
+                                   (inbound, outbound) -> outbound.sendString(Flux.just(SMALL_FRAME, LARGE_FRAME))
+                           ))
+                           .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void 압축을_협상한_연결은_임계값_이상의_프레임만_압축한다() {
+        // when
+        List<String> received = receive(true);
+
+        // then
+        assertAll(
+                () -> assertThat(received).containsExactly(SMALL_FRAME, LARGE_FRAME),
+                () -> assertThat(meterRegistry.counter("websocket.outbound.compression.skipped").count()).isEqualTo(1.0d),
+                () -> assertThat(meterRegistry.summary("websocket.outbound.compression.ratio").count()).isEqualTo(1L),
+                () -> assertThat(meterRegistry.summary("websocket.outbound.compression.ratio").max()).isLessThan(0.5d),
+                () -> assertThat(meterRegistry.timer("websocket.outbound.compression.time").count()).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 압축을_요청하지_않은_연결은_그대로_보낸다() {
+        // when
+        List<String> received = receive(false);
+
+        // then
+        assertAll(
+                () -> assertThat(received).containsExactly(SMALL_FRAME, LARGE_FRAME),
+                () -> assertThat(meterRegistry.summary("websocket.outbound.compression.ratio").count()).isZero()
+        );
+    }
+
+    private List<String> receive(boolean compress) {
+        return HttpClient.create()
+                         .port(server.port())
+                         .websocket(WebsocketClientSpec.builder().compress(compress).build())
+                         .uri("/ws")
+                         .handle((inbound, outbound) -> inbound.receive().asString())
+                         .collectList()
+                         .block(Duration.ofSeconds(5L));
+    }
+}
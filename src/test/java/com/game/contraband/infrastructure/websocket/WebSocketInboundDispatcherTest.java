@@ -0,0 +1,226 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.ClientSessionCommand;
+import com.game.contraband.infrastructure.actor.client.ClientSessionActor.FetchRoomDirectoryPage;
+import com.game.contraband.infrastructure.actor.client.SessionChatHandler.RequestSendRoundChat;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestDecidePass;
+import com.game.contraband.infrastructure.actor.client.SessionInboundHandler.RequestTransferMoney;
+import com.game.contraband.infrastructure.websocket.WebSocketInboundDispatcher.InboundFrameContext;
+import com.game.contraband.infrastructure.websocket.message.ExceptionCode;
+import com.game.contraband.infrastructure.websocket.message.WebSocketInboundMessageType;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class WebSocketInboundDispatcherTest {
+
+    private final WebSocketInboundDispatcher dispatcher = new WebSocketInboundDispatcher(new ObjectMapper());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void 하트비트_PING_수신_시_PONG을_바로_응답한다() {
+        // given
+        TestContext context = createContext(1L);
+
+        // when
+        boolean actual = dispatcher.dispatch("{\"type\":\"PING\"}", context.frameContext());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> assertThat(context.outbound()).extracting(WebSocketOutboundMessage::type)
+                                                    .containsExactly(WebSocketOutboundMessageType.HEARTBEAT_PONG),
+                () -> assertThat(context.commands()).isEmpty()
+        );
+    }
+
+    @Test
+    void 세션_PONG_수신_시_하트비트에_알리고_세션_액터를_거치지_않는다() {
+        // given
+        TestContext context = createContext(1L);
+
+        // when
+        dispatcher.dispatch("{\"type\":\"WS_PONG\"}", context.frameContext());
+
+        // then
+        assertAll(
+                () -> assertThat(context.pongs()).hasValue(1),
+                () -> assertThat(context.commands()).isEmpty()
+        );
+    }
+
+    @Test
+    void 메시지_타입은_대소문자를_구분하지_않는다() {
+        // given
+        TestContext context = createContext(3L);
+
+        // when
+        dispatcher.dispatch("{\"type\":\"decide_pass\"}", context.frameContext());
+
+        // then
+        assertThat(context.commands()).containsExactly(new RequestDecidePass(3L));
+    }
+
+    @Test
+    void 페이로드가_있는_메시지를_타입에_맞는_요청으로_변환한다() {
+        // given
+        TestContext context = createContext(7L);
+
+        // when
+        dispatcher.dispatch(
+                "{\"type\":\"TRANSFER_MONEY\",\"targetPlayerId\":9,\"amount\":300}",
+                context.frameContext()
+        );
+
+        // then
+        assertThat(context.commands()).containsExactly(new RequestTransferMoney(7L, 9L, 300));
+    }
+
+    @Test
+    void 타입_필드가_첫_번째가_아니어도_메시지를_변환한다() {
+        // given
+        TestContext context = createContext(7L);
+
+        // when
+        dispatcher.dispatch(
+                "{\"playerName\":\"밀수꾼\",\"message\":\"안녕\",\"currentRound\":2,\"type\":\"SEND_ROUND_CHAT\"}",
+                context.frameContext()
+        );
+
+        // then
+        assertThat(context.commands()).containsExactly(new RequestSendRoundChat(7L, "밀수꾼", "안녕", 2));
+    }
+
+    @Test
+    void 방_목록_조회_시_페이지_정보가_없으면_기본값을_사용한다() {
+        // given
+        TestContext context = createContext(1L);
+
+        // when
+        dispatcher.dispatch("{\"type\":\"QUERY_ROOM_DIRECTORY\",\"page\":2}", context.frameContext());
+
+        // then
+        assertThat(context.commands()).containsExactly(new FetchRoomDirectoryPage(2, 20, null));
+    }
+
+    @Test
+    void 방_목록_조회_시_커서가_있으면_함께_전달한다() {
+        // given
+        TestContext context = createContext(1L);
+
+        // when
+        dispatcher.dispatch("{\"type\":\"QUERY_ROOM_DIRECTORY\",\"size\":10,\"afterRoomId\":42}", context.frameContext());
+
+        // then
+        assertThat(context.commands()).containsExactly(new FetchRoomDirectoryPage(0, 10, 42L));
+    }
+
+    @Test
+    void 바이너리_프레임은_정수_타입_코드로_메시지를_변환한다() throws Exception {
+        // given
+        TestContext context = createContext(7L);
+        byte[] payload = cborMapper.writeValueAsBytes(
+                Map.of("targetPlayerId", 9, "amount", 300, "type", WebSocketInboundMessageType.TRANSFER_MONEY.code())
+        );
+
+        // when
+        boolean actual = dispatcher.dispatchBinary(payload, context.frameContext());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> assertThat(context.commands()).containsExactly(new RequestTransferMoney(7L, 9L, 300))
+        );
+    }
+
+    @Test
+    void 바이너리_프레임의_타입_코드를_알_수_없으면_무시한다() throws Exception {
+        // given
+        TestContext context = createContext(1L);
+        byte[] payload = cborMapper.writeValueAsBytes(Map.of("type", 9999));
+
+        // when
+        boolean actual = dispatcher.dispatchBinary(payload, context.frameContext());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(context.commands()).isEmpty()
+        );
+    }
+
+    @Test
+    void 숫자_필드의_값이_숫자가_아니면_요청을_보내지_않고_예외_메시지로_응답한다() {
+        // given
+        TestContext context = createContext(7L);
+
+        // when
+        boolean actual = dispatcher.dispatch(
+                "{\"type\":\"TRANSFER_MONEY\",\"targetPlayerId\":9,\"amount\":\"많이\"}",
+                context.frameContext()
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(context.commands()).isEmpty(),
+                () -> assertThat(context.outbound()).containsExactly(
+                        ClientWebSocketMessageSender.exceptionMessage(ExceptionCode.INVALID_MESSAGE_FORMAT)
+                )
+        );
+    }
+
+    @Test
+    void 알_수_없는_타입이나_잘못된_형식의_메시지는_무시한다() {
+        // given
+        TestContext context = createContext(1L);
+
+        // when
+        boolean unknownType = dispatcher.dispatch("{\"type\":\"UNKNOWN\"}", context.frameContext());
+        boolean malformed = dispatcher.dispatch("{\"type\":", context.frameContext());
+        boolean notObject = dispatcher.dispatch("[1,2,3]", context.frameContext());
+
+        // then
+        assertAll(
+                () -> assertThat(unknownType).isFalse(),
+                () -> assertThat(malformed).isFalse(),
+                () -> assertThat(notObject).isFalse(),
+                () -> assertThat(context.commands()).isEmpty(),
+                () -> assertThat(context.outbound()).isEmpty()
+        );
+    }
+
+    private TestContext createContext(Long playerId) {
+        List<ClientSessionCommand> commands = new ArrayList<>();
+        List<WebSocketOutboundMessage> outbound = new ArrayList<>();
+        AtomicInteger pongs = new AtomicInteger();
+        InboundFrameContext frameContext = new InboundFrameContext(
+                playerId,
+                commands::add,
+                outbound::add,
+                pongs::incrementAndGet
+        );
+
+        return new TestContext(frameContext, commands, outbound, pongs);
+    }
+
+    private record TestContext(
+            InboundFrameContext frameContext,
+            List<ClientSessionCommand> commands,
+            List<WebSocketOutboundMessage> outbound,
+            AtomicInteger pongs
+    ) { }
+}
@@ -0,0 +1,145 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.game.contraband.infrastructure.websocket.message.PreEncodedOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketMessagePayload.OtherPlayerLeftLobbyPayload;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundFrame;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessage;
+import com.game.contraband.infrastructure.websocket.message.WebSocketOutboundMessageType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class WebSocketOutboundFrameEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void 미리_인코딩할_브로드캐스트_메시지는_형식마다_한_번만_직렬화하고_결과를_공유한다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        WebSocketOutboundMessage message = otherPlayerLeftLobby(3L);
+        PreEncodedOutboundMessage frame = new PreEncodedOutboundMessage(message);
+
+        // when
+        byte[] firstText = encoder.encode(frame);
+        byte[] secondText = encoder.encode(frame);
+        byte[] firstBinary = encoder.encodeBinary(frame);
+        byte[] secondBinary = encoder.encodeBinary(frame);
+
+        // then
+        assertAll(
+                () -> assertThat(secondText).isSameAs(firstText),
+                () -> assertThat(firstText).isEqualTo(objectMapper.writeValueAsBytes(message)),
+                () -> assertThat(secondBinary).isSameAs(firstBinary),
+                () -> assertThat(firstBinary).isEqualTo(encoder.encodeBinary(message))
+        );
+    }
+
+    @Test
+    void 일반_메시지는_보낼_때마다_직렬화한다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        WebSocketOutboundMessage first = otherPlayerLeftLobby(3L);
+        WebSocketOutboundMessage second = otherPlayerLeftLobby(4L);
+
+        // when
+        byte[] firstFrame = encoder.encode(first);
+        byte[] secondFrame = encoder.encode(second);
+
+        // then
+        assertAll(
+                () -> assertThat(firstFrame).isEqualTo(objectMapper.writeValueAsBytes(first)),
+                () -> assertThat(secondFrame).isEqualTo(objectMapper.writeValueAsBytes(second))
+        );
+    }
+
+    @Test
+    void 페이로드가_없는_메시지는_미리_만들어_둔_프레임을_재사용한다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+
+        // when
+        byte[] first = encoder.encode(WebSocketOutboundMessage.PING_MESSAGE);
+        encoder.encode(otherPlayerLeftLobby(3L));
+        byte[] second = encoder.encode(WebSocketOutboundMessage.withoutPayload(WebSocketOutboundMessageType.WS_HEALTH_PING));
+        byte[] binary = encoder.encodeBinary(WebSocketOutboundMessage.PING_MESSAGE);
+
+        // then
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(WebSocketOutboundMessage.PING_MESSAGE)),
+                () -> assertThat(encoder.encodeBinary(WebSocketOutboundMessage.PING_MESSAGE)).isSameAs(binary),
+                () -> assertThat(cborMapper.readTree(binary).get(0).asInt())
+                        .isEqualTo(WebSocketOutboundMessageType.WS_HEALTH_PING.code())
+        );
+    }
+
+    @Test
+    void 여러_메시지를_JSON_배열_프레임_하나로_묶는다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        List<WebSocketOutboundMessage> messages = List.of(otherPlayerLeftLobby(3L), otherPlayerLeftLobby(4L));
+
+        // when
+        byte[] actual = encoder.encodeBatch(messages);
+
+        // then
+        assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(messages));
+    }
+
+    @Test
+    void 바이너리_프레임은_타입_코드와_페이로드를_CBOR_배열로_직렬화한다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        WebSocketOutboundMessage message = otherPlayerLeftLobby(3L);
+
+        // when
+        JsonNode actual = cborMapper.readTree(encoder.encodeBinary(message));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.isArray()).isTrue(),
+                () -> assertThat(actual.get(0).asInt()).isEqualTo(WebSocketOutboundMessageType.OTHER_PLAYER_LEFT_LOBBY.code()),
+                () -> assertThat(actual.get(1).get("playerId").asLong()).isEqualTo(3L)
+        );
+    }
+
+    @Test
+    void 바이너리_프레임은_같은_내용의_JSON_프레임보다_작다() throws Exception {
+        // given
+        WebSocketOutboundFrameEncoder encoder = new WebSocketOutboundFrameEncoder(objectMapper);
+        List<WebSocketOutboundFrame> messages = List.of(
+                otherPlayerLeftLobby(3L),
+                new PreEncodedOutboundMessage(otherPlayerLeftLobby(4L))
+        );
+
+        // when
+        byte[] binary = encoder.encodeBinaryBatch(messages);
+        byte[] text = encoder.encodeBatch(messages);
+
+        // then
+        assertAll(
+                () -> assertThat(cborMapper.readTree(binary).size()).isEqualTo(2),
+                () -> assertThat(cborMapper.readTree(binary).get(1).get(1).get("playerId").asLong()).isEqualTo(4L),
+                () -> assertThat(binary.length).isLessThan(text.length)
+        );
+    }
+
+    private WebSocketOutboundMessage otherPlayerLeftLobby(Long playerId) {
+        return new WebSocketOutboundMessage(
+                WebSocketOutboundMessageType.OTHER_PLAYER_LEFT_LOBBY,
+                new OtherPlayerLeftLobbyPayload(playerId)
+        );
+    }
+}
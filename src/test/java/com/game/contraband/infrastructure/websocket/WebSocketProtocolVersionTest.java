@@ -0,0 +1,38 @@
+package com.game.contraband.infrastructure.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class WebSocketProtocolVersionTest {
+
+    @Test
+    void 버전을_요청하지_않으면_메시지마다_프레임을_보낸다() {
+        assertThat(WebSocketProtocolVersion.negotiate(null)).isEqualTo(WebSocketProtocolVersion.SINGLE_FRAME);
+    }
+
+    @Test
+    void 버전_2를_요청하면_묶음_프레임으로_보낸다() {
+        assertThat(WebSocketProtocolVersion.negotiate("2").isBatched()).isTrue();
+    }
+
+    @Test
+    void 지원하지_않는_높은_버전을_요청하면_지원하는_가장_높은_버전으로_맞춘다() {
+        assertThat(WebSocketProtocolVersion.negotiate("9")).isEqualTo(WebSocketProtocolVersion.BATCHED_FRAME);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "v2"})
+    void 유효하지_않은_버전을_요청하면_예외가_발생한다(String requested) {
+        assertThatThrownBy(() -> WebSocketProtocolVersion.negotiate(requested))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("protocolVersion이 유효하지 않습니다.");
+    }
+}